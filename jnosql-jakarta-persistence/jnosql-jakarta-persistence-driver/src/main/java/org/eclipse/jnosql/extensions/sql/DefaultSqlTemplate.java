@@ -29,13 +29,24 @@ import jakarta.persistence.PersistenceUnitUtil;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryMapper;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceUpsert;
+import org.eclipse.jnosql.jakartapersistence.mapping.cache.EntityGenerations;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -47,12 +58,31 @@ class DefaultSqlTemplate implements SqlTemplate {
     private final SelectQueryConverter selectQueryConverter;
     private final DeleteQueryConverter deleteQueryConverter;
     private final UpdateQueryConverter updateQueryConverter;
+    private final boolean readOnly;
+    private final UnitOfWorkScope unitOfWork;
+    private PersistenceUpsert upsert;
+    private final ResultCacheHolder resultCache;
+    private EntityGenerations generations;
 
     private DefaultSqlTemplate(EntityManager entityManager) {
+        this(entityManager, new SelectQueryConverter(entityManager), new DeleteQueryConverter(entityManager),
+                new UpdateQueryConverter(entityManager), false, new ResultCacheHolder(entityManager), null);
+    }
+
+    private DefaultSqlTemplate(EntityManager entityManager,
+                               SelectQueryConverter selectQueryConverter,
+                               DeleteQueryConverter deleteQueryConverter,
+                               UpdateQueryConverter updateQueryConverter,
+                               boolean readOnly,
+                               ResultCacheHolder resultCache,
+                               UnitOfWorkScope unitOfWork) {
         this.entityManager = entityManager;
-        this.selectQueryConverter = new SelectQueryConverter(entityManager);
-        this.deleteQueryConverter = new DeleteQueryConverter(entityManager);
-        this.updateQueryConverter = new UpdateQueryConverter(entityManager);
+        this.selectQueryConverter = selectQueryConverter;
+        this.deleteQueryConverter = deleteQueryConverter;
+        this.updateQueryConverter = updateQueryConverter;
+        this.readOnly = readOnly;
+        this.resultCache = resultCache;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
@@ -65,10 +95,56 @@ class DefaultSqlTemplate implements SqlTemplate {
         return entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
     }
 
+    @Override
+    public SqlTemplate readOnly() {
+        if (readOnly) {
+            return this;
+        }
+        return new DefaultSqlTemplate(entityManager, selectQueryConverter, deleteQueryConverter,
+                updateQueryConverter, true, resultCache, unitOfWork);
+    }
+
+    @Override
+    public <R> R inUnitOfWork(Function<SqlTemplate, R> work) {
+        return inUnitOfWork(SqlUnitOfWork.of(), work);
+    }
+
+    @Override
+    public <R> R inUnitOfWork(SqlUnitOfWork options, Function<SqlTemplate, R> work) {
+        Objects.requireNonNull(options, "options is null");
+        Objects.requireNonNull(work, "work is null");
+        if (unitOfWork != null) {
+            unitOfWork.join(options);
+            return work.apply(this);
+        }
+        EntityTransaction transaction = entityManager.getTransaction();
+        if (transaction.isActive()) {
+            throw new IllegalStateException("A unit of work cannot start inside a transaction it did not begin");
+        }
+        var scope = new UnitOfWorkScope(entityManager, options);
+        var template = new DefaultSqlTemplate(entityManager, selectQueryConverter, deleteQueryConverter,
+                updateQueryConverter, readOnly, resultCache, scope);
+        transaction.begin();
+        R result;
+        try {
+            result = work.apply(template);
+            transaction.commit();
+        } catch (RuntimeException | Error e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            scope.rolledBack();
+            throw e;
+        }
+        scope.committed();
+        return result;
+    }
+
     @Override
     public long deleteWithCount(DeleteQuery query) {
         Objects.requireNonNull(query, "query is null");
-        return executeInTransaction(() -> deleteQueryConverter.convert(query).executeUpdate());
+        return write(Set.of(query.name()),
+                () -> written(deleteQueryConverter.convert(query).executeUpdate()));
     }
 
     @Override
@@ -84,7 +160,7 @@ class DefaultSqlTemplate implements SqlTemplate {
 
         return executeInTransaction(() -> {
             String jpql = "SELECT COUNT(e) FROM " + entity + " e";
-            return entityManager.createQuery(jpql, Long.class)
+            return selectQueryConverter.applyQueryOptions(entityManager.createQuery(jpql, Long.class), null)
                     .getSingleResult();
         });
     }
@@ -99,7 +175,7 @@ class DefaultSqlTemplate implements SqlTemplate {
                     .getName();
 
             var jpql = "SELECT COUNT(e) FROM " + entityName + " e";
-            return entityManager.createQuery(jpql, Long.class)
+            return selectQueryConverter.applyQueryOptions(entityManager.createQuery(jpql, Long.class), null)
                     .getSingleResult();
         });
     }
@@ -120,15 +196,16 @@ class DefaultSqlTemplate implements SqlTemplate {
     @Override
     public void delete(DeleteQuery query) {
         Objects.requireNonNull(query, "query is null");
-        executeInTransaction(() -> deleteQueryConverter.convert(query).executeUpdate());
+        write(Set.of(query.name()), () -> written(deleteQueryConverter.convert(query).executeUpdate()));
     }
 
     @Override
     public void update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is null");
-        executeInTransaction(() -> {
+        write(Set.of(query.name()), () -> {
             updateQueryConverter.convert(query).executeUpdate();
             entityManager.clear();
+            written(1);
             return void.class;
         });
     }
@@ -136,35 +213,84 @@ class DefaultSqlTemplate implements SqlTemplate {
     @Override
     public <T> Stream<T> select(SelectQuery query) {
         Objects.requireNonNull(query, "query is null");
+        return select(query, false);
+    }
+
+    /**
+     * Runs the select query, reusing the named query of the same {@link SqlQueryShape} when {@code shaped}.
+     */
+    private <T> Stream<T> select(SelectQuery query, boolean shaped) {
+        var effectiveQuery = readOnlyQuery(query);
+        var cache = activeResultCache();
+        if (cache.isPresent() && selectQueryConverter.returnsEntities(effectiveQuery)) {
+            List<Object> ids = cache.get().get(SqlResultCache.Operation.SELECT, effectiveQuery,
+                    () -> executeInTransaction(() -> {
+                        jakarta.persistence.TypedQuery<T> typedQuery = convert(effectiveQuery, shaped);
+                        return typedQuery.getResultList().stream().map(selectQueryConverter::identifier).toList();
+                    }));
+            return ids.stream()
+                    .map(id -> selectQueryConverter.<T>find(effectiveQuery, id))
+                    .filter(Objects::nonNull);
+        }
+        if (cache.isPresent()) {
+            List<T> results = cache.get().get(SqlResultCache.Operation.SELECT, effectiveQuery,
+                    () -> executeInTransaction(() -> {
+                        jakarta.persistence.TypedQuery<T> typedQuery = convert(effectiveQuery, shaped);
+                        return Collections.unmodifiableList(new ArrayList<>(typedQuery.getResultList()));
+                    }));
+            return results.stream();
+        }
         return executeInTransaction(() -> {
-            jakarta.persistence.TypedQuery<T> typedQuery = selectQueryConverter.convert(query);
-            return typedQuery.getResultStream();
+            jakarta.persistence.TypedQuery<T> typedQuery = convert(effectiveQuery, shaped);
+            Stream<T> results = typedQuery.getResultStream();
+            return selectQueryConverter.detachesResults(effectiveQuery)
+                    ? results.map(selectQueryConverter::detach)
+                    : results;
         });
 
     }
 
+    private <T> jakarta.persistence.TypedQuery<T> convert(SelectQuery query, boolean shaped) {
+        return shaped ? selectQueryConverter.convertShaped(query) : selectQueryConverter.convert(query);
+    }
+
     @Override
     public long count(SelectQuery query) {
         Objects.requireNonNull(query, "query is null");
-        return executeInTransaction(() -> {
+        return cached(SqlResultCache.Operation.COUNT, query, () -> executeInTransaction(() -> {
             var typedQuery = selectQueryConverter.convertCount(query);
             return (long) typedQuery.getSingleResult();
-        });
+        }));
     }
 
     @Override
     public boolean exists(SelectQuery query) {
         Objects.requireNonNull(query, "query is null");
-        return executeInTransaction(() -> !selectQueryConverter
+        return cached(SqlResultCache.Operation.EXISTS, query, () -> executeInTransaction(() -> !selectQueryConverter
                 .convertExists(query)
                 .getResultList()
-                .isEmpty());
+                .isEmpty()));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> singleResult(SelectQuery query) {
         Objects.requireNonNull(query, "query is null");
+        var effectiveQuery = readOnlyQuery(query);
+        var cache = activeResultCache();
+        if (cache.isPresent() && selectQueryConverter.returnsEntities(effectiveQuery)) {
+            Optional<Object> id = cache.get().get(SqlResultCache.Operation.SINGLE_RESULT, effectiveQuery,
+                    () -> this.singleResultExecution(effectiveQuery).map(selectQueryConverter::identifier));
+            return id.map(value -> selectQueryConverter.find(effectiveQuery, value));
+        }
+        if (cache.isPresent()) {
+            return cache.get().get(SqlResultCache.Operation.SINGLE_RESULT, effectiveQuery,
+                    () -> this.<T>singleResultExecution(effectiveQuery));
+        }
+        return singleResultExecution(effectiveQuery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> singleResultExecution(SelectQuery query) {
         return executeInTransaction(() -> {
             var typedQuery = selectQueryConverter.convert(query);
             if(query.limit() == 0) {
@@ -177,7 +303,10 @@ class DefaultSqlTemplate implements SqlTemplate {
             if (results.size() > 1) {
                 throw new NonUniqueResultException("Expected a single result but found " + results.size());
             }
-            return Optional.of((T) results.getFirst());
+            var result = (T) results.getFirst();
+            return Optional.of(selectQueryConverter.detachesResults(query)
+                    ? selectQueryConverter.detach(result)
+                    : result);
         });
     }
 
@@ -185,14 +314,14 @@ class DefaultSqlTemplate implements SqlTemplate {
     public <T> CursoredPage<T> selectCursor(SelectQuery query, PageRequest pageRequest) {
         Objects.requireNonNull(query, "query is null");
         Objects.requireNonNull(pageRequest, "pageRequest is null");
-        return executeInTransaction(() -> selectQueryConverter.executeQueryWithPagination(query, pageRequest));
+        return executeInTransaction(() -> selectQueryConverter.executeQueryWithPagination(readOnlyQuery(query), pageRequest));
     }
 
     @Override
     public <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest) {
         Objects.requireNonNull(query, "query is null");
         Objects.requireNonNull(pageRequest, "pageRequest is null");
-        return executeInTransaction(() -> selectQueryConverter.executePagination(query, pageRequest, this));
+        return executeInTransaction(() -> selectQueryConverter.executePagination(readOnlyQuery(query), pageRequest, this));
     }
 
     @Override
@@ -204,24 +333,105 @@ class DefaultSqlTemplate implements SqlTemplate {
                     .entity(type)
                     .getName();
 
-            return entityManager
-                    .createQuery("SELECT e FROM " + entityName + " e", type)
+            var options = readOptions();
+            Stream<T> results = options.apply(entityManager
+                    .createQuery("SELECT e FROM " + entityName + " e", type))
                     .getResultStream();
+            return options.isReadOnly() ? results.map(selectQueryConverter::detach) : results;
         });
     }
 
     @Override
-    public <T> void deleteAll(Class<T> type) {
+    public <T> long bulkLoad(Stream<T> entities, SqlBulkLoad options) {
+        Objects.requireNonNull(entities, "entities is null");
+        return bulkLoad(entities.iterator(), options);
+    }
+
+    @Override
+    public <T> long bulkLoad(Iterator<T> entities, SqlBulkLoad options) {
+        Objects.requireNonNull(entities, "entities is null");
+        Objects.requireNonNull(options, "options is null");
+        if (entityManager.getTransaction().isActive()) {
+            throw new IllegalStateException("A bulk load commits each chunk, so it cannot run inside a transaction");
+        }
+        long position = 0L;
+        while (position < options.skipped() && entities.hasNext()) {
+            entities.next();
+            position++;
+        }
+        long loaded = 0L;
+        int chunkSize = options.chunkSizeValue();
+        while (entities.hasNext()) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && entities.hasNext()) {
+                chunk.add(Objects.requireNonNull(entities.next(), "entity element is null"));
+            }
+            bulkLoadChunk(chunk, options);
+            loaded += chunk.size();
+            position += chunk.size();
+            options.progress().accept(position);
+        }
+        return loaded;
+    }
+
+    private <T> void bulkLoadChunk(List<T> chunk, SqlBulkLoad options) {
+        Map<Class<?>, List<T>> entitiesByType = new LinkedHashMap<>();
+        for (T entity : chunk) {
+            entitiesByType.computeIfAbsent(entity.getClass(), type -> new ArrayList<>()).add(entity);
+        }
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.begin();
+        try {
+            // the native upsert flushes the persistence context, so it runs before any persist
+            List<T> persists = new ArrayList<>();
+            entitiesByType.forEach((type, entities) -> {
+                if (options.upsertsNatively() && upsert().supports(type)) {
+                    upsert().upsert(type, entities);
+                } else {
+                    persists.addAll(entities);
+                }
+            });
+            persists.forEach(entityManager::persist);
+            transaction.commit();
+            changed(entityNames(chunk));
+        } catch (RuntimeException | Error e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    @Override
+    public <T> Stream<T> scan(Class<T> type, int partitions) {
         Objects.requireNonNull(type, "type is null");
-        executeInTransaction(() -> {
-            String entityName = entityManager
-                    .getMetamodel()
-                    .entity(type)
-                    .getName();
+        return scan(type, SqlEntityMetadata.of(type, entityManager).idName(), partitions);
+    }
+
+    @Override
+    public <T> Stream<T> scan(Class<T> type, String attribute, int partitions) {
+        Objects.requireNonNull(type, "type is null");
+        Objects.requireNonNull(attribute, "attribute is null");
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("The partitions must be greater than zero, but was " + partitions);
+        }
+        if (entityManager.isJoinedToTransaction()) {
+            return findAll(type);
+        }
+        return new SqlPartitionedScan<>(entityManager, type, attribute, partitions).stream();
+    }
 
-            entityManager
-                    .createQuery("DELETE FROM " + entityName)
+    @Override
+    public <T> void deleteAll(Class<T> type) {
+        Objects.requireNonNull(type, "type is null");
+        String entityName = entityName(type);
+        write(Set.of(entityName), () -> {
+            deleteQueryConverter.queryOptions()
+                    .applyUpdate(entityManager.createQuery("DELETE FROM " + entityName))
                     .executeUpdate();
+            written(1);
             return void.class;
         });
     }
@@ -229,13 +439,13 @@ class DefaultSqlTemplate implements SqlTemplate {
     @Override
     public <T> T insert(T entity) {
         Objects.requireNonNull(entity, "entity is null");
-        return executeInTransaction(() -> insertExecution(entity));
+        return write(entityNames(List.of(entity)), () -> insertExecution(entity));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         Objects.requireNonNull(entities, "entities is null");
-        return executeInTransaction(() -> {
+        return write(entityNames(entities), () -> {
             for (T entity : entities) {
                 Objects.requireNonNull(entity, "entity element is null");
                 insertExecution(entity);
@@ -248,32 +458,77 @@ class DefaultSqlTemplate implements SqlTemplate {
     @Override
     public <T> T update(T entity) {
         Objects.requireNonNull(entity, "entity is null");
-        return executeInTransaction(() -> entityManager.merge(entity));
+        return write(entityNames(List.of(entity)), () -> written(entityManager.merge(entity)));
     }
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         Objects.requireNonNull(entities, "entities is null");
-        return executeInTransaction(() -> {
+        return write(entityNames(entities), () -> {
             List<T> merged = new ArrayList<>();
             for (T entity : entities) {
                 Objects.requireNonNull(entity, "entity element is null");
-                merged.add(entityManager.merge(entity));
+                merged.add(written(entityManager.merge(entity)));
             }
 
             return merged;
         });
     }
 
+    @Override
+    public <T> T upsert(T entity) {
+        Objects.requireNonNull(entity, "entity is null");
+        return upsert(List.of(entity)).iterator().next();
+    }
+
+    @Override
+    public <T> Iterable<T> upsert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is null");
+        List<T> result = new ArrayList<>();
+        Map<Class<?>, List<Integer>> indexesByType = new LinkedHashMap<>();
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity element is null");
+            indexesByType.computeIfAbsent(entity.getClass(), type -> new ArrayList<>()).add(result.size());
+            result.add(entity);
+        }
+        if (result.isEmpty()) {
+            return result;
+        }
+        return write(entityNames(result), () -> {
+            // the native upsert flushes the persistence context, so it runs before any merge
+            List<Integer> merges = new ArrayList<>();
+            indexesByType.forEach((type, indexes) -> {
+                if (upsert().supports(type)) {
+                    upsert().upsert(type, indexes.stream().map(result::get).toList());
+                    indexes.forEach(index -> written(1));
+                } else {
+                    merges.addAll(indexes);
+                }
+            });
+            for (Integer index : merges) {
+                result.set(index, written(entityManager.merge(result.get(index))));
+            }
+            return result;
+        });
+    }
+
+    private PersistenceUpsert upsert() {
+        if (upsert == null) {
+            upsert = PersistenceUpsert.of(entityManager);
+        }
+        return upsert;
+    }
+
     @Override
     public <T> void delete(T entity) {
         Objects.requireNonNull(entity, "entity is null");
-        executeInTransaction(() -> {
+        write(entityNames(List.of(entity)), () -> {
             T managed = entityManager.contains(entity)
                     ? entity
                     : entityManager.merge(entity);
 
             entityManager.remove(managed);
+            written(1);
             return void.class;
         });
     }
@@ -281,7 +536,7 @@ class DefaultSqlTemplate implements SqlTemplate {
     @Override
     public <T> void delete(Iterable<? extends T> entities) {
         Objects.requireNonNull(entities, "entities is null");
-        executeInTransaction(() -> {
+        write(entityNames(entities), () -> {
             for (T entity : entities) {
                 Objects.requireNonNull(entity, "entity element is null");
 
@@ -290,6 +545,7 @@ class DefaultSqlTemplate implements SqlTemplate {
                         : entityManager.merge(entity);
 
                 entityManager.remove(managed);
+                written(1);
             }
             return void.class;
         });
@@ -312,8 +568,11 @@ class DefaultSqlTemplate implements SqlTemplate {
         Objects.requireNonNull(type, "type is null");
         Objects.requireNonNull(id, "id is null");
         return executeInTransaction(() -> {
-            T entity = entityManager.find(type, id);
-            return Optional.ofNullable(entity);
+            var options = readOptions();
+            T entity = options.isEmpty()
+                    ? entityManager.find(type, id)
+                    : entityManager.find(type, id, options.hints());
+            return Optional.ofNullable(options.isReadOnly() ? selectQueryConverter.detach(entity) : entity);
         });
     }
 
@@ -321,11 +580,12 @@ class DefaultSqlTemplate implements SqlTemplate {
     public <T, K> void delete(Class<T> type, K id) {
         Objects.requireNonNull(type, "type is null");
         Objects.requireNonNull(id, "id is null");
-        executeInTransaction(() -> {
+        write(Set.of(entityName(type)), () -> {
             T entity = entityManager.find(type, id);
 
             if (entity != null) {
                 entityManager.remove(entity);
+                written(1);
             }
             return void.class;
         });
@@ -333,30 +593,136 @@ class DefaultSqlTemplate implements SqlTemplate {
 
     @Override
     public <T> QueryMapper.MapperFrom select(Class<T> type) {
-        throw new UnsupportedOperationException("'select(Class<T> type)' not supported yet.");
+        Objects.requireNonNull(type, "type is null");
+        return PersistenceQueryMapper.select(entityName(type), query -> select(query, true));
     }
 
     @Override
     public <T> QueryMapper.MapperDeleteFrom delete(Class<T> type) {
-        throw new UnsupportedOperationException("'delete(Class<T> type)' not supported yet.");
+        Objects.requireNonNull(type, "type is null");
+        return PersistenceQueryMapper.delete(entityName(type), query -> delete(query));
     }
 
     @Override
     public <T> QueryMapper.MapperUpdateFrom update(Class<T> type) {
-        throw new UnsupportedOperationException("'update(Class<T> type)' not supported yet.");
+        Objects.requireNonNull(type, "type is null");
+        return PersistenceQueryMapper.update(entityName(type), query -> update(query));
+    }
+
+    private String entityName(Class<?> type) {
+        return entityManager.getMetamodel().entity(type).getName();
     }
 
     @Override
     public Query query(String query) {
         Objects.requireNonNull(query, "query is null");
-        return new SqlQuery(this, entityManager.createQuery(query));
+        var options = selectQueryConverter.queryOptions();
+        var jpaQuery = entityManager.createQuery(query);
+        return new SqlQuery(this, isSelect(query) ? options.apply(jpaQuery) : options.applyUpdate(jpaQuery));
     }
 
     @Override
     public <T> TypedQuery<T> typedQuery(String query, Class<T> type) {
         Objects.requireNonNull(query, "query is null");
         Objects.requireNonNull(type, "type is null");
-        return new SqlTypedQuery<>(this, entityManager.createQuery(query, type));
+        return new SqlTypedQuery<>(this,
+                selectQueryConverter.applyQueryOptions(entityManager.createQuery(query, type), null));
+    }
+
+    private SelectQuery readOnlyQuery(SelectQuery query) {
+        if (!readOnly) {
+            return query;
+        }
+        var options = query instanceof SqlSelectQuery sqlSelectQuery && sqlSelectQuery.queryOptions() != null
+                ? sqlSelectQuery.queryOptions()
+                : PersistenceQueryOptions.NONE;
+        return SqlSelectQuery.of(query, options.asReadOnly());
+    }
+
+    /**
+     * Returns the result cache, when enabled, unless a transaction is active: results read inside a transaction may
+     * not be committed yet, so they are neither served from nor stored in the cache.
+     * <p>
+     * Queries returning entities cache the identifiers of the entities, never the entities, which are mutable and
+     * belong to a persistence context. A cached result is loaded again by identifier, from the persistence context
+     * or the second-level cache when they hold the entity, so each caller gets the instances of its own
+     * EntityManager.
+     */
+    private Optional<SqlResultCache> activeResultCache() {
+        var cache = resultCache.get();
+        if (cache.isEmpty() || entityManager.getTransaction().isActive()) {
+            return Optional.empty();
+        }
+        return cache;
+    }
+
+    private <R> R cached(SqlResultCache.Operation operation, SelectQuery query, Supplier<R> loader) {
+        var cache = activeResultCache();
+        return cache.isPresent() ? cache.get().get(operation, query, loader) : loader.get();
+    }
+
+    /**
+     * Runs a write, then records it in the {@link EntityGenerations} of the persistence unit, which makes the
+     * cached results of the written entities stale. The write is recorded once it is committed: when this call
+     * commits, or when the unit of work commits. A write joining a transaction the caller began is recorded
+     * right away, since its commit is not visible here.
+     */
+    private <T> T write(Set<String> entities, Supplier<T> operation) {
+        T result = executeInTransaction(operation);
+        if (unitOfWork != null) {
+            unitOfWork.afterCommit(() -> changed(entities));
+        } else {
+            changed(entities);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a write whose target entity is not known, which makes every cached result stale.
+     */
+    <T> T writeAny(Supplier<T> operation) {
+        T result = executeInTransaction(operation);
+        if (unitOfWork != null) {
+            unitOfWork.afterCommit(() -> generations().changedAll());
+        } else {
+            generations().changedAll();
+        }
+        return result;
+    }
+
+    private void changed(Set<String> entities) {
+        var metamodel = entityManager.getMetamodel();
+        var entityGenerations = generations();
+        entities.forEach(entity -> entityGenerations.changed(metamodel, entity));
+    }
+
+    private EntityGenerations generations() {
+        if (generations == null) {
+            generations = EntityGenerations.of(entityManager.getEntityManagerFactory());
+        }
+        return generations;
+    }
+
+    private Set<String> entityNames(Iterable<?> entities) {
+        Set<Class<?>> types = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (Object entity : entities) {
+            if (entity != null && types.add(entity.getClass())) {
+                names.add(entityName(entity.getClass()));
+            }
+        }
+        return names;
+    }
+
+    private PersistenceQueryOptions readOptions() {
+        var options = selectQueryConverter.queryOptions();
+        return readOnly ? options.asReadOnly() : options;
+    }
+
+    private static boolean isSelect(String query) {
+        var statement = query.stripLeading();
+        return !statement.regionMatches(true, 0, "UPDATE", 0, 6)
+                && !statement.regionMatches(true, 0, "DELETE", 0, 6);
     }
 
     private <T> T insertExecution(T entity) {
@@ -366,7 +732,17 @@ class DefaultSqlTemplate implements SqlTemplate {
             throw  new EntityExistsException("Entity of type " + entity.getClass().getName() + " with id " + idValue + " already exists.");
         }
         entityManager.persist(entity);
-        return entity;
+        return written(entity);
+    }
+
+    /**
+     * Counts a written entity in the running unit of work, if any.
+     */
+    private <T> T written(T result) {
+        if (unitOfWork != null) {
+            unitOfWork.written();
+        }
+        return result;
     }
 
     <T> T executeInTransaction(Supplier<T> operation) {
@@ -402,4 +778,33 @@ class DefaultSqlTemplate implements SqlTemplate {
     static SqlTemplate of(EntityManager entityManager) {
         return new DefaultSqlTemplate(entityManager);
     }
+
+    /**
+     * Resolves the result cache of the persistence unit from the {@link SqlSettings} on first use. The templates
+     * derived from a template, read-only views and units of work, share its holder.
+     */
+    private static final class ResultCacheHolder {
+
+        private final EntityManager entityManager;
+
+        private boolean resolved;
+
+        private SqlResultCache cache;
+
+        private ResultCacheHolder(EntityManager entityManager) {
+            this.entityManager = entityManager;
+        }
+
+        synchronized Optional<SqlResultCache> get() {
+            if (!resolved) {
+                var settings = SqlSettings.of(entityManager);
+                if (settings.cacheEnabled()) {
+                    cache = SqlResultCache.of(entityManager.getEntityManagerFactory(), settings.cacheTtl(),
+                            settings.cacheMaxSize());
+                }
+                resolved = true;
+            }
+            return Optional.ofNullable(cache);
+        }
+    }
 }
@@ -41,7 +41,7 @@ final class DeleteQueryConverter extends QueryConverterSupport {
 
         applyCondition(query.condition().orElse(null), criteriaBuilder, root, criteriaDelete, manager);
 
-        return manager.createQuery(criteriaDelete);
+        return queryOptions().applyUpdate(manager.createQuery(criteriaDelete));
     }
 
     private  <T> void applyCondition(
@@ -151,6 +151,10 @@ final class PredicateConverter {
             return cb.equal(field, resolvedValue.toString().toUpperCase());
         }
 
+        if (resolvedValue instanceof Expression<?> expression) {
+            return cb.equal(path, expression);
+        }
+
         return cb.equal(path, resolvedValue);
     }
 
@@ -167,6 +171,10 @@ final class PredicateConverter {
             return cb.like(field, resolvedValue.toString().toUpperCase());
         }
 
+        if (resolvedValue instanceof Expression<?> expression) {
+            return cb.like(path.as(String.class), (Expression<String>) expression);
+        }
+
         return cb.like(path.as(String.class), resolvedValue.toString());
     }
 
@@ -231,6 +239,10 @@ final class PredicateConverter {
             return cb.greaterThan(field, resolvedValue.toString().toUpperCase());
         }
 
+        if (resolvedValue instanceof Expression<?> expression) {
+            return cb.greaterThan(path.as(Comparable.class), (Expression<Comparable>) expression);
+        }
+
         return cb.greaterThan(path.as(Comparable.class), (Comparable) resolvedValue);
     }
 
@@ -247,6 +259,10 @@ final class PredicateConverter {
             return cb.greaterThanOrEqualTo(field, resolvedValue.toString().toUpperCase());
         }
 
+        if (resolvedValue instanceof Expression<?> expression) {
+            return cb.greaterThanOrEqualTo(path.as(Comparable.class), (Expression<Comparable>) expression);
+        }
+
         return cb.greaterThanOrEqualTo(path.as(Comparable.class), (Comparable) resolvedValue);
     }
 
@@ -263,6 +279,10 @@ final class PredicateConverter {
             return cb.lessThan(field, resolvedValue.toString().toUpperCase());
         }
 
+        if (resolvedValue instanceof Expression<?> expression) {
+            return cb.lessThan(path.as(Comparable.class), (Expression<Comparable>) expression);
+        }
+
         return cb.lessThan(path.as(Comparable.class), (Comparable) resolvedValue);
     }
 
@@ -279,6 +299,10 @@ final class PredicateConverter {
             return cb.lessThanOrEqualTo(field, resolvedValue.toString().toUpperCase());
         }
 
+        if (resolvedValue instanceof Expression<?> expression) {
+            return cb.lessThanOrEqualTo(path.as(Comparable.class), (Expression<Comparable>) expression);
+        }
+
         return cb.lessThanOrEqualTo(path.as(Comparable.class), (Comparable) resolvedValue);
     }
 
@@ -308,8 +332,10 @@ final class PredicateConverter {
                     var rawItemValue = value(item);
                     if (rawItemValue instanceof Iterable<?> iterable) {
                         iterable.forEach(inner ->in.value(value(inner)));
+                    } else if (rawItemValue instanceof Expression<?> expression) {
+                        in.value(expression);
                     } else {
-                        in.value(value(item));
+                        in.value(rawItemValue);
                     }
                 }
         );
@@ -337,6 +363,15 @@ final class PredicateConverter {
             );
         }
 
+        if (lowerBound instanceof Expression<?> lowerExpression
+                && upperBound instanceof Expression<?> upperExpression) {
+            return cb.between(
+                    path.as(Comparable.class),
+                    (Expression<Comparable>) lowerExpression,
+                    (Expression<Comparable>) upperExpression
+            );
+        }
+
         return cb.between(
                 path.as(Comparable.class),
                 (Comparable) lowerBound,
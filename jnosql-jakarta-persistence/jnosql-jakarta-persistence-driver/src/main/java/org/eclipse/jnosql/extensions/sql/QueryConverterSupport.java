@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.extensions.sql;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Path;
@@ -23,6 +24,7 @@ import jakarta.persistence.criteria.Root;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.SingularAttribute;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions;
 
 import java.util.List;
 
@@ -33,10 +35,21 @@ abstract class QueryConverterSupport {
     private static final String ID_FUNCTION_PATH = "id(this)";
     protected final EntityManager manager;
 
+    private PersistenceQueryOptions queryOptions;
+
     QueryConverterSupport(EntityManager manager) {
         this.manager = manager;
     }
 
+    /**
+     * Returns the query options declared as defaults of the persistence unit, read on first use.
+     */
+    PersistenceQueryOptions queryOptions() {
+        if (queryOptions == null) {
+            queryOptions = SqlSettings.of(manager).queryOptions();
+        }
+        return queryOptions;
+    }
 
     protected void applyCondition(CriteriaCondition criteriaCondition, CriteriaBuilder criteriaBuilder, Root<?> root, CriteriaQuery<?> criteriaQuery) {
         PREDICATE_CONVERTER.applyCondition(criteriaCondition, criteriaBuilder, root, criteriaQuery, manager);
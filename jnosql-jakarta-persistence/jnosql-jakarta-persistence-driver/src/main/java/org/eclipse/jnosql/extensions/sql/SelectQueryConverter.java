@@ -20,6 +20,8 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.data.page.impl.PageRecord;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -29,12 +31,18 @@ import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 
 /**
@@ -62,6 +70,17 @@ import java.util.Objects;
  */
 public final class SelectQueryConverter extends QueryConverterSupport {
 
+    private static final int MAX_SHAPES = 256;
+
+    private static final String SHAPE_PREFIX = SelectQueryConverter.class.getName() + ':';
+
+    /**
+     * The shapes registered as named queries of each persistence unit, shared by the converters of all its
+     * EntityManagers.
+     */
+    private static final Map<EntityManagerFactory, Set<String>> SHAPES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     public SelectQueryConverter(EntityManager manager) {
         super(manager);
     }
@@ -98,7 +117,7 @@ public final class SelectQueryConverter extends QueryConverterSupport {
 
         Root<T> root = criteriaQuery.from(type);
 
-        if(query instanceof SqlSelectQuery sqlSelectQuery) {
+        if(query instanceof SqlSelectQuery sqlSelectQuery && sqlSelectQuery.projector() != null) {
             appendProjector(query, sqlSelectQuery, root, criteriaQuery, criteriaBuilder);
         } else {
             applyColumns(query.columns(), root, criteriaQuery);
@@ -109,8 +128,78 @@ public final class SelectQueryConverter extends QueryConverterSupport {
         TypedQuery<T> typedQuery = manager.createQuery(criteriaQuery);
         applySkip(query.skip(), typedQuery);
         applyLimit(limit, typedQuery);
+        applyFetchPlan(query, type, typedQuery);
 
-        return typedQuery;
+        return applyQueryOptions(typedQuery, query);
+    }
+
+    /**
+     * Converts the query like {@link #convert(SelectQuery)}, but builds its {@link CriteriaQuery} once per
+     * {@link SqlQueryShape} and registers it as a named query of the persistence unit, so the other queries with the
+     * same shape, by any EntityManager, create their query from it and bind only their values. The criteria query
+     * itself is never shared. Queries without a shape, or beyond {@value #MAX_SHAPES} shapes, are converted as usual.
+     */
+    <T> TypedQuery<T> convertShaped(SelectQuery query) {
+        var shape = SqlQueryShape.of(query);
+        if (shape.isEmpty()) {
+            return convert(query);
+        }
+        var name = SHAPE_PREFIX + shape.get().key();
+        if (!register(name, query, shape.get())) {
+            return convert(query);
+        }
+        Class<T> type = resolveEntity(query.name());
+        TypedQuery<T> typedQuery = manager.createNamedQuery(name, type);
+        shape.get().bind(typedQuery);
+        applySkip(query.skip(), typedQuery);
+        applyLimit(query.limit(), typedQuery);
+        applyFetchPlan(query, type, typedQuery);
+        return applyQueryOptions(typedQuery, query);
+    }
+
+    /**
+     * Returns the number of shapes registered in the persistence unit.
+     */
+    int shapeCount() {
+        var shapes = shapes();
+        synchronized (shapes) {
+            return shapes.size();
+        }
+    }
+
+    /**
+     * Registers the named query of the shape unless it is already registered, returning {@code false} when the
+     * persistence unit already holds {@value #MAX_SHAPES} shapes. Named queries cannot be removed, so the shapes
+     * are bounded instead of evicted.
+     */
+    private boolean register(String name, SelectQuery query, SqlQueryShape shape) {
+        var shapes = shapes();
+        synchronized (shapes) {
+            if (shapes.contains(name)) {
+                return true;
+            }
+            if (shapes.size() >= MAX_SHAPES) {
+                return false;
+            }
+            manager.getEntityManagerFactory().addNamedQuery(name, manager.createQuery(compile(query, shape)));
+            shapes.add(name);
+            return true;
+        }
+    }
+
+    private Set<String> shapes() {
+        return SHAPES.computeIfAbsent(manager.getEntityManagerFactory(), factory -> new HashSet<>());
+    }
+
+    private <T> CriteriaQuery<T> compile(SelectQuery query, SqlQueryShape shape) {
+        Class<T> type = resolveEntity(query.name());
+        CriteriaBuilder criteriaBuilder = manager.getCriteriaBuilder();
+        CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(type);
+        Root<T> root = criteriaQuery.from(type);
+        applyColumns(query.columns(), root, criteriaQuery);
+        applyCondition(shape.parameterize(criteriaBuilder), criteriaBuilder, root, criteriaQuery);
+        applySort(query.sorts(), criteriaBuilder, root, criteriaQuery, manager);
+        return criteriaQuery;
     }
 
     @SuppressWarnings("unchecked")
@@ -158,7 +247,7 @@ public final class SelectQueryConverter extends QueryConverterSupport {
                 countQuery
         );
 
-        return manager.createQuery(countQuery);
+        return applyQueryOptions(manager.createQuery(countQuery), query);
     }
 
     TypedQuery<Integer> convertExists(SelectQuery query) {
@@ -180,7 +269,7 @@ public final class SelectQueryConverter extends QueryConverterSupport {
                 existsQuery
         );
 
-        TypedQuery<Integer> typedQuery = manager.createQuery(existsQuery);
+        TypedQuery<Integer> typedQuery = applyQueryOptions(manager.createQuery(existsQuery), query);
         typedQuery.setMaxResults(1);
 
         return typedQuery;
@@ -193,7 +282,7 @@ public final class SelectQueryConverter extends QueryConverterSupport {
         int offset = Math.toIntExact((page - 1) * size);
         typedQuery.setFirstResult(offset);
         typedQuery.setMaxResults(size + 1);
-        List<T> results = typedQuery.getResultList();
+        List<T> results = detach(typedQuery.getResultList(), query);
         boolean hasNext = results.size() > size;
         List<T> content = hasNext
                 ? results.subList(0, size)
@@ -224,12 +313,12 @@ public final class SelectQueryConverter extends QueryConverterSupport {
         SelectQuery effectiveQuery =
                 SelectQueryConverter.updateQuery(size + 1, query, cursorCondition);
 
-        var typedQuery = this.<T>convert(effectiveQuery);
+        var typedQuery = applyQueryOptions(this.<T>convert(effectiveQuery), query);
 
         // Important: apply the same limit on the JPA query
         typedQuery.setMaxResults(size + 1);
 
-        List<T> results = typedQuery.getResultList();
+        List<T> results = detach(typedQuery.getResultList(), query);
 
         if (results.isEmpty()) {
             return new CursoredPageRecord<>(results, List.of(), -1, pageRequest, null, null);
@@ -349,6 +438,81 @@ public final class SelectQueryConverter extends QueryConverterSupport {
         return PageRequest.Cursor.forKey(keys.toArray());
     }
 
+    private <T> void applyFetchPlan(SelectQuery query, Class<T> type, TypedQuery<T> typedQuery) {
+        if (query instanceof SqlSelectQuery sqlSelectQuery && sqlSelectQuery.fetchPlan() != null
+                && sqlSelectQuery.projector() == null && query.columns().isEmpty()) {
+            sqlSelectQuery.fetchPlan().apply(typedQuery, manager, type);
+        }
+    }
+
+    /**
+     * Returns the query options of the repository method, completed with the persistence unit defaults.
+     */
+    PersistenceQueryOptions queryOptions(SelectQuery query) {
+        if (query instanceof SqlSelectQuery sqlSelectQuery && sqlSelectQuery.queryOptions() != null) {
+            return sqlSelectQuery.queryOptions().orElse(queryOptions());
+        }
+        return queryOptions();
+    }
+
+    <Q extends Query> Q applyQueryOptions(Q typedQuery, SelectQuery query) {
+        return queryOptions(query).apply(typedQuery);
+    }
+
+    /**
+     * Whether the query returns read-only entities, which are detached as they are produced.
+     * Projections and column selections are never managed, so they are left untouched.
+     */
+    boolean detachesResults(SelectQuery query) {
+        return queryOptions(query).isReadOnly() && returnsEntities(query);
+    }
+
+    /**
+     * Whether the query returns entities, rather than projections or selected columns.
+     */
+    boolean returnsEntities(SelectQuery query) {
+        return query.columns().isEmpty()
+                && !(query instanceof SqlSelectQuery sqlSelectQuery && sqlSelectQuery.projector() != null);
+    }
+
+    /**
+     * Returns the identifier of an entity returned by a query, which the result cache keeps instead of the entity.
+     */
+    Object identifier(Object entity) {
+        return manager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+
+    /**
+     * Loads an entity of the query by identifier, from the persistence context or the second-level cache when they
+     * hold it. The fetch plan of the query is applied, and the entity is detached when the query is read-only.
+     *
+     * @return the entity, or {@code null} when it no longer exists
+     */
+    <T> T find(SelectQuery query, Object id) {
+        Class<T> type = resolveEntity(query.name());
+        Map<String, Object> hints = new HashMap<>();
+        if (query instanceof SqlSelectQuery sqlSelectQuery && sqlSelectQuery.fetchPlan() != null) {
+            var fetchPlan = sqlSelectQuery.fetchPlan();
+            hints.put(fetchPlan.type().hint(), fetchPlan.entityGraph(manager, type));
+        }
+        T entity = manager.find(type, id, hints);
+        return detachesResults(query) ? detach(entity) : entity;
+    }
+
+    <T> T detach(T entity) {
+        if (entity != null && manager.contains(entity)) {
+            manager.detach(entity);
+        }
+        return entity;
+    }
+
+    private <T> List<T> detach(List<T> results, SelectQuery query) {
+        if (detachesResults(query)) {
+            results.forEach(this::detach);
+        }
+        return results;
+    }
+
     private static <T> void applyLimit(long limit, TypedQuery<T> typedQuery) {
         if (limit > 0) {
             typedQuery.setMaxResults((int) limit);
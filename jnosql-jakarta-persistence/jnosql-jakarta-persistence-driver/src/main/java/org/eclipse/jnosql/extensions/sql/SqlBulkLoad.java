@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceUpsert;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * The options of a bulk load started with {@link SqlTemplate#bulkLoad(java.util.Iterator, SqlBulkLoad)}.
+ * Instances are immutable; each method returns a copy with the option changed.
+ *
+ * <p>The entities are written in chunks, each one in its own transaction, and the persistence context is cleared
+ * after every chunk. When a chunk fails, it is rolled back and its exception is thrown; the chunks committed
+ * before it stay. The position reported to {@link #onProgress(LongConsumer)} is the number of entities of the
+ * source committed so far, so a failed load is resumed from the last reported position with {@link #skip(long)}.</p>
+ *
+ * <pre>{@code
+ * var position = new AtomicLong();
+ * var options = SqlBulkLoad.of()
+ *         .chunkSize(5_000)
+ *         .nativeUpsert()
+ *         .onProgress(position::set);
+ * try (Stream<Order> orders = readJsonLines(file)) {
+ *     template.bulkLoad(orders, options);
+ * }
+ * }</pre>
+ */
+public final class SqlBulkLoad {
+
+    static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private static final LongConsumer NO_PROGRESS = position -> {
+    };
+
+    private static final SqlBulkLoad DEFAULT = new SqlBulkLoad(DEFAULT_CHUNK_SIZE, false, 0L, NO_PROGRESS);
+
+    private final int chunkSize;
+
+    private final boolean nativeUpsert;
+
+    private final long skip;
+
+    private final LongConsumer progress;
+
+    private SqlBulkLoad(int chunkSize, boolean nativeUpsert, long skip, LongConsumer progress) {
+        this.chunkSize = chunkSize;
+        this.nativeUpsert = nativeUpsert;
+        this.skip = skip;
+        this.progress = progress;
+    }
+
+    /**
+     * Sets the number of entities written in each transaction. The default is {@value #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param entities the number of entities per chunk
+     * @return a copy of this bulk load with the chunk size
+     * @throws IllegalArgumentException if {@code entities} is not greater than zero
+     */
+    public SqlBulkLoad chunkSize(int entities) {
+        if (entities <= 0) {
+            throw new IllegalArgumentException("The chunk size must be greater than zero, but was " + entities);
+        }
+        return new SqlBulkLoad(entities, nativeUpsert, skip, progress);
+    }
+
+    /**
+     * Writes the entities that qualify for {@link PersistenceUpsert}, when its native path is enabled, with native
+     * batched statements that upsert the rows. A duplicated id then overwrites the stored row instead of failing
+     * its chunk, so a chunk loaded twice does not fail. The entities with callbacks, listeners or constraints do
+     * not qualify and are persisted as usual, with their callbacks and validation.
+     *
+     * @return a copy of this bulk load writing with the native upsert
+     */
+    public SqlBulkLoad nativeUpsert() {
+        return new SqlBulkLoad(chunkSize, true, skip, progress);
+    }
+
+    /**
+     * Skips the given number of entities at the start of the source, the position of a previous load to resume.
+     *
+     * @param entities the number of entities already loaded
+     * @return a copy of this bulk load skipping the entities
+     * @throws IllegalArgumentException if {@code entities} is negative
+     */
+    public SqlBulkLoad skip(long entities) {
+        if (entities < 0) {
+            throw new IllegalArgumentException("The skipped entities must not be negative, but was " + entities);
+        }
+        return new SqlBulkLoad(chunkSize, nativeUpsert, entities, progress);
+    }
+
+    /**
+     * Registers a callback receiving the position in the source, skipped entities included, after each committed
+     * chunk.
+     *
+     * @param progress the callback
+     * @return a copy of this bulk load with the callback
+     * @throws NullPointerException if {@code progress} is {@code null}
+     */
+    public SqlBulkLoad onProgress(LongConsumer progress) {
+        Objects.requireNonNull(progress, "progress is required");
+        return new SqlBulkLoad(chunkSize, nativeUpsert, skip, this.progress.andThen(progress));
+    }
+
+    int chunkSizeValue() {
+        return chunkSize;
+    }
+
+    boolean upsertsNatively() {
+        return nativeUpsert;
+    }
+
+    long skipped() {
+        return skip;
+    }
+
+    LongConsumer progress() {
+        return progress;
+    }
+
+    /**
+     * Returns a bulk load of {@value #DEFAULT_CHUNK_SIZE} entities per chunk, persisting every entity and with no
+     * progress callback.
+     *
+     * @return the default bulk load
+     */
+    public static SqlBulkLoad of() {
+        return DEFAULT;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlBulkLoad{"
+                + "chunkSize=" + chunkSize
+                + ", nativeUpsert=" + nativeUpsert
+                + ", skip=" + skip
+                + '}';
+    }
+}
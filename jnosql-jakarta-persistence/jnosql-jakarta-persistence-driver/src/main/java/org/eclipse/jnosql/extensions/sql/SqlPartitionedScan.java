@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads every entity of a type splitting the table into ranges of an attribute, so a parallel stream consumes
+ * the ranges concurrently.
+ * <p>
+ * On the first traversal, a probe reads the lowest and highest values of the attribute, and the interval is cut
+ * into the requested number of ranges of equal width. A range is read once the stream reaches it, on its own
+ * virtual thread with its own {@link EntityManager}, and its rows are handed to the stream through a bounded
+ * buffer, so a slow consumer holds the cursor back. The {@link Spliterator} splits over the ranges, thus each
+ * worker of a parallel stream drains whole ranges. The rows whose attribute is {@code null} belong to the first
+ * range. Rows written after the probe outside the probed interval are not read.
+ * <p>
+ * Every range holds a database connection while it is read, so at most {@link SqlSettings#scanMaxReaders()}
+ * ranges are read at the same time; the others wait for a reader to finish. A reader whose rows are not consumed
+ * within {@link SqlSettings#scanIdleTimeout()} stops and releases its connection, and the stream fails once it
+ * drains the rows already read.
+ * <p>
+ * The entities are read-only and detached. Closing the stream stops the readers and closes their entity
+ * managers.
+ *
+ * @param <T> the entity type
+ */
+final class SqlPartitionedScan<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(SqlPartitionedScan.class.getName());
+
+    private static final int BUFFER_SIZE = 256;
+
+    private static final long POLL_INTERVAL = 100L;
+
+    private final EntityManagerFactory factory;
+
+    private final Class<T> type;
+
+    private final String attribute;
+
+    private final int partitions;
+
+    private final Class<?> attributeType;
+
+    private final Domain domain;
+
+    private final Semaphore readers;
+
+    private final long idleTimeout;
+
+    private final List<Range> ranges;
+
+    private final AtomicInteger started = new AtomicInteger();
+
+    private List<Object> bounds;
+
+    private RuntimeException probeFailure;
+
+    private volatile boolean closed;
+
+    SqlPartitionedScan(EntityManager entityManager, Class<T> type, String attribute, int partitions) {
+        this.factory = entityManager.getEntityManagerFactory();
+        this.type = type;
+        this.attribute = attribute;
+        this.partitions = partitions;
+        var javaType = entityManager.getMetamodel().entity(type).getAttribute(attribute).getJavaType();
+        this.attributeType = MethodType.methodType(javaType).wrap().returnType();
+        this.domain = Domain.of(attributeType);
+        var settings = SqlSettings.of(entityManager);
+        this.readers = new Semaphore(Math.min(settings.scanMaxReaders(), partitions));
+        this.idleTimeout = settings.scanIdleTimeout().toMillis();
+        this.ranges = new ArrayList<>(partitions);
+        for (int index = 0; index < partitions; index++) {
+            ranges.add(new Range(index));
+        }
+    }
+
+    Stream<T> stream() {
+        return StreamSupport.stream(new RangeSpliterator(0, partitions), false).onClose(this::close);
+    }
+
+    /**
+     * Returns how many range readers were started.
+     */
+    int startedReaders() {
+        return started.get();
+    }
+
+    private void close() {
+        closed = true;
+        ranges.forEach(Range::stop);
+    }
+
+    /**
+     * Probes the attribute interval once, returning the bounds of the ranges.
+     */
+    private synchronized List<Object> probe() {
+        if (probeFailure != null) {
+            throw probeFailure;
+        }
+        if (bounds == null) {
+            try {
+                bounds = bounds();
+            } catch (RuntimeException exception) {
+                probeFailure = exception;
+                throw exception;
+            }
+            LOGGER.fine(() -> "Scanning " + type.getName() + " by " + attribute + " in " + partitions + " ranges");
+        }
+        return bounds;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> bounds() {
+        try (var entityManager = factory.createEntityManager()) {
+            var builder = entityManager.getCriteriaBuilder();
+            var query = builder.createQuery(Object[].class);
+            Root<T> root = query.from(type);
+            Expression<Comparable> path = root.get(attribute);
+            query.multiselect(builder.least(path), builder.greatest(path));
+            Object[] interval = entityManager.createQuery(query).getSingleResult();
+            return domain.bounds(interval[0], interval[1], partitions, attributeType);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate predicate(CriteriaBuilder builder, Root<T> root, List<Object> bounds, int index) {
+        Expression<Comparable> path = root.get(attribute);
+        if (bounds.isEmpty()) {
+            return index == 0 ? builder.conjunction() : builder.disjunction();
+        }
+        var lower = (Comparable) bounds.get(index);
+        var upper = (Comparable) bounds.get(index + 1);
+        var range = builder.and(builder.greaterThanOrEqualTo(path, lower),
+                index == partitions - 1 ? builder.lessThanOrEqualTo(path, upper) : builder.lessThan(path, upper));
+        return index == 0 ? builder.or(builder.isNull(path), range) : range;
+    }
+
+    /**
+     * A range of the attribute, read by a virtual thread into a bounded buffer once the stream reaches it.
+     */
+    private final class Range {
+
+        private final int index;
+
+        private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+
+        private volatile Thread reader;
+
+        private volatile boolean finished;
+
+        private volatile RuntimeException failure;
+
+        private boolean done;
+
+        private Range(int index) {
+            this.index = index;
+        }
+
+        private void start() {
+            if (reader != null) {
+                return;
+            }
+            var rangeBounds = probe();
+            started.incrementAndGet();
+            reader = Thread.ofVirtual().name("jnosql-sql-scan-" + type.getSimpleName() + "-" + index)
+                    .start(() -> read(rangeBounds));
+            if (closed) {
+                stop();
+            }
+        }
+
+        private void stop() {
+            var thread = reader;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        private void read(List<Object> bounds) {
+            try {
+                readers.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try (var entityManager = factory.createEntityManager()) {
+                var transaction = entityManager.getTransaction();
+                transaction.begin();
+                try {
+                    var builder = entityManager.getCriteriaBuilder();
+                    var query = builder.createQuery(type);
+                    Root<T> root = query.from(type);
+                    query.select(root).where(predicate(builder, root, bounds, index));
+                    var typedQuery = SqlSettings.of(entityManager).queryOptions().asReadOnly()
+                            .apply(entityManager.createQuery(query));
+                    try (Stream<T> rows = typedQuery.getResultStream()) {
+                        var iterator = rows.iterator();
+                        while (iterator.hasNext() && !closed) {
+                            var entity = iterator.next();
+                            if (entityManager.contains(entity)) {
+                                entityManager.detach(entity);
+                            }
+                            if (!buffer.offer(entity, idleTimeout, TimeUnit.MILLISECONDS)) {
+                                failure = new IllegalStateException("The scan of " + type.getName()
+                                        + " was not consumed for " + idleTimeout + " ms, so the reader of range "
+                                        + index + " stopped");
+                                LOGGER.warning(failure::getMessage);
+                                return;
+                            }
+                        }
+                    }
+                } finally {
+                    if (transaction.isActive()) {
+                        transaction.rollback();
+                    }
+                }
+                finished = true;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException exception) {
+                failure = exception;
+            } finally {
+                readers.release();
+            }
+        }
+
+        /**
+         * Returns the next entity of the range, or {@code null} once the range is drained.
+         */
+        @SuppressWarnings("unchecked")
+        private T next() {
+            if (done) {
+                return null;
+            }
+            start();
+            try {
+                while (true) {
+                    boolean complete = finished;
+                    var error = failure;
+                    var row = buffer.poll(complete || error != null ? 0L : POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                    if (row != null) {
+                        return (T) row;
+                    }
+                    if (complete || error != null || closed) {
+                        done = true;
+                        if (error != null) {
+                            throw error;
+                        }
+                        return null;
+                    }
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(exception);
+            }
+        }
+    }
+
+    /**
+     * Traverses the ranges {@code [from, to)}; splitting halves the ranges left.
+     */
+    private final class RangeSpliterator implements Spliterator<T> {
+
+        private int from;
+
+        private final int to;
+
+        private RangeSpliterator(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action is required");
+            while (from < to) {
+                var entity = ranges.get(from).next();
+                if (entity != null) {
+                    action.accept(entity);
+                    return true;
+                }
+                from++;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int size = to - from;
+            if (size < 2) {
+                return null;
+            }
+            int middle = from + size / 2;
+            var prefix = new RangeSpliterator(from, middle);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * The attribute types whose interval can be cut into ranges, mapped to decimals and back.
+     */
+    private enum Domain {
+        INTEGRAL {
+            @Override
+            BigDecimal decimal(Object value) {
+                return new BigDecimal(value instanceof BigInteger integer ? integer : BigInteger.valueOf(((Number) value).longValue()));
+            }
+
+            @Override
+            Object value(BigDecimal decimal, Class<?> type) {
+                var integer = decimal.setScale(0, RoundingMode.FLOOR).toBigInteger();
+                if (type == Long.class) {
+                    return integer.longValue();
+                }
+                if (type == Integer.class) {
+                    return integer.intValue();
+                }
+                if (type == Short.class) {
+                    return integer.shortValue();
+                }
+                if (type == Byte.class) {
+                    return integer.byteValue();
+                }
+                return integer;
+            }
+        },
+        DECIMAL {
+            @Override
+            BigDecimal decimal(Object value) {
+                return value instanceof BigDecimal decimal ? decimal : BigDecimal.valueOf(((Number) value).doubleValue());
+            }
+
+            @Override
+            Object value(BigDecimal decimal, Class<?> type) {
+                if (type == Double.class) {
+                    return decimal.doubleValue();
+                }
+                if (type == Float.class) {
+                    return decimal.floatValue();
+                }
+                return decimal;
+            }
+        },
+        LOCAL_DATE {
+            @Override
+            BigDecimal decimal(Object value) {
+                return BigDecimal.valueOf(((LocalDate) value).toEpochDay());
+            }
+
+            @Override
+            Object value(BigDecimal decimal, Class<?> type) {
+                return LocalDate.ofEpochDay(decimal.setScale(0, RoundingMode.FLOOR).longValue());
+            }
+        },
+        LOCAL_DATE_TIME {
+            @Override
+            BigDecimal decimal(Object value) {
+                return seconds(((LocalDateTime) value).toInstant(ZoneOffset.UTC));
+            }
+
+            @Override
+            Object value(BigDecimal decimal, Class<?> type) {
+                return LocalDateTime.ofInstant(instant(decimal), ZoneOffset.UTC);
+            }
+        },
+        INSTANT {
+            @Override
+            BigDecimal decimal(Object value) {
+                return seconds((Instant) value);
+            }
+
+            @Override
+            Object value(BigDecimal decimal, Class<?> type) {
+                return instant(decimal);
+            }
+        },
+        DATE {
+            @Override
+            BigDecimal decimal(Object value) {
+                return BigDecimal.valueOf(((java.util.Date) value).getTime());
+            }
+
+            @Override
+            Object value(BigDecimal decimal, Class<?> type) {
+                long millis = decimal.setScale(0, RoundingMode.FLOOR).longValue();
+                if (type == java.sql.Timestamp.class) {
+                    return new java.sql.Timestamp(millis);
+                }
+                if (type == java.sql.Date.class) {
+                    return new java.sql.Date(millis);
+                }
+                return new java.util.Date(millis);
+            }
+        };
+
+        abstract BigDecimal decimal(Object value);
+
+        abstract Object value(BigDecimal decimal, Class<?> type);
+
+        /**
+         * Cuts {@code [min, max]} into {@code partitions} ranges of equal width, returning the
+         * {@code partitions + 1} bounds in ascending order, or an empty list when the attribute has no value.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Object> bounds(Object min, Object max, int partitions, Class<?> type) {
+            if (min == null || max == null) {
+                return List.of();
+            }
+            var lower = decimal(min);
+            var step = decimal(max).subtract(lower)
+                    .divide(BigDecimal.valueOf(partitions), 9, RoundingMode.DOWN);
+            List<Object> bounds = new ArrayList<>(partitions + 1);
+            bounds.add(min);
+            for (int index = 1; index < partitions; index++) {
+                var bound = value(lower.add(step.multiply(BigDecimal.valueOf(index))), type);
+                var previous = (Comparable) bounds.getLast();
+                bounds.add(previous.compareTo(bound) > 0 ? previous : bound);
+            }
+            bounds.add(max);
+            return bounds;
+        }
+
+        static Domain of(Class<?> type) {
+            if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+                    || type == BigInteger.class) {
+                return INTEGRAL;
+            }
+            if (type == Double.class || type == Float.class || type == BigDecimal.class) {
+                return DECIMAL;
+            }
+            if (type == LocalDate.class) {
+                return LOCAL_DATE;
+            }
+            if (type == LocalDateTime.class) {
+                return LOCAL_DATE_TIME;
+            }
+            if (type == Instant.class) {
+                return INSTANT;
+            }
+            if (java.util.Date.class.isAssignableFrom(type)) {
+                return DATE;
+            }
+            throw new IllegalArgumentException("The attribute type " + type.getName()
+                    + " cannot be split into ranges, use a numeric or temporal attribute");
+        }
+
+        private static BigDecimal seconds(Instant instant) {
+            return BigDecimal.valueOf(instant.getEpochSecond()).add(BigDecimal.valueOf(instant.getNano(), 9));
+        }
+
+        private static Instant instant(BigDecimal seconds) {
+            var whole = seconds.setScale(0, RoundingMode.FLOOR);
+            var nanos = seconds.subtract(whole).movePointRight(9).intValue();
+            return Instant.ofEpochSecond(whole.longValue(), nanos);
+        }
+    }
+}
@@ -35,7 +35,7 @@ final class SqlQuery implements Query {
     }
     @Override
     public void executeUpdate() {
-        template.executeInTransaction(query::executeUpdate);
+        template.writeAny(query::executeUpdate);
     }
 
     @Override
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import jakarta.data.Sort;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The structure of a {@link SelectQuery} without its bound values: the entity, the selected columns, the fetch plan,
+ * the sorts and the condition tree, with the property and the value type of each comparison.
+ * <p>
+ * Queries with the same shape share one named query, built from a {@link jakarta.persistence.criteria.CriteriaQuery}
+ * with a named {@link ParameterExpression} in place of each value, so a repeated query only binds its values.
+ * Queries with projections, {@code null} values or ignore case conditions have no shape and are converted as usual.
+ */
+final class SqlQueryShape {
+
+    private final String key;
+
+    private final List<Object> values;
+
+    private final CriteriaCondition condition;
+
+    private SqlQueryShape(String key, List<Object> values, CriteriaCondition condition) {
+        this.key = key;
+        this.values = values;
+        this.condition = condition;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /**
+     * Returns the condition of the query with a new parameter in place of each value, named after the position of
+     * the value it binds.
+     */
+    CriteriaCondition parameterize(CriteriaBuilder criteriaBuilder) {
+        if (condition == null) {
+            return null;
+        }
+        var index = new int[1];
+        return withParameters(condition, () -> {
+            int position = index[0]++;
+            return criteriaBuilder.parameter(type(values.get(position)), parameter(position));
+        });
+    }
+
+    void bind(Query query) {
+        for (int index = 0; index < values.size(); index++) {
+            query.setParameter(parameter(index), values.get(index));
+        }
+    }
+
+    static Optional<SqlQueryShape> of(SelectQuery query) {
+        var key = new StringBuilder(query.name()).append(query.columns());
+        if (query instanceof SqlSelectQuery sqlSelectQuery) {
+            if (sqlSelectQuery.projector() != null) {
+                return Optional.empty();
+            }
+            key.append(sqlSelectQuery.fetchPlan());
+        }
+        for (Sort<?> sort : query.sorts()) {
+            key.append(sort.isAscending() ? '+' : '-').append(sort.property());
+        }
+        List<Object> values = new ArrayList<>();
+        var condition = query.condition().orElse(null);
+        if (condition != null && !append(condition, key.append('|'), values)) {
+            return Optional.empty();
+        }
+        return Optional.of(new SqlQueryShape(key.toString(), List.copyOf(values), condition));
+    }
+
+    private static boolean append(CriteriaCondition condition, StringBuilder key, List<Object> values) {
+        var element = condition.element();
+        key.append(condition.condition()).append('(');
+        switch (condition.condition()) {
+            case AND, OR -> {
+                List<CriteriaCondition> conditions = element.value().get(new TypeReference<>() {});
+                for (CriteriaCondition inner : conditions) {
+                    if (!append(inner, key, values)) {
+                        return false;
+                    }
+                }
+            }
+            case NOT -> {
+                if (!append(element.get(CriteriaCondition.class), key, values)) {
+                    return false;
+                }
+            }
+            case EQUALS, LIKE, GREATER_THAN, GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN -> {
+                key.append(element.name());
+                if (!appendValue(element.get(), key, values)) {
+                    return false;
+                }
+            }
+            case IN, BETWEEN -> {
+                key.append(element.name());
+                if (!(element.get() instanceof Iterable<?> items)) {
+                    return false;
+                }
+                for (Object item : items) {
+                    if (!appendValue(item, key, values)) {
+                        return false;
+                    }
+                }
+            }
+            default -> {
+                return false;
+            }
+        }
+        key.append(')');
+        return true;
+    }
+
+    private static boolean appendValue(Object item, StringBuilder key, List<Object> values) {
+        var value = item instanceof Value wrapped ? wrapped.get() : item;
+        if (value == null || value instanceof Iterable<?> || value instanceof Expression<?>) {
+            return false;
+        }
+        key.append(':').append(type(value).getName());
+        values.add(value);
+        return true;
+    }
+
+    private static CriteriaCondition withParameters(CriteriaCondition condition,
+                                                    Supplier<ParameterExpression<?>> parameters) {
+        var element = condition.element();
+        var name = element.name();
+        return switch (condition.condition()) {
+            case AND -> CriteriaCondition.and(inner(element.value().get(new TypeReference<>() {}), parameters));
+            case OR -> CriteriaCondition.or(inner(element.value().get(new TypeReference<>() {}), parameters));
+            case NOT -> withParameters(element.get(CriteriaCondition.class), parameters).negate();
+            case EQUALS -> CriteriaCondition.eq(name, parameters.get());
+            case LIKE -> CriteriaCondition.like(name, parameters.get());
+            case GREATER_THAN -> CriteriaCondition.gt(name, parameters.get());
+            case GREATER_EQUALS_THAN -> CriteriaCondition.gte(name, parameters.get());
+            case LESSER_THAN -> CriteriaCondition.lt(name, parameters.get());
+            case LESSER_EQUALS_THAN -> CriteriaCondition.lte(name, parameters.get());
+            case BETWEEN -> CriteriaCondition.between(name, List.of(parameters.get(), parameters.get()));
+            case IN -> {
+                List<Object> items = new ArrayList<>();
+                ((Iterable<?>) element.get()).forEach(item -> items.add(parameters.get()));
+                yield CriteriaCondition.in(name, items);
+            }
+            default -> throw new IllegalStateException("The condition " + condition.condition() + " has no shape");
+        };
+    }
+
+    private static CriteriaCondition[] inner(List<CriteriaCondition> conditions,
+                                             Supplier<ParameterExpression<?>> parameters) {
+        return conditions.stream()
+                .map(condition -> withParameters(condition, parameters))
+                .toArray(CriteriaCondition[]::new);
+    }
+
+    private static String parameter(int index) {
+        return "p" + index;
+    }
+
+    private static Class<?> type(Object value) {
+        return value instanceof Enum<?> enumValue ? enumValue.getDeclaringClass() : value.getClass();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import jakarta.data.Sort;
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.jakartapersistence.mapping.cache.EntityGenerations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, time-limited cache of the results of the count, exists, select and single result operations, enabled
+ * with {@link SqlSettings#CACHE_ENABLED}. Entities are mutable and belong to a persistence context, so the results
+ * of the operations returning entities hold their identifiers, never the entities.
+ * <p>
+ * One cache is shared by every {@link DefaultSqlTemplate} of the same EntityManagerFactory. The entries are keyed
+ * by the normalized query, including the bound values, and hold the {@link EntityGenerations generation} of the
+ * queried entity. An entry is stale once the generation changes, after a committed write of any EntityManager of
+ * the persistence unit, and a result loaded while the entity was written is not stored. Entries are also evicted
+ * when they expire or when the cache is full. Results that depend on other entities through association paths are
+ * only refreshed by the TTL.
+ */
+final class SqlResultCache {
+
+    enum Operation {
+        SELECT, SINGLE_RESULT, COUNT, EXISTS
+    }
+
+    private static final Map<EntityManagerFactory, SqlResultCache> CACHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final EntityGenerations generations;
+
+    private final long ttl;
+
+    private final Map<Key, Entry> entries;
+
+    SqlResultCache(EntityGenerations generations, Duration ttl, int maxSize) {
+        this.generations = generations;
+        this.ttl = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache of the persistence unit, created with the given settings on first use.
+     */
+    static SqlResultCache of(EntityManagerFactory factory, Duration ttl, int maxSize) {
+        return CACHES.computeIfAbsent(factory, key -> new SqlResultCache(EntityGenerations.of(key), ttl, maxSize));
+    }
+
+    /**
+     * Returns the cached result of the operation, loading it when absent, expired or stale. The loaded result is
+     * only cached when the entity was not written while loading it.
+     */
+    @SuppressWarnings("unchecked")
+    <R> R get(Operation operation, SelectQuery query, Supplier<R> loader) {
+        var key = Key.of(operation, query);
+        var generation = generations.current(key.entity());
+        var now = System.nanoTime();
+        synchronized (this) {
+            var entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.createdAt() < ttl && entry.generation() == generation) {
+                    return (R) entry.value();
+                }
+                entries.remove(key);
+            }
+        }
+        R value = loader.get();
+        if (generations.current(key.entity()) == generation) {
+            synchronized (this) {
+                entries.put(key, new Entry(value, now, generation));
+            }
+        }
+        return value;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(Object value, long createdAt, long generation) {
+    }
+
+    private record Key(Operation operation,
+                       Class<?> type,
+                       String entity,
+                       List<String> columns,
+                       List<Sort<?>> sorts,
+                       long limit,
+                       long skip,
+                       Object condition,
+                       List<Object> hints) {
+
+        static Key of(Operation operation, SelectQuery query) {
+            List<Object> hints = query instanceof SqlSelectQuery sqlSelectQuery
+                    ? Arrays.asList(sqlSelectQuery.projector(), sqlSelectQuery.fetchPlan(),
+                    sqlSelectQuery.queryOptions())
+                    : List.of();
+            return new Key(operation, query.getClass(), query.name(), List.copyOf(query.columns()),
+                    List.copyOf(query.sorts()), query.limit(), query.skip(),
+                    query.condition().map(SqlResultCache::normalize).orElse(null), hints);
+        }
+    }
+
+    /**
+     * Converts the condition into nested lists of operators, names and values, so two conditions with the same
+     * structure and bound values are equal regardless of the {@link org.eclipse.jnosql.communication.Value}
+     * implementation holding each value.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof CriteriaCondition condition) {
+            return Arrays.asList(condition.condition(), condition.element().name(),
+                    normalize(condition.element().get()));
+        }
+        if (value instanceof Iterable<?> iterable) {
+            List<Object> values = new ArrayList<>();
+            iterable.forEach(element -> values.add(normalize(element)));
+            return values;
+        }
+        if (value instanceof Object[] array) {
+            return normalize(Arrays.asList(array));
+        }
+        return value;
+    }
+}
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.extensions.sql;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceFetchPlan;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions;
 
 import java.util.Collections;
 import java.util.List;
@@ -31,13 +33,27 @@ import java.util.Optional;
  * The {@code projector} defines the target result type, enabling mapping into entities or
  * projections (e.g., DTOs). This record is immutable; {@link #sorts()} returns an unmodifiable
  * view, and {@link #condition()} safely exposes the optional filtering criteria.
+ * The optional {@code fetchPlan} declares the associations loaded with the entity; it is
+ * ignored when the query has a projector or selects columns. The optional {@code queryOptions}
+ * overrides the query defaults of the persistence unit.
  */
 public record SqlSelectQuery(List<Sort<?>> sorts,
                              long limit,
                              long skip,
                              CriteriaCondition criteriaCondition,
                              String entity,
-                             List<String> columns, Class<?> projector)  implements SelectQuery {
+                             List<String> columns, Class<?> projector,
+                             PersistenceFetchPlan fetchPlan,
+                             PersistenceQueryOptions queryOptions)  implements SelectQuery {
+
+    public SqlSelectQuery(List<Sort<?>> sorts,
+                          long limit,
+                          long skip,
+                          CriteriaCondition criteriaCondition,
+                          String entity,
+                          List<String> columns, Class<?> projector) {
+        this(sorts, limit, skip, criteriaCondition, entity, columns, projector, null, null);
+    }
 
     @Override
     public String name() {
@@ -70,6 +86,29 @@ public record SqlSelectQuery(List<Sort<?>> sorts,
                 query.limit(),
                 query.skip(),
                 query.condition().orElse(null),
-                query.name(), query.columns(), projector);
+                query.name(), query.columns(), projector,
+                query instanceof SqlSelectQuery sqlSelectQuery ? sqlSelectQuery.fetchPlan() : null,
+                query instanceof SqlSelectQuery sqlSelectQuery ? sqlSelectQuery.queryOptions() : null);
+    }
+
+    /**
+     * Creates a {@code SqlSelectQuery} from a generic {@link SelectQuery} replacing its query options.
+     * The projector and the fetch plan of a {@code SqlSelectQuery} are preserved.
+     *
+     * @param query the source query abstraction
+     * @param queryOptions the query options
+     * @return a new {@code SqlSelectQuery} instance
+     * @throws NullPointerException if {@code query} is {@code null}
+     */
+    public static SqlSelectQuery of(SelectQuery query, PersistenceQueryOptions queryOptions) {
+        var sqlSelectQuery = query instanceof SqlSelectQuery selectQuery ? selectQuery : null;
+        return new SqlSelectQuery(query.sorts(),
+                query.limit(),
+                query.skip(),
+                query.condition().orElse(null),
+                query.name(), query.columns(),
+                sqlSelectQuery == null ? null : sqlSelectQuery.projector(),
+                sqlSelectQuery == null ? null : sqlSelectQuery.fetchPlan(),
+                queryOptions);
     }
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import jakarta.persistence.EntityManager;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceSettings;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Tuning settings of the SQL extension for a single persistence unit.
+ *
+ * <p>Each setting is read from the properties of the {@link jakarta.persistence.EntityManagerFactory},
+ * so it can be declared in {@code persistence.xml} or passed to
+ * {@link jakarta.persistence.Persistence#createEntityManagerFactory(String, Map)}. When the persistence unit
+ * does not define a setting, the system property with the same name is used, and then the default value.</p>
+ *
+ * <pre>{@code
+ * <property name="jnosql.sql.in.max.size" value="500"/>
+ * <property name="jnosql.sql.in.parallel" value="true"/>
+ * <property name="jnosql.sql.in.max.parallel" value="8"/>
+ * <property name="jnosql.sql.cache.enabled" value="true"/>
+ * }</pre>
+ *
+ * <p>The query defaults, such as {@value PersistenceQueryOptions#FETCH_SIZE}, are described in
+ * {@link PersistenceQueryOptions}.</p>
+ */
+public final class SqlSettings {
+
+    /**
+     * The maximum number of values bound to a single {@code IN} predicate. Larger id lists are split into
+     * chunks of this size. The default is {@value #DEFAULT_IN_MAX_SIZE}.
+     */
+    public static final String IN_MAX_SIZE = "jnosql.sql.in.max.size";
+
+    /**
+     * Whether the chunks of a large {@code IN} predicate are executed concurrently, each one on its own
+     * {@link EntityManager}. The default is {@code false}.
+     */
+    public static final String IN_PARALLEL = "jnosql.sql.in.parallel";
+
+    /**
+     * The maximum number of chunks of a parallel {@code IN} predicate loaded at the same time, each one holding a
+     * database connection. Keep it below the size of the connection pool. The default is
+     * {@value #DEFAULT_IN_MAX_PARALLEL}.
+     */
+    public static final String IN_MAX_PARALLEL = "jnosql.sql.in.max.parallel";
+
+    /**
+     * Whether the results of the count, exists, select and single result operations of a {@link SqlTemplate} are
+     * cached until a committed write of the persistence unit touches the queried entity. The operations returning
+     * entities cache their identifiers and load the entities by identifier. The default is {@code false}.
+     */
+    public static final String CACHE_ENABLED = "jnosql.sql.cache.enabled";
+
+    /**
+     * The maximum number of cached query results of a persistence unit. The least recently used results are
+     * evicted first. The default is {@value #DEFAULT_CACHE_MAX_SIZE}.
+     */
+    public static final String CACHE_MAX_SIZE = "jnosql.sql.cache.max.size";
+
+    /**
+     * How long, in milliseconds, a cached query result is reused. The default is {@value #DEFAULT_CACHE_TTL}.
+     */
+    public static final String CACHE_TTL = "jnosql.sql.cache.ttl";
+
+    /**
+     * The maximum number of ranges of a {@link SqlTemplate#scan(Class, String, int)} read at the same time, each one
+     * holding a database connection. Keep it below the size of the connection pool. The default is
+     * {@value #DEFAULT_SCAN_MAX_READERS}.
+     */
+    public static final String SCAN_MAX_READERS = "jnosql.sql.scan.max.readers";
+
+    /**
+     * How long, in milliseconds, the reader of a scanned range waits for the stream to consume its rows before it
+     * stops and releases its connection. The default is {@value #DEFAULT_SCAN_IDLE_TIMEOUT}.
+     */
+    public static final String SCAN_IDLE_TIMEOUT = "jnosql.sql.scan.idle.timeout";
+
+    static final int DEFAULT_IN_MAX_SIZE = 1000;
+
+    static final int DEFAULT_IN_MAX_PARALLEL = 4;
+
+    static final int DEFAULT_CACHE_MAX_SIZE = 1000;
+
+    static final long DEFAULT_CACHE_TTL = 60_000L;
+
+    static final int DEFAULT_SCAN_MAX_READERS = 4;
+
+    static final long DEFAULT_SCAN_IDLE_TIMEOUT = 60_000L;
+
+    private final Map<String, Object> properties;
+
+    private SqlSettings(Map<String, Object> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the maximum number of values bound to a single {@code IN} predicate.
+     *
+     * @return the value of {@link #IN_MAX_SIZE}
+     */
+    public int inMaxSize() {
+        var size = get(IN_MAX_SIZE).map(Integer::parseInt).orElse(DEFAULT_IN_MAX_SIZE);
+        if (size <= 0) {
+            throw new IllegalArgumentException("The " + IN_MAX_SIZE + " must be greater than zero, but was " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Returns whether the chunks of a large {@code IN} predicate run concurrently.
+     *
+     * @return the value of {@link #IN_PARALLEL}
+     */
+    public boolean inParallel() {
+        return get(IN_PARALLEL).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Returns the maximum number of chunks of a parallel {@code IN} predicate loaded at the same time.
+     *
+     * @return the value of {@link #IN_MAX_PARALLEL}
+     */
+    public int inMaxParallel() {
+        var chunks = get(IN_MAX_PARALLEL).map(Integer::parseInt).orElse(DEFAULT_IN_MAX_PARALLEL);
+        if (chunks <= 0) {
+            throw new IllegalArgumentException("The " + IN_MAX_PARALLEL + " must be greater than zero, but was "
+                    + chunks);
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns whether the query results of a {@link SqlTemplate} are cached.
+     *
+     * @return the value of {@link #CACHE_ENABLED}
+     */
+    public boolean cacheEnabled() {
+        return get(CACHE_ENABLED).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Returns the maximum number of cached query results of a {@link SqlTemplate}.
+     *
+     * @return the value of {@link #CACHE_MAX_SIZE}
+     */
+    public int cacheMaxSize() {
+        var size = get(CACHE_MAX_SIZE).map(Integer::parseInt).orElse(DEFAULT_CACHE_MAX_SIZE);
+        if (size <= 0) {
+            throw new IllegalArgumentException("The " + CACHE_MAX_SIZE + " must be greater than zero, but was " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Returns how long a cached query result is reused.
+     *
+     * @return the value of {@link #CACHE_TTL}
+     */
+    public Duration cacheTtl() {
+        var ttl = get(CACHE_TTL).map(Long::parseLong).orElse(DEFAULT_CACHE_TTL);
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("The " + CACHE_TTL + " must be greater than zero, but was " + ttl);
+        }
+        return Duration.ofMillis(ttl);
+    }
+
+    /**
+     * Returns the maximum number of ranges of a scan read at the same time.
+     *
+     * @return the value of {@link #SCAN_MAX_READERS}
+     */
+    public int scanMaxReaders() {
+        var readers = get(SCAN_MAX_READERS).map(Integer::parseInt).orElse(DEFAULT_SCAN_MAX_READERS);
+        if (readers <= 0) {
+            throw new IllegalArgumentException("The " + SCAN_MAX_READERS + " must be greater than zero, but was "
+                    + readers);
+        }
+        return readers;
+    }
+
+    /**
+     * Returns how long the reader of a scanned range waits for the stream before it stops.
+     *
+     * @return the value of {@link #SCAN_IDLE_TIMEOUT}
+     */
+    public Duration scanIdleTimeout() {
+        var timeout = get(SCAN_IDLE_TIMEOUT).map(Long::parseLong).orElse(DEFAULT_SCAN_IDLE_TIMEOUT);
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("The " + SCAN_IDLE_TIMEOUT + " must be greater than zero, but was "
+                    + timeout);
+        }
+        return Duration.ofMillis(timeout);
+    }
+
+    /**
+     * Returns the query options applied to every query of the persistence unit, unless a repository method
+     * overrides them with {@link org.eclipse.jnosql.jakartapersistence.mapping.QueryOptions}.
+     *
+     * @return the query defaults, {@link PersistenceQueryOptions#NONE} when none is declared
+     */
+    public PersistenceQueryOptions queryOptions() {
+        return PersistenceQueryOptions.defaults(properties);
+    }
+
+    /**
+     * Returns the raw value of the given setting.
+     *
+     * @param key the setting name
+     * @return the value declared in the persistence unit or as a system property
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public Optional<String> get(String key) {
+        return PersistenceSettings.get(properties, key);
+    }
+
+    /**
+     * Creates the settings of the persistence unit the given {@link EntityManager} belongs to.
+     *
+     * @param entityManager the entity manager
+     * @return the settings of its persistence unit
+     * @throws NullPointerException if {@code entityManager} is {@code null}
+     */
+    public static SqlSettings of(EntityManager entityManager) {
+        Objects.requireNonNull(entityManager, "entityManager is required");
+        return new SqlSettings(new HashMap<>(entityManager.getEntityManagerFactory().getProperties()));
+    }
+}
@@ -20,7 +20,10 @@ import jakarta.persistence.PersistenceUnitUtil;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Specialization of {@link SemiStructuredTemplate} that integrates JNoSQL
@@ -39,6 +42,14 @@ import java.util.Objects;
  *
  * <p>The additional methods exposed by this interface provide direct access
  * to persistence infrastructure and extended delete operations.</p>
+ *
+ * <p>When {@link SqlSettings#CACHE_ENABLED} is set, the results of
+ * {@code count}, {@code exists}, {@code select} and {@code singleResult}
+ * executed outside a transaction are cached per persistence unit. A committed
+ * write of the persistence unit makes the cached results of the written entity
+ * type stale. Queries returning entities cache their identifiers, and the
+ * entities are loaded again by identifier from the persistence context or the
+ * second-level cache.</p>
  */
 public interface SqlTemplate extends SemiStructuredTemplate {
 
@@ -89,6 +100,151 @@ public interface SqlTemplate extends SemiStructuredTemplate {
      */
     <T, K> boolean existsById(Class<T> type, K id);
 
+    /**
+     * Inserts the entity, or updates it when a row with the same id already exists.
+     *
+     * @param <T>    the entity type
+     * @param entity the entity
+     * @return the saved entity
+     * @throws NullPointerException if {@code entity} is {@code null}
+     * @see #upsert(Iterable)
+     */
+    <T> T upsert(T entity);
+
+    /**
+     * Inserts the entities, or updates the ones whose id already exists.
+     *
+     * <p>When {@link org.eclipse.jnosql.jakartapersistence.mapping.PersistenceUpsert#NATIVE} is enabled, the
+     * entities that qualify are written with native batched statements, so each chunk costs a single round trip;
+     * they are returned detached. Any other entity is merged.</p>
+     *
+     * @param <T>      the entity type
+     * @param entities the entities
+     * @return the saved entities, in the same order
+     * @throws NullPointerException if {@code entities} or any of its elements is {@code null}
+     */
+    <T> Iterable<T> upsert(Iterable<T> entities);
+
+    /**
+     * Loads the entities of the stream in chunks, each one committed in its own transaction.
+     *
+     * @param entities the entities; the stream is not closed
+     * @param options  the bulk load options
+     * @param <T>      the entity type
+     * @return the number of entities written by this call
+     * @throws NullPointerException  if any parameter or entity is {@code null}
+     * @throws IllegalStateException if a transaction is already active
+     * @see #bulkLoad(Iterator, SqlBulkLoad)
+     */
+    <T> long bulkLoad(Stream<T> entities, SqlBulkLoad options);
+
+    /**
+     * Loads the entities of the iterator in chunks, each one committed in its own transaction, without the
+     * existence check of {@link #insert(Iterable)}: a duplicated id fails its chunk on commit, unless
+     * {@link SqlBulkLoad#nativeUpsert()} writes its entity with the native upsert, which overwrites the row.
+     *
+     * <p>The entities are read from the source one chunk at a time and the persistence context is cleared after
+     * every chunk, so a load of millions of entities does not keep them in memory. When a chunk fails, it is
+     * rolled back and its exception is thrown; the chunks committed before it stay, and
+     * {@link SqlBulkLoad#onProgress(java.util.function.LongConsumer)} reports how far the source was loaded.</p>
+     *
+     * @param entities the entities
+     * @param options  the bulk load options
+     * @param <T>      the entity type
+     * @return the number of entities written by this call
+     * @throws NullPointerException  if any parameter or entity is {@code null}
+     * @throws IllegalStateException if a transaction is already active
+     * @see SqlBulkLoad
+     */
+    <T> long bulkLoad(Iterator<T> entities, SqlBulkLoad options);
+
+    /**
+     * Reads every entity of the given type splitting the table into ranges of its id, so the returned stream
+     * can be consumed in parallel.
+     *
+     * @param type       the entity type
+     * @param partitions the number of ranges
+     * @param <T>        the entity type
+     * @return the entities; the stream must be closed
+     * @throws NullPointerException     if {@code type} is {@code null}
+     * @throws IllegalArgumentException if {@code partitions} is not greater than zero, or the id is neither
+     *                                  numeric nor temporal
+     * @see #scan(Class, String, int)
+     */
+    <T> Stream<T> scan(Class<T> type, int partitions);
+
+    /**
+     * Reads every entity of the given type splitting the table into ranges of a numeric or temporal attribute,
+     * so the returned stream can be consumed in parallel.
+     *
+     * <p>The lowest and highest values of the attribute are probed on the first traversal, and the interval is
+     * cut into ranges of equal width. Each range is read once the stream reaches it, on its own virtual thread
+     * with its own {@link EntityManager}, thus holding a database connection, and the stream splits over the
+     * ranges, so {@code scan(Book.class, "published", 8).parallel()} reads its ranges concurrently, up to
+     * {@link SqlSettings#SCAN_MAX_READERS} at a time. A reader whose rows are not consumed within
+     * {@link SqlSettings#SCAN_IDLE_TIMEOUT} stops, failing the stream. Rows whose attribute is {@code null} are
+     * read with the first range. The entities are read-only and detached. Closing the stream stops the readers.
+     * When this template is joined to a transaction, the entities are read by {@link #findAll(Class)} instead, so
+     * the changes not committed yet are visible, and the attribute is not checked.</p>
+     *
+     * @param type       the entity type
+     * @param attribute  the attribute whose values are split into ranges
+     * @param partitions the number of ranges
+     * @param <T>        the entity type
+     * @return the entities; the stream must be closed
+     * @throws NullPointerException     if {@code type} or {@code attribute} is {@code null}
+     * @throws IllegalArgumentException if {@code partitions} is not greater than zero, or, outside a transaction,
+     *                                  the attribute does not exist or is neither numeric nor temporal
+     */
+    <T> Stream<T> scan(Class<T> type, String attribute, int partitions);
+
+    /**
+     * Returns a view of this template whose read operations return read-only entities.
+     *
+     * <p>The {@code select}, {@code singleResult}, {@code find}, {@code findAll} and page operations of the view
+     * apply the provider read-only hints and detach each entity as it is produced, so the persistence context
+     * does not keep a snapshot of every entity read. Changes made to those entities are not written back, and
+     * lazy associations not loaded before detaching may be unavailable. Write operations behave as in this
+     * template.</p>
+     *
+     * @return the read-only view, sharing the {@link EntityManager} of this template
+     */
+    SqlTemplate readOnly();
+
+    /**
+     * Runs the given work in a single transaction, so many template calls share one commit instead of
+     * committing each call on its own.
+     *
+     * <p>The work receives a template bound to the unit of work; its operations join the transaction. When the
+     * work completes, the transaction commits; when it throws, the transaction rolls back and the exception is
+     * rethrown. A unit of work started from the template of another unit of work joins it.</p>
+     *
+     * @param work the work, receiving the template bound to the unit of work
+     * @param <R>  the result type
+     * @return the result of the work
+     * @throws NullPointerException  if {@code work} is {@code null}
+     * @throws IllegalStateException if a transaction not begun by a unit of work is already active
+     */
+    <R> R inUnitOfWork(Function<SqlTemplate, R> work);
+
+    /**
+     * Runs the given work in a single transaction with the given options, such as intermediate flushes every
+     * number of written entities and commit callbacks.
+     *
+     * <p>The commit callbacks run after the transaction commits and the rollback callbacks after it rolls back.
+     * A nested unit of work joins the enclosing one: its callbacks run when the enclosing transaction ends, and
+     * its flush options are ignored.</p>
+     *
+     * @param unitOfWork the unit of work options
+     * @param work       the work, receiving the template bound to the unit of work
+     * @param <R>        the result type
+     * @return the result of the work
+     * @throws NullPointerException  if any parameter is {@code null}
+     * @throws IllegalStateException if a transaction not begun by a unit of work is already active
+     * @see SqlUnitOfWork
+     */
+    <R> R inUnitOfWork(SqlUnitOfWork unitOfWork, Function<SqlTemplate, R> work);
+
 
     /**
      * Creates a new instance of {@link SqlTemplate} using the provided {@link EntityManager}.
@@ -64,7 +64,7 @@ final class SqlTypedQuery<T> implements TypedQuery<T> {
 
     @Override
     public void executeUpdate() {
-        template.executeInTransaction(query::executeUpdate);
+        template.writeAny(query::executeUpdate);
     }
 
     @Override
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The options of a unit of work started with {@link SqlTemplate#inUnitOfWork(SqlUnitOfWork, java.util.function.Function)}.
+ * Instances are immutable; each method returns a copy with the option changed.
+ *
+ * <pre>{@code
+ * var unitOfWork = SqlUnitOfWork.of()
+ *         .flushEvery(500)
+ *         .clearAfterFlush()
+ *         .onCommit(() -> LOGGER.info("Import committed"));
+ * template.inUnitOfWork(unitOfWork, work -> {
+ *     orders.forEach(work::insert);
+ *     return orders.size();
+ * });
+ * }</pre>
+ */
+public final class SqlUnitOfWork {
+
+    private static final SqlUnitOfWork DEFAULT = new SqlUnitOfWork(0, false, List.of(), List.of());
+
+    private final int flushEvery;
+
+    private final boolean clearAfterFlush;
+
+    private final List<Runnable> commitCallbacks;
+
+    private final List<Runnable> rollbackCallbacks;
+
+    private SqlUnitOfWork(int flushEvery, boolean clearAfterFlush, List<Runnable> commitCallbacks,
+                          List<Runnable> rollbackCallbacks) {
+        this.flushEvery = flushEvery;
+        this.clearAfterFlush = clearAfterFlush;
+        this.commitCallbacks = commitCallbacks;
+        this.rollbackCallbacks = rollbackCallbacks;
+    }
+
+    /**
+     * Flushes the pending changes to the database every given number of written entities, so a large unit of work
+     * does not keep every change in memory until the commit.
+     *
+     * @param operations the number of written entities between two flushes, or zero to flush only on commit
+     * @return a copy of this unit of work with the flush interval
+     * @throws IllegalArgumentException if {@code operations} is negative
+     */
+    public SqlUnitOfWork flushEvery(int operations) {
+        if (operations < 0) {
+            throw new IllegalArgumentException("The operations must not be negative, but was " + operations);
+        }
+        return new SqlUnitOfWork(operations, clearAfterFlush, commitCallbacks, rollbackCallbacks);
+    }
+
+    /**
+     * Clears the persistence context after each intermediate flush, detaching every entity read or written so far.
+     *
+     * @return a copy of this unit of work that clears the persistence context after flushing
+     */
+    public SqlUnitOfWork clearAfterFlush() {
+        return new SqlUnitOfWork(flushEvery, true, commitCallbacks, rollbackCallbacks);
+    }
+
+    /**
+     * Registers a callback invoked after the transaction of the unit of work commits.
+     *
+     * @param callback the callback
+     * @return a copy of this unit of work with the callback
+     * @throws NullPointerException if {@code callback} is {@code null}
+     */
+    public SqlUnitOfWork onCommit(Runnable callback) {
+        Objects.requireNonNull(callback, "callback is required");
+        return new SqlUnitOfWork(flushEvery, clearAfterFlush, append(commitCallbacks, callback), rollbackCallbacks);
+    }
+
+    /**
+     * Registers a callback invoked after the transaction of the unit of work rolls back.
+     *
+     * @param callback the callback
+     * @return a copy of this unit of work with the callback
+     * @throws NullPointerException if {@code callback} is {@code null}
+     */
+    public SqlUnitOfWork onRollback(Runnable callback) {
+        Objects.requireNonNull(callback, "callback is required");
+        return new SqlUnitOfWork(flushEvery, clearAfterFlush, commitCallbacks, append(rollbackCallbacks, callback));
+    }
+
+    int flushInterval() {
+        return flushEvery;
+    }
+
+    boolean clearsAfterFlush() {
+        return clearAfterFlush;
+    }
+
+    List<Runnable> commitCallbacks() {
+        return commitCallbacks;
+    }
+
+    List<Runnable> rollbackCallbacks() {
+        return rollbackCallbacks;
+    }
+
+    private static List<Runnable> append(List<Runnable> callbacks, Runnable callback) {
+        List<Runnable> copy = new ArrayList<>(callbacks);
+        copy.add(callback);
+        return List.copyOf(copy);
+    }
+
+    /**
+     * Returns a unit of work that flushes only on commit and has no callbacks.
+     *
+     * @return the default unit of work
+     */
+    public static SqlUnitOfWork of() {
+        return DEFAULT;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlUnitOfWork{"
+                + "flushEvery=" + flushEvery
+                + ", clearAfterFlush=" + clearAfterFlush
+                + ", commitCallbacks=" + commitCallbacks.size()
+                + ", rollbackCallbacks=" + rollbackCallbacks.size()
+                + '}';
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The state of a running unit of work: the entities written since the last flush and the callbacks of the unit of
+ * work and of any unit of work nested in it.
+ */
+final class UnitOfWorkScope {
+
+    private final EntityManager entityManager;
+
+    private final int flushEvery;
+
+    private final boolean clearAfterFlush;
+
+    private final List<Runnable> commitCallbacks;
+
+    private final List<Runnable> rollbackCallbacks;
+
+    private final List<Runnable> committedWrites = new ArrayList<>();
+
+    private int written;
+
+    UnitOfWorkScope(EntityManager entityManager, SqlUnitOfWork unitOfWork) {
+        this.entityManager = entityManager;
+        this.flushEvery = unitOfWork.flushInterval();
+        this.clearAfterFlush = unitOfWork.clearsAfterFlush();
+        this.commitCallbacks = new ArrayList<>(unitOfWork.commitCallbacks());
+        this.rollbackCallbacks = new ArrayList<>(unitOfWork.rollbackCallbacks());
+    }
+
+    /**
+     * A nested unit of work runs in the enclosing transaction, so only its callbacks are kept.
+     */
+    void join(SqlUnitOfWork unitOfWork) {
+        commitCallbacks.addAll(unitOfWork.commitCallbacks());
+        rollbackCallbacks.addAll(unitOfWork.rollbackCallbacks());
+    }
+
+    /**
+     * Records a written entity, flushing, and clearing when configured, once the flush interval is reached.
+     */
+    void written() {
+        if (flushEvery == 0) {
+            return;
+        }
+        written++;
+        if (written >= flushEvery) {
+            written = 0;
+            entityManager.flush();
+            if (clearAfterFlush) {
+                entityManager.clear();
+            }
+        }
+    }
+
+    /**
+     * Records a write once the transaction commits, before the commit callbacks run so they see it.
+     */
+    void afterCommit(Runnable write) {
+        committedWrites.add(write);
+    }
+
+    void committed() {
+        committedWrites.forEach(Runnable::run);
+        commitCallbacks.forEach(Runnable::run);
+    }
+
+    void rolledBack() {
+        rollbackCallbacks.forEach(Runnable::run);
+    }
+}
@@ -48,7 +48,7 @@ final class UpdateQueryConverter extends QueryConverterSupport {
                 applyCondition(condition, criteriaBuilder, root, criteriaUpdate)
         );
 
-        return manager.createQuery(criteriaUpdate);
+        return queryOptions().applyUpdate(manager.createQuery(criteriaUpdate));
     }
 
     @SuppressWarnings("unchecked")
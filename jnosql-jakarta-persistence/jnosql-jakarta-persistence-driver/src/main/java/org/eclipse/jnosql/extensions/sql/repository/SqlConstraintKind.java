@@ -0,0 +1,263 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.metamodel.BasicAttribute;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.between;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.eq;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gte;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.in;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.like;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lte;
+
+/**
+ * The Jakarta Data constraints supported by {@link SqlRestrictionConverter}. Each kind knows how to extract
+ * the bound values from a constraint instance and how to build the {@link CriteriaCondition} back from those
+ * values, so the structure of a restriction can be compiled once and reused with different values.
+ */
+enum SqlConstraintKind {
+
+    EQUAL_TO(EqualTo.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var equalTo = (EqualTo<?>) constraint;
+            values.add(SqlValueConverter.of(equalTo::expression, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return eq(name, values[offset]);
+        }
+    },
+    NOT_EQUAL_TO(NotEqualTo.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var notEqualTo = (NotEqualTo<?>) constraint;
+            values.add(SqlValueConverter.of(notEqualTo::expression, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return eq(name, values[offset]).negate();
+        }
+    },
+    LESS_THAN(LessThan.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var lessThan = (LessThan<?>) constraint;
+            values.add(SqlValueConverter.of(lessThan::bound, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return lt(name, values[offset]);
+        }
+    },
+    GREATER_THAN(GreaterThan.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var greaterThan = (GreaterThan<?>) constraint;
+            values.add(SqlValueConverter.of(greaterThan::bound, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return gt(name, values[offset]);
+        }
+    },
+    AT_LEAST(AtLeast.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var atLeast = (AtLeast<?>) constraint;
+            values.add(SqlValueConverter.of(atLeast::bound, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return gte(name, values[offset]);
+        }
+    },
+    AT_MOST(AtMost.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var atMost = (AtMost<?>) constraint;
+            values.add(SqlValueConverter.of(atMost::bound, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return lte(name, values[offset]);
+        }
+    },
+    BETWEEN(Between.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var between = (Between<?>) constraint;
+            values.add(SqlValueConverter.of(between::lowerBound, attribute));
+            values.add(SqlValueConverter.of(between::upperBound, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return between(name, List.of(values[offset], values[offset + 1]));
+        }
+    },
+    NOT_BETWEEN(NotBetween.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var between = (NotBetween<?>) constraint;
+            values.add(SqlValueConverter.of(between::lowerBound, attribute));
+            values.add(SqlValueConverter.of(between::upperBound, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return between(name, List.of(values[offset], values[offset + 1])).negate();
+        }
+    },
+    LIKE(Like.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var like = (Like) constraint;
+            values.add(SqlValueConverter.of(like::pattern, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return like(name, values[offset]);
+        }
+    },
+    NOT_LIKE(NotLike.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var like = (NotLike) constraint;
+            values.add(SqlValueConverter.of(like::pattern, attribute));
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return like(name, values[offset]).negate();
+        }
+    },
+    NULL(Null.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            // no bound value
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return eq(name, Value.ofNull());
+        }
+    },
+    NOT_NULL(NotNull.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            // no bound value
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return eq(name, Value.ofNull()).negate();
+        }
+    },
+    IN(In.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var in = (In<?>) constraint;
+            for (var expression : in.expressions()) {
+                values.add(SqlValueConverter.of(() -> expression, attribute));
+            }
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return in(name, Arrays.asList(values).subList(offset, offset + size));
+        }
+    },
+    NOT_IN(NotIn.class) {
+        @Override
+        void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values) {
+            var in = (NotIn<?>) constraint;
+            for (var expression : in.expressions()) {
+                values.add(SqlValueConverter.of(() -> expression, attribute));
+            }
+        }
+
+        @Override
+        CriteriaCondition condition(String name, Object[] values, int offset, int size) {
+            return in(name, Arrays.asList(values).subList(offset, offset + size)).negate();
+        }
+    };
+
+    private static final ClassValue<SqlConstraintKind> KINDS = new ClassValue<>() {
+        @Override
+        protected SqlConstraintKind computeValue(Class<?> type) {
+            for (SqlConstraintKind kind : SqlConstraintKind.values()) {
+                if (kind.type.isAssignableFrom(type)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    };
+
+    private final Class<?> type;
+
+    SqlConstraintKind(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Appends the values bound to the constraint, already converted to the attribute type, to the given list.
+     */
+    abstract void collect(Constraint<?> constraint, BasicAttribute<?, ?> attribute, List<Object> values);
+
+    /**
+     * Builds the condition from the {@code size} values starting at {@code offset}.
+     */
+    abstract CriteriaCondition condition(String name, Object[] values, int offset, int size);
+
+    static SqlConstraintKind of(Constraint<?> constraint) {
+        var kind = KINDS.get(constraint.getClass());
+        if (kind == null) {
+            throw new UnsupportedOperationException("Unexpected value: " + constraint);
+        }
+        return kind;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.extensions.sql.SqlEntityMetadata;
+import org.eclipse.jnosql.extensions.sql.SqlSettings;
+import org.eclipse.jnosql.extensions.sql.SqlTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Executes the {@code findByIdIn} and {@code deleteByIdIn} operations splitting the ids into chunks of at most
+ * {@link SqlSettings#inMaxSize()} values, so huge id lists do not exceed the bind parameter limit of the database.
+ * <p>
+ * When {@link SqlSettings#inParallel()} is enabled and the template is not joined to a transaction, each
+ * {@code findByIdIn} chunk runs on a virtual thread with its own {@link jakarta.persistence.EntityManager}; entities
+ * loaded that way are detached, and the remaining chunks are cancelled as soon as one fails. At most
+ * {@link SqlSettings#inMaxParallel()} chunks hold an entity manager at the same time, the others wait for one of
+ * them to finish.
+ * <p>
+ * The chunks of a {@code deleteByIdIn} always run on the template's {@link jakarta.persistence.EntityManager} in a
+ * single transaction, the caller's one when it is active, so the delete stays atomic however many chunks it has.
+ */
+final class SqlIdInExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(SqlIdInExecutor.class.getName());
+
+    private final SqlTemplate template;
+
+    private final SqlEntityMetadata metadata;
+
+    private final int maxSize;
+
+    private final boolean parallel;
+
+    private final int maxParallel;
+
+    SqlIdInExecutor(SqlTemplate template, SqlEntityMetadata metadata, SqlSettings settings) {
+        this.template = template;
+        this.metadata = metadata;
+        this.maxSize = settings.inMaxSize();
+        this.parallel = settings.inParallel();
+        this.maxParallel = settings.inMaxParallel();
+    }
+
+    <T> Stream<T> select(Iterable<?> ids) {
+        var chunks = chunks(ids);
+        if (chunks.isEmpty()) {
+            return Stream.empty();
+        }
+        if (chunks.size() == 1) {
+            return template.select(selectQuery(chunks.getFirst()));
+        }
+        LOGGER.fine(() -> "Splitting the findByIdIn of " + metadata.name() + " into " + chunks.size() + " chunks");
+        if (isParallel()) {
+            List<Future<List<T>>> futures = submit(chunks,
+                    (sqlTemplate, chunk) -> sqlTemplate.<T>select(selectQuery(chunk)).toList());
+            return futures.stream()
+                    .flatMap(future -> join(future, futures).stream())
+                    .onClose(() -> cancel(futures));
+        }
+        return chunks.stream().flatMap(chunk -> template.<T>select(selectQuery(chunk)));
+    }
+
+    void delete(Iterable<?> ids) {
+        var chunks = chunks(ids);
+        if (chunks.isEmpty()) {
+            return;
+        }
+        if (chunks.size() == 1) {
+            template.delete(deleteQuery(chunks.getFirst()));
+            return;
+        }
+        LOGGER.fine(() -> "Splitting the deleteByIdIn of " + metadata.name() + " into " + chunks.size() + " chunks");
+        if (template.entityManager().isJoinedToTransaction()) {
+            delete(template, chunks);
+            return;
+        }
+        template.inUnitOfWork(unitOfWork -> {
+            delete(unitOfWork, chunks);
+            return null;
+        });
+    }
+
+    private void delete(SqlTemplate sqlTemplate, List<List<Object>> chunks) {
+        for (List<Object> chunk : chunks) {
+            sqlTemplate.delete(deleteQuery(chunk));
+        }
+    }
+
+    private boolean isParallel() {
+        return parallel && !template.entityManager().isJoinedToTransaction();
+    }
+
+    private <R> List<Future<R>> submit(List<List<Object>> chunks, BiFunction<SqlTemplate, List<Object>, R> operation) {
+        var factory = template.entityManager().getEntityManagerFactory();
+        var capacity = new Semaphore(maxParallel, true);
+        List<Future<R>> futures = new ArrayList<>(chunks.size());
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (List<Object> chunk : chunks) {
+                futures.add(executor.submit(() -> {
+                    capacity.acquire();
+                    try (var entityManager = factory.createEntityManager()) {
+                        return operation.apply(SqlTemplate.of(entityManager), chunk);
+                    } finally {
+                        capacity.release();
+                    }
+                }));
+            }
+        } finally {
+            // the submitted chunks keep running, the results are joined lazily by the caller
+            executor.shutdown();
+        }
+        return futures;
+    }
+
+    private List<List<Object>> chunks(Iterable<?> ids) {
+        List<List<Object>> chunks = new ArrayList<>();
+        List<Object> chunk = new ArrayList<>(maxSize);
+        for (Object id : ids) {
+            chunk.add(id);
+            if (chunk.size() == maxSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(maxSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private SelectQuery selectQuery(List<Object> ids) {
+        return SelectQuery.select()
+                .from(metadata.name())
+                .where(metadata.idName())
+                .in(ids)
+                .build();
+    }
+
+    private DeleteQuery deleteQuery(List<Object> ids) {
+        return DeleteQuery.delete()
+                .from(metadata.name())
+                .where(metadata.idName())
+                .in(ids)
+                .build();
+    }
+
+    private static <R> R join(Future<R> future, List<? extends Future<?>> futures) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new CompletionException(exception);
+        } catch (ExecutionException exception) {
+            cancel(futures);
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(exception.getCause());
+        }
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+}
@@ -88,7 +88,21 @@ final class SqlInvocationHandler<T, K>  extends AbstractRepositoryInvocationHand
         if(method.getReturnType().equals(EntityManager.class)) {
             return this.template.entityManager();
         }
+        if (method.getDeclaringClass().equals(WriteBehindRepository.class)) {
+            return writeBehind(method);
+        }
         return super.invoke(proxy, method, params);
     }
 
+    private Object writeBehind(Method method) {
+        if (!(repository instanceof WriteBehindRepository writeBehind)) {
+            return "flush".equals(method.getName()) ? null : WriteBehindMetrics.EMPTY;
+        }
+        if ("flush".equals(method.getName())) {
+            writeBehind.flush();
+            return null;
+        }
+        return writeBehind.writeBehindMetrics();
+    }
+
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.extensions.sql.SqlTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * The {@link Flow.Publisher} returned by the repository methods declaring {@code Flow.Publisher<T>}.
+ * <p>
+ * Each subscription runs on its own virtual thread with its own {@link jakarta.persistence.EntityManager}, and
+ * reads the rows from {@link jakarta.persistence.TypedQuery#getResultStream()} inside a read-only transaction.
+ * The query starts on the first request, and the rows are pulled from the stream at most one ahead of the
+ * demand of the subscriber, so a slow subscriber holds the cursor back instead of buffering the whole result.
+ * The entities are read-only, thus detached as they are emitted. Cancelling the subscription closes the stream
+ * and the entity manager. How many rows the driver fetches per round trip is ruled by
+ * {@link org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions#FETCH_SIZE}.
+ */
+final class SqlPublisher<T> implements Flow.Publisher<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(SqlPublisher.class.getName());
+
+    private final EntityManagerFactory factory;
+
+    private final SelectQuery query;
+
+    private final Function<Object, T> mapper;
+
+    SqlPublisher(EntityManagerFactory factory, SelectQuery query, Function<Object, T> mapper) {
+        this.factory = factory;
+        this.query = query;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        var subscription = new CursorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        Thread.ofVirtual().name("jnosql-sql-publisher-" + query.name()).start(subscription::run);
+    }
+
+    private final class CursorSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition demanded = lock.newCondition();
+
+        private long demand;
+
+        private boolean cancelled;
+
+        private IllegalArgumentException failure;
+
+        private CursorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (cancelled) {
+                    return;
+                }
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("The number of requested rows must be greater than zero, but was " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void run() {
+            try {
+                if (awaitDemand() && publish()) {
+                    subscriber.onComplete();
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                cancel();
+            } catch (RuntimeException exception) {
+                if (!isCancelled()) {
+                    cancel();
+                    subscriber.onError(exception);
+                }
+            }
+        }
+
+        /**
+         * Emits the rows while there is demand, returns {@code false} when the subscription is cancelled
+         * before the last row.
+         */
+        private boolean publish() throws InterruptedException {
+            try (var entityManager = factory.createEntityManager()) {
+                var transaction = entityManager.getTransaction();
+                transaction.begin();
+                try (Stream<Object> rows = SqlTemplate.of(entityManager).readOnly().select(query)) {
+                    var iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        var row = iterator.next();
+                        if (!awaitDemand()) {
+                            LOGGER.fine(() -> "The subscription to " + query.name() + " was cancelled, closing the cursor");
+                            return false;
+                        }
+                        subscriber.onNext(mapper.apply(row));
+                        consume();
+                    }
+                    return true;
+                } finally {
+                    if (transaction.isActive()) {
+                        transaction.rollback();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Waits until the subscriber requests a row, returns {@code false} when the subscription is cancelled.
+         */
+        private boolean awaitDemand() throws InterruptedException {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled && failure == null) {
+                    demanded.await();
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                return !cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void consume() {
+            lock.lock();
+            try {
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isCancelled() {
+            lock.lock();
+            try {
+                return cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
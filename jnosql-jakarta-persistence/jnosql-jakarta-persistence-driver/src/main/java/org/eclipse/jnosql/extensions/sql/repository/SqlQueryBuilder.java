@@ -27,6 +27,8 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQueryParser;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQueryParser;
 import org.eclipse.jnosql.extensions.sql.SqlSelectQuery;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceFetchPlan;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions;
 import org.eclipse.jnosql.mapping.DynamicQueryException;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
@@ -74,27 +76,33 @@ class SqlQueryBuilder {
                 .map(c -> appendCriteriaCondition(criteriaCondition, c))
                 .orElse(criteriaCondition)).orElse(criteriaCondition);
 
-        Optional<Class<?>> projector = method.returnType().filter(r -> !void.class.equals(r))
-                .filter(Class::isRecord);
-
-        return projector
-                .<SelectQuery>map(projection -> new SqlSelectQuery(
-                        sorts,
-                        pagination.limit,
-                        pagination.skip,
-                        condition,
-                        query.name(),
-                        attributes,
-                        projection
-                ))
-                .orElseGet(() -> new MappingQuery(
-                        sorts,
-                        pagination.limit,
-                        pagination.skip,
-                        condition,
-                        query.name(),
-                        attributes
-                ));
+        Class<?> projector = method.returnType().filter(r -> !void.class.equals(r))
+                .filter(Class::isRecord)
+                .orElse(null);
+        var fetchPlan = projector == null ? PersistenceFetchPlan.of(method).orElse(null) : null;
+        var queryOptions = PersistenceQueryOptions.of(method).orElse(null);
+
+        if (projector == null && fetchPlan == null && queryOptions == null) {
+            return new MappingQuery(
+                    sorts,
+                    pagination.limit,
+                    pagination.skip,
+                    condition,
+                    query.name(),
+                    attributes
+            );
+        }
+        return new SqlSelectQuery(
+                sorts,
+                pagination.limit,
+                pagination.skip,
+                condition,
+                query.name(),
+                attributes,
+                projector,
+                fetchPlan,
+                queryOptions
+        );
     }
 
     private static Pagination resolvePagination(SelectQuery query,
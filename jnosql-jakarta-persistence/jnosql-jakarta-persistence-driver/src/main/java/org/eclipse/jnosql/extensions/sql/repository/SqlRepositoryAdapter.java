@@ -20,19 +20,22 @@ import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.nosql.Template;
 import jakarta.persistence.EntityManager;
-import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.extensions.sql.SqlEntityMetadata;
+import org.eclipse.jnosql.extensions.sql.SqlSettings;
 import org.eclipse.jnosql.extensions.sql.SqlTemplate;
 import org.eclipse.jnosql.mapping.repository.LifecycleEventHandler;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
+final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> implements WriteBehindRepository {
 
     private final Class<T> entityType;
 
@@ -42,16 +45,31 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
 
     private final LifecycleEventHandler lifecycleEventHandler;
 
+    private final SqlIdInExecutor idInExecutor;
+
+    private final SqlWriteBehind<T> writeBehind;
+
     SqlRepositoryAdapter(
             Class<T> entityType,
             SqlTemplate sqlTemplate,
             LifecycleEventHandler lifecycleEventHandler) {
+        this(entityType, sqlTemplate, lifecycleEventHandler, null);
+    }
+
+    SqlRepositoryAdapter(
+            Class<T> entityType,
+            SqlTemplate sqlTemplate,
+            LifecycleEventHandler lifecycleEventHandler,
+            WriteBehind writeBehind) {
         this.entityType = entityType;
         this.sqlTemplate = sqlTemplate;
         this.metadata = SqlEntityMetadata.of(
                 entityType,
                 this.sqlTemplate.entityManager());
         this.lifecycleEventHandler = lifecycleEventHandler;
+        this.idInExecutor = new SqlIdInExecutor(sqlTemplate, metadata,
+                SqlSettings.of(sqlTemplate.entityManager()));
+        this.writeBehind = writeBehind == null ? null : new SqlWriteBehind<>(sqlTemplate, metadata, writeBehind);
     }
 
     @Override
@@ -68,28 +86,20 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
     @Override
     public void deleteByIdIn(Iterable<K> ids) {
         Objects.requireNonNull(ids, "ids is required");
-
-        if (!ids.iterator().hasNext()) {
-            return;
-        }
-
-        var query = DeleteQuery.delete()
-                .from(metadata.name())
-                .where(metadata.idName())
-                .in(ids)
-                .build();
-
-        sqlTemplate.delete(query);
+        flushWriteBehind();
+        idInExecutor.delete(ids);
     }
 
     @Override
     public void deleteAll() {
+        flushWriteBehind();
         sqlTemplate.deleteAll(entityType);
     }
 
     @Override
     public void deleteById(K id) {
         Objects.requireNonNull(id, "id is required");
+        flushWriteBehind();
         sqlTemplate.delete(entityType, id);
     }
 
@@ -97,6 +107,8 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
     public void delete(T entity) {
         Objects.requireNonNull(entity, "entity is required");
 
+        flushWriteBehind();
+
         lifecycleEventHandler.preDelete(entity);
 
         sqlTemplate.delete(entity);
@@ -112,6 +124,8 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
             return;
         }
 
+        flushWriteBehind();
+
         entities.forEach(lifecycleEventHandler::preDelete);
 
         sqlTemplate.delete(entities);
@@ -123,6 +137,8 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
     public <S extends T> S insert(S entity) {
         Objects.requireNonNull(entity, "entity is required");
 
+        flushWriteBehind();
+
         lifecycleEventHandler.preInsert(entity);
 
         S result = sqlTemplate.insert(entity);
@@ -140,6 +156,8 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
             return List.of();
         }
 
+        flushWriteBehind();
+
         entities.forEach(lifecycleEventHandler::preInsert);
 
         Iterable<S> inserted = sqlTemplate.insert(entities);
@@ -156,6 +174,10 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
 
         lifecycleEventHandler.preUpdate(entity);
 
+        if (buffered(entity, SqlWriteBehind.Mode.UPDATE, lifecycleEventHandler::postUpdate)) {
+            return entity;
+        }
+
         S result = sqlTemplate.update(entity);
 
         lifecycleEventHandler.postUpdate(result);
@@ -173,12 +195,8 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
 
         entities.forEach(lifecycleEventHandler::preUpdate);
 
-        Iterable<S> updated = sqlTemplate.update(entities);
-        List<S> result = toList(updated);
-
-        result.forEach(lifecycleEventHandler::postUpdate);
-
-        return result;
+        return writeThrough(entities, SqlWriteBehind.Mode.UPDATE, lifecycleEventHandler::postUpdate,
+                unbuffered -> sqlTemplate.update(unbuffered));
     }
 
     @Override
@@ -187,7 +205,11 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
 
         lifecycleEventHandler.preUpsert(entity);
 
-        S result = sqlTemplate.update(entity);
+        if (buffered(entity, SqlWriteBehind.Mode.UPSERT, lifecycleEventHandler::postUpsert)) {
+            return entity;
+        }
+
+        S result = sqlTemplate.upsert(entity);
 
         lifecycleEventHandler.postUpsert(result);
 
@@ -204,35 +226,26 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
 
         entities.forEach(lifecycleEventHandler::preUpsert);
 
-        Iterable<S> saved = sqlTemplate.update(entities);
-        List<S> result = toList(saved);
-
-        result.forEach(lifecycleEventHandler::postUpsert);
-
-        return result;
+        return writeThrough(entities, SqlWriteBehind.Mode.UPSERT, lifecycleEventHandler::postUpsert,
+                unbuffered -> sqlTemplate.upsert(unbuffered));
     }
 
     @Override
     public Optional<T> findById(K id) {
         Objects.requireNonNull(id, "id is required");
+        if (writeBehind != null) {
+            var buffered = writeBehind.pending(id);
+            if (buffered.isPresent()) {
+                return buffered;
+            }
+        }
         return sqlTemplate.find(entityType, id);
     }
 
     @Override
     public Stream<T> findByIdIn(Iterable<K> ids) {
         Objects.requireNonNull(ids, "ids is required");
-
-        if (!ids.iterator().hasNext()) {
-            return Stream.empty();
-        }
-
-        var query = SelectQuery.select()
-                .from(metadata.name())
-                .where(metadata.idName())
-                .in(ids)
-                .build();
-
-        return sqlTemplate.select(query);
+        return idInExecutor.select(ids);
     }
 
     @Override
@@ -266,6 +279,20 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
         return metadata;
     }
 
+    @Override
+    public void flush() {
+        flushWriteBehind();
+    }
+
+    @Override
+    public WriteBehindMetrics writeBehindMetrics() {
+        return writeBehind == null ? WriteBehindMetrics.EMPTY : writeBehind.metrics();
+    }
+
+    Optional<SqlWriteBehind<T>> writeBehind() {
+        return Optional.ofNullable(writeBehind);
+    }
+
     @Override
     public EntityManager entityManager() {
         return sqlTemplate.entityManager();
@@ -287,6 +314,49 @@ final class SqlRepositoryAdapter<T, K> extends PersistenceRepository<T, K> {
         return lifecycleEventHandler;
     }
 
+    private void flushWriteBehind() {
+        if (writeBehind != null) {
+            writeBehind.flush();
+        }
+    }
+
+    private boolean buffered(T entity, SqlWriteBehind.Mode mode, Consumer<T> written) {
+        return writeBehind != null && writeBehind.offer(entity, mode, written);
+    }
+
+    /**
+     * Buffers the entities when the repository writes behind, and writes the others with the given operation,
+     * keeping the order of the entities in the result. The {@code written} event of a buffered entity runs once
+     * the buffer is flushed, and of the others right after the operation.
+     */
+    private <S extends T> List<S> writeThrough(List<S> entities, SqlWriteBehind.Mode mode, Consumer<T> written,
+                                               Function<List<S>, Iterable<S>> operation) {
+        if (writeBehind == null) {
+            List<S> result = toList(operation.apply(entities));
+            result.forEach(written);
+            return result;
+        }
+        boolean[] inBuffer = new boolean[entities.size()];
+        List<S> unbuffered = new ArrayList<>();
+        for (int index = 0; index < inBuffer.length; index++) {
+            inBuffer[index] = buffered(entities.get(index), mode, written);
+            if (!inBuffer[index]) {
+                unbuffered.add(entities.get(index));
+            }
+        }
+        if (unbuffered.isEmpty()) {
+            return entities;
+        }
+        List<S> writtenEntities = toList(operation.apply(unbuffered));
+        writtenEntities.forEach(written);
+        var writtenIterator = writtenEntities.iterator();
+        List<S> result = new ArrayList<>(entities.size());
+        for (int index = 0; index < inBuffer.length; index++) {
+            result.add(inBuffer[index] ? entities.get(index) : writtenIterator.next());
+        }
+        return result;
+    }
+
     private <S extends T> List<S> toList(Iterable<S> entities) {
         if (entities instanceof List<?> list) {
             @SuppressWarnings("unchecked")
@@ -15,6 +15,7 @@
  */
 package org.eclipse.jnosql.extensions.sql.repository;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
@@ -28,6 +29,8 @@ import org.eclipse.jnosql.mapping.repository.LifecycleEventHandler;
 
 import java.lang.reflect.Proxy;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * A class responsible for producing and managing SQL-based repository implementations.
@@ -45,6 +48,7 @@ public class SqlRepositoryProducer {
     private final SqlRepositoryOperationProvider repositoryOperationProvider;
     private final Event<ProjectionFound> projectionFoundEvent;
     private final LifecycleEventHandler lifeCycle;
+    private final Queue<SqlWriteBehind<?>> writeBehinds = new ConcurrentLinkedQueue<>();
 
     @Inject
     SqlRepositoryProducer(InfrastructureOperatorProvider infrastructureOperatorProvider,
@@ -82,7 +86,10 @@ public class SqlRepositoryProducer {
         Objects.requireNonNull(template, "template is required");
         RepositoryMetadata repositoryMetadata = ReflectionRepositorySupplier.INSTANCE.apply(repositoryClass, projectionFoundEvent);
         var entity = RepositoryEntityResolver.INSTANCE.resolveEntityType(repositoryClass);
-        var result = repositoryResult(template, lifeCycle, entity);
+        var result = repositoryResult(template, lifeCycle, entity, repositoryClass.getAnnotation(WriteBehind.class));
+        if (result.repositoryAdapter() instanceof SqlRepositoryAdapter<?, ?> adapter) {
+            adapter.writeBehind().ifPresent(writeBehinds::add);
+        }
 
 
         SqlInvocationHandler<?, ?> repositoryHandler = new SqlInvocationHandler<>(result.repositoryAdapter(),
@@ -96,11 +103,23 @@ public class SqlRepositoryProducer {
                 repositoryHandler);
     }
 
-    private static RepositoryResult repositoryResult(SqlTemplate template, LifecycleEventHandler lifeCycle, Class<?> entity) {
+    /**
+     * Flushes the write-behind buffers of the produced repositories.
+     */
+    @PreDestroy
+    void close() {
+        SqlWriteBehind<?> writeBehind;
+        while ((writeBehind = writeBehinds.poll()) != null) {
+            writeBehind.close();
+        }
+    }
+
+    private static RepositoryResult repositoryResult(SqlTemplate template, LifecycleEventHandler lifeCycle, Class<?> entity,
+                                                     WriteBehind writeBehind) {
         PersistenceRepository<?, ?> repositoryAdapter;
         SqlEntityMetadata entityMetadata;
         if(entity != null) {
-            repositoryAdapter = new SqlRepositoryAdapter<>(entity, template, lifeCycle);
+            repositoryAdapter = new SqlRepositoryAdapter<>(entity, template, lifeCycle, writeBehind);
             entityMetadata = ((SqlRepositoryAdapter<?, ?>)repositoryAdapter).metadata();
         } else {
             repositoryAdapter = new NoopRepository<>(template, lifeCycle);
@@ -14,193 +14,190 @@
  */
 package org.eclipse.jnosql.extensions.sql.repository;
 
-import jakarta.data.constraint.AtLeast;
-import jakarta.data.constraint.AtMost;
-import jakarta.data.constraint.Between;
-import jakarta.data.constraint.Constraint;
-import jakarta.data.constraint.EqualTo;
-import jakarta.data.constraint.GreaterThan;
-import jakarta.data.constraint.In;
-import jakarta.data.constraint.LessThan;
-import jakarta.data.constraint.Like;
-import jakarta.data.constraint.NotBetween;
-import jakarta.data.constraint.NotEqualTo;
-import jakarta.data.constraint.NotIn;
-import jakarta.data.constraint.NotLike;
-import jakarta.data.constraint.NotNull;
-import jakarta.data.constraint.Null;
 import jakarta.data.metamodel.BasicAttribute;
 import jakarta.data.restrict.BasicRestriction;
 import jakarta.data.restrict.CompositeRestriction;
 import jakarta.data.restrict.Restriction;
-import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.mapping.semistructured.query.UnsatisfiableQueryException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.and;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.between;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.eq;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gt;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gte;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.in;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.like;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lt;
-import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lte;
 import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.or;
 
+/**
+ * Converts a Jakarta Data {@link Restriction} into a {@link CriteriaCondition}.
+ * <p>
+ * Restrictions built by the same code path share the same structure and only differ on the bound values,
+ * so the converter compiles each structural shape once into a {@link Node} tree. Every call walks the
+ * restriction a single time to compute its shape key and collect the converted values, then the cached tree
+ * only substitutes those values to build the condition.
+ */
 enum SqlRestrictionConverter {
     INSTANCE;
     private static final Logger LOGGER = Logger.getLogger(SqlRestrictionConverter.class.getName());
     private static final String RESTRICTION_UNMATCHABLE = "UNMATCHABLE";
     private static final String RESTRICTION_UNRESTRICTED = "UNRESTRICTED";
+    private static final int MAX_SHAPES = 1024;
+
+    private final Shapes shapes = new Shapes();
 
     public Optional<CriteriaCondition> parser(Restriction<?> restriction) {
+        return parser(restriction, shapes);
+    }
+
+    /**
+     * Converts the restriction, compiling its shape into the given cache instead of the shared one.
+     */
+    Optional<CriteriaCondition> parser(Restriction<?> restriction, Shapes shapes) {
         Objects.requireNonNull(restriction, "restriction is required");
+        Objects.requireNonNull(shapes, "shapes is required");
 
         LOGGER.fine(() -> "Converter is invoked for restriction " + restriction);
 
-        CriteriaCondition criteriaCondition;
+        if (restriction instanceof CompositeRestriction<?> composite && composite.restrictions().isEmpty()
+                && isUnrestricted(checkUnmatchable(composite))) {
+            return Optional.empty();
+        }
+
+        List<Object> shape = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        visit(restriction, false, shape, values);
+
+        var node = shapes.nodes.get(shape);
+        if (node == null) {
+            node = compile(restriction, false, new int[1]);
+            if (shapes.nodes.size() < MAX_SHAPES) {
+                shapes.nodes.putIfAbsent(shape, node);
+            }
+            LOGGER.finest(() -> "Compiled a new restriction shape " + shape);
+        }
+        return Optional.ofNullable(node.apply(values.toArray()));
+    }
+
+    /**
+     * Appends the structural tokens of the restriction to the shape and its converted values to the values list.
+     */
+    private void visit(Restriction<?> restriction, boolean negate, List<Object> shape, List<Object> values) {
         switch (restriction) {
             case BasicRestriction<?, ?> basicRestriction -> {
-                if (basicRestriction.expression() instanceof BasicAttribute<?, ?> basicAttribute) {
-                    Constraint<?> constraint = basicRestriction.constraint();
-                    criteriaCondition = condition(basicAttribute, constraint);
-                } else {
-                    throw new UnsupportedOperationException("The expression " + basicRestriction.expression() + " is not supported");
-                }
+                var basic = negate ? basicRestriction.negate() : basicRestriction;
+                var attribute = attribute(basic);
+                var kind = SqlConstraintKind.of(basic.constraint());
+                int start = values.size();
+                kind.collect(basic.constraint(), attribute, values);
+                shape.add(kind);
+                shape.add(attribute.name());
+                shape.add(attribute.type());
+                shape.add(values.size() - start);
             }
             case CompositeRestriction<?> compositeRestriction -> {
-
-                if (isUnmatchable(restriction)) {
-                    throw new UnsatisfiableQueryException(
-                            "The query restrictions evaluate to an always-false predicate and cannot be "
-                                    + "satisfied by NoSQL databases. The query execution was short-circuited: "
-                                    + restriction
-                    );
-                } else if (isUnrestricted(restriction)) {
-                    return Optional.empty();
+                var restrictions = compositeRestriction.restrictions();
+                if (restrictions.isEmpty() && isUnrestricted(checkUnmatchable(compositeRestriction))) {
+                    throw new UnsupportedOperationException("Cannot parse nested composite restriction: "
+                            + compositeRestriction);
                 }
                 var negated = compositeRestriction.isNegated();
-                var conditions = compositeRestriction.restrictions()
-                        .stream()
-                        .map(r -> {
-                            if(r instanceof CompositeRestriction<?>) {
-                                return parser(r)
-                                        .orElseThrow(() -> new UnsupportedOperationException(
-                                                "Cannot parse nested composite restriction: " + r));
-                            }
-                            return r;
-                        })
-                        .map(r ->{
-                            if(r instanceof BasicRestriction<?, ?> basicRestriction) {
-                                return parser(negated? basicRestriction.negate(): basicRestriction);
-                            }
-                            return Optional.ofNullable((CriteriaCondition)r);
-                        })
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .toArray(CriteriaCondition[]::new);
-                criteriaCondition = switch (compositeRestriction.type()) {
-                    case ALL -> negated ? or(conditions) : and(conditions);
-                    case ANY -> negated ? and(conditions) : or(conditions);
-                };
+                shape.add(compositeRestriction.type());
+                shape.add(negated);
+                shape.add(restrictions.size());
+                for (Restriction<?> child : restrictions) {
+                    visit(child, negated && child instanceof BasicRestriction<?, ?>, shape, values);
+                }
             }
-            default ->
-                    throw new UnsupportedOperationException("Unsupported restriction type: " + restriction.getClass().getName());
+            default -> throw new UnsupportedOperationException("Unsupported restriction type: "
+                    + restriction.getClass().getName());
         }
-        return Optional.ofNullable(criteriaCondition);
     }
 
-    private CriteriaCondition condition(BasicAttribute<?, ?> basicAttribute, Constraint<?> constraint) {
-        var name = basicAttribute.name();
-
-
-        switch (constraint) {
-
-            case EqualTo<?> equalTo -> {
-                var value = SqlValueConverter.of(equalTo::expression, basicAttribute);
-                return eq(name, value);
-            }
-
-            case NotEqualTo<?> notEqualTo -> {
-                var value = SqlValueConverter.of(notEqualTo::expression, basicAttribute);
-                return eq(name, value).negate();
-            }
-
-            case LessThan<?> lessThan -> {
-                var value = SqlValueConverter.of(lessThan::bound, basicAttribute);
-                return lt(name, value);
-            }
-
-            case GreaterThan<?> greaterThan -> {
-                var value = SqlValueConverter.of(greaterThan::bound, basicAttribute);
-                return gt(name, value);
-            }
-
-            case AtLeast<?> greaterThanOrEqual -> {
-                var value = SqlValueConverter.of(greaterThanOrEqual::bound, basicAttribute);
-                return gte(name, value);
-            }
-
-            case AtMost<?> lesserThanOrEqual -> {
-                var value = SqlValueConverter.of(lesserThanOrEqual::bound, basicAttribute);
-                return lte(name, value);
-            }
-
-            case Between<?> between -> {
-                var lowerBound = SqlValueConverter.of(between::lowerBound, basicAttribute);
-                var upperBound = SqlValueConverter.of(between::upperBound, basicAttribute);
-                return between(name, List.of(lowerBound, upperBound));
-            }
-
-            case NotBetween<?> between -> {
-                var lowerBound = SqlValueConverter.of(between::lowerBound, basicAttribute);
-                var upperBound = SqlValueConverter.of(between::upperBound, basicAttribute);
-                return between(name, List.of(lowerBound, upperBound)).negate();
-            }
-
-            case Like like -> {
-                var value = SqlValueConverter.of(like::pattern, basicAttribute);
-                return like(name, value);
-            }
-
-            case NotLike like -> {
-                var value = SqlValueConverter.of(like::pattern, basicAttribute);
-                return like(name, value).negate();
-            }
-
-            case Null<?> isNull -> {
-                return eq(name, Value.ofNull());
-            }
-
-            case NotNull<?> isNull -> {
-                return eq(name, Value.ofNull()).negate();
-            }
+    private Node compile(Restriction<?> restriction, boolean negate, int[] offset) {
+        if (restriction instanceof BasicRestriction<?, ?> basicRestriction) {
+            var basic = negate ? basicRestriction.negate() : basicRestriction;
+            var name = attribute(basic).name();
+            var kind = SqlConstraintKind.of(basic.constraint());
+            int start = offset[0];
+            int size = valuesSize(basic);
+            offset[0] += size;
+            return values -> kind.condition(name, values, start, size);
+        }
+        var compositeRestriction = (CompositeRestriction<?>) restriction;
+        var negated = compositeRestriction.isNegated();
+        var children = compositeRestriction.restrictions().stream()
+                .map(child -> compile(child, negated && child instanceof BasicRestriction<?, ?>, offset))
+                .toArray(Node[]::new);
+        boolean conjunction = switch (compositeRestriction.type()) {
+            case ALL -> !negated;
+            case ANY -> negated;
+        };
+        return values -> {
+            var conditions = new CriteriaCondition[children.length];
+            for (int index = 0; index < children.length; index++) {
+                conditions[index] = children[index].apply(values);
+            }
+            return conjunction ? and(conditions) : or(conditions);
+        };
+    }
 
-            case In<?> in -> {
-                var values = in.expressions().stream().map(expression -> SqlValueConverter.of(() -> expression, basicAttribute)).toList();
-                return in(name, values);
-            }
+    private static int valuesSize(BasicRestriction<?, ?> restriction) {
+        List<Object> values = new ArrayList<>();
+        SqlConstraintKind.of(restriction.constraint()).collect(restriction.constraint(), attribute(restriction), values);
+        return values.size();
+    }
 
-            case NotIn<?> in -> {
-                var values = in.expressions().stream().map(expression -> SqlValueConverter.of(() -> expression, basicAttribute)).toList();
-                return in(name, values).negate();
-            }
+    private static BasicAttribute<?, ?> attribute(BasicRestriction<?, ?> restriction) {
+        if (restriction.expression() instanceof BasicAttribute<?, ?> basicAttribute) {
+            return basicAttribute;
+        }
+        throw new UnsupportedOperationException("The expression " + restriction.expression() + " is not supported");
+    }
 
-            default -> throw new UnsupportedOperationException("Unexpected value: " + constraint);
+    /**
+     * Empty composite restrictions are the only candidates to be UNRESTRICTED or UNMATCHABLE, so the
+     * {@code toString} comparison is never paid for regular restrictions.
+     */
+    private static Restriction<?> checkUnmatchable(CompositeRestriction<?> restriction) {
+        if (RESTRICTION_UNMATCHABLE.equals(restriction.toString())) {
+            throw new UnsatisfiableQueryException(
+                    "The query restrictions evaluate to an always-false predicate and cannot be "
+                            + "satisfied by NoSQL databases. The query execution was short-circuited: "
+                            + restriction
+            );
         }
+        return restriction;
     }
 
     private static boolean isUnrestricted(Restriction<?> r) {
         return RESTRICTION_UNRESTRICTED.equals(r.toString());
     }
 
-    private static boolean isUnmatchable(Restriction<?> r) {
-        return RESTRICTION_UNMATCHABLE.equals(r.toString());
+    /**
+     * The compiled shapes of a converter, keyed by the structural tokens of the restriction.
+     */
+    static final class Shapes {
+
+        private final Map<List<Object>, Node> nodes = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the number of compiled shapes, which only grows when a restriction of a new structure is
+         * converted.
+         */
+        int size() {
+            return nodes.size();
+        }
+    }
+
+    /**
+     * A compiled restriction shape that builds the condition from the values collected on each call.
+     */
+    @FunctionalInterface
+    private interface Node {
+        CriteriaCondition apply(Object[] values);
     }
 }
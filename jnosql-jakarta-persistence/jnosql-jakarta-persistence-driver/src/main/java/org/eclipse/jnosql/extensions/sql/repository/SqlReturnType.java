@@ -18,12 +18,14 @@ import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.extensions.sql.SqlTemplate;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -39,6 +41,9 @@ class SqlReturnType {
         var template = (SemiStructuredTemplate) context.template();
         var entityMetadata = context.entityMetadata();
         var typeClass = entityMetadata.type();
+        if (Flow.Publisher.class.equals(method.returnType().orElseThrow())) {
+            return publisher(context, query);
+        }
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .classSource(typeClass)
                 .methodName(method.name())
@@ -61,6 +66,17 @@ class SqlReturnType {
         return dynamicReturn.execute();
     }
 
+    /**
+     * Returns a publisher reading the rows from a cursor as the subscriber requests them.
+     */
+    protected <T> Flow.Publisher<T> publisher(RepositoryInvocationContext context, SelectQuery query) {
+        if (!(context.template() instanceof SqlTemplate template)) {
+            throw new UnsupportedOperationException("The Flow.Publisher return type requires a SqlTemplate, method: "
+                    + context.method().name());
+        }
+        return new SqlPublisher<>(template.entityManager().getEntityManagerFactory(), query, mapper());
+    }
+
     protected <T> Function<PageRequest, Stream<T>> streamPagination(SelectQuery query,
                                                                     SemiStructuredTemplate template) {
         return p -> template.select(query).map(mapper());
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.jnosql.extensions.sql.SqlEntityMetadata;
+import org.eclipse.jnosql.extensions.sql.SqlTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The write-behind buffer of a repository annotated with {@link WriteBehind}. The entities are coalesced by id and
+ * written in one transaction by a virtual thread, started on the first buffered write, with its own
+ * {@link jakarta.persistence.EntityManager}: the buffered updates are merged and the buffered saves upserted. The
+ * callback of each written entity runs once the transaction commits.
+ *
+ * <p>A failed flush puts its entities back in the buffer, behind the newer states written meanwhile, and is retried
+ * after the window. An id whose flush failed more than {@link WriteBehind#maxRetries()} times is dropped and handed
+ * to the {@link WriteBehindFailureHandler}, so a bad entity does not block the buffer forever.</p>
+ *
+ * @param <T> the entity type
+ */
+final class SqlWriteBehind<T> implements AutoCloseable {
+
+    /**
+     * How a buffered entity is written.
+     */
+    enum Mode {
+        UPDATE, UPSERT
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(SqlWriteBehind.class.getName());
+
+    private final EntityManagerFactory factory;
+
+    private final SqlEntityMetadata metadata;
+
+    private final long window;
+
+    private final int batchSize;
+
+    private final int capacity;
+
+    private final int maxRetries;
+
+    private final WriteBehindFailureHandler failureHandler;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition ready = lock.newCondition();
+
+    private final Condition space = lock.newCondition();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Map<Object, Write<T>> pending = new LinkedHashMap<>();
+
+    private final Map<Object, Integer> attempts = new HashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicLong flushes = new AtomicLong();
+
+    private final AtomicLong flushedEntities = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong droppedEntities = new AtomicLong();
+
+    private long firstPendingAt;
+
+    private boolean closed;
+
+    private volatile long lastFlushLatency;
+
+    private volatile long maxFlushLatency;
+
+    SqlWriteBehind(SqlTemplate template, SqlEntityMetadata metadata, WriteBehind settings) {
+        if (settings.window() <= 0 || settings.batchSize() <= 0 || settings.capacity() < settings.batchSize()
+                || settings.maxRetries() < 0) {
+            throw new IllegalArgumentException("The write-behind window and batch size must be greater than zero, "
+                    + "the capacity not lower than the batch size and the retries not negative, but were "
+                    + settings.window() + ", " + settings.batchSize() + ", " + settings.capacity() + " and "
+                    + settings.maxRetries() + " on " + metadata.name());
+        }
+        this.factory = template.entityManager().getEntityManagerFactory();
+        this.metadata = metadata;
+        this.window = TimeUnit.MILLISECONDS.toNanos(settings.window());
+        this.batchSize = settings.batchSize();
+        this.capacity = settings.capacity();
+        this.maxRetries = settings.maxRetries();
+        this.failureHandler = failureHandler(settings.onFailure(), metadata);
+    }
+
+    /**
+     * Buffers the entity, waiting for a flush when the buffer is full.
+     *
+     * @param entity  the entity
+     * @param mode    how the entity is written
+     * @param written runs once the entity is written and committed
+     * @return {@code false} when the entity is not buffered, because it has no id or the buffer is closed,
+     * so the caller writes it
+     */
+    boolean offer(T entity, Mode mode, Consumer<? super T> written) {
+        Object id = metadata.id().orElseThrow().read(entity);
+        if (id == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            while (!closed && pending.size() >= capacity && !pending.containsKey(id)) {
+                ready.signalAll();
+                space.await();
+            }
+            if (closed) {
+                return false;
+            }
+            if (pending.isEmpty()) {
+                firstPendingAt = System.nanoTime();
+                ready.signalAll();
+            }
+            pending.put(id, new Write<>(entity, mode, written));
+            if (pending.size() >= batchSize) {
+                ready.signalAll();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(exception);
+        } finally {
+            lock.unlock();
+        }
+        if (started.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("jnosql-sql-write-behind-" + metadata.name()).start(this::run);
+        }
+        return true;
+    }
+
+    Optional<T> pending(Object id) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(pending.get(id)).map(Write::entity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered entities in the calling thread.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            Map<Object, Write<T>> batch;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = new LinkedHashMap<>(pending);
+                pending.clear();
+                space.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            long start = System.nanoTime();
+            try (var entityManager = factory.createEntityManager()) {
+                List<T> updates = new ArrayList<>();
+                List<T> upserts = new ArrayList<>();
+                batch.values().forEach(write -> (write.mode() == Mode.UPDATE ? updates : upserts).add(write.entity()));
+                SqlTemplate.of(entityManager).inUnitOfWork(work -> {
+                    if (!updates.isEmpty()) {
+                        work.update(updates);
+                    }
+                    if (!upserts.isEmpty()) {
+                        work.upsert(upserts);
+                    }
+                    return null;
+                });
+            } catch (RuntimeException exception) {
+                failures.incrementAndGet();
+                failed(batch, exception);
+                throw exception;
+            }
+            long latency = System.nanoTime() - start;
+            lastFlushLatency = latency;
+            maxFlushLatency = Math.max(maxFlushLatency, latency);
+            flushes.incrementAndGet();
+            flushedEntities.addAndGet(batch.size());
+            lock.lock();
+            try {
+                attempts.keySet().removeAll(batch.keySet());
+            } finally {
+                lock.unlock();
+            }
+            LOGGER.fine(() -> "Flushed " + batch.size() + " buffered entities of " + metadata.name());
+            batch.values().forEach(this::written);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    WriteBehindMetrics metrics() {
+        int queueDepth;
+        lock.lock();
+        try {
+            queueDepth = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        return new WriteBehindMetrics(queueDepth, flushes.get(), flushedEntities.get(), failures.get(),
+                droppedEntities.get(), Duration.ofNanos(lastFlushLatency), Duration.ofNanos(maxFlushLatency));
+    }
+
+    /**
+     * Stops buffering, so the next writes go straight to the database, and flushes the buffered entities.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            ready.signalAll();
+            space.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flush();
+    }
+
+    private void run() {
+        while (true) {
+            lock.lock();
+            try {
+                while (!closed && !due()) {
+                    if (pending.isEmpty()) {
+                        ready.await();
+                    } else {
+                        ready.awaitNanos(window - (System.nanoTime() - firstPendingAt));
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                flush();
+            } catch (RuntimeException exception) {
+                // logged by flush, the entities are buffered again or dropped
+            }
+        }
+    }
+
+    private boolean due() {
+        return !pending.isEmpty()
+                && (pending.size() >= batchSize || System.nanoTime() - firstPendingAt >= window);
+    }
+
+    /**
+     * Puts the entities of a failed flush back in the buffer, behind the newer states written meanwhile, and drops
+     * the ones that failed more than the maximum number of retries.
+     */
+    private void failed(Map<Object, Write<T>> batch, RuntimeException exception) {
+        List<T> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            Map<Object, Write<T>> merged = new LinkedHashMap<>();
+            batch.forEach((id, write) -> {
+                int failed = attempts.merge(id, 1, Integer::sum);
+                if (failed > maxRetries && !pending.containsKey(id)) {
+                    attempts.remove(id);
+                    dropped.add(write.entity());
+                } else {
+                    merged.put(id, write);
+                }
+            });
+            merged.putAll(pending);
+            pending.clear();
+            pending.putAll(merged);
+            firstPendingAt = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+        if (dropped.isEmpty()) {
+            LOGGER.log(Level.WARNING, exception, () -> "Failed to flush " + batch.size()
+                    + " buffered entities of " + metadata.name() + ", retrying after the window");
+            return;
+        }
+        droppedEntities.addAndGet(dropped.size());
+        LOGGER.log(Level.SEVERE, exception, () -> "Dropped " + dropped.size() + " buffered entities of "
+                + metadata.name() + " after " + (maxRetries + 1) + " failed flushes");
+        if (failureHandler != null) {
+            try {
+                failureHandler.dropped(List.copyOf(dropped), exception);
+            } catch (RuntimeException handlerException) {
+                LOGGER.log(Level.WARNING, handlerException, () -> "The write-behind failure handler of "
+                        + metadata.name() + " failed");
+            }
+        }
+    }
+
+    private void written(Write<T> write) {
+        try {
+            write.written().accept(write.entity());
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, exception, () -> "The post write event of a flushed " + metadata.name()
+                    + " failed");
+        }
+    }
+
+    private static WriteBehindFailureHandler failureHandler(Class<? extends WriteBehindFailureHandler> type,
+                                                            SqlEntityMetadata metadata) {
+        if (WriteBehindFailureHandler.class.equals(type)) {
+            return null;
+        }
+        try {
+            return type.getConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+                 | InvocationTargetException exception) {
+            throw new IllegalArgumentException("The write-behind failure handler " + type.getName() + " of "
+                    + metadata.name() + " needs a public no-argument constructor", exception);
+        }
+    }
+
+    private record Write<T>(T entity, Mode mode, Consumer<? super T> written) {
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Buffers the {@code update}, {@code updateAll}, {@code save} and {@code saveAll} calls of a repository, instead
+ * of committing each call, for tables taking frequent writes to the same rows, such as counters or last-seen
+ * timestamps.
+ *
+ * <p>The buffered entities are coalesced by id, so only the last state of each entity is written, and a virtual
+ * thread writes them in one transaction once the oldest buffered entity waited {@link #window()} milliseconds or
+ * {@link #batchSize()} entities are buffered. When {@link #capacity()} entities are buffered, the writers wait for
+ * a flush. Entities without an id are written immediately.</p>
+ *
+ * <p>Buffered writes are not visible to queries until flushed; {@code findById} returns the buffered entity.
+ * Any other write of the repository, such as a delete or an insert, flushes the buffer first, so the writes stay
+ * in order. The buffer is flushed when the {@link SqlRepositoryProducer} is destroyed, and on demand when the
+ * repository extends {@link WriteBehindRepository}.</p>
+ *
+ * <p>A buffered {@code update} is flushed as an update and a buffered {@code save} as an upsert, so both behave as
+ * they do without the buffer. The {@code PostUpdateEvent} and {@code PostUpsertEvent} of a buffered entity fire
+ * once the flush commits, in the flushing thread, and only for the last state of each id. A flush that fails puts
+ * its entities back in the buffer; after {@link #maxRetries()} failed flushes the entities are dropped and handed
+ * to the {@link #onFailure()} handler.</p>
+ *
+ * <pre>{@code
+ * @Repository
+ * @WriteBehind(window = 200, batchSize = 1000)
+ * public interface DeviceRepository extends CrudRepository<Device, String>, WriteBehindRepository {
+ * }
+ * }</pre>
+ */
+@Documented
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface WriteBehind {
+
+    /**
+     * How long, in milliseconds, a buffered entity waits before the buffer is flushed.
+     *
+     * @return the flush window
+     */
+    long window() default 100L;
+
+    /**
+     * The number of buffered entities that triggers a flush before the window elapses.
+     *
+     * @return the batch size
+     */
+    int batchSize() default 500;
+
+    /**
+     * The maximum number of buffered entities; the writers wait for a flush beyond it.
+     *
+     * @return the capacity
+     */
+    int capacity() default 10_000;
+
+    /**
+     * How many times the entities of a failed flush are retried before they are dropped.
+     *
+     * @return the maximum number of retries
+     */
+    int maxRetries() default 3;
+
+    /**
+     * The handler of the dropped entities. The default only logs them.
+     *
+     * @return the failure handler type
+     */
+    Class<? extends WriteBehindFailureHandler> onFailure() default WriteBehindFailureHandler.class;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import java.util.List;
+
+/**
+ * Receives the entities a write-behind buffer gives up on, after {@link WriteBehind#maxRetries()} failed flushes.
+ * The entities are no longer buffered, so the handler can store them elsewhere, alert, or write them again.
+ *
+ * <p>The implementation is declared with {@link WriteBehind#onFailure()} and needs a public no-argument
+ * constructor. It runs in the thread of the failed flush.</p>
+ */
+@FunctionalInterface
+public interface WriteBehindFailureHandler {
+
+    /**
+     * Handles the dropped entities.
+     *
+     * @param entities the entities that were not written, in the order they were buffered
+     * @param cause    the failure of the last flush
+     */
+    void dropped(List<?> entities, RuntimeException cause);
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the metrics of a write-behind buffer.
+ *
+ * @param queueDepth          the number of entities waiting to be written
+ * @param flushes             the number of successful flushes
+ * @param flushedEntities     the number of entities written by those flushes
+ * @param failures            the number of failed flushes
+ * @param droppedEntities     the number of entities dropped after {@link WriteBehind#maxRetries()} failed flushes
+ * @param lastFlushLatency    how long the last successful flush took
+ * @param maxFlushLatency     the longest successful flush
+ */
+public record WriteBehindMetrics(int queueDepth,
+                                 long flushes,
+                                 long flushedEntities,
+                                 long failures,
+                                 long droppedEntities,
+                                 Duration lastFlushLatency,
+                                 Duration maxFlushLatency) {
+
+    static final WriteBehindMetrics EMPTY = new WriteBehindMetrics(0, 0L, 0L, 0L, 0L, Duration.ZERO, Duration.ZERO);
+}
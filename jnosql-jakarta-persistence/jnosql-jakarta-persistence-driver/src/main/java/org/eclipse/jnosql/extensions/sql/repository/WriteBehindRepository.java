@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+/**
+ * Controls the write-behind buffer of a repository annotated with {@link WriteBehind}. A repository interface
+ * extends it to flush the buffer on demand and to read its metrics; for a repository without the annotation,
+ * {@link #flush()} does nothing and the metrics are empty.
+ */
+public interface WriteBehindRepository {
+
+    /**
+     * Writes the buffered entities now, in the calling thread.
+     *
+     * @throws RuntimeException the failure of the write; the entities stay buffered until
+     *                          {@link WriteBehind#maxRetries()} flushes failed
+     */
+    void flush();
+
+    /**
+     * Returns a snapshot of the metrics of the write-behind buffer.
+     *
+     * @return the metrics
+     */
+    WriteBehindMetrics writeBehindMetrics();
+}
@@ -41,6 +41,8 @@ abstract class BaseQueryParser {
 
     protected final PersistenceDatabaseManager manager;
 
+    private PersistenceQueryOptions queryOptions;
+
     protected BaseQueryParser(PersistenceDatabaseManager manager) {
         this.manager = manager;
     }
@@ -80,6 +82,20 @@ abstract class BaseQueryParser {
         return manager.getEntityManager();
     }
 
+    /**
+     * @return the query options declared as defaults of the persistence unit
+     */
+    protected PersistenceQueryOptions queryOptions() {
+        if (queryOptions == null) {
+            queryOptions = PersistenceQueryOptions.defaults(entityManager().getEntityManagerFactory().getProperties());
+        }
+        return queryOptions;
+    }
+
+    protected <Q extends Query> Q applyQueryOptions(Q query) {
+        return queryOptions().apply(query);
+    }
+
     protected PersistenceUnitUtil getPersistenceUnitUtil() {
         return entityManager().getEntityManagerFactory().getPersistenceUnitUtil();
     }
@@ -101,12 +117,12 @@ abstract class BaseQueryParser {
 
     protected Query buildQuery(String queryString, String entity, Collection<Sort<?>> sorts) {
         EntityManager em = entityManager();
-        return em.createQuery(queryString);
+        return applyQueryOptions(em.createQuery(queryString));
     }
 
     protected <T> TypedQuery<T> buildQuery(String queryString, String entity, Class<T> entityClass, Collection<Sort<?>> sorts) {
         EntityManager em = entityManager();
-        return em.createQuery(queryString, entityClass);
+        return applyQueryOptions(em.createQuery(queryString, entityClass));
     }
 
     protected static <FROM> Predicate parseCriteria(Object value, QueryContext<FROM> ctx) {
@@ -41,5 +41,10 @@ class BaseUpdateQueryParser extends BaseQueryParser {
                 .mapToObj(i -> null);
     }
 
+    @Override
+    protected <Q extends Query> Q applyQueryOptions(Q query) {
+        return queryOptions().applyUpdate(query);
+    }
+
 }
 
@@ -40,7 +40,7 @@ class DeleteQueryParser extends BaseUpdateQueryParser {
         Root<?> root = deleteCriteria.from(type);
         String entityIdName = getEntityIdName(type);
         deleteCriteria.where(criteriaBuilder.equal(root.get(entityIdName), key));
-        entityManager().createQuery(deleteCriteria).executeUpdate();
+        applyQueryOptions(entityManager().createQuery(deleteCriteria)).executeUpdate();
     }
 
     private <T> String getEntityIdName(Class<T> type) {
@@ -53,7 +53,7 @@ class DeleteQueryParser extends BaseUpdateQueryParser {
     <T> long deleteAll(Class<T> type) {
         CriteriaBuilder criteriaBuilder = entityManager().getCriteriaBuilder();
         CriteriaDelete<T> deleteCriteria = criteriaBuilder.createCriteriaDelete(type);
-        long entries = entityManager().createQuery(deleteCriteria).executeUpdate();
+        long entries = applyQueryOptions(entityManager().createQuery(deleteCriteria)).executeUpdate();
         return entries;
     }
 
@@ -78,7 +78,7 @@ class DeleteQueryParser extends BaseUpdateQueryParser {
         criteriaQuery = queryModifier.apply(
                 new DeleteQueryContext(criteriaQuery,
                         new QueryContext(from, criteriaBuilder)));
-        return em.createQuery(criteriaQuery);
+        return applyQueryOptions(em.createQuery(criteriaQuery));
     }
 
     record DeleteQueryContext<FROM>(CriteriaDelete<FROM> query, QueryContext<FROM> queryContext) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares the associations a repository find method loads together with the root entity, so serializing the
+ * results does not trigger one extra {@code SELECT} per row for each lazy association.
+ *
+ * <p>The plan is applied to the generated query as a Jakarta Persistence entity graph hint. It starts from the
+ * named {@link jakarta.persistence.NamedEntityGraph} given by {@link #graph()}, if any, and adds every
+ * {@link #attributes()} path, where nested associations are separated by a dot.</p>
+ *
+ * <pre>{@code
+ * @Find
+ * @FetchPlan(attributes = {"customer", "items.product"})
+ * List<Order> findByStatus(Status status);
+ * }</pre>
+ *
+ * <p>The plan is ignored by projections, count and existence queries.</p>
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface FetchPlan {
+
+    /**
+     * The name of a {@link jakarta.persistence.NamedEntityGraph} declared on the entity.
+     *
+     * @return the entity graph name, or an empty string to start from an empty graph
+     */
+    String graph() default "";
+
+    /**
+     * The attribute paths to fetch, such as {@code "customer"} or {@code "items.product"}.
+     *
+     * @return the attribute paths
+     */
+    String[] attributes() default {};
+
+    /**
+     * How the attributes outside the graph are loaded.
+     *
+     * @return the graph semantic
+     */
+    Type type() default Type.FETCH;
+
+    /**
+     * The entity graph semantic defined by Jakarta Persistence.
+     */
+    enum Type {
+        /**
+         * Attributes outside the graph are treated as lazy.
+         */
+        FETCH("jakarta.persistence.fetchgraph"),
+        /**
+         * Attributes outside the graph keep the fetch type of their mapping.
+         */
+        LOAD("jakarta.persistence.loadgraph");
+
+        private final String hint;
+
+        Type(String hint) {
+            this.hint = hint;
+        }
+
+        /**
+         * @return the query hint name
+         */
+        public String hint() {
+            return hint;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link SelectQuery} decorated with the {@link PersistenceFetchPlan} and the {@link PersistenceQueryOptions} of
+ * the repository method that created it. {@link PersistenceDocumentTemplate} applies the plan when the query
+ * selects the entity itself, and the options to every query.
+ *
+ * @param query        the decorated query
+ * @param fetchPlan    the fetch plan, or {@code null}
+ * @param queryOptions the query options, or {@code null}
+ */
+public record HintedSelectQuery(SelectQuery query,
+                                PersistenceFetchPlan fetchPlan,
+                                PersistenceQueryOptions queryOptions) implements SelectQuery {
+
+    public HintedSelectQuery {
+        Objects.requireNonNull(query, "query is required");
+    }
+
+    @Override
+    public long limit() {
+        return query.limit();
+    }
+
+    @Override
+    public long skip() {
+        return query.skip();
+    }
+
+    @Override
+    public String name() {
+        return query.name();
+    }
+
+    @Override
+    public List<String> columns() {
+        return query.columns();
+    }
+
+    @Override
+    public List<Sort<?>> sorts() {
+        return query.sorts();
+    }
+
+    @Override
+    public Optional<CriteriaCondition> condition() {
+        return query.condition();
+    }
+
+    /**
+     * Decorates the query with the fetch plan and the query options of the method, if it declares any.
+     *
+     * @param query  the query
+     * @param method the repository method
+     * @return the decorated query, or the same query when the method has neither {@link FetchPlan} nor
+     * {@link QueryOptions}
+     */
+    public static SelectQuery of(SelectQuery query, Method method) {
+        var fetchPlan = PersistenceFetchPlan.of(method).orElse(null);
+        var queryOptions = PersistenceQueryOptions.of(method).orElse(null);
+        if (fetchPlan == null && queryOptions == null) {
+            return query;
+        }
+        return new HintedSelectQuery(query, fetchPlan, queryOptions);
+    }
+}
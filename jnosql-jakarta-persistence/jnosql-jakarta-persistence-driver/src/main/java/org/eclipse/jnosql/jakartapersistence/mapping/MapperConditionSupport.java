@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Accumulates the {@code where}, {@code and}, {@code or} and {@code not} steps of a {@link PersistenceQueryMapper}
+ * chain into a single {@link CriteriaCondition}. Conditions are combined from left to right.
+ */
+abstract class MapperConditionSupport {
+
+    protected final String entity;
+
+    private String name;
+
+    private boolean and = true;
+
+    private boolean negate;
+
+    private CriteriaCondition condition;
+
+    MapperConditionSupport(String entity) {
+        this.entity = entity;
+    }
+
+    protected void whereName(String name) {
+        this.name = Objects.requireNonNull(name, "name is required");
+    }
+
+    protected void andName(String name) {
+        whereName(name);
+        this.and = true;
+    }
+
+    protected void orName(String name) {
+        whereName(name);
+        this.and = false;
+    }
+
+    protected void negateNext() {
+        this.negate = true;
+    }
+
+    protected void eqCondition(Object value) {
+        append(CriteriaCondition.eq(name, requireValue(value)));
+    }
+
+    protected void likeCondition(String value) {
+        append(CriteriaCondition.like(name, requireValue(value)));
+    }
+
+    protected void containsCondition(String value) {
+        likeCondition("%" + requireValue(value) + "%");
+    }
+
+    protected void startsWithCondition(String value) {
+        likeCondition(requireValue(value) + "%");
+    }
+
+    protected void endsWithCondition(String value) {
+        likeCondition("%" + requireValue(value));
+    }
+
+    protected void gtCondition(Object value) {
+        append(CriteriaCondition.gt(name, requireValue(value)));
+    }
+
+    protected void gteCondition(Object value) {
+        append(CriteriaCondition.gte(name, requireValue(value)));
+    }
+
+    protected void ltCondition(Object value) {
+        append(CriteriaCondition.lt(name, requireValue(value)));
+    }
+
+    protected void lteCondition(Object value) {
+        append(CriteriaCondition.lte(name, requireValue(value)));
+    }
+
+    protected void betweenCondition(Object lowerBound, Object upperBound) {
+        append(CriteriaCondition.between(name, List.of(requireValue(lowerBound), requireValue(upperBound))));
+    }
+
+    protected void inCondition(Iterable<?> values) {
+        Objects.requireNonNull(values, "values is required");
+        List<Object> items = new ArrayList<>();
+        values.forEach(items::add);
+        append(CriteriaCondition.in(name, items));
+    }
+
+    protected CriteriaCondition condition() {
+        return condition;
+    }
+
+    private void append(CriteriaCondition newCondition) {
+        var next = negate ? newCondition.negate() : newCondition;
+        if (condition == null) {
+            condition = next;
+        } else if (and) {
+            condition = condition.and(next);
+        } else {
+            condition = condition.or(next);
+        }
+        negate = false;
+        name = null;
+    }
+
+    private static <V> V requireValue(V value) {
+        return Objects.requireNonNull(value, "value is required");
+    }
+}
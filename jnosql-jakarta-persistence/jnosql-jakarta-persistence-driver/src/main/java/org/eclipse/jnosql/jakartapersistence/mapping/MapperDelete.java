@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+
+import java.util.function.Consumer;
+
+final class MapperDelete extends MapperConditionSupport implements QueryMapper.MapperDeleteFrom,
+        QueryMapper.MapperDeleteNameCondition, QueryMapper.MapperDeleteNotCondition, QueryMapper.MapperDeleteWhere {
+
+    private final Consumer<DeleteQuery> delete;
+
+    MapperDelete(String entity, Consumer<DeleteQuery> delete) {
+        super(entity);
+        this.delete = delete;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteNameCondition where(String name) {
+        whereName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteNameCondition and(String name) {
+        andName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteNameCondition or(String name) {
+        orName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteNotCondition not() {
+        negateNext();
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteWhere eq(T value) {
+        eqCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteWhere like(String value) {
+        likeCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteWhere contains(String value) {
+        containsCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteWhere startsWith(String value) {
+        startsWithCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperDeleteWhere endsWith(String value) {
+        endsWithCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteWhere gt(T value) {
+        gtCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteWhere gte(T value) {
+        gteCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteWhere lt(T value) {
+        ltCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteWhere lte(T value) {
+        lteCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteWhere between(T valueA, T valueB) {
+        betweenCondition(valueA, valueB);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperDeleteWhere in(Iterable<T> values) {
+        inCondition(values);
+        return this;
+    }
+
+    @Override
+    public void execute() {
+        delete.accept(query());
+    }
+
+    DeleteQuery query() {
+        var builder = DeleteQuery.builder().from(entity);
+        var condition = condition();
+        if (condition != null) {
+            builder.where(condition);
+        }
+        return builder.build();
+    }
+}
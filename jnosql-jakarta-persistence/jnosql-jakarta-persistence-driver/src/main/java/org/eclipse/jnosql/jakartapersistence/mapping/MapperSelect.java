@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.data.Sort;
+import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+final class MapperSelect extends MapperConditionSupport implements QueryMapper.MapperFrom, QueryMapper.MapperLimit,
+        QueryMapper.MapperSkip, QueryMapper.MapperOrder, QueryMapper.MapperNameCondition,
+        QueryMapper.MapperNotCondition, QueryMapper.MapperNameOrder, QueryMapper.MapperWhere {
+
+    private final Function<SelectQuery, Stream<?>> select;
+
+    private final List<Sort<?>> sorts = new ArrayList<>();
+
+    private String orderName;
+
+    private long skip;
+
+    private long limit;
+
+    MapperSelect(String entity, Function<SelectQuery, Stream<?>> select) {
+        super(entity);
+        this.select = select;
+    }
+
+    @Override
+    public QueryMapper.MapperNameCondition where(String name) {
+        whereName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperNameCondition and(String name) {
+        andName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperNameCondition or(String name) {
+        orName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperNotCondition not() {
+        negateNext();
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperWhere eq(T value) {
+        eqCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperWhere like(String value) {
+        likeCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperWhere contains(String value) {
+        containsCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperWhere startsWith(String value) {
+        startsWithCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperWhere endsWith(String value) {
+        endsWithCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperWhere gt(T value) {
+        gtCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperWhere gte(T value) {
+        gteCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperWhere lt(T value) {
+        ltCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperWhere lte(T value) {
+        lteCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperWhere between(T valueA, T valueB) {
+        betweenCondition(valueA, valueB);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperWhere in(Iterable<T> values) {
+        inCondition(values);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperOrder orderBy(String name) {
+        this.orderName = Objects.requireNonNull(name, "name is required");
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperNameOrder asc() {
+        sorts.add(Sort.asc(orderName));
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperNameOrder desc() {
+        sorts.add(Sort.desc(orderName));
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperSkip skip(long skip) {
+        if (skip < 0) {
+            throw new IllegalArgumentException("The skip must not be negative, but was " + skip);
+        }
+        this.skip = skip;
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperLimit limit(long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative, but was " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    @Override
+    public <T> List<T> result() {
+        try (Stream<T> results = stream()) {
+            return results.toList();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Stream<T> stream() {
+        return (Stream<T>) select.apply(query());
+    }
+
+    @Override
+    public <T> Optional<T> singleResult() {
+        List<T> results;
+        try (Stream<T> stream = stream()) {
+            results = stream.limit(2).toList();
+        }
+        if (results.size() > 1) {
+            throw new NonUniqueResultException("Expected a single result but found more than one for " + entity);
+        }
+        return results.stream().findFirst();
+    }
+
+    SelectQuery query() {
+        var builder = SelectQuery.builder().from(entity);
+        var condition = condition();
+        if (condition != null) {
+            builder.where(condition);
+        }
+        if (!sorts.isEmpty()) {
+            builder.sort(sorts.toArray(new Sort[0]));
+        }
+        builder.skip(skip);
+        builder.limit(limit);
+        return builder.build();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.semistructured.DefaultUpdateQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+final class MapperUpdate extends MapperConditionSupport implements QueryMapper.MapperUpdateFrom,
+        QueryMapper.MapperUpdateSetTo, QueryMapper.MapperUpdateSetStep, QueryMapper.MapperUpdateNameCondition,
+        QueryMapper.MapperUpdateNotCondition, QueryMapper.MapperUpdateWhere {
+
+    private final Consumer<UpdateQuery> update;
+
+    private final List<Element> sets = new ArrayList<>();
+
+    private String setName;
+
+    MapperUpdate(String entity, Consumer<UpdateQuery> update) {
+        super(entity);
+        this.update = update;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateSetTo set(String name) {
+        this.setName = Objects.requireNonNull(name, "name is required");
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateSetStep to(T value) {
+        sets.add(Element.of(setName, value));
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateNameCondition where(String name) {
+        whereName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateNameCondition and(String name) {
+        andName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateNameCondition or(String name) {
+        orName(name);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateNotCondition not() {
+        negateNext();
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateWhere eq(T value) {
+        eqCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateWhere like(String value) {
+        likeCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateWhere contains(String value) {
+        containsCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateWhere startsWith(String value) {
+        startsWithCondition(value);
+        return this;
+    }
+
+    @Override
+    public QueryMapper.MapperUpdateWhere endsWith(String value) {
+        endsWithCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateWhere gt(T value) {
+        gtCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateWhere gte(T value) {
+        gteCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateWhere lt(T value) {
+        ltCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateWhere lte(T value) {
+        lteCondition(value);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateWhere between(T valueA, T valueB) {
+        betweenCondition(valueA, valueB);
+        return this;
+    }
+
+    @Override
+    public <T> QueryMapper.MapperUpdateWhere in(Iterable<T> values) {
+        inCondition(values);
+        return this;
+    }
+
+    @Override
+    public void execute() {
+        update.accept(query());
+    }
+
+    UpdateQuery query() {
+        if (sets.isEmpty()) {
+            throw new IllegalStateException("An update of " + entity + " requires at least one attribute to set");
+        }
+        return new DefaultUpdateQuery(entity, List.copyOf(sets), condition());
+    }
+}
@@ -30,11 +30,13 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
 import org.eclipse.jnosql.jakartapersistence.communication.PersistenceDatabaseManager;
+import org.eclipse.jnosql.jakartapersistence.mapping.cache.EntityGenerations;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -100,6 +102,7 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
         }
 
         entityManager().persist(entity);
+        changed(entity.getClass());
         return entity;
     }
 
@@ -109,6 +112,7 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
         try {
             result = entityManager().merge(entity);
             entityManager().flush();
+            changed(entity.getClass());
         } catch (OptimisticLockException e) {
             DataExceptions.asOptimisticLockingFailureException(e, entity)
                     .ifPresent(ex -> {
@@ -148,7 +152,9 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
     }
 
     public long deleteWithCount(DeleteQuery query) {
-        return deleteParser.delete(query);
+        long deleted = deleteParser.delete(query);
+        changed(query.name());
+        return deleted;
     }
 
     @Override
@@ -174,11 +180,16 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
     @Override
     public <T> void deleteAll(Class<T> type) {
         deleteParser.deleteAll(type);
+        changed(type);
     }
 
     @Override
     public <T> CursoredPage<T> selectCursor(SelectQuery query, PageRequest pageRequest) {
-        throw new UnsupportedOperationException("'selectCursor' not supported yet.");
+        return selectParser.selectCursor(query, pageRequest, null);
+    }
+
+    public <T> CursoredPage<T> selectCursor(SelectQuery query, PageRequest pageRequest, Function<Object, T> mapper) {
+        return selectParser.selectCursor(query, pageRequest, mapper);
     }
 
     @Override
@@ -212,6 +223,7 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
         try {
             T entityToDelete = entityManager().getReference(type, key);
             entityManager().remove(entityToDelete);
+            changed(type);
         } catch (PersistenceException e) {
             throw DataExceptions.asOptimisticLockingFailureException(e);
         }
@@ -234,6 +246,7 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
                 entityToBeRemoved = entityManager().merge(entityToDelete);
             }
             entityManager().remove(entityToBeRemoved);
+            changed(entityToDelete.getClass());
         } catch (PersistenceException e) {
             throw DataExceptions.asOptimisticLockingFailureException(e);
         }
@@ -241,12 +254,14 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
 
     @Override
     public <T> QueryMapper.MapperFrom select(Class<T> type) {
-        throw new UnsupportedOperationException("'select(Class<T> type)' not supported yet.");
+        Objects.requireNonNull(type, "type is required");
+        return PersistenceQueryMapper.select(entityName(type), query -> select(query));
     }
 
     @Override
     public <T> QueryMapper.MapperDeleteFrom delete(Class<T> type) {
-        throw new UnsupportedOperationException("'delete(Class<T> type)' not supported yet.");
+        Objects.requireNonNull(type, "type is required");
+        return PersistenceQueryMapper.delete(entityName(type), query -> delete(query));
     }
 
     @Override
@@ -265,11 +280,13 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
     @Override
     public void update(UpdateQuery query) {
         updateParser.update(query);
+        changed(query.name());
     }
 
     @Override
     public <T> void delete(T entity) {
         entityManager().remove(entity);
+        changed(entity.getClass());
     }
 
     @Override
@@ -279,26 +296,51 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
 
     @Override
     public <T> QueryMapper.MapperUpdateFrom update(Class<T> type) {
-        throw new UnsupportedOperationException("'update(Class<T> type)' not supported yet.");
+        Objects.requireNonNull(type, "type is required");
+        return PersistenceQueryMapper.update(entityName(type), query -> update(query));
+    }
+
+    private String entityName(Class<?> type) {
+        return entityManager().getMetamodel().entity(type).getName();
+    }
+
+    /**
+     * Records a write in the {@link EntityGenerations} of the persistence unit, so the query results cached by
+     * other templates are not reused. The transaction belongs to the caller, so the write is recorded right away.
+     */
+    private void changed(Class<?> type) {
+        changed(entityName(type));
+    }
+
+    private void changed(String entity) {
+        EntityGenerations.of(entityManager().getEntityManagerFactory())
+                .changed(entityManager().getMetamodel(), entity);
+    }
+
+    private void changedAll() {
+        EntityGenerations.of(entityManager().getEntityManagerFactory()).changedAll();
     }
 
     @Override
     public Query query(String queryString) {
-        final jakarta.persistence.Query jpaQuery = entityManager().createQuery(queryString);
-        return new PersistenceDocumentQuery(jpaQuery);
+        final jakarta.persistence.Query jpaQuery = getParserForQuery(queryString)
+                .applyQueryOptions(entityManager().createQuery(queryString));
+        return new PersistenceDocumentQuery(jpaQuery, this::changedAll);
     }
 
     @Override
     public <T> TypedQuery<T> typedQuery(String queryString, Class<T> type) {
-        final jakarta.persistence.TypedQuery<T> jpaQuery = entityManager().createQuery(queryString, type);
-        return new PersistenceDocumentTypedQuery(jpaQuery);
+        final jakarta.persistence.TypedQuery<T> jpaQuery = selectParser
+                .applyQueryOptions(entityManager().createQuery(queryString, type));
+        return new PersistenceDocumentTypedQuery(jpaQuery, this::changedAll);
     }
 
-    private record PersistenceDocumentQuery(jakarta.persistence.Query jpaQuery) implements Query {
+    private record PersistenceDocumentQuery(jakarta.persistence.Query jpaQuery, Runnable written) implements Query {
 
         @Override
         public void executeUpdate() {
             jpaQuery.executeUpdate();
+            written.run();
         }
 
         @Override
@@ -329,11 +371,13 @@ public class PersistenceDocumentTemplate implements DocumentTemplate {
         }
     }
 
-    private record PersistenceDocumentTypedQuery<T>(jakarta.persistence.TypedQuery<T> jpaQuery) implements TypedQuery<T> {
+    private record PersistenceDocumentTypedQuery<T>(jakarta.persistence.TypedQuery<T> jpaQuery, Runnable written)
+            implements TypedQuery<T> {
 
         @Override
         public void executeUpdate() {
             jpaQuery.executeUpdate();
+            written.run();
         }
 
         @Override
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Subgraph;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethod;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * The runtime representation of a {@link FetchPlan}, applied as an entity graph hint to the queries built for
+ * a repository method.
+ *
+ * @param graph      the named entity graph, or an empty string
+ * @param attributes the attribute paths to fetch
+ * @param type       the entity graph semantic
+ */
+public record PersistenceFetchPlan(String graph, List<String> attributes, FetchPlan.Type type) {
+
+    private static final Map<Method, Optional<PersistenceFetchPlan>> BY_METHOD =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Map<RepositoryMethod, Optional<PersistenceFetchPlan>> BY_REPOSITORY_METHOD =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public PersistenceFetchPlan {
+        Objects.requireNonNull(graph, "graph is required");
+        Objects.requireNonNull(attributes, "attributes is required");
+        Objects.requireNonNull(type, "type is required");
+        attributes = List.copyOf(attributes);
+    }
+
+    /**
+     * Applies the plan to the query as a {@link FetchPlan.Type#hint()} hint.
+     *
+     * @param query         the query selecting the entity
+     * @param entityManager the entity manager that created the query
+     * @param entityType    the selected entity
+     * @param <T>           the entity type
+     * @throws NullPointerException if any parameter is {@code null}
+     */
+    public <T> void apply(Query query, EntityManager entityManager, Class<T> entityType) {
+        Objects.requireNonNull(query, "query is required");
+        query.setHint(type.hint(), entityGraph(entityManager, entityType));
+    }
+
+    /**
+     * Builds the entity graph described by this plan.
+     *
+     * @param entityManager the entity manager
+     * @param entityType    the root entity
+     * @param <T>           the entity type
+     * @return a mutable entity graph
+     * @throws NullPointerException if any parameter is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EntityGraph<T> entityGraph(EntityManager entityManager, Class<T> entityType) {
+        Objects.requireNonNull(entityManager, "entityManager is required");
+        Objects.requireNonNull(entityType, "entityType is required");
+        EntityGraph<T> entityGraph = graph.isBlank()
+                ? entityManager.createEntityGraph(entityType)
+                : (EntityGraph<T>) entityManager.createEntityGraph(graph);
+        for (String attribute : attributes) {
+            String[] path = attribute.split("\\.");
+            if (path.length == 1) {
+                entityGraph.addAttributeNode(path[0]);
+                continue;
+            }
+            Subgraph<?> subgraph = entityGraph.addSubgraph(path[0]);
+            for (int index = 1; index < path.length - 1; index++) {
+                subgraph = subgraph.addSubgraph(path[index]);
+            }
+            subgraph.addAttributeNodes(path[path.length - 1]);
+        }
+        return entityGraph;
+    }
+
+    /**
+     * Reads the {@link FetchPlan} declared on a repository method. The annotation of each method is only read once.
+     *
+     * @param method the repository method
+     * @return the plan, or empty when the method has no {@link FetchPlan}
+     * @throws NullPointerException if {@code method} is {@code null}
+     */
+    public static Optional<PersistenceFetchPlan> of(Method method) {
+        Objects.requireNonNull(method, "method is required");
+        return BY_METHOD.computeIfAbsent(method, key -> Optional.ofNullable(key.getAnnotation(FetchPlan.class))
+                .map(plan -> new PersistenceFetchPlan(plan.graph(), Arrays.asList(plan.attributes()), plan.type())));
+    }
+
+    /**
+     * Reads the {@link FetchPlan} declared on a repository method from its metadata. The annotation of each
+     * method is only read once.
+     *
+     * @param method the repository method metadata
+     * @return the plan, or empty when the method has no {@link FetchPlan}
+     * @throws NullPointerException if {@code method} is {@code null}
+     */
+    public static Optional<PersistenceFetchPlan> of(RepositoryMethod method) {
+        Objects.requireNonNull(method, "method is required");
+        return BY_REPOSITORY_METHOD.computeIfAbsent(method, key -> key.annotations().stream()
+                .filter(annotation -> FetchPlan.class.equals(annotation.annotation()))
+                .findFirst()
+                .map(annotation -> {
+                    var attributes = annotation.attributes();
+                    var graph = Objects.toString(attributes.getOrDefault("graph", ""), "");
+                    var type = Optional.ofNullable(attributes.get("type"))
+                            .map(value -> value instanceof FetchPlan.Type planType
+                                    ? planType : FetchPlan.Type.valueOf(value.toString()))
+                            .orElse(FetchPlan.Type.FETCH);
+                    return new PersistenceFetchPlan(graph, paths(attributes.get("attributes")), type);
+                }));
+    }
+
+    private static List<String> paths(Object value) {
+        return switch (value) {
+            case null -> List.of();
+            case String[] array -> Arrays.asList(array);
+            case Collection<?> collection -> collection.stream().map(Object::toString).toList();
+            default -> List.of(value.toString());
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implements the {@link QueryMapper} fluent API of the templates on top of their semi-structured queries.
+ *
+ * <p>Each chain builds a {@link SelectQuery}, {@link DeleteQuery} or {@link UpdateQuery} and hands it to the given
+ * operation when it is executed, so fluent queries are converted and run exactly like the queries of the
+ * repositories. The {@code contains}, {@code startsWith} and {@code endsWith} conditions are sent as {@code LIKE}
+ * patterns, and conditions are combined from left to right.</p>
+ *
+ * <pre>{@code
+ * List<Book> books = template.select(Book.class)
+ *         .where("author").eq("Ada Lovelace")
+ *         .and("year").gte(2020)
+ *         .orderBy("title").asc()
+ *         .result();
+ * }</pre>
+ */
+public final class PersistenceQueryMapper {
+
+    private PersistenceQueryMapper() {
+    }
+
+    /**
+     * Starts a fluent select of the given entity.
+     *
+     * @param entity the entity name
+     * @param select runs the select query built by the chain
+     * @return the first step of the chain
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static QueryMapper.MapperFrom select(String entity, Function<SelectQuery, Stream<?>> select) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(select, "select is required");
+        return new MapperSelect(entity, select);
+    }
+
+    /**
+     * Starts a fluent delete of the given entity.
+     *
+     * @param entity the entity name
+     * @param delete runs the delete query built by the chain
+     * @return the first step of the chain
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static QueryMapper.MapperDeleteFrom delete(String entity, Consumer<DeleteQuery> delete) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(delete, "delete is required");
+        return new MapperDelete(entity, delete);
+    }
+
+    /**
+     * Starts a fluent update of the given entity.
+     *
+     * @param entity the entity name
+     * @param update runs the update query built by the chain
+     * @return the first step of the chain
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static QueryMapper.MapperUpdateFrom update(String entity, Consumer<UpdateQuery> update) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(update, "update is required");
+        return new MapperUpdate(entity, update);
+    }
+}
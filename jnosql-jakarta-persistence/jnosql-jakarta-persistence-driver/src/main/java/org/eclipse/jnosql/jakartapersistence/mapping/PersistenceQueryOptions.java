@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.Query;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethod;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * The runtime representation of {@link QueryOptions}, applied as hints to the queries built for a repository
+ * method. A {@code null} component means the option is not set.
+ *
+ * <p>The defaults of a persistence unit are read from its properties, falling back to the system property with
+ * the same name:</p>
+ *
+ * <pre>{@code
+ * <property name="jnosql.query.fetch.size" value="100"/>
+ * <property name="jnosql.query.timeout" value="5000"/>
+ * <property name="jnosql.query.read.only" value="false"/>
+ * <property name="jnosql.query.cache.retrieve.mode" value="USE"/>
+ * <property name="jnosql.query.cache.store.mode" value="USE"/>
+ * }</pre>
+ *
+ * <p>The fetch size and read-only options have no standard hint, so both the EclipseLink and the Hibernate hints
+ * are set; a provider ignores the hints it does not recognize.</p>
+ *
+ * @param fetchSize         the JDBC fetch size
+ * @param timeout           the query timeout in milliseconds
+ * @param readOnly          whether the loaded entities are read-only
+ * @param cacheRetrieveMode the second-level cache retrieve mode
+ * @param cacheStoreMode    the second-level cache store mode
+ */
+public record PersistenceQueryOptions(Integer fetchSize,
+                                      Integer timeout,
+                                      Boolean readOnly,
+                                      CacheRetrieveMode cacheRetrieveMode,
+                                      CacheStoreMode cacheStoreMode) {
+
+    /**
+     * The persistence unit default of {@link QueryOptions#fetchSize()}.
+     */
+    public static final String FETCH_SIZE = "jnosql.query.fetch.size";
+
+    /**
+     * The persistence unit default of {@link QueryOptions#timeout()}, in milliseconds.
+     */
+    public static final String TIMEOUT = "jnosql.query.timeout";
+
+    /**
+     * The persistence unit default of {@link QueryOptions#readOnly()}.
+     */
+    public static final String READ_ONLY = "jnosql.query.read.only";
+
+    /**
+     * The persistence unit default of {@link QueryOptions#cacheRetrieveMode()}.
+     */
+    public static final String CACHE_RETRIEVE_MODE = "jnosql.query.cache.retrieve.mode";
+
+    /**
+     * The persistence unit default of {@link QueryOptions#cacheStoreMode()}.
+     */
+    public static final String CACHE_STORE_MODE = "jnosql.query.cache.store.mode";
+
+    /**
+     * No option set.
+     */
+    public static final PersistenceQueryOptions NONE = new PersistenceQueryOptions(null, null, null, null, null);
+
+    private static final Map<Method, Optional<PersistenceQueryOptions>> BY_METHOD =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Map<RepositoryMethod, Optional<PersistenceQueryOptions>> BY_REPOSITORY_METHOD =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    static final String TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+    static final String CACHE_RETRIEVE_MODE_HINT = "jakarta.persistence.cache.retrieveMode";
+    static final String CACHE_STORE_MODE_HINT = "jakarta.persistence.cache.storeMode";
+    static final String ECLIPSELINK_FETCH_SIZE_HINT = "eclipselink.jdbc.fetch-size";
+    static final String HIBERNATE_FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+    static final String ECLIPSELINK_READ_ONLY_HINT = "eclipselink.read-only";
+    static final String HIBERNATE_READ_ONLY_HINT = "org.hibernate.readOnly";
+
+    public PersistenceQueryOptions {
+        if (fetchSize != null && fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be greater than zero, but was " + fetchSize);
+        }
+        if (timeout != null && timeout <= 0) {
+            throw new IllegalArgumentException("The timeout must be greater than zero, but was " + timeout);
+        }
+    }
+
+    /**
+     * @return {@code true} when no option is set
+     */
+    public boolean isEmpty() {
+        return NONE.equals(this);
+    }
+
+    /**
+     * Completes the options not set in this instance with the given defaults.
+     *
+     * @param defaults the persistence unit defaults
+     * @return the merged options
+     * @throws NullPointerException if {@code defaults} is {@code null}
+     */
+    public PersistenceQueryOptions orElse(PersistenceQueryOptions defaults) {
+        Objects.requireNonNull(defaults, "defaults is required");
+        if (defaults.isEmpty()) {
+            return this;
+        }
+        return new PersistenceQueryOptions(
+                fetchSize == null ? defaults.fetchSize : fetchSize,
+                timeout == null ? defaults.timeout : timeout,
+                readOnly == null ? defaults.readOnly : readOnly,
+                cacheRetrieveMode == null ? defaults.cacheRetrieveMode : cacheRetrieveMode,
+                cacheStoreMode == null ? defaults.cacheStoreMode : cacheStoreMode);
+    }
+
+    /**
+     * @return {@code true} when the loaded entities are read-only and detached
+     */
+    public boolean isReadOnly() {
+        return Boolean.TRUE.equals(readOnly);
+    }
+
+    /**
+     * @return a copy of these options with read-only results
+     */
+    public PersistenceQueryOptions asReadOnly() {
+        if (isReadOnly()) {
+            return this;
+        }
+        return new PersistenceQueryOptions(fetchSize, timeout, true, cacheRetrieveMode, cacheStoreMode);
+    }
+
+    /**
+     * Returns the hints of these options, which can also be passed as properties to
+     * {@link jakarta.persistence.EntityManager#find(Class, Object, Map)}.
+     *
+     * @return the hints, empty when no option is set
+     */
+    public Map<String, Object> hints() {
+        if (isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Object> hints = new HashMap<>();
+        if (fetchSize != null) {
+            hints.put(ECLIPSELINK_FETCH_SIZE_HINT, fetchSize);
+            hints.put(HIBERNATE_FETCH_SIZE_HINT, fetchSize);
+        }
+        if (isReadOnly()) {
+            hints.put(ECLIPSELINK_READ_ONLY_HINT, true);
+            hints.put(HIBERNATE_READ_ONLY_HINT, true);
+        }
+        if (cacheRetrieveMode != null) {
+            hints.put(CACHE_RETRIEVE_MODE_HINT, cacheRetrieveMode);
+        }
+        if (cacheStoreMode != null) {
+            hints.put(CACHE_STORE_MODE_HINT, cacheStoreMode);
+        }
+        if (timeout != null) {
+            hints.put(TIMEOUT_HINT, timeout);
+        }
+        return hints;
+    }
+
+    /**
+     * Applies the options to a query that reads entities or values.
+     *
+     * @param query the query
+     * @param <Q>   the query type
+     * @return the same query
+     * @throws NullPointerException if {@code query} is {@code null}
+     */
+    public <Q extends Query> Q apply(Q query) {
+        Objects.requireNonNull(query, "query is required");
+        hints().forEach(query::setHint);
+        return query;
+    }
+
+    /**
+     * Applies the options meaningful for a bulk update or delete, that is, only the timeout.
+     *
+     * @param query the query
+     * @param <Q>   the query type
+     * @return the same query
+     * @throws NullPointerException if {@code query} is {@code null}
+     */
+    public <Q extends Query> Q applyUpdate(Q query) {
+        Objects.requireNonNull(query, "query is required");
+        if (timeout != null) {
+            query.setHint(TIMEOUT_HINT, timeout);
+        }
+        return query;
+    }
+
+    /**
+     * Reads the {@link QueryOptions} declared on a repository method. The annotation of each method is only read
+     * once.
+     *
+     * @param method the repository method
+     * @return the options, or empty when the method has no {@link QueryOptions}
+     * @throws NullPointerException if {@code method} is {@code null}
+     */
+    public static Optional<PersistenceQueryOptions> of(Method method) {
+        Objects.requireNonNull(method, "method is required");
+        return BY_METHOD.computeIfAbsent(method, key -> Optional.ofNullable(key.getAnnotation(QueryOptions.class))
+                .map(options -> new PersistenceQueryOptions(
+                        positive(options.fetchSize()),
+                        positive(options.timeout()),
+                        readOnly(options.readOnly()),
+                        cacheRetrieveMode(options.cacheRetrieveMode()),
+                        cacheStoreMode(options.cacheStoreMode()))));
+    }
+
+    /**
+     * Reads the {@link QueryOptions} declared on a repository method from its metadata. The annotation of each
+     * method is only read once.
+     *
+     * @param method the repository method metadata
+     * @return the options, or empty when the method has no {@link QueryOptions}
+     * @throws NullPointerException if {@code method} is {@code null}
+     */
+    public static Optional<PersistenceQueryOptions> of(RepositoryMethod method) {
+        Objects.requireNonNull(method, "method is required");
+        return BY_REPOSITORY_METHOD.computeIfAbsent(method, key -> key.annotations().stream()
+                .filter(annotation -> QueryOptions.class.equals(annotation.annotation()))
+                .findFirst()
+                .map(annotation -> {
+                    var attributes = annotation.attributes();
+                    return new PersistenceQueryOptions(
+                            positive(number(attributes.get("fetchSize"))),
+                            positive(number(attributes.get("timeout"))),
+                            readOnly(constant(attributes.get("readOnly"), QueryOptions.ReadOnly.class)),
+                            cacheRetrieveMode(constant(attributes.get("cacheRetrieveMode"),
+                                    QueryOptions.CacheRetrieve.class)),
+                            cacheStoreMode(constant(attributes.get("cacheStoreMode"), QueryOptions.CacheStore.class)));
+                }));
+    }
+
+    /**
+     * Reads the persistence unit defaults from the properties of the
+     * {@link jakarta.persistence.EntityManagerFactory}, falling back to the system properties.
+     *
+     * @param properties the persistence unit properties
+     * @return the defaults, {@link #NONE} when no default is declared
+     * @throws NullPointerException if {@code properties} is {@code null}
+     * @throws IllegalArgumentException if a default has an invalid value
+     */
+    public static PersistenceQueryOptions defaults(Map<String, ?> properties) {
+        Objects.requireNonNull(properties, "properties is required");
+        Function<String, Optional<String>> setting = key -> PersistenceSettings.get(properties, key);
+        return new PersistenceQueryOptions(
+                setting.apply(FETCH_SIZE).map(Integer::valueOf).orElse(null),
+                setting.apply(TIMEOUT).map(Integer::valueOf).orElse(null),
+                setting.apply(READ_ONLY).map(Boolean::valueOf).orElse(null),
+                setting.apply(CACHE_RETRIEVE_MODE).map(CacheRetrieveMode::valueOf).orElse(null),
+                setting.apply(CACHE_STORE_MODE).map(CacheStoreMode::valueOf).orElse(null));
+    }
+
+    private static Integer positive(int value) {
+        return value > 0 ? value : null;
+    }
+
+    private static int number(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case Number number -> number.intValue();
+            default -> Integer.parseInt(value.toString());
+        };
+    }
+
+    private static Boolean readOnly(QueryOptions.ReadOnly readOnly) {
+        return switch (readOnly) {
+            case DEFAULT -> null;
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+        };
+    }
+
+    private static CacheRetrieveMode cacheRetrieveMode(QueryOptions.CacheRetrieve mode) {
+        return mode == QueryOptions.CacheRetrieve.DEFAULT ? null : CacheRetrieveMode.valueOf(mode.name());
+    }
+
+    private static CacheStoreMode cacheStoreMode(QueryOptions.CacheStore mode) {
+        return mode == QueryOptions.CacheStore.DEFAULT ? null : CacheStoreMode.valueOf(mode.name());
+    }
+
+    /**
+     * Converts an annotation attribute of the repository metadata, which holds either the constant or its name.
+     */
+    private static <E extends Enum<E>> E constant(Object value, Class<E> type) {
+        return switch (value) {
+            case null -> Enum.valueOf(type, "DEFAULT");
+            case Boolean bool -> Enum.valueOf(type, bool ? "TRUE" : "FALSE");
+            default -> {
+                if (type.isInstance(value)) {
+                    yield type.cast(value);
+                }
+                var name = value.toString();
+                yield Enum.valueOf(type, name.substring(name.lastIndexOf('.') + 1));
+            }
+        };
+    }
+}
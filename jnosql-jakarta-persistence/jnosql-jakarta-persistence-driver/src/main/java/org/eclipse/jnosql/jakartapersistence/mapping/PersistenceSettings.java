@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reads the settings of a persistence unit: the value declared in the persistence unit properties wins over the
+ * system property of the same name, and blank values count as unset.
+ */
+public final class PersistenceSettings {
+
+    private PersistenceSettings() {
+    }
+
+    /**
+     * Returns the value of the given setting.
+     *
+     * @param properties the persistence unit properties
+     * @param key        the setting name
+     * @return the trimmed value, empty when neither the persistence unit nor the system properties declare it
+     * @throws NullPointerException if {@code properties} or {@code key} is {@code null}
+     */
+    public static Optional<String> get(Map<String, ?> properties, String key) {
+        Objects.requireNonNull(properties, "properties is required");
+        Objects.requireNonNull(key, "key is required");
+        return Optional.ofNullable(properties.get(key))
+                .map(Object::toString)
+                .or(() -> Optional.ofNullable(System.getProperty(key)))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty());
+    }
+}
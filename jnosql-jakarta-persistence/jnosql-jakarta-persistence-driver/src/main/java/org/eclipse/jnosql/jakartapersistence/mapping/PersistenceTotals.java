@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.jakartapersistence.communication.PersistenceDatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the total number of elements of a page when the {@link jakarta.data.page.PageRequest} requests it.
+ *
+ * <p>By default, the total is an exact {@code COUNT} on every request. When {@value #ESTIMATE} is enabled, the
+ * total becomes an estimate, so list views can render page numbers without counting a large table each time:
+ * an unfiltered query on a table the database statistics report at least {@value #DEFAULT_THRESHOLD} rows for,
+ * by default, uses that statistic; any other query reuses its last count for {@value #DEFAULT_TTL} milliseconds,
+ * by default. The statistics are read on PostgreSQL, MySQL, MariaDB, Oracle and H2 within a transaction.</p>
+ *
+ * <p>The table of the statistics is looked up by the {@link jakarta.persistence.Table} or entity name and, when
+ * the database does not know it, by its snake_case form, ignoring the case, so the usual physical naming
+ * strategies are found without configuration.</p>
+ *
+ * <pre>{@code
+ * <property name="jnosql.query.total.estimate" value="true"/>
+ * <property name="jnosql.query.total.estimate.threshold" value="1000000"/>
+ * <property name="jnosql.query.total.ttl" value="300000"/>
+ * }</pre>
+ */
+public final class PersistenceTotals {
+
+    /**
+     * Whether page totals are estimated instead of counted on every request. The default is {@code false}.
+     */
+    public static final String ESTIMATE = "jnosql.query.total.estimate";
+
+    /**
+     * The minimum number of rows reported by the database statistics to use them as the total of an unfiltered
+     * query. Smaller tables are counted. The default is {@value #DEFAULT_THRESHOLD}.
+     */
+    public static final String THRESHOLD = "jnosql.query.total.estimate.threshold";
+
+    /**
+     * How long, in milliseconds, a counted total is reused when totals are estimated. The default is
+     * {@value #DEFAULT_TTL}.
+     */
+    public static final String TTL = "jnosql.query.total.ttl";
+
+    static final long DEFAULT_THRESHOLD = 100_000L;
+
+    static final long DEFAULT_TTL = 60_000L;
+
+    private static final Logger LOGGER = Logger.getLogger(PersistenceTotals.class.getName());
+
+    private static final Pattern CAMEL_CASE = Pattern.compile("([a-z0-9])([A-Z])");
+
+    private final PersistenceDatabaseManager manager;
+
+    private final boolean estimate;
+
+    private final long threshold;
+
+    private final Duration ttl;
+
+    private PersistenceTotals(PersistenceDatabaseManager manager, boolean estimate, long threshold, Duration ttl) {
+        this.manager = manager;
+        this.estimate = estimate;
+        this.threshold = threshold;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the total number of elements of the query.
+     *
+     * @param query   the paginated query
+     * @param counter runs the exact count
+     * @return the counted or estimated total
+     */
+    long total(SelectQuery query, LongSupplier counter) {
+        if (!estimate) {
+            return counter.getAsLong();
+        }
+        if (query.condition().isEmpty()) {
+            var statistics = statistics(query.name());
+            if (statistics.isPresent() && statistics.getAsLong() >= threshold) {
+                return statistics.getAsLong();
+            }
+        }
+        return manager.getPersistenceUnitCache()
+                .getOrCountTotal(Arrays.asList("total", query.name(), query.condition()), ttl, counter);
+    }
+
+    private OptionalLong statistics(String entity) {
+        EntityManager entityManager = manager.getEntityManager();
+        if (!entityManager.isJoinedToTransaction()) {
+            return OptionalLong.empty();
+        }
+        var entityType = manager.findEntityType(entity);
+        var table = UpsertTable.tableName(entityType.getJavaType(), entityType);
+        try {
+            return entityManager.<Connection, OptionalLong>callWithConnection(connection -> {
+                var product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+                var sql = statisticsQuery(product);
+                if (sql == null) {
+                    return OptionalLong.empty();
+                }
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (String name : tableNames(table)) {
+                        statement.setString(1, product.contains("postgres") ? name : unqualified(name));
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            if (resultSet.next()) {
+                                long rows = resultSet.getLong(1);
+                                if (!resultSet.wasNull() && rows >= 0) {
+                                    return OptionalLong.of(rows);
+                                }
+                            }
+                        }
+                    }
+                }
+                return OptionalLong.empty();
+            });
+        } catch (PersistenceException exception) {
+            LOGGER.fine(() -> "Cannot read the statistics of the table " + table + ": " + exception.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns the names the table is looked up by: the mapped name and, when different, its snake_case form.
+     */
+    static List<String> tableNames(String table) {
+        var snakeCase = CAMEL_CASE.matcher(table).replaceAll("$1_$2").toLowerCase(Locale.ROOT);
+        return table.equalsIgnoreCase(snakeCase) ? List.of(table) : List.of(table, snakeCase);
+    }
+
+    private static String statisticsQuery(String product) {
+        if (product.contains("postgres")) {
+            // reltuples is -1 until the table is analyzed
+            return "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(?)";
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return "SELECT table_rows FROM information_schema.tables WHERE table_schema = DATABASE() "
+                    + "AND UPPER(table_name) = UPPER(?)";
+        }
+        if (product.contains("oracle")) {
+            return "SELECT num_rows FROM user_tables WHERE UPPER(table_name) = UPPER(?)";
+        }
+        if (product.contains("h2")) {
+            return "SELECT row_count_estimate FROM information_schema.tables WHERE UPPER(table_name) = UPPER(?)";
+        }
+        return null;
+    }
+
+    private static String unqualified(String table) {
+        return table.substring(table.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Creates the totals of the persistence unit the given manager belongs to.
+     *
+     * @param manager the database manager
+     * @return the totals settings
+     * @throws IllegalArgumentException if {@link #THRESHOLD} is negative or {@link #TTL} is not greater than zero
+     */
+    static PersistenceTotals of(PersistenceDatabaseManager manager) {
+        Map<String, Object> properties = manager.getEntityManager().getEntityManagerFactory().getProperties();
+        boolean estimate = PersistenceSettings.get(properties, ESTIMATE).map(Boolean::parseBoolean).orElse(false);
+        long threshold = PersistenceSettings.get(properties, THRESHOLD).map(Long::parseLong).orElse(DEFAULT_THRESHOLD);
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The " + THRESHOLD + " must not be negative, but was " + threshold);
+        }
+        long ttl = PersistenceSettings.get(properties, TTL).map(Long::parseLong).orElse(DEFAULT_TTL);
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("The " + TTL + " must be greater than zero, but was " + ttl);
+        }
+        return new PersistenceTotals(manager, estimate, threshold, Duration.ofMillis(ttl));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.EntityManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Inserts or updates entities with native, batched JDBC statements instead of
+ * {@link EntityManager#merge(Object)}, which selects each entity by id before writing it.
+ *
+ * <p>The statement depends on the database: {@code INSERT ... ON CONFLICT} on PostgreSQL,
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} on MySQL and MariaDB, {@code MERGE} on H2, HSQLDB and Oracle, and a
+ * batched {@code UPDATE} followed by a batched {@code INSERT} of the missing rows on Apache Derby and any other
+ * database. Each chunk of {@value #DEFAULT_BATCH_SIZE} entities, by default, is sent as one JDBC batch.</p>
+ *
+ * <p>The native path is disabled by default. Only flat entities qualify: a single assigned id, no version, no
+ * inheritance, basic attributes without converters, and no persist or update callbacks, entity listeners or Bean
+ * Validation constraints. Listeners declared only as defaults in {@code orm.xml} are not detected. Table and column
+ * names come from {@code @Table} and {@code @Column}, so a physical naming strategy of the provider is not applied;
+ * enable the native path only for a persistence unit whose names match.</p>
+ *
+ * <p>The native path requires an active transaction. It flushes the persistence context before running, then
+ * detaches the written instances and evicts them from the second-level cache, because the provider does not see
+ * the native writes.</p>
+ *
+ * <pre>{@code
+ * <property name="jnosql.upsert.native" value="true"/>
+ * <property name="jnosql.upsert.batch.size" value="500"/>
+ * }</pre>
+ */
+public final class PersistenceUpsert {
+
+    /**
+     * Whether entities that qualify are upserted with native statements. The default is {@code false}.
+     */
+    public static final String NATIVE = "jnosql.upsert.native";
+
+    /**
+     * The number of entities sent in a single JDBC batch. The default is {@value #DEFAULT_BATCH_SIZE}.
+     */
+    public static final String BATCH_SIZE = "jnosql.upsert.batch.size";
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final Logger LOGGER = Logger.getLogger(PersistenceUpsert.class.getName());
+
+    private final EntityManager entityManager;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final Map<Class<?>, Optional<UpsertTable>> tables = new ConcurrentHashMap<>();
+
+    private UpsertDialect dialect;
+
+    private PersistenceUpsert(EntityManager entityManager, boolean enabled, int batchSize) {
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Checks whether entities of the given type can be upserted natively right now.
+     *
+     * @param type the entity type
+     * @return {@code true} when the native path is enabled, a transaction is active and the entity qualifies
+     */
+    public boolean supports(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return enabled && entityManager.isJoinedToTransaction() && table(type).isPresent();
+    }
+
+    /**
+     * Inserts or updates the entities, all of the given type, with native batched statements.
+     *
+     * @param type     the entity type
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return the same entities, detached from the persistence context
+     * @throws NullPointerException          if any parameter is {@code null}
+     * @throws UnsupportedOperationException if {@link #supports(Class)} is {@code false} for the type
+     */
+    public <T> List<T> upsert(Class<?> type, List<T> entities) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(entities, "entities is required");
+        if (!supports(type)) {
+            throw new UnsupportedOperationException("The entity " + type.getName() + " cannot be upserted natively");
+        }
+        if (entities.isEmpty()) {
+            return entities;
+        }
+        var table = table(type).orElseThrow();
+        entityManager.flush();
+        entityManager.<Connection>runWithConnection(connection -> {
+            var upsertDialect = dialect(connection);
+            for (int start = 0; start < entities.size(); start += batchSize) {
+                var chunk = entities.subList(start, Math.min(start + batchSize, entities.size()));
+                upsertDialect.execute(connection, table, chunk);
+            }
+        });
+        var cache = entityManager.getEntityManagerFactory().getCache();
+        for (T entity : entities) {
+            if (entityManager.contains(entity)) {
+                entityManager.detach(entity);
+            }
+            cache.evict(type, table.id().read(entity));
+        }
+        return entities;
+    }
+
+    private Optional<UpsertTable> table(Class<?> type) {
+        return tables.computeIfAbsent(type, key -> {
+            var table = UpsertTable.of(entityManager.getMetamodel(), key);
+            if (table.isEmpty()) {
+                LOGGER.fine(() -> "The entity " + key.getName() + " does not qualify for the native upsert");
+            }
+            return table;
+        });
+    }
+
+    private UpsertDialect dialect(Connection connection) throws SQLException {
+        if (dialect == null) {
+            dialect = UpsertDialect.of(connection.getMetaData().getDatabaseProductName());
+            LOGGER.fine(() -> "Using the " + dialect + " upsert dialect");
+        }
+        return dialect;
+    }
+
+    /**
+     * Creates the upsert support of the persistence unit the given {@link EntityManager} belongs to.
+     *
+     * @param entityManager the entity manager
+     * @return the upsert support
+     * @throws NullPointerException     if {@code entityManager} is {@code null}
+     * @throws IllegalArgumentException if {@link #BATCH_SIZE} is not greater than zero
+     */
+    public static PersistenceUpsert of(EntityManager entityManager) {
+        Objects.requireNonNull(entityManager, "entityManager is required");
+        var properties = entityManager.getEntityManagerFactory().getProperties();
+        boolean enabled = PersistenceSettings.get(properties, NATIVE).map(Boolean::parseBoolean).orElse(false);
+        int batchSize = PersistenceSettings.get(properties, BATCH_SIZE).map(Integer::parseInt)
+                .orElse(DEFAULT_BATCH_SIZE);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The " + BATCH_SIZE + " must be greater than zero, but was " + batchSize);
+        }
+        return new PersistenceUpsert(entityManager, enabled, batchSize);
+    }
+}
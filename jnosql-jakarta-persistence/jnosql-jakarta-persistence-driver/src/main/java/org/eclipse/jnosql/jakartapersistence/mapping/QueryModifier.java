@@ -16,12 +16,17 @@
 package org.eclipse.jnosql.jakartapersistence.mapping;
 
 import jakarta.data.Sort;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Nulls;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +38,11 @@ import java.util.function.Function;
  */
 interface QueryModifier<FROM, RESULT> extends Function<SelectQueryParser.SelectQueryContext<FROM, RESULT>, CriteriaQuery<RESULT>> {
 
+    /**
+     * The prefix of the parameters holding the cursor values of a {@link #whereAfterKeyset} predicate.
+     */
+    String KEYSET_PARAMETER = "jnosqlKeyset";
+
     static <FROM> QueryModifier<FROM, FROM> selectEntity() {
         return ctx -> ctx.query().select((Root<FROM>) ctx.root());
     }
@@ -73,12 +83,7 @@ interface QueryModifier<FROM, RESULT> extends Function<SelectQueryParser.SelectQ
             if (sorts != null && !sorts.isEmpty()) {
                 List<Order> orders = new ArrayList<>();
                 for (Sort sort : sorts) {
-                    // Handle nested properties (e.g., "category.name")
-                    Path<?> path = ctx.root();
-                    String[] fields = sort.property().split("\\.");
-                    for (String field : fields) {
-                        path = path.get(BaseQueryParser.getFieldName(field));
-                    }
+                    Path<?> path = path(ctx.root(), sort.property());
                     // Create order based on direction
                     Order order = sort.isAscending() ? ctx.builder().asc(path) : ctx.builder().desc(path);
                     orders.add(order);
@@ -90,6 +95,85 @@ interface QueryModifier<FROM, RESULT> extends Function<SelectQueryParser.SelectQ
         };
     }
 
+    /**
+     * Orders the query by the given sorts for keyset pagination, where {@code null} is the lowest value of every
+     * sort key: first in ascending order and last in descending order, whatever the default of the database.
+     */
+    static <FROM, RESULT> QueryModifier<FROM, RESULT> applyKeysetSorts(List<Sort<?>> sorts) {
+        return ctx -> {
+            List<Order> orders = new ArrayList<>(sorts.size());
+            for (Sort<?> sort : sorts) {
+                Path<?> path = path(ctx.root(), sort.property());
+                orders.add(sort.isAscending()
+                        ? ctx.builder().asc(path, Nulls.FIRST)
+                        : ctx.builder().desc(path, Nulls.LAST));
+            }
+            return ctx.query().orderBy(orders);
+        };
+    }
+
+    /**
+     * Restricts the query to the rows that come after the keyset bound to the parameters named
+     * {@link #KEYSET_PARAMETER} followed by the sort index, in the order of {@link #applyKeysetSorts}:
+     * {@code (s1 > ?0) OR (s1 = ?0 AND s2 > ?1) ...}, with {@code <} for descending sorts.
+     * The predicate does not embed the cursor values, so the query is built once for any page with the same
+     * {@code null} keys.
+     *
+     * <p>As {@code null} is the lowest value, a row is after a {@code null} key of an ascending sort when its value
+     * is not {@code null}, and never after one of a descending sort, while a {@code null} value is after any key
+     * of a descending sort. A {@code null} key has no parameter.</p>
+     *
+     * @param nullKeys whether each key of the cursor is {@code null}, in the order of the sorts
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static <FROM, RESULT> QueryModifier<FROM, RESULT> whereAfterKeyset(Optional<CriteriaCondition> maybeCriteria,
+                                                                       List<Sort<?>> sorts, List<Boolean> nullKeys) {
+        return ctx -> {
+            CriteriaBuilder builder = ctx.builder();
+            Predicate keyset = null;
+            Predicate equalPrefix = null;
+            for (int index = 0; index < sorts.size(); index++) {
+                Sort<?> sort = sorts.get(index);
+                Path path = path(ctx.root(), sort.property());
+                Predicate comparison;
+                Predicate equal;
+                if (nullKeys.get(index)) {
+                    comparison = sort.isAscending() ? builder.isNotNull(path) : builder.disjunction();
+                    equal = builder.isNull(path);
+                } else {
+                    ParameterExpression parameter = builder.parameter(wrap(path.getJavaType()),
+                            KEYSET_PARAMETER + index);
+                    comparison = sort.isAscending()
+                            ? builder.greaterThan(path, parameter)
+                            : builder.or(builder.lessThan(path, parameter), builder.isNull(path));
+                    equal = builder.equal(path, parameter);
+                }
+                Predicate term = equalPrefix == null ? comparison : builder.and(equalPrefix, comparison);
+                keyset = keyset == null ? term : builder.or(keyset, term);
+                equalPrefix = equalPrefix == null ? equal : builder.and(equalPrefix, equal);
+            }
+            Predicate predicate = keyset;
+            return ctx.query().where(maybeCriteria
+                    .map(criteria -> builder.and(BaseQueryParser.parseCriteria(criteria, ctx.queryContext()), predicate))
+                    .orElse(predicate));
+        };
+    }
+
+    /**
+     * Resolves a property path, handling nested properties (e.g., "category.name").
+     */
+    static Path<?> path(Root<?> root, String property) {
+        Path<?> path = root;
+        for (String field : property.split("\\.")) {
+            path = path.get(BaseQueryParser.getFieldName(field));
+        }
+        return path;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
     @SafeVarargs
     static <FROM, RESULT> QueryModifier<FROM, RESULT> combine(QueryModifier<FROM, RESULT>... modifiers) {
         return ctx -> {
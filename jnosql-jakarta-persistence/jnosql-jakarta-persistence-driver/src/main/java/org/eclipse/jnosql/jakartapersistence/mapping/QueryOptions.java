@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Tunes the queries executed by a repository method, such as a large JDBC fetch size and read-only results for a
+ * reporting query, or a tight timeout for an OLTP lookup.
+ *
+ * <p>Every option left with its default value falls back to the persistence unit default declared with the
+ * {@code jnosql.query.*} properties described in {@link PersistenceQueryOptions}; an explicit value overrides that
+ * default either way, so a method can also opt out of a persistence unit that loads read-only entities.</p>
+ *
+ * <pre>{@code
+ * @Find
+ * @QueryOptions(fetchSize = 500, readOnly = QueryOptions.ReadOnly.TRUE)
+ * Stream<Order> findByYear(int year);
+ *
+ * @Find
+ * @QueryOptions(timeout = 200, cacheRetrieveMode = QueryOptions.CacheRetrieve.BYPASS)
+ * Optional<Order> findByNumber(String number);
+ * }</pre>
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface QueryOptions {
+
+    /**
+     * The number of rows the JDBC driver fetches per round trip.
+     *
+     * @return the fetch size, or zero to use the persistence unit default
+     */
+    int fetchSize() default 0;
+
+    /**
+     * The query timeout in milliseconds.
+     *
+     * @return the timeout, or zero to use the persistence unit default
+     */
+    int timeout() default 0;
+
+    /**
+     * Whether the loaded entities are read-only, so the provider skips the snapshot used for dirty checking.
+     * The entities are also detached as they are produced, so the persistence context does not grow with the
+     * results; changes made to them are not written back to the database, and lazy associations not loaded
+     * before detaching may be unavailable.
+     *
+     * @return {@link ReadOnly#TRUE} to load read-only entities, {@link ReadOnly#FALSE} to load managed entities, or
+     * {@link ReadOnly#DEFAULT} to use the persistence unit default
+     */
+    ReadOnly readOnly() default ReadOnly.DEFAULT;
+
+    /**
+     * How the query reads from the second-level cache.
+     *
+     * @return the cache retrieve mode, or {@link CacheRetrieve#DEFAULT} to use the persistence unit default
+     */
+    CacheRetrieve cacheRetrieveMode() default CacheRetrieve.DEFAULT;
+
+    /**
+     * How the query writes to the second-level cache.
+     *
+     * @return the cache store mode, or {@link CacheStore#DEFAULT} to use the persistence unit default
+     */
+    CacheStore cacheStoreMode() default CacheStore.DEFAULT;
+
+    /**
+     * Whether the loaded entities are read-only.
+     */
+    enum ReadOnly {
+        /**
+         * Uses the persistence unit default.
+         */
+        DEFAULT,
+        /**
+         * Loads read-only, detached entities.
+         */
+        TRUE,
+        /**
+         * Loads managed entities, even when the persistence unit default is read-only.
+         */
+        FALSE
+    }
+
+    /**
+     * The {@link jakarta.persistence.CacheRetrieveMode} of the query.
+     */
+    enum CacheRetrieve {
+        /**
+         * Uses the persistence unit default.
+         */
+        DEFAULT,
+        /**
+         * See {@link jakarta.persistence.CacheRetrieveMode#USE}.
+         */
+        USE,
+        /**
+         * See {@link jakarta.persistence.CacheRetrieveMode#BYPASS}.
+         */
+        BYPASS
+    }
+
+    /**
+     * The {@link jakarta.persistence.CacheStoreMode} of the query.
+     */
+    enum CacheStore {
+        /**
+         * Uses the persistence unit default.
+         */
+        DEFAULT,
+        /**
+         * See {@link jakarta.persistence.CacheStoreMode#USE}.
+         */
+        USE,
+        /**
+         * See {@link jakarta.persistence.CacheStoreMode#BYPASS}.
+         */
+        BYPASS,
+        /**
+         * See {@link jakarta.persistence.CacheStoreMode#REFRESH}.
+         */
+        REFRESH
+    }
+}
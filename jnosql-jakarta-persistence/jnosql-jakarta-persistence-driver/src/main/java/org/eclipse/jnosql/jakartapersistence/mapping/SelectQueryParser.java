@@ -16,14 +16,17 @@
 package org.eclipse.jnosql.jakartapersistence.mapping;
 
 import jakarta.data.Sort;
+import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.ManagedType;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.query.data.SelectProvider;
 import org.eclipse.jnosql.communication.semistructured.CommunicationObserverParser;
@@ -34,13 +37,21 @@ import org.eclipse.jnosql.jakartapersistence.communication.PersistenceDatabaseMa
 import org.eclipse.jnosql.jakartapersistence.mapping.core.PersistencePage;
 import org.eclipse.jnosql.jakartapersistence.mapping.parser.OptionalPartsParser;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -54,12 +65,14 @@ import java.util.stream.Stream;
  * <ul>
  *   <li>Caches CriteriaQuery objects to avoid repeated query compilation</li>
  *   <li>Supports both entity and projection queries</li>
- *   <li>Handles pagination with offset-based page requests</li>
+ *   <li>Handles pagination with offset-based page requests and keyset-based cursors</li>
  *   <li>Provides count queries for efficient pagination</li>
  * </ul>
  */
 class SelectQueryParser extends BaseQueryParser {
 
+    private PersistenceTotals totals;
+
     /**
      * @param manager the PersistenceDatabaseManager providing access to EntityManager and cache
      */
@@ -67,6 +80,13 @@ class SelectQueryParser extends BaseQueryParser {
         super(manager);
     }
 
+    private PersistenceTotals totals() {
+        if (totals == null) {
+            totals = PersistenceTotals.of(manager);
+        }
+        return totals;
+    }
+
     /**
      * Counts the total number of entities of the specified type.
 
@@ -91,8 +111,7 @@ class SelectQueryParser extends BaseQueryParser {
         CriteriaQuery<Long> criteriaQuery = manager.getPersistenceUnitCache().getOrCreateSelectQuery(selectQueryKey,
                 key -> buildQuery(type, Long.class, QueryModifier.selectCount())
         );
-        return entityManager()
-                .createQuery(criteriaQuery)
+        return applyQueryOptions(entityManager().createQuery(criteriaQuery))
                 .getSingleResult();
     }
 
@@ -108,8 +127,7 @@ class SelectQueryParser extends BaseQueryParser {
         CriteriaQuery<T> criteriaQuery = manager.getPersistenceUnitCache().getOrCreateSelectQuery(selectQueryKey,
                 key -> buildQuery(type, type, QueryModifier.selectEntity())
         );
-        return entityManager()
-                .createQuery(criteriaQuery)
+        return applyQueryOptions(entityManager().createQuery(criteriaQuery))
                 .getResultStream();
     }
 
@@ -195,9 +213,23 @@ class SelectQueryParser extends BaseQueryParser {
 
     public <T> Stream<T> select(SelectQuery selectQuery) {
         final TypedQuery<T> query = getSelectTypedQuery(selectQuery);
+        if (isReadOnly(selectQuery)) {
+            return query.getResultStream().map(this::detachEntity);
+        }
         return query.getResultStream();
     }
 
+    private boolean isReadOnly(SelectQuery selectQuery) {
+        return selectQuery.columns().isEmpty() && queryOptions(selectQuery).isReadOnly();
+    }
+
+    private <T> T detachEntity(T entity) {
+        if (entity != null && entityManager().contains(entity)) {
+            entityManager().detach(entity);
+        }
+        return entity;
+    }
+
     private <FROM, RESULT> TypedQuery<RESULT> getSelectTypedQuery(SelectQuery selectQuery) {
         Class<FROM> fromType = entityClassFromEntityName(selectQuery.name());
         TypedQuery<RESULT> query;
@@ -211,6 +243,9 @@ class SelectQueryParser extends BaseQueryParser {
                     ))
             );
             TypedQuery<FROM> queryEntity = entityManager().createQuery(criteriaQuery);
+            if (selectQuery instanceof HintedSelectQuery hintedQuery && hintedQuery.fetchPlan() != null) {
+                hintedQuery.fetchPlan().apply(queryEntity, entityManager(), fromType);
+            }
             query = (TypedQuery<RESULT>) queryEntity;
         } else {
             CriteriaQuery<RESULT> criteriaQuery = manager.getPersistenceUnitCache().getOrCreateSelectQuery(selectQueryKey,
@@ -223,6 +258,7 @@ class SelectQueryParser extends BaseQueryParser {
             TypedQuery<RESULT> queryColumns = entityManager().createQuery(criteriaQuery);
             query = queryColumns;
         }
+        applyQueryOptions(query, selectQuery);
         if (selectQuery.limit() > 0) {
             try {
                 query.setMaxResults(Math.toIntExact(selectQuery.limit()));
@@ -253,7 +289,18 @@ class SelectQueryParser extends BaseQueryParser {
                         QueryModifier.where(selectQuery.condition())
                 ))
         );
-        return entityManager().createQuery(criteriaQuery);
+        return applyQueryOptions(entityManager().createQuery(criteriaQuery), selectQuery);
+    }
+
+    private <Q extends Query> Q applyQueryOptions(Q query, SelectQuery selectQuery) {
+        return queryOptions(selectQuery).apply(query);
+    }
+
+    private PersistenceQueryOptions queryOptions(SelectQuery selectQuery) {
+        if (selectQuery instanceof HintedSelectQuery hintedQuery && hintedQuery.queryOptions() != null) {
+            return hintedQuery.queryOptions().orElse(queryOptions());
+        }
+        return queryOptions();
     }
 
     /*
@@ -269,6 +316,10 @@ class SelectQueryParser extends BaseQueryParser {
 
     public <T> Optional<T> singleResult(SelectQuery selectQuery) {
         TypedQuery<T> query = getSelectTypedQuery(selectQuery);
+        if (isReadOnly(selectQuery)) {
+            return Optional.ofNullable(query.getSingleResultOrNull())
+                    .map(this::detachEntity);
+        }
         return Optional.ofNullable(query.getSingleResultOrNull())
                 .map(this::refreshEntity);
     }
@@ -286,7 +337,7 @@ class SelectQueryParser extends BaseQueryParser {
                             QueryModifier.where(selectQuery.condition())
                     ))
             );
-            return entityManager().createQuery(criteriaQuery).getSingleResult();
+            return applyQueryOptions(entityManager().createQuery(criteriaQuery), selectQuery).getSingleResult();
         }
     }
 
@@ -307,7 +358,7 @@ class SelectQueryParser extends BaseQueryParser {
                 QueryModifier.selectLiteral(1),
                 QueryModifier.where(selectQuery.condition())
         ));
-        Integer resultOrNull = entityManager().createQuery(criteriaQuery)
+        Integer resultOrNull = applyQueryOptions(entityManager().createQuery(criteriaQuery), selectQuery)
                 .setMaxResults(1) // succeed if there is at least 1 entity, no need to find all
                 .getSingleResultOrNull(); // the result is either 1 (found) or null (not found)
         return resultOrNull != null;
@@ -371,8 +422,16 @@ class SelectQueryParser extends BaseQueryParser {
                 throw new IllegalArgumentException("The offset of the first element is too big, page request: " + pageRequest, e);
             }
             query.setMaxResults(Math.min(query.getMaxResults(), pageRequest.size()));
-            Supplier<TypedQuery<Long>> countQuerySupplier = pageRequest.requestTotal() ? () -> getCountQuery(selectQuery) : null;
-            return new PersistencePage(query, countQuerySupplier, pageRequest, entityMapper);
+            LongSupplier totalSupplier = pageRequest.requestTotal()
+                    ? () -> totals().total(selectQuery, () -> getCountQuery(selectQuery).getSingleResult())
+                    : null;
+            Function<Object, T> mapper = entityMapper;
+            if (isReadOnly(selectQuery)) {
+                mapper = entityMapper == null
+                        ? entity -> (T) detachEntity(entity)
+                        : entity -> entityMapper.apply(detachEntity(entity));
+            }
+            return PersistencePage.of(query, totalSupplier, pageRequest, mapper);
         } else {
             throw new UnsupportedOperationException("'selectOffSet(SelectQuery sq, PageRequest pr)' not supported on CURSOR modes");
         }
@@ -401,6 +460,146 @@ class SelectQueryParser extends BaseQueryParser {
 
     }
 
+    /**
+     * Reads a page of entities using keyset pagination: the rows after or before the cursor are selected with a
+     * predicate on the sort keys instead of an offset, so every page costs the same as the first one. The criteria
+     * query is cached per query shape and direction, and the cursor values are bound as parameters. A {@code null}
+     * sort key is the lowest value, so the rows whose sort attribute is {@code null} come first in ascending order
+     * and last in descending order.
+     *
+     * @param entityMapper Maps entities to expected types. Can be null, then entities are returned as they are
+     */
+    public <FROM, T> CursoredPage<T> selectCursor(SelectQuery selectQuery, PageRequest pageRequest,
+                                                  Function<Object, T> entityMapper) {
+        if (selectQuery.sorts().isEmpty()) {
+            throw new IllegalArgumentException("Cursor pagination requires at least one sort field, query: " + selectQuery);
+        }
+        if (!selectQuery.columns().isEmpty()) {
+            throw new UnsupportedOperationException("Cursor pagination is not supported when selecting columns, query: "
+                    + selectQuery);
+        }
+        Optional<PageRequest.Cursor> cursor = PageRequest.Mode.OFFSET.equals(pageRequest.mode())
+                ? Optional.empty()
+                : pageRequest.cursor();
+        if (cursor.isPresent() && cursor.get().size() != selectQuery.sorts().size()) {
+            throw new IllegalArgumentException("The cursor size " + cursor.get().size()
+                    + " is different from the number of sort fields " + selectQuery.sorts().size());
+        }
+        // a page before the cursor is read in the reverse order, and then reversed back
+        boolean forward = !PageRequest.Mode.CURSOR_PREVIOUS.equals(pageRequest.mode());
+        List<Sort<?>> sorts = forward ? selectQuery.sorts() : reverse(selectQuery.sorts());
+        Class<FROM> fromType = entityClassFromEntityName(selectQuery.name());
+        List<Boolean> nullKeys = cursor.map(keys -> keys.elements().stream().map(Objects::isNull).toList())
+                .orElse(null);
+        List<Object> selectQueryKey = Arrays.asList("cursor", selectQuery.name(), selectQuery.condition(), sorts,
+                nullKeys);
+        CriteriaQuery<FROM> criteriaQuery = manager.getPersistenceUnitCache().getOrCreateSelectQuery(selectQueryKey,
+                key -> buildQuery(fromType, fromType, QueryModifier.combine(
+                        QueryModifier.selectEntity(),
+                        nullKeys != null
+                                ? QueryModifier.whereAfterKeyset(selectQuery.condition(), sorts, nullKeys)
+                                : QueryModifier.where(selectQuery.condition()),
+                        QueryModifier.applyKeysetSorts(sorts)
+                ))
+        );
+        TypedQuery<FROM> query = entityManager().createQuery(criteriaQuery);
+        if (selectQuery instanceof HintedSelectQuery hintedQuery && hintedQuery.fetchPlan() != null) {
+            hintedQuery.fetchPlan().apply(query, entityManager(), fromType);
+        }
+        applyQueryOptions(query, selectQuery);
+        cursor.ifPresent(keys -> {
+            for (int index = 0; index < keys.size(); index++) {
+                if (keys.get(index) != null) {
+                    query.setParameter(QueryModifier.KEYSET_PARAMETER + index, keys.get(index));
+                }
+            }
+        });
+        int size = pageRequest.size();
+        if (cursor.isEmpty() && pageRequest.page() > 1) {
+            try {
+                query.setFirstResult(Math.toIntExact((pageRequest.page() - 1) * size));
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("The offset of the first element is too big, page request: " + pageRequest, e);
+            }
+        }
+        query.setMaxResults(size + 1);
+
+        List<FROM> results = new ArrayList<>(query.getResultList());
+        boolean moreResults = results.size() > size;
+        if (moreResults) {
+            results.remove(size);
+        }
+        if (!forward) {
+            Collections.reverse(results);
+        }
+        boolean readOnly = isReadOnly(selectQuery);
+        List<PageRequest.Cursor> cursors = new ArrayList<>(results.size());
+        List<T> content = new ArrayList<>(results.size());
+        for (FROM entity : results) {
+            cursors.add(cursorOf(entity, selectQuery.sorts()));
+            Object value = readOnly ? detachEntity(entity) : entity;
+            content.add(entityMapper == null ? (T) value : entityMapper.apply(value));
+        }
+        long totalElements = pageRequest.requestTotal() ? getCountQuery(selectQuery).getSingleResult() : -1;
+        if (content.isEmpty()) {
+            return new CursoredPageRecord<>(content, cursors, totalElements, pageRequest, null, null);
+        }
+        boolean hasNext = forward ? moreResults : cursor.isPresent();
+        boolean hasPrevious = forward ? cursor.isPresent() || pageRequest.page() > 1 : moreResults;
+        PageRequest next = hasNext ? PageRequest.ofSize(size).afterCursor(cursors.getLast()) : null;
+        PageRequest previous = hasPrevious ? PageRequest.ofSize(size).beforeCursor(cursors.getFirst()) : null;
+        return new CursoredPageRecord<>(content, cursors, totalElements, pageRequest, next, previous);
+    }
+
+    private static List<Sort<?>> reverse(List<Sort<?>> sorts) {
+        return sorts.stream()
+                .<Sort<?>>map(sort -> new Sort<>(sort.property(), !sort.isAscending(), sort.ignoreCase()))
+                .toList();
+    }
+
+    private PageRequest.Cursor cursorOf(Object entity, List<Sort<?>> sorts) {
+        Object[] keys = new Object[sorts.size()];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = readProperty(entity, sorts.get(index).property());
+        }
+        return PageRequest.Cursor.forKey(keys);
+    }
+
+    private Object readProperty(Object entity, String property) {
+        Object value = entity;
+        for (String field : property.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            Member member = managedType(value.getClass()).getAttribute(getFieldName(field)).getJavaMember();
+            try {
+                if (member instanceof Field javaField) {
+                    javaField.trySetAccessible();
+                    value = javaField.get(value);
+                } else {
+                    Method method = (Method) member;
+                    method.trySetAccessible();
+                    value = method.invoke(value);
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot read the sort property " + property + " from " + entity, e);
+            }
+        }
+        return value;
+    }
+
+    private ManagedType<?> managedType(Class<?> type) {
+        // the loaded instance can be a subclass generated by the provider, e.g. a lazy proxy
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return entityManager().getMetamodel().managedType(current);
+            } catch (IllegalArgumentException e) {
+                // not a managed class, try the superclass
+            }
+        }
+        throw new IllegalArgumentException("The class " + type.getName() + " is not a managed type");
+    }
+
     /**
      * Context record that encapsulates CriteriaQuery and QueryContext for SELECT operations.
      * Provides convenient access to the query builder components needed for constructing
@@ -64,7 +64,7 @@ class UpdateQueryParser extends BaseUpdateQueryParser {
         CriteriaBuilder criteriaBuilder = entityManager().getCriteriaBuilder();
         CriteriaUpdate<T> updateCriteria = criteriaBuilder.createCriteriaUpdate(type);
         updateCriteria = applySetsToUpdateCriteria(sets, updateCriteria);
-        long entries = entityManager().createQuery(updateCriteria).executeUpdate();
+        long entries = applyQueryOptions(entityManager().createQuery(updateCriteria)).executeUpdate();
         return entries;
     }
 
@@ -78,7 +78,7 @@ class UpdateQueryParser extends BaseUpdateQueryParser {
         criteriaQuery = queryModifier.apply(
                 new UpdateQueryContext(criteriaQuery,
                         new QueryContext(from, criteriaBuilder)));
-        return em.createQuery(criteriaQuery);
+        return applyQueryOptions(em.createQuery(criteriaQuery));
     }
 
     record UpdateQueryContext<FROM>(CriteriaUpdate<FROM> query, QueryContext<FROM> queryContext) {
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import org.eclipse.jnosql.jakartapersistence.mapping.UpsertTable.UpsertColumn;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The native statement used to insert or update a batch of rows, by database product.
+ */
+enum UpsertDialect {
+
+    /**
+     * {@code INSERT ... ON CONFLICT (id) DO UPDATE}, used by PostgreSQL.
+     */
+    ON_CONFLICT {
+        @Override
+        String sql(UpsertTable table) {
+            var updates = assignments(table, column -> "EXCLUDED." + column);
+            return insert(table) + " ON CONFLICT (" + table.id().name() + ")"
+                    + (updates.isEmpty() ? " DO NOTHING" : " DO UPDATE SET " + updates);
+        }
+    },
+    /**
+     * {@code INSERT ... ON DUPLICATE KEY UPDATE}, used by MySQL and MariaDB.
+     */
+    ON_DUPLICATE_KEY {
+        @Override
+        String sql(UpsertTable table) {
+            var updates = assignments(table, column -> "VALUES(" + column + ")");
+            var id = table.id().name();
+            return insert(table) + " ON DUPLICATE KEY UPDATE " + (updates.isEmpty() ? id + " = " + id : updates);
+        }
+    },
+    /**
+     * The standard {@code MERGE} with a {@code VALUES} source, used by H2 and HSQLDB.
+     */
+    MERGE {
+        @Override
+        String sql(UpsertTable table) {
+            var columns = names(table.allColumns());
+            return "MERGE INTO " + table.name() + " t USING (VALUES (" + parameters(table) + ")) AS s (" + columns
+                    + ") ON t." + table.id().name() + " = s." + table.id().name()
+                    + merge(table);
+        }
+    },
+    /**
+     * {@code MERGE} with a {@code SELECT ... FROM dual} source, used by Oracle.
+     */
+    MERGE_FROM_DUAL {
+        @Override
+        String sql(UpsertTable table) {
+            var source = table.allColumns().stream()
+                    .map(column -> "? " + column.name())
+                    .collect(Collectors.joining(", "));
+            return "MERGE INTO " + table.name() + " t USING (SELECT " + source + " FROM dual) s ON (t."
+                    + table.id().name() + " = s." + table.id().name() + ")" + merge(table);
+        }
+    },
+    /**
+     * A batched {@code UPDATE} followed by a batched {@code INSERT} of the rows not found, used by Apache Derby and
+     * any database without a single-statement upsert.
+     */
+    UPDATE_THEN_INSERT {
+        @Override
+        String sql(UpsertTable table) {
+            var updates = table.columns().isEmpty()
+                    ? table.id().name() + " = ?"
+                    : table.columns().stream().map(column -> column.name() + " = ?").collect(Collectors.joining(", "));
+            return "UPDATE " + table.name() + " SET " + updates + " WHERE " + table.id().name() + " = ?";
+        }
+
+        @Override
+        void execute(Connection connection, UpsertTable table, List<?> entities) throws SQLException {
+            var updateColumns = new ArrayList<>(table.columns().isEmpty() ? List.of(table.id()) : table.columns());
+            updateColumns.add(table.id());
+            int[] counts;
+            try (PreparedStatement update = connection.prepareStatement(sql(table))) {
+                for (Object entity : entities) {
+                    bind(update, updateColumns, entity);
+                    update.addBatch();
+                }
+                counts = update.executeBatch();
+            }
+            List<Object> missing = new ArrayList<>();
+            for (int index = 0; index < entities.size(); index++) {
+                if (counts[index] == 0) {
+                    missing.add(entities.get(index));
+                } else if (counts[index] == Statement.SUCCESS_NO_INFO
+                        && !exists(connection, table, entities.get(index))) {
+                    missing.add(entities.get(index));
+                }
+            }
+            if (missing.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement insert = connection.prepareStatement(insert(table))) {
+                for (Object entity : missing) {
+                    bind(insert, table.allColumns(), entity);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        private boolean exists(Connection connection, UpsertTable table, Object entity) throws SQLException {
+            var sql = "SELECT 1 FROM " + table.name() + " WHERE " + table.id().name() + " = ?";
+            try (PreparedStatement select = connection.prepareStatement(sql)) {
+                table.id().bind(select, 1, entity);
+                try (var resultSet = select.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        }
+    };
+
+    abstract String sql(UpsertTable table);
+
+    /**
+     * Upserts the entities as a single JDBC batch.
+     */
+    void execute(Connection connection, UpsertTable table, List<?> entities) throws SQLException {
+        var columns = table.allColumns();
+        try (PreparedStatement statement = connection.prepareStatement(sql(table))) {
+            for (Object entity : entities) {
+                bind(statement, columns, entity);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    static UpsertDialect of(String databaseProductName) {
+        var product = databaseProductName.toLowerCase(Locale.ROOT);
+        if (product.contains("postgres")) {
+            return ON_CONFLICT;
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return ON_DUPLICATE_KEY;
+        }
+        if (product.contains("h2") || product.contains("hsql")) {
+            return MERGE;
+        }
+        if (product.contains("oracle")) {
+            return MERGE_FROM_DUAL;
+        }
+        return UPDATE_THEN_INSERT;
+    }
+
+    private static void bind(PreparedStatement statement, List<UpsertColumn> columns, Object entity)
+            throws SQLException {
+        for (int index = 0; index < columns.size(); index++) {
+            columns.get(index).bind(statement, index + 1, entity);
+        }
+    }
+
+    private static String insert(UpsertTable table) {
+        return "INSERT INTO " + table.name() + " (" + names(table.allColumns()) + ") VALUES ("
+                + parameters(table) + ")";
+    }
+
+    private static String merge(UpsertTable table) {
+        var updates = table.columns().stream()
+                .map(column -> column.name() + " = s." + column.name())
+                .collect(Collectors.joining(", "));
+        var values = table.allColumns().stream()
+                .map(column -> "s." + column.name())
+                .collect(Collectors.joining(", "));
+        return (updates.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + updates)
+                + " WHEN NOT MATCHED THEN INSERT (" + names(table.allColumns()) + ") VALUES (" + values + ")";
+    }
+
+    private static String assignments(UpsertTable table, Function<String, String> value) {
+        return table.columns().stream()
+                .map(column -> column.name() + " = " + value.apply(column.name()))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String names(List<UpsertColumn> columns) {
+        return columns.stream().map(UpsertColumn::name).collect(Collectors.joining(", "));
+    }
+
+    private static String parameters(UpsertTable table) {
+        return String.join(", ", Collections.nCopies(table.allColumns().size(), "?"));
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Map.entry;
+
+/**
+ * The table an entity is upserted into with plain JDBC. Only flat entities qualify: a single assigned id, no
+ * version, no inheritance, and basic attributes of the types JDBC binds natively, without converters. Entities with
+ * persist or update callbacks, entity listeners or Bean Validation constraints do not qualify either, since plain
+ * JDBC would skip them. Any other entity keeps the {@link jakarta.persistence.EntityManager#merge(Object)} path.
+ *
+ * <p>The table and column names are the ones declared with {@link Table} and {@link Column}, or else the entity and
+ * attribute names. A physical naming strategy of the provider is not applied.</p>
+ *
+ * @param name    the qualified table name
+ * @param id      the id column
+ * @param columns the other columns
+ */
+record UpsertTable(String name, UpsertColumn id, List<UpsertColumn> columns) {
+
+    private static final Map<Class<?>, Integer> SQL_TYPES = Map.ofEntries(
+            entry(String.class, Types.VARCHAR),
+            entry(Integer.class, Types.INTEGER),
+            entry(Long.class, Types.BIGINT),
+            entry(Short.class, Types.SMALLINT),
+            entry(Boolean.class, Types.BOOLEAN),
+            entry(Double.class, Types.DOUBLE),
+            entry(Float.class, Types.REAL),
+            entry(BigDecimal.class, Types.DECIMAL),
+            entry(LocalDate.class, Types.DATE),
+            entry(LocalTime.class, Types.TIME),
+            entry(LocalDateTime.class, Types.TIMESTAMP),
+            entry(Instant.class, Types.TIMESTAMP),
+            entry(Date.class, Types.DATE),
+            entry(Time.class, Types.TIME),
+            entry(Timestamp.class, Types.TIMESTAMP),
+            entry(byte[].class, Types.VARBINARY));
+
+    private static final List<Class<? extends Annotation>> CALLBACKS =
+            List.of(PrePersist.class, PostPersist.class, PreUpdate.class, PostUpdate.class);
+
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+
+    private static final String VALID = "jakarta.validation.Valid";
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+            int.class, Integer.class,
+            long.class, Long.class,
+            short.class, Short.class,
+            boolean.class, Boolean.class,
+            double.class, Double.class,
+            float.class, Float.class);
+
+    /**
+     * @return the id column followed by the other columns
+     */
+    List<UpsertColumn> allColumns() {
+        List<UpsertColumn> all = new ArrayList<>(columns.size() + 1);
+        all.add(id);
+        all.addAll(columns);
+        return all;
+    }
+
+    static Optional<UpsertTable> of(Metamodel metamodel, Class<?> type) {
+        EntityType<?> entity = metamodel.entity(type);
+        if (entity.getSupertype() instanceof EntityType<?>
+                || metamodel.getEntities().stream().anyMatch(other -> entity.equals(other.getSupertype()))
+                || !entity.hasSingleIdAttribute()
+                || entity.hasVersionAttribute()
+                || hasCallbacks(type)) {
+            return Optional.empty();
+        }
+        UpsertColumn id = null;
+        List<UpsertColumn> columns = new ArrayList<>();
+        for (Attribute<?, ?> attribute : entity.getAttributes()) {
+            var column = UpsertColumn.of(attribute);
+            if (column.isEmpty()) {
+                return Optional.empty();
+            }
+            if (((SingularAttribute<?, ?>) attribute).isId()) {
+                if (((AnnotatedElement) attribute.getJavaMember()).isAnnotationPresent(GeneratedValue.class)) {
+                    return Optional.empty();
+                }
+                id = column.get();
+            } else {
+                columns.add(column.get());
+            }
+        }
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new UpsertTable(tableName(type, entity), id, List.copyOf(columns)));
+    }
+
+    /**
+     * @return the table of the entity, from {@link Table} when declared, qualified by its catalog and schema
+     */
+    static String tableName(Class<?> type, EntityType<?> entity) {
+        var table = type.getAnnotation(Table.class);
+        if (table == null || table.name().isBlank()) {
+            return entity.getName();
+        }
+        var name = table.schema().isBlank() ? table.name() : table.schema() + "." + table.name();
+        return table.catalog().isBlank() ? name : table.catalog() + "." + name;
+    }
+
+    /**
+     * @return {@code true} when the entity, or a superclass, declares a persist or update callback, an entity
+     * listener or a Bean Validation constraint
+     */
+    static boolean hasCallbacks(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (current.isAnnotationPresent(EntityListeners.class) || isValidated(current)) {
+                return true;
+            }
+            for (Method method : current.getDeclaredMethods()) {
+                if (CALLBACKS.stream().anyMatch(method::isAnnotationPresent) || isValidated(method)) {
+                    return true;
+                }
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (isValidated(field)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bean Validation is optional, so its annotations are matched by name.
+     */
+    private static boolean isValidated(AnnotatedElement element) {
+        return Arrays.stream(element.getAnnotations())
+                .map(Annotation::annotationType)
+                .anyMatch(annotation -> VALID.equals(annotation.getName())
+                        || Arrays.stream(annotation.getAnnotations())
+                        .anyMatch(meta -> CONSTRAINT.equals(meta.annotationType().getName())));
+    }
+
+    /**
+     * A column of the table and how to read its value from the entity.
+     *
+     * @param name    the column name
+     * @param member  the field or getter of the attribute
+     * @param sqlType the {@link Types} used to bind a {@code null} value
+     */
+    record UpsertColumn(String name, Member member, int sqlType) {
+
+        Object read(Object entity) {
+            try {
+                if (member instanceof Field field) {
+                    return field.get(entity);
+                }
+                return ((Method) member).invoke(entity);
+            } catch (IllegalAccessException | InvocationTargetException exception) {
+                throw new IllegalStateException("Cannot read the column " + name + " from " + entity, exception);
+            }
+        }
+
+        void bind(PreparedStatement statement, int index, Object entity) throws SQLException {
+            Object value = read(entity);
+            switch (value) {
+                case null -> statement.setNull(index, sqlType);
+                case LocalDate date -> statement.setDate(index, Date.valueOf(date));
+                case LocalTime time -> statement.setTime(index, Time.valueOf(time));
+                case LocalDateTime dateTime -> statement.setTimestamp(index, Timestamp.valueOf(dateTime));
+                case Instant instant -> statement.setTimestamp(index, Timestamp.from(instant));
+                default -> statement.setObject(index, value);
+            }
+        }
+
+        static Optional<UpsertColumn> of(Attribute<?, ?> attribute) {
+            if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                    || !(attribute.getJavaMember() instanceof AnnotatedElement element)
+                    || element.isAnnotationPresent(Convert.class)
+                    || element.isAnnotationPresent(Enumerated.class)
+                    || element.isAnnotationPresent(Temporal.class)
+                    || element.isAnnotationPresent(Lob.class)) {
+                return Optional.empty();
+            }
+            Class<?> javaType = WRAPPERS.getOrDefault(attribute.getJavaType(), attribute.getJavaType());
+            Integer sqlType = SQL_TYPES.get(javaType);
+            if (sqlType == null) {
+                return Optional.empty();
+            }
+            var column = element.getAnnotation(Column.class);
+            if (column != null && (!column.insertable() || !column.updatable())) {
+                return Optional.empty();
+            }
+            var name = column == null || column.name().isBlank() ? attribute.getName() : column.name();
+            if (element instanceof Field field) {
+                field.setAccessible(true);
+            } else if (element instanceof Method method) {
+                method.setAccessible(true);
+            }
+            return Optional.of(new UpsertColumn(name, (Member) element, sqlType));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the writes of each entity of a persistence unit, shared by every EntityManager of the same
+ * EntityManagerFactory. A result cached together with the generation of its entity is stale once the generation
+ * changes, whichever EntityManager wrote the entity.
+ *
+ * <p>A write of an entity changes the generation of every entity of its hierarchy, its superclasses and
+ * subclasses, so a query of any of them sees the write.</p>
+ */
+public final class EntityGenerations {
+
+    private static final Map<EntityManagerFactory, EntityGenerations> GENERATIONS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> hierarchies = new ConcurrentHashMap<>();
+
+    private final AtomicLong all = new AtomicLong();
+
+    EntityGenerations() {
+    }
+
+    /**
+     * Returns the generations of the persistence unit of the given factory.
+     *
+     * @param factory the entity manager factory
+     * @return the generations shared by every EntityManager of the factory
+     * @throws NullPointerException if {@code factory} is {@code null}
+     */
+    public static EntityGenerations of(EntityManagerFactory factory) {
+        Objects.requireNonNull(factory, "factory is required");
+        return GENERATIONS.computeIfAbsent(factory, key -> new EntityGenerations());
+    }
+
+    /**
+     * Returns the current generation of the entity. It only grows.
+     *
+     * @param entity the entity name
+     * @return the generation
+     * @throws NullPointerException if {@code entity} is {@code null}
+     */
+    public long current(String entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        var generation = generations.get(entity);
+        return all.get() + (generation == null ? 0L : generation.get());
+    }
+
+    /**
+     * Records a write of the entity and of every entity of its hierarchy.
+     *
+     * @param metamodel the metamodel of the persistence unit
+     * @param entity    the written entity name
+     * @throws NullPointerException if any parameter is {@code null}
+     */
+    public void changed(Metamodel metamodel, String entity) {
+        Objects.requireNonNull(metamodel, "metamodel is required");
+        Objects.requireNonNull(entity, "entity is required");
+        for (String name : hierarchies.computeIfAbsent(entity, key -> hierarchy(metamodel, key))) {
+            generations.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Records a write whose entity is not known, which changes the generation of every entity.
+     */
+    public void changedAll() {
+        all.incrementAndGet();
+    }
+
+    private static Set<String> hierarchy(Metamodel metamodel, String entity) {
+        var type = metamodel.getEntities().stream()
+                .filter(entityType -> entityType.getName().equals(entity))
+                .map(EntityType::getJavaType)
+                .findFirst();
+        if (type.isEmpty()) {
+            return Set.of(entity);
+        }
+        return metamodel.getEntities().stream()
+                .filter(entityType -> entityType.getJavaType().isAssignableFrom(type.get())
+                        || type.get().isAssignableFrom(entityType.getJavaType()))
+                .map(EntityType::getName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
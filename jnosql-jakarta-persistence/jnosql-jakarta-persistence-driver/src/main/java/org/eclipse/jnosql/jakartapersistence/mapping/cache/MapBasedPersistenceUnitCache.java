@@ -18,9 +18,11 @@ package org.eclipse.jnosql.jakartapersistence.mapping.cache;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.metamodel.EntityType;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -32,12 +34,15 @@ import java.util.function.Supplier;
  *   <li>Thread-safe lazy initialization of entity types using double-checked locking</li>
  *   <li>Concurrent caching of CriteriaQuery objects for SELECT operations</li>
  *   <li>Concurrent caching of processed query strings</li>
+ *   <li>Concurrent caching of counted totals with a time to live</li>
  * </ul>
  *
  * @author Ondro Mihalyi
  */
 public class MapBasedPersistenceUnitCache implements PersistenceUnitCache {
 
+    private static final int MAX_TOTALS = 10_000;
+
     /**
      * Lazily initialized map of entity types by name. Uses volatile for fast publication to other threads.
      */
@@ -58,6 +63,12 @@ public class MapBasedPersistenceUnitCache implements PersistenceUnitCache {
      */
     private Map<Object,String> stringQueryCache = new ConcurrentHashMap<>();
 
+    /**
+     * Thread-safe cache for counted totals indexed by cache keys. It is cleared when it reaches
+     * {@value #MAX_TOTALS} entries, because the keys include the values of the counted conditions.
+     */
+    private Map<Object, CountedTotal> totalCache = new ConcurrentHashMap<>();
+
     /**
      * {@inheritDoc}
      *
@@ -106,4 +117,27 @@ public class MapBasedPersistenceUnitCache implements PersistenceUnitCache {
         return stringQueryCache.computeIfAbsent(key, supplier);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The count runs outside any lock, so concurrent callers may count the same total at the same time.
+     */
+    @Override
+    public long getOrCountTotal(Object key, Duration timeToLive, LongSupplier counter) {
+        long now = System.nanoTime();
+        CountedTotal cached = totalCache.get(key);
+        if (cached != null && now - cached.countedAt() < timeToLive.toNanos()) {
+            return cached.total();
+        }
+        long total = counter.getAsLong();
+        if (totalCache.size() >= MAX_TOTALS) {
+            totalCache.clear();
+        }
+        totalCache.put(key, new CountedTotal(total, now));
+        return total;
+    }
+
+    private record CountedTotal(long total, long countedAt) {
+    }
+
 }
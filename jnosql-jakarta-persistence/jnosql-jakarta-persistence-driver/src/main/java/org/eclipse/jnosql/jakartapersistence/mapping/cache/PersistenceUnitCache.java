@@ -18,8 +18,10 @@ package org.eclipse.jnosql.jakartapersistence.mapping.cache;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.metamodel.EntityType;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -68,4 +70,18 @@ public interface PersistenceUnitCache {
      * @return cached or newly created query string
      */
     String getOrCreateStringQuery(Object key, Function<Object, String> supplier);
+
+    /**
+     * Retrieves a cached total number of elements, or counts it again when it is absent or older than
+     * the given time to live.
+     * The default implementation does not cache, it counts on every call.
+     *
+     * @param key cache key used to identify the counted query
+     * @param timeToLive how long a counted total is reused
+     * @param counter counts the elements if the total is not cached
+     * @return cached or newly counted total
+     */
+    default long getOrCountTotal(Object key, Duration timeToLive, LongSupplier counter) {
+        return counter.getAsLong();
+    }
 }
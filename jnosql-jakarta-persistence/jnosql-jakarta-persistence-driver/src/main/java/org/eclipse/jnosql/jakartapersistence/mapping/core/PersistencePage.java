@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -40,16 +41,18 @@ public class PersistencePage<T> implements Page<T> {
 
     private final Query query;
 
-    private final Supplier<TypedQuery<Long>> countQuerySupplier;
-
-    private TypedQuery<Long> suppliedCountQuery;
+    private final LongSupplier totalSupplier;
 
     private final PageRequest pageRequest;
 
+    private final boolean lookahead;
+
     private Function<Object, T> entityMapper;
 
     private List<T> entities;
 
+    private boolean moreElements;
+
     private Long totalElements;
 
     /**
@@ -62,37 +65,74 @@ public class PersistencePage<T> implements Page<T> {
      * @param entityMapper Maps returned entities to a different value. If null, entities are returned directly.
      */
     public PersistencePage(Query query, Supplier<TypedQuery<Long>> countQuerySupplier, PageRequest pageRequest, Function<Object, T> entityMapper) {
-        Objects.requireNonNull(query, "query is required");
-        Objects.requireNonNull(pageRequest, "pageRequest is required");
+        this(query, pageRequest, entityMapper,
+                countQuerySupplier == null ? null : () -> countQuerySupplier.get().getResultList().getFirst());
         if (pageRequest.requestTotal()) {
             Objects.requireNonNull(countQuerySupplier, "countQuerySupplier is required if totals are requested");
         }
+    }
+
+    /**
+     * When the query reads exactly one page, it is changed to read one more element, which tells whether a next
+     * page exists without counting the elements.
+     */
+    private PersistencePage(Query query, PageRequest pageRequest, Function<Object, T> entityMapper, LongSupplier totalSupplier) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pageRequest, "pageRequest is required");
         this.query = query;
-        this.countQuerySupplier = countQuerySupplier;
+        this.totalSupplier = totalSupplier;
         this.pageRequest = pageRequest;
         this.entityMapper = entityMapper;
+        this.lookahead = query.getMaxResults() == pageRequest.size();
+        if (lookahead) {
+            query.setMaxResults(pageRequest.size() + 1);
+        }
+    }
+
+    /**
+     * Creates a page whose total number of elements is computed by the given supplier, which may count the
+     * elements, reuse a previous count or estimate it.
+     *
+     * @param query Query to retrieve entities
+     * @param totalSupplier Supplies the total number of entities.
+     * {@code null} value means {@link #totalElements()} method is not supported.
+     * Must be non-null if {@code pageRequest.requestTotal()} returns {@code true}.
+     * @param pageRequest Defines which page to retrieve from the entities defined by {@code query}
+     * @param entityMapper Maps returned entities to a different value. If null, entities are returned directly.
+     * @param <T> the entity type
+     * @return the page
+     */
+    public static <T> PersistencePage<T> of(Query query, LongSupplier totalSupplier, PageRequest pageRequest, Function<Object, T> entityMapper) {
+        Objects.requireNonNull(pageRequest, "pageRequest is required");
+        if (pageRequest.requestTotal()) {
+            Objects.requireNonNull(totalSupplier, "totalSupplier is required if totals are requested");
+        }
+        return new PersistencePage<>(query, pageRequest, entityMapper, totalSupplier);
     }
 
     @Override
     public long totalElements() {
-        if (countQuerySupplier == null) {
+        if (totalSupplier == null) {
             throw new IllegalStateException("Page request did not request retrieving the total number of elements. Total number of elements is not available.");
         }
-        if (suppliedCountQuery == null) {
-            suppliedCountQuery = countQuerySupplier.get();
-        }
         if (totalElements == null) {
-            totalElements = suppliedCountQuery.getResultList().getFirst();
+            totalElements = totalSupplier.getAsLong();
         }
         return totalElements;
     }
 
+    @SuppressWarnings("unchecked")
     private List<T> entities() {
         if (entities == null) {
+            List<Object> results = query.getResultList();
+            if (lookahead && results.size() > pageRequest.size()) {
+                moreElements = true;
+                results = results.subList(0, pageRequest.size());
+            }
             if (entityMapper == null) {
-                entities = query.getResultList();
+                entities = (List<T>) results;
             } else {
-                entities = query.getResultStream()
+                entities = results.stream()
                         .map(entityMapper)
                         .toList();
             }
@@ -123,6 +163,10 @@ public class PersistencePage<T> implements Page<T> {
 
     @Override
     public boolean hasNext() {
+        if (lookahead) {
+            entities();
+            return moreElements;
+        }
         return numberOfElements() >= pageRequest.size();
     }
 
@@ -158,7 +202,7 @@ public class PersistencePage<T> implements Page<T> {
 
     @Override
     public boolean hasTotals() {
-        return countQuerySupplier != null;
+        return totalSupplier != null;
     }
 
     @Override
@@ -190,11 +234,11 @@ public class PersistencePage<T> implements Page<T> {
     }
 
     private boolean countQueriesBothNotNull(PersistencePage<?> otherPage) {
-        return countQuerySupplier != null && otherPage.countQuerySupplier != null;
+        return totalSupplier != null && otherPage.totalSupplier != null;
     }
 
     private boolean countQueriesBothNull(PersistencePage<?> otherPage) {
-        return countQuerySupplier == null && otherPage.countQuerySupplier == null;
+        return totalSupplier == null && otherPage.totalSupplier == null;
     }
 
     @Override
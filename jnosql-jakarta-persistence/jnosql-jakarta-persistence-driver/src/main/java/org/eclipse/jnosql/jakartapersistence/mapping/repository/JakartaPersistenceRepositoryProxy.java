@@ -31,8 +31,10 @@ import org.eclipse.jnosql.communication.query.data.QueryType;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.jakartapersistence.mapping.DataExceptions;
+import org.eclipse.jnosql.jakartapersistence.mapping.HintedSelectQuery;
 import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceDocumentTemplate;
 import org.eclipse.jnosql.jakartapersistence.mapping.PersistencePreparedStatement;
+import org.eclipse.jnosql.jakartapersistence.mapping.cache.EntityGenerations;
 import org.eclipse.jnosql.jakartapersistence.mapping.spi.MethodInterceptor;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
@@ -49,6 +51,7 @@ import org.eclipse.jnosql.mapping.semistructured.query.AbstractSemiStructuredRep
 
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -58,6 +61,7 @@ import java.util.function.LongSupplier;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
@@ -166,7 +170,8 @@ public class JakartaPersistenceRepositoryProxy<T, K> extends AbstractSemiStructu
 
     @SuppressWarnings("unchecked")
     @Override
-    protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, SelectQuery query) {
+    protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, SelectQuery selectQuery) {
+        SelectQuery query = HintedSelectQuery.of(selectQuery, method);
         // TODO: Perform type check on return type during deployment and fail deployment if not supported.
         // Currently, different types are supported by implementations of RepositoryReturn via service loader
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
@@ -216,7 +221,20 @@ public class JakartaPersistenceRepositoryProxy<T, K> extends AbstractSemiStructu
     protected Object executeCursorPagination(Object instance, Method method, Object[] params) {
         /* TODO We need to override this because SemiStructuredRepositoryProxy
          expects the semistructured.PreparedStatement template */
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (method.getAnnotation(Query.class) != null) {
+            throw new UnsupportedOperationException("Cursor pagination is not supported yet for @Query methods: " + method);
+        }
+        PageRequest pageRequest = DynamicReturn.findPageRequest(params);
+        if (pageRequest == null) {
+            throw new IllegalArgumentException("A PageRequest is required in the method signature as parameter at " + method);
+        }
+        SelectQuery selectQuery = query(method, params);
+        List<Sort<?>> sorts = new ArrayList<>(getSorts(method, entityMetadata()));
+        selectQuery.sorts().stream()
+                .filter(sort -> !sorts.contains(sort))
+                .forEach(sorts::add);
+        SelectQuery query = HintedSelectQuery.of(modifySelectQuery(sorts, selectQuery), method);
+        return template().selectCursor(query, pageRequest, mapper(method));
     }
 
     @Override
@@ -334,11 +352,20 @@ public class JakartaPersistenceRepositoryProxy<T, K> extends AbstractSemiStructu
             requireNonNull(entity, "Entity is required");
 
             K id = getEntityId(entity);
-            if (nonNull(id) && existsById(id)) {
-                return template().update(entity);
-            } else {
+            if (isNull(id)) {
                 return template().insert(entity);
             }
+            // a single find decides between update and insert; the row it loads is reused by merge
+            var entityManager = template().entityManager();
+            if (entityManager.contains(entity) || nonNull(entityManager.find(entity.getClass(), id))) {
+                return template().update(entity);
+            }
+            entityManager.persist(entity);
+            // the insert bypasses the template, so the cached results of the entity are expired here
+            var metamodel = entityManager.getMetamodel();
+            EntityGenerations.of(entityManager.getEntityManagerFactory())
+                    .changed(metamodel, metamodel.entity(entity.getClass()).getName());
+            return entity;
         }
 
         @Override
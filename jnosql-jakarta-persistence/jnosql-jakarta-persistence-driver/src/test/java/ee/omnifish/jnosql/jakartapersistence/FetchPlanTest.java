@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 which accompanies this distribution.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package ee.omnifish.jnosql.jakartapersistence;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.jnosql.extensions.sql.model.Purchase;
+import org.eclipse.jnosql.extensions.sql.model.PurchaseItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class FetchPlanTest {
+
+    private SeContainer cdiContainer;
+    private FetchPlanPurchaseRepository repository;
+    private EntityManagerFactory factory;
+
+    @BeforeEach
+    void init() {
+        TestJakartaPersistenceClassScanner.standardRepositories = Set.of(FetchPlanPurchaseRepository.class);
+
+        cdiContainer = TestSupport.cdiInitializerWithDefaultEmProducer()
+                .initialize();
+        repository = cdiContainer.select(FetchPlanPurchaseRepository.class).get();
+        factory = cdiContainer.select(EntityManager.class).get().getEntityManagerFactory();
+
+        inTransaction(entityManager -> entityManager.createQuery("select p from Purchase p", Purchase.class)
+                .getResultList()
+                .forEach(entityManager::remove));
+        inTransaction(entityManager -> {
+            entityManager.persist(Purchase.of("p-1", "PAID",
+                    PurchaseItem.of("i-1", "Keyboard", "K-1", "K-2"),
+                    PurchaseItem.of("i-2", "Mouse", "M-1")));
+            entityManager.persist(Purchase.of("p-2", "PAID",
+                    PurchaseItem.of("i-3", "Monitor", "D-1")));
+        });
+        factory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (cdiContainer.isRunning()) {
+            cdiContainer.close();
+        }
+    }
+
+    @Test
+    void loadsFetchPlanAssociationsBeforeEntityManagerCloses() {
+        final List<Purchase> purchases = repository.findByStatus("PAID");
+        cdiContainer.close();
+
+        var util = factory.getPersistenceUnitUtil();
+        assertThat(purchases.stream().map(Purchase::getId).toList(), containsInAnyOrder("p-1", "p-2"));
+        for (Purchase purchase : purchases) {
+            assertThat(util.isLoaded(purchase, "items"), is(true));
+            for (PurchaseItem item : purchase.getItems()) {
+                assertThat(util.isLoaded(item, "serials"), is(true));
+            }
+        }
+    }
+
+    @Test
+    void keepsAssociationsLazyWithoutFetchPlan() {
+        final List<Purchase> purchases = repository.findByStatusOrderById("PAID");
+        cdiContainer.close();
+
+        var util = factory.getPersistenceUnitUtil();
+        assertThat(purchases.stream().map(Purchase::getId).toList(), contains("p-1", "p-2"));
+        for (Purchase purchase : purchases) {
+            assertThat(util.isLoaded(purchase, "items"), is(false));
+        }
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        try (var entityManager = factory.createEntityManager()) {
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.getTransaction().commit();
+        }
+    }
+}
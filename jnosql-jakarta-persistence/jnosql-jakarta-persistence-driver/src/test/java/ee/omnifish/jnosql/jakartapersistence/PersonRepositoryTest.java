@@ -16,6 +16,9 @@ package ee.omnifish.jnosql.jakartapersistence;
 
 import jakarta.enterprise.inject.se.SeContainer;
 import jakarta.persistence.EntityManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.extensions.sql.SqlSettings;
+import org.eclipse.jnosql.extensions.sql.SqlTemplate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -75,6 +78,24 @@ public class PersonRepositoryTest {
         assertThat(count, greaterThan(0L));
     }
 
+    @Test
+    void saveNewEntityExpiresCachedCount() {
+        final SelectQuery byName = SelectQuery.select().from("Person").where("name").eq("Jakarta").build();
+        System.setProperty(SqlSettings.CACHE_ENABLED, "true");
+        try (EntityManager entityManager = getEntityManager().getEntityManagerFactory().createEntityManager()) {
+            final SqlTemplate cachedTemplate = SqlTemplate.of(entityManager);
+            assertThat(cachedTemplate.count(byName), is(0L));
+
+            personRepo.save(new PersonBuilder().name("Jakarta").build());
+            getEntityManager().getTransaction().commit();
+            getEntityManager().getTransaction().begin();
+
+            assertThat(cachedTemplate.count(byName), is(1L));
+        } finally {
+            System.clearProperty(SqlSettings.CACHE_ENABLED);
+        }
+    }
+
     @Test
     void countByNotNull() {
         new PersonBuilder().name("Jakarta").insert(personRepo);
@@ -21,19 +21,34 @@ import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.extensions.sql.model.Computer;
+import org.eclipse.jnosql.extensions.sql.model.Sensor;
+import org.eclipse.jnosql.jakartapersistence.mapping.FetchPlan;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceFetchPlan;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceQueryOptions;
+import org.eclipse.jnosql.jakartapersistence.mapping.PersistenceUpsert;
 import org.jboss.weld.junit5.EnableWeld;
 import org.jboss.weld.junit5.WeldInitiator;
 import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -230,6 +245,550 @@ class DefaultSqlTemplateTest {
         }
     }
 
+    @Nested
+    @DisplayName("When scanning all entities split into ranges")
+    class WhenScan {
+
+        @Test
+        @DisplayName("Should read every entity once in a parallel stream")
+        void shouldReadEveryEntityOnce() {
+            for (int release = 2000; release < 2050; release++) {
+                template.insert(Computer.of("Computer " + release, release));
+            }
+
+            List<Long> releases;
+            try (var computers = template.scan(Computer.class, "release", 4)) {
+                releases = computers.parallel().map(Computer::getRelease).toList();
+            }
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(releases).hasSize(50);
+                soft.assertThat(releases).doesNotHaveDuplicates();
+                soft.assertThat(releases).contains(2000L, 2049L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should split by the id when no attribute is given")
+        void shouldSplitById() {
+            template.insert(Computer.of("MacBook", 2024));
+            template.insert(Computer.of("ThinkPad", 2023));
+            template.insert(Computer.of("Dell", 2022));
+
+            try (var computers = template.scan(Computer.class, 8)) {
+                assertThat(computers.map(Computer::getModel).toList())
+                        .containsExactlyInAnyOrder("MacBook", "ThinkPad", "Dell");
+            }
+        }
+
+        @Test
+        @DisplayName("Should return nothing when the table is empty")
+        void shouldReturnNothingWhenEmpty() {
+            try (var computers = template.scan(Computer.class, 4)) {
+                assertThat(computers.toList()).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject attributes that cannot be split into ranges")
+        void shouldRejectTextAttribute() {
+            assertThatThrownBy(() -> template.scan(Computer.class, "model", 4))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> template.scan(Computer.class, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should start the reader of a range once the stream reaches it")
+        void shouldStartRangeWhenReached() {
+            template.insert(Computer.of("MacBook", 2000));
+            template.insert(Computer.of("ThinkPad", 2010));
+            template.insert(Computer.of("Dell", 2020));
+            var scan = new SqlPartitionedScan<>(entityManager, Computer.class, "release", 4);
+
+            try (var computers = scan.stream()) {
+                var first = computers.iterator().next();
+
+                SoftAssertions.assertSoftly(soft -> {
+                    soft.assertThat(first.getRelease()).isEqualTo(2000L);
+                    soft.assertThat(scan.startedReaders()).isEqualTo(1);
+                });
+            }
+        }
+
+        @Test
+        @DisplayName("Should read the ranges inside the transaction when joined to one")
+        void shouldFindAllWhenJoinedToTransaction() {
+            template.insert(Computer.of("MacBook", 2024));
+            var transaction = entityManager.getTransaction();
+            transaction.begin();
+            try (var computers = template.scan(Computer.class, "model", 4)) {
+                assertThat(computers.map(Computer::getModel).toList()).containsExactly("MacBook");
+            } finally {
+                transaction.rollback();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When scanning with limited readers")
+    class WhenScanIsLimited {
+
+        @BeforeEach
+        void setUp() {
+            System.setProperty(SqlSettings.SCAN_MAX_READERS, "1");
+            System.setProperty(SqlSettings.SCAN_IDLE_TIMEOUT, "200");
+        }
+
+        @AfterEach
+        void tearDown() {
+            System.clearProperty(SqlSettings.SCAN_MAX_READERS);
+            System.clearProperty(SqlSettings.SCAN_IDLE_TIMEOUT);
+        }
+
+        @Test
+        @DisplayName("Should read every range with fewer readers than ranges")
+        void shouldReadWithFewerReaders() {
+            for (int release = 2000; release < 2020; release++) {
+                template.insert(Computer.of("Computer " + release, release));
+            }
+
+            List<Long> releases;
+            try (var computers = template.scan(Computer.class, "release", 8)) {
+                releases = computers.parallel().map(Computer::getRelease).toList();
+            }
+
+            assertThat(releases).hasSize(20).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("Should stop the reader of a range that is not consumed")
+        void shouldStopIdleReader() throws InterruptedException {
+            template.insert(IntStream.range(0, 300)
+                    .mapToObj(index -> Computer.of("Computer " + index, 2000 + index))
+                    .toList());
+
+            try (var computers = template.scan(Computer.class, "release", 1)) {
+                var iterator = computers.iterator();
+                iterator.next();
+                Thread.sleep(1_000L);
+
+                assertThatThrownBy(() -> iterator.forEachRemaining(computer -> { }))
+                        .isInstanceOf(IllegalStateException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When upserting entities")
+    class WhenUpsert {
+
+        @BeforeEach
+        void cleanUp() {
+            System.setProperty(PersistenceUpsert.NATIVE, "true");
+            template.deleteAll(Sensor.class);
+        }
+
+        @AfterEach
+        void disableNative() {
+            System.clearProperty(PersistenceUpsert.NATIVE);
+        }
+
+        @Test
+        @DisplayName("Should insert new entities and update existing ones in a single call")
+        void shouldInsertAndUpdateNatively() {
+            template.insert(Sensor.of("s-1", "Lisbon", 10.5));
+
+            var saved = template.upsert(List.of(
+                    Sensor.of("s-1", "Porto", 12.0),
+                    Sensor.of("s-2", "Braga", 8.0)));
+            entityManager.clear();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(saved).extracting(Sensor::getId).containsExactly("s-1", "s-2");
+                soft.assertThat(template.count(Sensor.class)).isEqualTo(2L);
+                soft.assertThat(template.find(Sensor.class, "s-1")).get()
+                        .extracting(Sensor::getLocation).isEqualTo("Porto");
+                soft.assertThat(template.find(Sensor.class, "s-2")).get()
+                        .extracting(Sensor::getReading).isEqualTo(8.0);
+            });
+        }
+
+        @Test
+        @DisplayName("Should merge entities that do not qualify for the native upsert")
+        void shouldMergeGeneratedIdEntities() {
+            Computer computer = template.insert(Computer.of("MacBook", 2024));
+            computer.setModel("MacBook Pro");
+
+            Computer saved = template.upsert(computer);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(entityManager.contains(saved)).isTrue();
+                soft.assertThat(template.find(Computer.class, computer.getId())).get()
+                        .extracting(Computer::getModel).isEqualTo("MacBook Pro");
+            });
+        }
+
+        @Test
+        @DisplayName("Should detach only the entities written natively")
+        void shouldDetachOnlyUpsertedEntities() {
+            List<Boolean> managed = template.inUnitOfWork(work -> {
+                Computer computer = work.insert(Computer.of("MacBook", 2024));
+                Sensor sensor = work.upsert(Sensor.of("s-1", "Lisbon", 10.5));
+                return List.of(entityManager.contains(computer), entityManager.contains(sensor));
+            });
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(managed).containsExactly(true, false);
+                soft.assertThat(template.count(Sensor.class)).isEqualTo(1L);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("When bulk loading entities in chunks")
+    class WhenBulkLoad {
+
+        @BeforeEach
+        void cleanUp() {
+            System.setProperty(PersistenceUpsert.NATIVE, "true");
+            template.deleteAll(Sensor.class);
+        }
+
+        @AfterEach
+        void disableNative() {
+            System.clearProperty(PersistenceUpsert.NATIVE);
+        }
+
+        @Test
+        @DisplayName("Should commit each chunk and report the position")
+        void shouldLoadInChunks() {
+            List<Long> positions = new ArrayList<>();
+            var sensors = IntStream.range(0, 25).mapToObj(index -> Sensor.of("s-" + index, "Lisbon", index));
+
+            long loaded = template.bulkLoad(sensors, SqlBulkLoad.of().chunkSize(10).onProgress(positions::add));
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(loaded).isEqualTo(25L);
+                soft.assertThat(positions).containsExactly(10L, 20L, 25L);
+                soft.assertThat(template.count(Sensor.class)).isEqualTo(25L);
+                soft.assertThat(entityManager.getTransaction().isActive()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep the committed chunks when a chunk fails and resume from the reported position")
+        void shouldResumeAfterFailedChunk() {
+            template.insert(Sensor.of("s-15", "Porto", 1.0));
+            var position = new AtomicLong();
+            var options = SqlBulkLoad.of().chunkSize(10).onProgress(position::set);
+
+            assertThatThrownBy(() -> template.bulkLoad(sensors(), options))
+                    .isInstanceOf(PersistenceException.class);
+            long committed = template.count(Sensor.class);
+            template.delete(Sensor.class, "s-15");
+            long resumed = template.bulkLoad(sensors(), options.skip(position.get()));
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(position.get()).isEqualTo(25L);
+                soft.assertThat(committed).isEqualTo(11L);
+                soft.assertThat(resumed).isEqualTo(15L);
+                soft.assertThat(template.count(Sensor.class)).isEqualTo(25L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should overwrite duplicated ids with the native upsert")
+        void shouldUpsertNatively() {
+            var options = SqlBulkLoad.of().chunkSize(10).nativeUpsert();
+
+            template.bulkLoad(sensors(), options);
+            long loaded = template.bulkLoad(sensors(), options);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(loaded).isEqualTo(25L);
+                soft.assertThat(template.count(Sensor.class)).isEqualTo(25L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should fail a duplicated id without the native upsert")
+        void shouldFailDuplicatedIdByDefault() {
+            template.bulkLoad(sensors(), SqlBulkLoad.of().chunkSize(10));
+
+            assertThatThrownBy(() -> template.bulkLoad(sensors(), SqlBulkLoad.of().chunkSize(10)))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(template.count(Sensor.class)).isEqualTo(25L);
+        }
+
+        @Test
+        @DisplayName("Should not run inside a transaction")
+        void shouldRejectActiveTransaction() {
+            assertThatThrownBy(() -> template.inUnitOfWork(work -> work.bulkLoad(sensors(), SqlBulkLoad.of())))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        private Iterator<Sensor> sensors() {
+            return IntStream.range(0, 25).mapToObj(index -> Sensor.of("s-" + index, "Lisbon", index)).iterator();
+        }
+    }
+
+    @Nested
+    @DisplayName("When grouping calls in a unit of work")
+    class WhenUnitOfWork {
+
+        @Test
+        @DisplayName("Should commit all calls once and run the commit callback")
+        void shouldCommitOnce() {
+            List<String> events = new ArrayList<>();
+            var unitOfWork = SqlUnitOfWork.of().onCommit(() -> events.add("commit"));
+
+            int inserted = template.inUnitOfWork(unitOfWork, work -> {
+                events.add("active:" + work.entityManager().getTransaction().isActive());
+                work.insert(Computer.of("MacBook", 2024));
+                work.insert(Computer.of("ThinkPad", 2023));
+                return 2;
+            });
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(inserted).isEqualTo(2);
+                soft.assertThat(events).containsExactly("active:true", "commit");
+                soft.assertThat(template.count(Computer.class)).isEqualTo(2L);
+                soft.assertThat(entityManager.getTransaction().isActive()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Should roll back every call when the work fails")
+        void shouldRollbackOnFailure() {
+            List<String> events = new ArrayList<>();
+            var unitOfWork = SqlUnitOfWork.of()
+                    .onCommit(() -> events.add("commit"))
+                    .onRollback(() -> events.add("rollback"));
+
+            assertThatThrownBy(() -> template.inUnitOfWork(unitOfWork, work -> {
+                work.insert(Computer.of("MacBook", 2024));
+                throw new IllegalStateException("failed");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(events).containsExactly("rollback");
+                soft.assertThat(template.count(Computer.class)).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("Should flush and clear every given number of written entities")
+        void shouldFlushAndClear() {
+            var unitOfWork = SqlUnitOfWork.of().flushEvery(2).clearAfterFlush();
+
+            template.inUnitOfWork(unitOfWork, work -> {
+                Computer first = work.insert(Computer.of("MacBook", 2024));
+                assertThat(entityManager.contains(first)).isTrue();
+                work.insert(Computer.of("ThinkPad", 2023));
+                assertThat(entityManager.contains(first)).isFalse();
+                return null;
+            });
+
+            assertThat(template.count(Computer.class)).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Should join the enclosing unit of work")
+        void shouldJoinEnclosingUnitOfWork() {
+            List<String> events = new ArrayList<>();
+
+            template.inUnitOfWork(SqlUnitOfWork.of().onCommit(() -> events.add("outer")), work ->
+                    work.inUnitOfWork(SqlUnitOfWork.of().onCommit(() -> events.add("inner")), nested -> {
+                        events.add("work");
+                        return nested.insert(Computer.of("MacBook", 2024));
+                    }));
+
+            assertThat(events).containsExactly("work", "outer", "inner");
+        }
+    }
+
+    @Nested
+    @DisplayName("When caching query results")
+    class WhenCaching {
+
+        private final SelectQuery byModel = SelectQuery.select().from("Computer").where("model").eq("MacBook").build();
+
+        private SqlTemplate cachedTemplate;
+
+        @BeforeEach
+        void enableCache() {
+            System.setProperty(SqlSettings.CACHE_ENABLED, "true");
+            cachedTemplate = DefaultSqlTemplate.of(entityManager);
+        }
+
+        @AfterEach
+        void disableCache() {
+            System.clearProperty(SqlSettings.CACHE_ENABLED);
+        }
+
+        @Test
+        @DisplayName("Should reuse results until a template of the persistence unit writes the entity")
+        void shouldInvalidateOnWrite() {
+            cachedTemplate.insert(Computer.of("MacBook", 2024));
+            cachedTemplate.insert(Computer.of("ThinkPad", 2023));
+            assertThat(cachedTemplate.count(byModel)).isEqualTo(1L);
+
+            renameThinkPads();
+            assertThat(cachedTemplate.count(byModel)).isEqualTo(1L);
+
+            template.insert(Computer.of("MacBook", 2025));
+            assertThat(cachedTemplate.count(byModel)).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("Should invalidate once the unit of work commits")
+        void shouldInvalidateAfterCommit() {
+            assertThat(cachedTemplate.exists(byModel)).isFalse();
+
+            template.inUnitOfWork(work -> work.insert(Computer.of("MacBook", 2024)));
+
+            assertThat(cachedTemplate.exists(byModel)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should cache the identifiers of the selected entities until the entity is written")
+        void shouldCacheEntityIdentifiers() {
+            cachedTemplate.insert(Computer.of("MacBook", 2024));
+            cachedTemplate.insert(Computer.of("ThinkPad", 2023));
+            List<Computer> first = cachedTemplate.<Computer>select(byModel).toList();
+
+            renameThinkPads();
+            List<Computer> second = cachedTemplate.<Computer>select(byModel).toList();
+
+            template.insert(Computer.of("MacBook", 2025));
+            List<Computer> third = cachedTemplate.<Computer>select(byModel).toList();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(first).hasSize(1);
+                soft.assertThat(second).hasSize(1);
+                soft.assertThat(second.getFirst()).isSameAs(first.getFirst());
+                soft.assertThat(third).hasSize(3);
+            });
+        }
+
+        @Test
+        @DisplayName("Should load a cached single entity again by identifier")
+        void shouldReloadCachedSingleEntity() {
+            var inserted = cachedTemplate.insert(Computer.of("MacBook", 2024));
+            Optional<Computer> first = cachedTemplate.singleResult(byModel);
+
+            entityManager.clear();
+            Optional<Computer> second = cachedTemplate.singleResult(byModel);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(first).get().extracting(Computer::getId).isEqualTo(inserted.getId());
+                soft.assertThat(second).get().extracting(Computer::getId).isEqualTo(inserted.getId());
+                soft.assertThat(second).get().isNotSameAs(first.orElseThrow());
+                soft.assertThat(entityManager.contains(second.orElseThrow())).isTrue();
+            });
+        }
+
+        /**
+         * Writes through the entity manager directly, which no template sees.
+         */
+        private void renameThinkPads() {
+            var transaction = entityManager.getTransaction();
+            transaction.begin();
+            entityManager.createQuery("UPDATE Computer c SET c.model = 'MacBook' WHERE c.model = 'ThinkPad'")
+                    .executeUpdate();
+            transaction.commit();
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache inside a transaction")
+        void shouldBypassInsideTransaction() {
+            cachedTemplate.insert(Computer.of("MacBook", 2024));
+            assertThat(cachedTemplate.exists(byModel)).isTrue();
+
+            var transaction = entityManager.getTransaction();
+            transaction.begin();
+            try {
+                template.deleteAll(Computer.class);
+                assertThat(cachedTemplate.exists(byModel)).isFalse();
+            } finally {
+                transaction.rollback();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("When reading read-only entities")
+    class WhenReadOnly {
+
+        @BeforeEach
+        void insert() {
+            template.insert(Computer.of("MacBook", 2024));
+            template.insert(Computer.of("ThinkPad", 2023));
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should keep selected entities managed by default")
+        void shouldKeepEntitiesManaged() {
+            List<Computer> computers = template.<Computer>select(SelectQuery.select().from("Computer").build())
+                    .toList();
+
+            assertThat(computers).hasSize(2).allMatch(entityManager::contains);
+        }
+
+        @Test
+        @DisplayName("Should detach the selected entities of the read-only view")
+        void shouldDetachSelectedEntities() {
+            List<Computer> computers = template.readOnly()
+                    .<Computer>select(SelectQuery.select().from("Computer").build())
+                    .toList();
+
+            assertThat(computers).hasSize(2).noneMatch(entityManager::contains);
+        }
+
+        @Test
+        @DisplayName("Should detach the entities of a read-only query")
+        void shouldDetachEntitiesOfReadOnlyQuery() {
+            var query = SqlSelectQuery.of(SelectQuery.select().from("Computer").build(),
+                    PersistenceQueryOptions.NONE.asReadOnly());
+
+            List<Computer> computers = template.<Computer>select(query).toList();
+
+            assertThat(computers).hasSize(2).noneMatch(entityManager::contains);
+        }
+
+        @Test
+        @DisplayName("Should detach the entities returned by findAll and find")
+        void shouldDetachFoundEntities() {
+            var readOnly = template.readOnly();
+            List<Computer> computers = readOnly.findAll(Computer.class).toList();
+            Optional<Computer> computer = readOnly.find(Computer.class, computers.getFirst().getId());
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(computers).hasSize(2).noneMatch(entityManager::contains);
+                soft.assertThat(computer).isPresent();
+                soft.assertThat(computer.map(entityManager::contains)).contains(false);
+            });
+        }
+
+        @Test
+        @DisplayName("Should not write back changes made to read-only entities")
+        void shouldNotWriteBackChanges() {
+            Computer computer = template.readOnly()
+                    .<Computer>select(SelectQuery.select().from("Computer").where("model").eq("MacBook").build())
+                    .findFirst()
+                    .orElseThrow();
+            computer.setModel("Changed");
+
+            template.insert(Computer.of("Dell", 2022));
+            entityManager.clear();
+
+            assertThat(template.<Computer>select(SelectQuery.select().from("Computer")
+                    .where("model").eq("Changed").build())).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("When removing all entities of a given type")
     class WhenDeleteAll {
@@ -249,6 +808,177 @@ class DefaultSqlTemplateTest {
         }
     }
 
+    @Nested
+    @DisplayName("When querying with the fluent API")
+    class WhenFluentQuery {
+
+        @BeforeEach
+        void setUp() {
+            template.insert(List.of(
+                    Computer.of("MacBook", 2024),
+                    Computer.of("ThinkPad", 2023),
+                    Computer.of("Mac Mini", 2020)
+            ));
+        }
+
+        @Test
+        @DisplayName("Should select entities with conditions, sorting and limit")
+        void shouldSelectEntities() {
+            List<Computer> computers = template.select(Computer.class)
+                    .where("model").startsWith("Mac")
+                    .and("release").gte(2020L)
+                    .orderBy("release").desc()
+                    .result();
+
+            assertThat(computers).extracting(Computer::getModel).containsExactly("MacBook", "Mac Mini");
+        }
+
+        @Test
+        @DisplayName("Should reuse the query shape with different values")
+        void shouldReuseShape() {
+            List<Computer> recent = template.select(Computer.class)
+                    .where("release").between(2023L, 2024L)
+                    .orderBy("model").asc()
+                    .result();
+            List<Computer> old = template.select(Computer.class)
+                    .where("release").between(2019L, 2021L)
+                    .orderBy("model").asc()
+                    .result();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(recent).extracting(Computer::getModel).containsExactly("MacBook", "ThinkPad");
+                soft.assertThat(old).extracting(Computer::getModel).containsExactly("Mac Mini");
+            });
+        }
+
+        @Test
+        @DisplayName("Should share the query shapes with the other EntityManagers of the persistence unit")
+        void shouldShareShapesAcrossEntityManagers() {
+            template.select(Computer.class)
+                    .where("model").eq("MacBook")
+                    .and("release").gte(2000L)
+                    .result();
+
+            try (var other = entityManager.getEntityManagerFactory().createEntityManager()) {
+                int shapes = new SelectQueryConverter(other).shapeCount();
+                List<Computer> computers = DefaultSqlTemplate.of(other).select(Computer.class)
+                        .where("model").eq("ThinkPad")
+                        .and("release").gte(2000L)
+                        .result();
+
+                SoftAssertions.assertSoftly(soft -> {
+                    soft.assertThat(computers).extracting(Computer::getModel).containsExactly("ThinkPad");
+                    soft.assertThat(new SelectQueryConverter(other).shapeCount()).isEqualTo(shapes);
+                });
+            }
+        }
+
+        @Test
+        @DisplayName("Should run the same shape from several threads, each one on its own EntityManager")
+        void shouldRunShapeConcurrently() throws Exception {
+            var factory = entityManager.getEntityManagerFactory();
+            var models = List.of("MacBook", "ThinkPad", "Mac Mini");
+            var start = new CountDownLatch(1);
+            try (var executor = Executors.newFixedThreadPool(8)) {
+                List<Future<List<String>>> results = IntStream.range(0, 24)
+                        .mapToObj(index -> executor.submit(() -> {
+                            start.await();
+                            try (var other = factory.createEntityManager()) {
+                                List<Computer> computers = DefaultSqlTemplate.of(other).select(Computer.class)
+                                        .where("model").eq(models.get(index % models.size()))
+                                        .and("release").lt(3000L)
+                                        .result();
+                                return computers.stream().map(Computer::getModel).toList();
+                            }
+                        }))
+                        .toList();
+                start.countDown();
+
+                for (int index = 0; index < results.size(); index++) {
+                    assertThat(results.get(index).get(10, TimeUnit.SECONDS))
+                            .containsExactly(models.get(index % models.size()));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should not share the shape of queries differing only in the fetch plan")
+        void shouldKeyShapeByFetchPlan() {
+            var select = SelectQuery.select().from("Computer").where("model").eq("MacBook").build();
+            var plain = new SqlSelectQuery(select.sorts(), 0, 0, select.condition().orElseThrow(), select.name(),
+                    select.columns(), null);
+            var planned = new SqlSelectQuery(select.sorts(), 0, 0, select.condition().orElseThrow(), select.name(),
+                    select.columns(), null, new PersistenceFetchPlan("", List.of("model"), FetchPlan.Type.LOAD), null);
+
+            assertThat(SqlQueryShape.of(planned).orElseThrow().key())
+                    .isNotEqualTo(SqlQueryShape.of(plain).orElseThrow().key());
+        }
+
+        @Test
+        @DisplayName("Should combine negated and in conditions")
+        void shouldSelectWithNotAndIn() {
+            List<Computer> computers = template.select(Computer.class)
+                    .where("model").in(List.of("MacBook", "ThinkPad", "Mac Mini"))
+                    .and("model").not().eq("ThinkPad")
+                    .orderBy("model").asc()
+                    .skip(1)
+                    .result();
+
+            assertThat(computers).extracting(Computer::getModel).containsExactly("MacBook");
+        }
+
+        @Test
+        @DisplayName("Should return a single result and reject more than one")
+        void shouldReturnSingleResult() {
+            Optional<Computer> computer = template.select(Computer.class)
+                    .where("model").eq("ThinkPad")
+                    .singleResult();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(computer).map(Computer::getRelease).contains(2023L);
+                soft.assertThatThrownBy(() -> template.select(Computer.class)
+                                .where("model").contains("Mac")
+                                .singleResult())
+                        .isInstanceOf(NonUniqueResultException.class);
+            });
+        }
+
+        @Test
+        @DisplayName("Should delete the entities matching the condition")
+        void shouldDeleteEntities() {
+            template.delete(Computer.class)
+                    .where("release").lt(2024L)
+                    .execute();
+
+            assertThat(template.findAll(Computer.class).toList())
+                    .extracting(Computer::getModel)
+                    .containsExactly("MacBook");
+        }
+
+        @Test
+        @DisplayName("Should update the entities matching the condition")
+        void shouldUpdateEntities() {
+            template.update(Computer.class)
+                    .set("release").to(2025L)
+                    .where("model").endsWith("Pad")
+                    .execute();
+
+            Optional<Computer> computer = template.select(Computer.class)
+                    .where("model").eq("ThinkPad")
+                    .singleResult();
+
+            assertThat(computer).map(Computer::getRelease).contains(2025L);
+        }
+
+        @Test
+        @DisplayName("Should throw NullPointerException when the type is null")
+        void shouldThrowExceptionWhenTypeIsNull() {
+            assertThatThrownBy(() -> template.select((Class<?>) null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("type is null");
+        }
+    }
+
     @Nested
     @DisplayName("When counting entities stored in the database")
     class WhenCount {
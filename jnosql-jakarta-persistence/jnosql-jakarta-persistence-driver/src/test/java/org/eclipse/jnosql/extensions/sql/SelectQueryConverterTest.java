@@ -36,6 +36,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -608,6 +609,82 @@ class SelectQueryConverterTest {
             });
         }
 
+        @Test
+        @DisplayName("Should read every page forward and backward until the last one")
+        void shouldTraverseEveryCursorPage() {
+
+            var select = SelectQuery.select()
+                    .from("Computer")
+                    .orderBy("release").desc()
+                    .build();
+
+            List<CursoredPage<Computer>> forward = forward(select);
+            List<CursoredPage<Computer>> backward = backward(select, forward.getLast());
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(forward).extracting(this::pageReleases).containsExactly(
+                        List.of(2024L, 2023L), List.of(2022L, 2021L), List.of(2020L));
+                soft.assertThat(forward.getLast().hasNext()).isFalse();
+                soft.assertThat(forward.getLast().hasPrevious()).isTrue();
+                soft.assertThat(backward).extracting(this::pageReleases).containsExactly(
+                        List.of(2024L, 2023L), List.of(2022L, 2021L));
+                soft.assertThat(backward.getFirst().hasPrevious()).isFalse();
+                soft.assertThat(backward.getFirst().hasNext()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("Should page by several sort keys in mixed directions")
+        void shouldPageByMixedSortKeys() {
+
+            template.insert(List.of(Computer.of("Alpha", 2022), Computer.of("Zeta", 2022)));
+            var select = SelectQuery.select()
+                    .from("Computer")
+                    .orderBy("release").desc()
+                    .orderBy("model").asc()
+                    .build();
+
+            List<CursoredPage<Computer>> forward = forward(select);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(models(forward)).containsExactly("MacBook", "ThinkPad", "Alpha", "XPS", "Zeta",
+                        "EliteBook", "Surface");
+                soft.assertThat(models(backward(select, forward.getLast()))).containsExactly("MacBook", "ThinkPad",
+                        "Alpha", "XPS", "Zeta", "EliteBook");
+            });
+        }
+
+        @Test
+        @DisplayName("Should page over null sort keys as the lowest value")
+        void shouldPageOverNullSortKeys() {
+
+            template.insert(List.of(Computer.of(null, 2019), Computer.of(null, 2025)));
+            var ascending = SelectQuery.select()
+                    .from("Computer")
+                    .orderBy("model").asc()
+                    .orderBy("release").asc()
+                    .build();
+            var descending = SelectQuery.select()
+                    .from("Computer")
+                    .orderBy("model").desc()
+                    .orderBy("release").desc()
+                    .build();
+
+            List<CursoredPage<Computer>> forwardAscending = forward(ascending);
+            List<CursoredPage<Computer>> forwardDescending = forward(descending);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(releases(forwardAscending)).containsExactly(2019L, 2025L, 2021L, 2024L, 2020L, 2023L,
+                        2022L);
+                soft.assertThat(releases(backward(ascending, forwardAscending.getLast())))
+                        .containsExactly(2019L, 2025L, 2021L, 2024L, 2020L, 2023L);
+                soft.assertThat(releases(forwardDescending)).containsExactly(2022L, 2023L, 2020L, 2024L, 2021L, 2025L,
+                        2019L);
+                soft.assertThat(releases(backward(descending, forwardDescending.getLast())))
+                        .containsExactly(2022L, 2023L, 2020L, 2024L, 2021L, 2025L);
+            });
+        }
+
         @Test
         @DisplayName("Should return empty cursored page when query returns no results")
         void shouldReturnEmptyCursorPage() {
@@ -653,6 +730,42 @@ class SelectQueryConverterTest {
                     .isInstanceOf(NullPointerException.class)
                     .hasMessage("pageRequest is null");
         }
+
+        private List<CursoredPage<Computer>> forward(SelectQuery select) {
+            List<CursoredPage<Computer>> pages = new ArrayList<>();
+            CursoredPage<Computer> page = template.selectCursor(select, PageRequest.ofSize(2));
+            pages.add(page);
+            while (page.hasNext()) {
+                page = template.selectCursor(select, page.nextPageRequest());
+                pages.add(page);
+            }
+            return pages;
+        }
+
+        /**
+         * Reads the pages before the given one, returning them in the order of the query.
+         */
+        private List<CursoredPage<Computer>> backward(SelectQuery select, CursoredPage<Computer> last) {
+            List<CursoredPage<Computer>> pages = new ArrayList<>();
+            CursoredPage<Computer> page = last;
+            while (page.hasPrevious()) {
+                page = template.selectCursor(select, page.previousPageRequest());
+                pages.addFirst(page);
+            }
+            return pages;
+        }
+
+        private List<Long> pageReleases(CursoredPage<Computer> page) {
+            return page.content().stream().map(Computer::getRelease).toList();
+        }
+
+        private List<Long> releases(List<CursoredPage<Computer>> pages) {
+            return pages.stream().flatMap(page -> page.content().stream()).map(Computer::getRelease).toList();
+        }
+
+        private List<String> models(List<CursoredPage<Computer>> pages) {
+            return pages.stream().flatMap(page -> page.content().stream()).map(Computer::getModel).toList();
+        }
     }
 
 
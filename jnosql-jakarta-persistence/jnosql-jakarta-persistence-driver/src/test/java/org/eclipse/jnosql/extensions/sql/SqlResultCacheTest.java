@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Metamodel;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.jakartapersistence.mapping.cache.EntityGenerations;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlResultCacheTest {
+
+    private final EntityManagerFactory factory = Mockito.mock(EntityManagerFactory.class);
+
+    private final Metamodel metamodel = Mockito.mock(Metamodel.class);
+
+    private final EntityGenerations generations = EntityGenerations.of(factory);
+
+    private final SqlResultCache cache = SqlResultCache.of(factory, Duration.ofMinutes(1), 10);
+
+    private final SelectQuery query = SelectQuery.select().from("Computer").where("model").eq("MacBook").build();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    SqlResultCacheTest() {
+        Mockito.when(metamodel.getEntities()).thenReturn(Set.of());
+    }
+
+    @Test
+    void shouldShareCacheOfFactory() {
+        assertThat(SqlResultCache.of(factory, Duration.ofSeconds(1), 1)).isSameAs(cache);
+    }
+
+    @Test
+    void shouldReuseResultUntilEntityChanges() {
+        assertThat(count()).isEqualTo(1L);
+        assertThat(count()).isEqualTo(1L);
+
+        generations.changed(metamodel, "Computer");
+
+        assertThat(count()).isEqualTo(2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepResultWhenOtherEntityChanges() {
+        count();
+        generations.changed(metamodel, "Sensor");
+        count();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotStoreResultLoadedDuringWrite() {
+        cache.get(SqlResultCache.Operation.COUNT, query, () -> {
+            generations.changed(metamodel, "Computer");
+            return (long) loads.incrementAndGet();
+        });
+
+        assertThat(cache.size()).isZero();
+        assertThat(count()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldExpireEveryResultOnUnknownWrite() {
+        count();
+        generations.changedAll();
+        count();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private long count() {
+        return cache.get(SqlResultCache.Operation.COUNT, query, () -> (long) loads.incrementAndGet());
+    }
+}
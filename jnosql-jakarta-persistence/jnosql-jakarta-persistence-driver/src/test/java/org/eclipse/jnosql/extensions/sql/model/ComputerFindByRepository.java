@@ -20,6 +20,7 @@ import jakarta.data.restrict.Restriction;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Flow;
 
 @Repository
 public interface ComputerFindByRepository extends BasicRepository<Computer, Long> {
@@ -34,4 +35,6 @@ public interface ComputerFindByRepository extends BasicRepository<Computer, Long
     List<Computer> findByRelease(long release, Restriction<Computer> restriction);
 
     List<Computer> findByModelAndRelease(String model, long release);
+
+    Flow.Publisher<Computer> findByModelOrderByRelease(String model);
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Entity
+public class PurchaseItem {
+
+    @Id
+    private String id;
+
+    @Column
+    private String product;
+
+    @ElementCollection
+    private List<String> serials = new ArrayList<>();
+
+    public PurchaseItem() {
+    }
+
+    private PurchaseItem(String id, String product, List<String> serials) {
+        this.id = id;
+        this.product = product;
+        this.serials = new ArrayList<>(serials);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProduct() {
+        return product;
+    }
+
+    public List<String> getSerials() {
+        return serials;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PurchaseItem item)) {
+            return false;
+        }
+        return Objects.equals(id, item.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "PurchaseItem{" +
+                "id='" + id + '\'' +
+                ", product='" + product + '\'' +
+                '}';
+    }
+
+    public static PurchaseItem of(String id, String product, String... serials) {
+        return new PurchaseItem(id, product, List.of(serials));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.util.Objects;
+
+@Entity
+public class Sensor {
+
+    @Id
+    private String id;
+
+    @Column
+    private String location;
+
+    @Column
+    private double reading;
+
+    public Sensor() {
+    }
+
+    private Sensor(String id, String location, double reading) {
+        this.id = id;
+        this.location = location;
+        this.reading = reading;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public double getReading() {
+        return reading;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Sensor sensor)) {
+            return false;
+        }
+        return Objects.equals(id, sensor.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Sensor{" +
+                "id='" + id + '\'' +
+                ", location='" + location + '\'' +
+                ", reading=" + reading +
+                '}';
+    }
+
+    public static Sensor of(String id, String location, double reading) {
+        return new Sensor(id, location, reading);
+    }
+}
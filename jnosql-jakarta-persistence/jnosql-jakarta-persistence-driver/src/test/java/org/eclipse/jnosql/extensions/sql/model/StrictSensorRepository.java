@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.model;
+
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.Repository;
+import org.eclipse.jnosql.extensions.sql.repository.WriteBehind;
+import org.eclipse.jnosql.extensions.sql.repository.WriteBehindFailureHandler;
+import org.eclipse.jnosql.extensions.sql.repository.WriteBehindRepository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Repository
+@WriteBehind(window = 60_000, batchSize = 100, maxRetries = 1, onFailure = StrictSensorRepository.DeadLetters.class)
+public interface StrictSensorRepository extends BasicRepository<Sensor, String>, WriteBehindRepository {
+
+    class DeadLetters implements WriteBehindFailureHandler {
+
+        public static final List<Object> DROPPED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void dropped(List<?> entities, RuntimeException cause) {
+            DROPPED.addAll(entities);
+        }
+    }
+}
@@ -15,10 +15,15 @@
 package org.eclipse.jnosql.extensions.sql.repository;
 
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.extensions.sql.SqlTemplate;
 import org.eclipse.jnosql.extensions.sql.model.Computer;
 import org.eclipse.jnosql.extensions.sql.model.ComputerFindByRepository;
+import org.eclipse.jnosql.extensions.sql.model.Purchase;
+import org.eclipse.jnosql.extensions.sql.model.PurchaseItem;
+import org.eclipse.jnosql.extensions.sql.model.PurchaseRepository;
 import org.eclipse.jnosql.extensions.sql.model._Computer;
 import org.jboss.weld.junit5.EnableWeld;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +31,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 @EnableWeld
 @DisplayName("FindBy Operation Repository Tests")
 class FindByOperationRepositoryTest extends AbstractTestRepository {
@@ -198,4 +211,203 @@ class FindByOperationRepositoryTest extends AbstractTestRepository {
             repository.deleteById(c1.getId());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("WhenPublishing")
+    class WhenPublishing {
+
+        @Test
+        @DisplayName("Should emit the rows one request at a time and complete")
+        void shouldEmitRowsOnDemand() throws InterruptedException {
+
+            // given
+            var c1 = repository.save(Computer.of("MacBook Pro", 2023));
+            var c2 = repository.save(Computer.of("MacBook Pro", 2021));
+            var c3 = repository.save(Computer.of("ThinkPad", 2022));
+            var subscriber = new RowSubscriber();
+
+            // when
+            repository.findByModelOrderByRelease("MacBook Pro").subscribe(subscriber);
+            subscriber.subscription.request(1);
+            var first = subscriber.rows.poll(5, TimeUnit.SECONDS);
+            var pending = subscriber.rows.poll(200, TimeUnit.MILLISECONDS);
+            subscriber.subscription.request(1);
+            var second = subscriber.rows.poll(5, TimeUnit.SECONDS);
+
+            // then
+            var completed = subscriber.completed.await(5, TimeUnit.SECONDS);
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(first).extracting(Computer::getRelease).isEqualTo(2021L);
+                softly.assertThat(pending).isNull();
+                softly.assertThat(second).extracting(Computer::getRelease).isEqualTo(2023L);
+                softly.assertThat(completed).isTrue();
+                softly.assertThat(subscriber.error).isNull();
+            });
+
+            // cleanup
+            repository.deleteById(c1.getId());
+            repository.deleteById(c2.getId());
+            repository.deleteById(c3.getId());
+        }
+
+        @Test
+        @DisplayName("Should stop emitting once cancelled")
+        void shouldStopWhenCancelled() throws InterruptedException {
+
+            // given
+            var c1 = repository.save(Computer.of("MacBook Pro", 2023));
+            var c2 = repository.save(Computer.of("MacBook Pro", 2021));
+            var subscriber = new RowSubscriber();
+
+            // when
+            repository.findByModelOrderByRelease("MacBook Pro").subscribe(subscriber);
+            subscriber.subscription.request(1);
+            var first = subscriber.rows.poll(5, TimeUnit.SECONDS);
+            subscriber.subscription.cancel();
+            subscriber.subscription.request(1);
+
+            // then
+            var next = subscriber.rows.poll(200, TimeUnit.MILLISECONDS);
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(first).isNotNull();
+                softly.assertThat(next).isNull();
+                softly.assertThat(subscriber.completed.getCount()).isEqualTo(1L);
+            });
+
+            // cleanup
+            repository.deleteById(c1.getId());
+            repository.deleteById(c2.getId());
+        }
+
+        @Test
+        @DisplayName("Should signal an error when a non-positive number of rows is requested")
+        void shouldFailOnInvalidRequest() throws InterruptedException {
+
+            // given
+            var subscriber = new RowSubscriber();
+
+            // when
+            repository.findByModelOrderByRelease("MacBook Pro").subscribe(subscriber);
+            subscriber.subscription.request(0);
+
+            // then
+            var failed = subscriber.completed.await(5, TimeUnit.SECONDS);
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(failed).isTrue();
+                softly.assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("WhenUsingFetchPlan")
+    class WhenUsingFetchPlan {
+
+        private EntityManagerFactory factory;
+
+        @BeforeEach
+        void setUp() {
+            factory = template.entityManager().getEntityManagerFactory();
+            inTransaction(entityManager -> entityManager.createQuery("select p from Purchase p", Purchase.class)
+                    .getResultList()
+                    .forEach(entityManager::remove));
+            inTransaction(entityManager -> {
+                entityManager.persist(Purchase.of("p-1", "PAID",
+                        PurchaseItem.of("i-1", "Keyboard", "K-1", "K-2"),
+                        PurchaseItem.of("i-2", "Mouse", "M-1")));
+                entityManager.persist(Purchase.of("p-2", "PAID",
+                        PurchaseItem.of("i-3", "Monitor", "D-1")));
+            });
+            factory.getCache().evictAll();
+        }
+
+        @Test
+        @DisplayName("Should load the nested associations of the fetch plan before the entity manager closes")
+        void shouldLoadFetchPlanAssociations() {
+
+            // given
+            List<Purchase> result;
+            try (var entityManager = factory.createEntityManager()) {
+                PurchaseRepository purchases = producer.get(PurchaseRepository.class, SqlTemplate.of(entityManager));
+
+                // when
+                result = purchases.findByStatus("PAID");
+            }
+
+            // then
+            var util = factory.getPersistenceUnitUtil();
+            var itemsLoaded = result.stream().allMatch(purchase -> util.isLoaded(purchase, "items"));
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).extracting(Purchase::getId).containsExactlyInAnyOrder("p-1", "p-2");
+                softly.assertThat(itemsLoaded).isTrue();
+                if (itemsLoaded) {
+                    var items = result.stream().flatMap(purchase -> purchase.getItems().stream()).toList();
+                    softly.assertThat(items).extracting(PurchaseItem::getId)
+                            .containsExactlyInAnyOrder("i-1", "i-2", "i-3");
+                    softly.assertThat(items).allMatch(item -> util.isLoaded(item, "serials"));
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep the associations lazy without a fetch plan")
+        void shouldKeepAssociationsLazyWithoutFetchPlan() {
+
+            // given
+            List<Purchase> result;
+            try (var entityManager = factory.createEntityManager()) {
+                PurchaseRepository purchases = producer.get(PurchaseRepository.class, SqlTemplate.of(entityManager));
+
+                // when
+                result = purchases.findByStatusOrderById("PAID");
+            }
+
+            // then
+            var util = factory.getPersistenceUnitUtil();
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).extracting(Purchase::getId).containsExactly("p-1", "p-2");
+                softly.assertThat(result).noneMatch(purchase -> util.isLoaded(purchase, "items"));
+            });
+        }
+
+        private void inTransaction(Consumer<EntityManager> work) {
+            try (var entityManager = factory.createEntityManager()) {
+                entityManager.getTransaction().begin();
+                work.accept(entityManager);
+                entityManager.getTransaction().commit();
+            }
+        }
+    }
+
+    private static final class RowSubscriber implements Flow.Subscriber<Computer> {
+
+        private final BlockingQueue<Computer> rows = new LinkedBlockingQueue<>();
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Computer item) {
+            rows.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
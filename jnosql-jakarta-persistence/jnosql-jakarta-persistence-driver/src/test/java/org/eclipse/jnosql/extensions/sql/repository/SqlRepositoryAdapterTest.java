@@ -25,6 +25,7 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.extensions.sql.SqlSettings;
 import org.eclipse.jnosql.extensions.sql.SqlTemplate;
 import org.eclipse.jnosql.extensions.sql.SqlTemplateFactory;
 import org.eclipse.jnosql.extensions.sql.model.Computer;
@@ -40,6 +41,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -236,6 +238,177 @@ class SqlRepositoryAdapterTest extends AbstractTestRepository{
         }
     }
 
+    @Nested
+    @DisplayName("WhenIdInIsChunked")
+    class WhenIdInIsChunked {
+
+        private NoSQLRepository<Computer, Long> chunkedRepository;
+
+        @BeforeEach
+        void setUp() {
+            repository.deleteAll();
+            System.setProperty(SqlSettings.IN_MAX_SIZE, "2");
+            try {
+                chunkedRepository = new SqlRepositoryAdapter<>(Computer.class, template, lifecycleEventHandler);
+            } finally {
+                System.clearProperty(SqlSettings.IN_MAX_SIZE);
+            }
+        }
+
+        @Test
+        @DisplayName("Should merge the results of every chunk")
+        void shouldMergeChunkResults() {
+
+            // given
+            var ids = Stream.of("MacBook Pro", "ThinkPad", "Dell XPS", "Surface", "Zenbook")
+                    .map(model -> repository.insert(Computer.of(model, 2023)).getId())
+                    .toList();
+
+            // when
+            var result = chunkedRepository.findByIdIn(ids).toList();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result)
+                    .extracting(Computer::getId)
+                    .containsExactlyInAnyOrderElementsOf(ids));
+        }
+
+        @Test
+        @DisplayName("Should delete the ids of every chunk")
+        void shouldDeleteEveryChunk() {
+
+            // given
+            var ids = Stream.of("MacBook Pro", "ThinkPad", "Dell XPS", "Surface", "Zenbook")
+                    .map(model -> repository.insert(Computer.of(model, 2023)).getId())
+                    .toList();
+            var remaining = repository.insert(Computer.of("Chromebook", 2021));
+
+            // when
+            chunkedRepository.deleteByIdIn(ids);
+
+            // then
+            var result = repository.findAll().toList();
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result)
+                    .extracting(Computer::getId)
+                    .containsExactly(remaining.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("WhenIdInIsChunkedInParallel")
+    class WhenIdInIsChunkedInParallel {
+
+        private NoSQLRepository<Computer, Long> parallelRepository;
+
+        @BeforeEach
+        void setUp() {
+            repository.deleteAll();
+            System.setProperty(SqlSettings.IN_MAX_SIZE, "2");
+            System.setProperty(SqlSettings.IN_PARALLEL, "true");
+            try {
+                parallelRepository = new SqlRepositoryAdapter<>(Computer.class, template, lifecycleEventHandler);
+            } finally {
+                System.clearProperty(SqlSettings.IN_MAX_SIZE);
+                System.clearProperty(SqlSettings.IN_PARALLEL);
+            }
+        }
+
+        @Test
+        @DisplayName("Should merge the results of the chunks loaded concurrently")
+        void shouldMergeParallelChunkResults() {
+
+            // given
+            var ids = Stream.of("MacBook Pro", "ThinkPad", "Dell XPS", "Surface", "Zenbook")
+                    .map(model -> repository.insert(Computer.of(model, 2023)).getId())
+                    .toList();
+
+            // when
+            List<Computer> result;
+            try (var stream = parallelRepository.findByIdIn(ids)) {
+                result = stream.toList();
+            }
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result)
+                    .extracting(Computer::getId)
+                    .containsExactlyInAnyOrderElementsOf(ids));
+        }
+
+        @Test
+        @DisplayName("Should load every chunk when only one chunk runs at a time")
+        void shouldLoadChunksOneAtATime() {
+
+            // given
+            var ids = Stream.of("MacBook Pro", "ThinkPad", "Dell XPS", "Surface", "Zenbook")
+                    .map(model -> repository.insert(Computer.of(model, 2023)).getId())
+                    .toList();
+            NoSQLRepository<Computer, Long> limitedRepository;
+            System.setProperty(SqlSettings.IN_MAX_SIZE, "2");
+            System.setProperty(SqlSettings.IN_PARALLEL, "true");
+            System.setProperty(SqlSettings.IN_MAX_PARALLEL, "1");
+            try {
+                limitedRepository = new SqlRepositoryAdapter<>(Computer.class, template, lifecycleEventHandler);
+            } finally {
+                System.clearProperty(SqlSettings.IN_MAX_SIZE);
+                System.clearProperty(SqlSettings.IN_PARALLEL);
+                System.clearProperty(SqlSettings.IN_MAX_PARALLEL);
+            }
+
+            // when
+            List<Computer> result;
+            try (var stream = limitedRepository.findByIdIn(ids)) {
+                result = stream.toList();
+            }
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result)
+                    .extracting(Computer::getId)
+                    .containsExactlyInAnyOrderElementsOf(ids));
+        }
+
+        @Test
+        @DisplayName("Should delete every chunk on the template entity manager")
+        void shouldDeleteEveryChunk() {
+
+            // given
+            var ids = Stream.of("MacBook Pro", "ThinkPad", "Dell XPS", "Surface", "Zenbook")
+                    .map(model -> repository.insert(Computer.of(model, 2023)).getId())
+                    .toList();
+            var remaining = repository.insert(Computer.of("Chromebook", 2021));
+
+            // when
+            parallelRepository.deleteByIdIn(ids);
+
+            // then
+            var result = repository.findAll().toList();
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result)
+                    .extracting(Computer::getId)
+                    .containsExactly(remaining.getId()));
+        }
+
+        @Test
+        @DisplayName("Should roll back every deleted chunk with the caller transaction")
+        void shouldRollbackEveryChunk() {
+
+            // given
+            var ids = Stream.of("MacBook Pro", "ThinkPad", "Dell XPS", "Surface", "Zenbook")
+                    .map(model -> repository.insert(Computer.of(model, 2023)).getId())
+                    .toList();
+
+            // when
+            assertThatThrownBy(() -> template.inUnitOfWork(work -> {
+                parallelRepository.deleteByIdIn(ids);
+                throw new IllegalStateException("rollback");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // then
+            var result = repository.findAll().toList();
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result)
+                    .extracting(Computer::getId)
+                    .containsExactlyInAnyOrderElementsOf(ids));
+        }
+    }
+
     @Nested
     @DisplayName("WhenExistsByIdAndFindByIdIn")
     class WhenExistsByIdAndFindByIdIn {
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.extensions.sql.repository;
 
+import jakarta.data.restrict.CompositeRestriction;
 import jakarta.data.restrict.Restrict;
 import jakarta.data.restrict.Restriction;
 import org.assertj.core.api.SoftAssertions;
@@ -22,12 +23,17 @@ import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.extensions.sql.model.Product;
 import org.eclipse.jnosql.extensions.sql.model._Product;
+import org.eclipse.jnosql.mapping.semistructured.query.UnsatisfiableQueryException;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class SqlRestrictionConverterTest {
 
 
@@ -458,4 +464,73 @@ class SqlRestrictionConverterTest {
         });
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReuseShapeWithDifferentValues() {
+        var shapes = new SqlRestrictionConverter.Shapes();
+        var first = SqlRestrictionConverter.INSTANCE.parser(Restrict.all(_Product.name.like("Macbook%"),
+                _Product.price.lessThanEqual(BigDecimal.TEN), _Product.name.notEqualTo("Dell")), shapes)
+                .orElseThrow();
+        int afterFirst = shapes.size();
+        var second = SqlRestrictionConverter.INSTANCE.parser(Restrict.all(_Product.name.like("Dell%"),
+                _Product.price.lessThanEqual(BigDecimal.ONE), _Product.name.notEqualTo("Macbook")), shapes)
+                .orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(afterFirst).isEqualTo(1);
+            soft.assertThat(shapes.size()).isEqualTo(afterFirst);
+            List<CriteriaCondition> firstConditions = first.element().get(new TypeReference<>() {});
+            List<CriteriaCondition> secondConditions = second.element().get(new TypeReference<>() {});
+            soft.assertThat(firstConditions.getFirst().element().get()).isEqualTo("Macbook%");
+            soft.assertThat(firstConditions.get(1).element().get()).isEqualTo(BigDecimal.TEN);
+            soft.assertThat(secondConditions.getFirst().element().get()).isEqualTo("Dell%");
+            soft.assertThat(secondConditions.get(1).element().get()).isEqualTo(BigDecimal.ONE);
+        });
+    }
+
+    @Test
+    void shouldReuseInShapeOnlyWithSameSize() {
+        var shapes = new SqlRestrictionConverter.Shapes();
+        var five = SqlRestrictionConverter.INSTANCE.parser(_Product.name.in("A", "B", "C", "D", "E"), shapes)
+                .orElseThrow();
+        var otherFive = SqlRestrictionConverter.INSTANCE.parser(_Product.name.in("F", "G", "H", "I", "J"), shapes)
+                .orElseThrow();
+        int afterFive = shapes.size();
+        var six = SqlRestrictionConverter.INSTANCE.parser(_Product.name.in("A", "B", "C", "D", "E", "F"), shapes)
+                .orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(afterFive).isEqualTo(1);
+            soft.assertThat(shapes.size()).isEqualTo(afterFive + 1);
+            soft.assertThat(five.element().get()).isEqualTo(List.of("A", "B", "C", "D", "E"));
+            soft.assertThat(otherFive.element().get()).isEqualTo(List.of("F", "G", "H", "I", "J"));
+            soft.assertThat(six.element().get()).isEqualTo(List.of("A", "B", "C", "D", "E", "F"));
+        });
+    }
+
+    @Test
+    void shouldShortCircuitUnmatchable() {
+        CompositeRestriction<Product> unmatchable = unmatchable();
+
+        assertThatThrownBy(() -> SqlRestrictionConverter.INSTANCE.parser(unmatchable))
+                .isInstanceOf(UnsatisfiableQueryException.class);
+    }
+
+    @Test
+    void shouldShortCircuitNestedUnmatchable() {
+        var shapes = new SqlRestrictionConverter.Shapes();
+        Restriction<Product> restriction = Restrict.all(_Product.name.equalTo("Macbook Pro"), unmatchable());
+
+        assertThatThrownBy(() -> SqlRestrictionConverter.INSTANCE.parser(restriction, shapes))
+                .isInstanceOf(UnsatisfiableQueryException.class);
+        assertThat(shapes.size()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompositeRestriction<Product> unmatchable() {
+        CompositeRestriction<Product> restriction = Mockito.mock(CompositeRestriction.class);
+        Mockito.when(restriction.restrictions()).thenReturn(List.of());
+        Mockito.when(restriction.toString()).thenReturn("UNMATCHABLE");
+        return restriction;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.extensions.sql.repository;
+
+import jakarta.inject.Inject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.extensions.sql.SqlTemplate;
+import org.eclipse.jnosql.extensions.sql.model.Computer;
+import org.eclipse.jnosql.extensions.sql.model.ComputerSaveRepository;
+import org.eclipse.jnosql.extensions.sql.model.Sensor;
+import org.eclipse.jnosql.extensions.sql.model.SensorRepository;
+import org.eclipse.jnosql.extensions.sql.model.StrictSensorRepository;
+import org.eclipse.jnosql.mapping.repository.LifecycleEventHandler;
+import org.jboss.weld.junit5.EnableWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@EnableWeld
+@DisplayName("Write-behind Repository Tests")
+class WriteBehindRepositoryTest extends AbstractTestRepository {
+
+    @Inject
+    private SqlTemplate template;
+
+    @Inject
+    private SqlRepositoryProducer producer;
+
+    private SensorRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        this.repository = producer.get(SensorRepository.class, template);
+        this.template.deleteAll(Sensor.class);
+    }
+
+    @Nested
+    @DisplayName("WhenBuffering")
+    class WhenBuffering {
+
+        @Test
+        @DisplayName("Should coalesce the saves of the same id until flushed")
+        void shouldCoalesceUntilFlushed() {
+
+            // given
+            repository.save(Sensor.of("s-1", "Lisbon", 1.0));
+            repository.save(Sensor.of("s-1", "Porto", 2.0));
+            repository.saveAll(List.of(Sensor.of("s-1", "Braga", 3.0), Sensor.of("s-2", "Faro", 4.0)));
+
+            // when
+            var buffered = template.count(Sensor.class);
+            var pending = repository.writeBehindMetrics();
+            repository.flush();
+
+            // then
+            var flushed = repository.writeBehindMetrics();
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(buffered).isZero();
+                softly.assertThat(pending.queueDepth()).isEqualTo(2);
+                softly.assertThat(template.count(Sensor.class)).isEqualTo(2L);
+                softly.assertThat(template.find(Sensor.class, "s-1")).get()
+                        .extracting(Sensor::getLocation).isEqualTo("Braga");
+                softly.assertThat(flushed.queueDepth()).isZero();
+                softly.assertThat(flushed.flushes()).isEqualTo(1L);
+                softly.assertThat(flushed.flushedEntities()).isEqualTo(2L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should find the buffered entity by id")
+        void shouldFindBufferedEntity() {
+
+            // given
+            repository.save(Sensor.of("s-1", "Lisbon", 1.0));
+
+            // when
+            var result = repository.findById("s-1");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).get().extracting(Sensor::getLocation).isEqualTo("Lisbon");
+                softly.assertThat(template.find(Sensor.class, "s-1")).isEmpty();
+            });
+        }
+
+        @Test
+        @DisplayName("Should flush the buffer before deleting")
+        void shouldFlushBeforeDelete() {
+
+            // given
+            repository.save(Sensor.of("s-1", "Lisbon", 1.0));
+            repository.save(Sensor.of("s-2", "Porto", 2.0));
+
+            // when
+            repository.deleteById("s-1");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(template.count(Sensor.class)).isEqualTo(1L);
+                softly.assertThat(repository.writeBehindMetrics().queueDepth()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("Should flush when the producer is destroyed")
+        void shouldFlushOnClose() {
+
+            // given
+            repository.save(Sensor.of("s-1", "Lisbon", 1.0));
+
+            // when
+            producer.close();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(template.count(Sensor.class)).isEqualTo(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("WhenPublishingEvents")
+    class WhenPublishingEvents {
+
+        private final LifecycleEventHandler events = mock(LifecycleEventHandler.class);
+
+        private SqlRepositoryAdapter<Sensor, String> adapter;
+
+        @BeforeEach
+        void setUp() {
+            adapter = new SqlRepositoryAdapter<>(Sensor.class, template, events,
+                    SensorRepository.class.getAnnotation(WriteBehind.class));
+        }
+
+        @Test
+        @DisplayName("Should fire the post events once the flush commits")
+        void shouldFirePostEventsAfterFlush() {
+
+            // given
+            var saved = Sensor.of("s-1", "Lisbon", 1.0);
+            adapter.save(saved);
+            adapter.flush();
+            var updated = Sensor.of("s-1", "Porto", 2.0);
+            adapter.update(updated);
+
+            // when
+            verify(events).preUpdate(updated);
+            verify(events, never()).postUpdate(any());
+            adapter.flush();
+
+            // then
+            verify(events).postUpsert(saved);
+            verify(events).postUpdate(updated);
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(template.find(Sensor.class, "s-1")).get()
+                    .extracting(Sensor::getLocation).isEqualTo("Porto"));
+        }
+
+        @Test
+        @DisplayName("Should fire the post event only for the last state of an id")
+        void shouldFireLastStateOnly() {
+
+            // given
+            var first = Sensor.of("s-1", "Lisbon", 1.0);
+            var last = Sensor.of("s-1", "Porto", 2.0);
+            adapter.saveAll(List.of(first, last));
+
+            // when
+            verify(events, never()).postUpsert(any());
+            adapter.flush();
+
+            // then
+            verify(events, never()).postUpsert(first);
+            verify(events).postUpsert(last);
+        }
+    }
+
+    @Nested
+    @DisplayName("WhenFlushFails")
+    class WhenFlushFails {
+
+        private StrictSensorRepository strict;
+
+        @BeforeEach
+        void setUp() {
+            strict = producer.get(StrictSensorRepository.class, template);
+            StrictSensorRepository.DeadLetters.DROPPED.clear();
+        }
+
+        @Test
+        @DisplayName("Should retry the failed entities and drop them after the maximum retries")
+        void shouldDropAfterMaxRetries() {
+
+            // given
+            var invalid = Sensor.of("s-1", "L".repeat(1_000), 1.0);
+            strict.save(invalid);
+
+            // when
+            assertThatThrownBy(strict::flush).isInstanceOf(RuntimeException.class);
+            var retrying = strict.writeBehindMetrics();
+            assertThatThrownBy(strict::flush).isInstanceOf(RuntimeException.class);
+
+            // then
+            var dropped = strict.writeBehindMetrics();
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(retrying.queueDepth()).isEqualTo(1);
+                softly.assertThat(retrying.droppedEntities()).isZero();
+                softly.assertThat(dropped.queueDepth()).isZero();
+                softly.assertThat(dropped.failures()).isEqualTo(2L);
+                softly.assertThat(dropped.droppedEntities()).isEqualTo(1L);
+                softly.assertThat(StrictSensorRepository.DeadLetters.DROPPED).containsExactly(invalid);
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep retrying an id whose newer state is buffered")
+        void shouldKeepNewerState() {
+
+            // given
+            strict.save(Sensor.of("s-1", "L".repeat(1_000), 1.0));
+            assertThatThrownBy(strict::flush).isInstanceOf(RuntimeException.class);
+            strict.save(Sensor.of("s-1", "Lisbon", 2.0));
+
+            // when
+            strict.flush();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(template.find(Sensor.class, "s-1")).get()
+                        .extracting(Sensor::getLocation).isEqualTo("Lisbon");
+                softly.assertThat(strict.writeBehindMetrics().droppedEntities()).isZero();
+                softly.assertThat(StrictSensorRepository.DeadLetters.DROPPED).isEmpty();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("WhenNotAnnotated")
+    class WhenNotAnnotated {
+
+        @Test
+        @DisplayName("Should write immediately and report empty metrics")
+        void shouldWriteImmediately() {
+
+            // given
+            ComputerSaveRepository computers = producer.get(ComputerSaveRepository.class, template);
+
+            // when
+            var computer = computers.save(Computer.of("MacBook", 2024));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(template.find(Computer.class, computer.getId()))
+                    .isPresent());
+
+            // cleanup
+            computers.deleteById(computer.getId());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.metamodel.EntityType;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.extensions.sql.model.Computer;
+import org.eclipse.jnosql.jakartapersistence.communication.PersistenceDatabaseManager;
+import org.eclipse.jnosql.jakartapersistence.mapping.cache.MapBasedPersistenceUnitCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Fluent queries of the PersistenceDocumentTemplate")
+class PersistenceDocumentTemplateTest {
+
+    private EntityManager entityManager;
+
+    private PersistenceDocumentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory factory = Persistence.createEntityManagerFactory("testPersistenceUnit");
+        entityManager = factory.createEntityManager();
+        var cache = new MapBasedPersistenceUnitCache();
+        cache.setEntityTypesByNameSupplier(() -> {
+            Map<String, EntityType<?>> types = new HashMap<>();
+            factory.getMetamodel().getEntities().forEach(type -> types.put(type.getName(), type));
+            return types;
+        });
+        template = new PersistenceDocumentTemplate(new PersistenceDatabaseManager(entityManager, cache));
+        inTransaction(() -> {
+            entityManager.createQuery("DELETE FROM Computer").executeUpdate();
+            template.insert(Computer.of("MacBook", 2024));
+            template.insert(Computer.of("ThinkPad", 2023));
+            template.insert(Computer.of("Mac Mini", 2020));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("Should select entities with conditions, sorting and limit")
+    void shouldSelectEntities() {
+        List<Computer> computers = template.select(Computer.class)
+                .where("model").startsWith("Mac")
+                .and("release").gte(2020L)
+                .orderBy("release").desc()
+                .limit(1)
+                .result();
+
+        assertThat(computers).extracting(Computer::getModel).containsExactly("MacBook");
+    }
+
+    @Test
+    @DisplayName("Should return a single result")
+    void shouldReturnSingleResult() {
+        Optional<Computer> computer = template.select(Computer.class)
+                .where("model").eq("ThinkPad")
+                .singleResult();
+
+        assertThat(computer).map(Computer::getRelease).contains(2023L);
+    }
+
+    @Test
+    @DisplayName("Should delete the entities matching the conditions")
+    void shouldDeleteEntities() {
+        inTransaction(() -> template.delete(Computer.class)
+                .where("release").lt(2024L)
+                .execute());
+
+        entityManager.clear();
+        assertThat(template.findAll(Computer.class).toList())
+                .extracting(Computer::getModel)
+                .containsExactly("MacBook");
+    }
+
+    @Test
+    @DisplayName("Should update the entities matching the conditions")
+    void shouldUpdateEntities() {
+        inTransaction(() -> template.update(Computer.class)
+                .set("release").to(2025L)
+                .where("model").endsWith("Pad")
+                .execute());
+
+        entityManager.clear();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.select(Computer.class).where("model").eq("ThinkPad").<Computer>singleResult())
+                    .map(Computer::getRelease).contains(2025L);
+            soft.assertThat(template.select(Computer.class).where("release").eq(2025L).<Computer>result())
+                    .hasSize(1);
+        });
+    }
+
+    private void inTransaction(Runnable operation) {
+        var transaction = entityManager.getTransaction();
+        transaction.begin();
+        try {
+            operation.run();
+            transaction.commit();
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        }
+    }
+}
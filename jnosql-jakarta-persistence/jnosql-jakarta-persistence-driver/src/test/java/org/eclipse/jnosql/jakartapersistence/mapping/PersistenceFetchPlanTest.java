@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistenceFetchPlanTest {
+
+    @Test
+    void shouldReadFetchPlanFromMethod() throws NoSuchMethodException {
+        var method = Orders.class.getMethod("findByStatus", String.class);
+
+        var fetchPlan = PersistenceFetchPlan.of(method);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(fetchPlan).isPresent();
+            soft.assertThat(fetchPlan.orElseThrow().graph()).isEqualTo("Order.customer");
+            soft.assertThat(fetchPlan.orElseThrow().attributes()).containsExactly("items", "items.product");
+            soft.assertThat(fetchPlan.orElseThrow().type()).isEqualTo(FetchPlan.Type.LOAD);
+        });
+    }
+
+    @Test
+    void shouldReturnEmptyWithoutFetchPlan() throws NoSuchMethodException {
+        var method = Orders.class.getMethod("findAll");
+        assertThat(PersistenceFetchPlan.of(method)).isEmpty();
+    }
+
+    @Test
+    void shouldResolveMethodOnce() throws NoSuchMethodException {
+        var method = Orders.class.getMethod("findByStatus", String.class);
+        assertThat(PersistenceFetchPlan.of(method)).isSameAs(PersistenceFetchPlan.of(method));
+    }
+
+    @Test
+    void shouldKeepQueryWithoutFetchPlan() throws NoSuchMethodException {
+        var query = SelectQuery.select().from("Order").build();
+        var method = Orders.class.getMethod("findAll");
+        assertThat(HintedSelectQuery.of(query, method)).isSameAs(query);
+    }
+
+    @Test
+    void shouldDecorateQueryWithFetchPlan() throws NoSuchMethodException {
+        var query = SelectQuery.select().from("Order").build();
+        var method = Orders.class.getMethod("findByStatus", String.class);
+
+        var decorated = HintedSelectQuery.of(query, method);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(decorated).isInstanceOf(HintedSelectQuery.class);
+            soft.assertThat(decorated.name()).isEqualTo("Order");
+            soft.assertThat(((HintedSelectQuery) decorated).fetchPlan().attributes())
+                    .isEqualTo(List.of("items", "items.product"));
+        });
+    }
+
+    interface Orders {
+
+        @FetchPlan(graph = "Order.customer", attributes = {"items", "items.product"}, type = FetchPlan.Type.LOAD)
+        List<Object> findByStatus(String status);
+
+        List<Object> findAll();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.Query;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class PersistenceQueryOptionsTest {
+
+    @Test
+    void shouldReadQueryOptionsFromMethod() throws NoSuchMethodException {
+        var method = Reports.class.getMethod("findByYear", int.class);
+
+        var options = PersistenceQueryOptions.of(method).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.fetchSize()).isEqualTo(500);
+            soft.assertThat(options.timeout()).isNull();
+            soft.assertThat(options.readOnly()).isTrue();
+            soft.assertThat(options.cacheRetrieveMode()).isEqualTo(CacheRetrieveMode.BYPASS);
+            soft.assertThat(options.cacheStoreMode()).isNull();
+        });
+    }
+
+    @Test
+    void shouldReturnEmptyWithoutQueryOptions() throws NoSuchMethodException {
+        var method = Reports.class.getMethod("findAll");
+        assertThat(PersistenceQueryOptions.of(method)).isEmpty();
+    }
+
+    @Test
+    void shouldLeaveDefaultOptionsUnset() throws NoSuchMethodException {
+        var method = Reports.class.getMethod("findByCity", String.class);
+
+        assertThat(PersistenceQueryOptions.of(method))
+                .contains(new PersistenceQueryOptions(null, 1000, null, null, null));
+    }
+
+    @Test
+    void shouldOverrideReadOnlyDefault() throws NoSuchMethodException {
+        var method = Reports.class.getMethod("findByName", String.class);
+        var defaults = PersistenceQueryOptions.defaults(Map.of(PersistenceQueryOptions.READ_ONLY, "true"));
+
+        var options = PersistenceQueryOptions.of(method).orElseThrow().orElse(defaults);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(defaults.isReadOnly()).isTrue();
+            soft.assertThat(options.readOnly()).isFalse();
+            soft.assertThat(options.isReadOnly()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldResolveMethodOnce() throws NoSuchMethodException {
+        var method = Reports.class.getMethod("findByYear", int.class);
+
+        assertThat(PersistenceQueryOptions.of(method)).isSameAs(PersistenceQueryOptions.of(method));
+    }
+
+    @Test
+    void shouldReadDefaultsFromProperties() {
+        var defaults = PersistenceQueryOptions.defaults(Map.of(
+                PersistenceQueryOptions.FETCH_SIZE, "100",
+                PersistenceQueryOptions.TIMEOUT, 2000,
+                PersistenceQueryOptions.CACHE_STORE_MODE, "REFRESH"));
+
+        assertThat(defaults).isEqualTo(new PersistenceQueryOptions(100, 2000, null, null, CacheStoreMode.REFRESH));
+    }
+
+    @Test
+    void shouldReturnNoneWithoutDefaults() {
+        assertThat(PersistenceQueryOptions.defaults(Map.of())).isEqualTo(PersistenceQueryOptions.NONE);
+    }
+
+    @Test
+    void shouldRejectInvalidDefaults() {
+        assertThatThrownBy(() -> PersistenceQueryOptions.defaults(Map.of(PersistenceQueryOptions.TIMEOUT, "0")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCompleteWithDefaults() {
+        var options = new PersistenceQueryOptions(500, null, true, null, null);
+        var defaults = new PersistenceQueryOptions(100, 2000, false, CacheRetrieveMode.USE, null);
+
+        assertThat(options.orElse(defaults))
+                .isEqualTo(new PersistenceQueryOptions(500, 2000, true, CacheRetrieveMode.USE, null));
+    }
+
+    @Test
+    void shouldApplyHints() {
+        var query = Mockito.mock(Query.class);
+        new PersistenceQueryOptions(500, 2000, true, CacheRetrieveMode.BYPASS, CacheStoreMode.USE).apply(query);
+
+        Mockito.verify(query).setHint(PersistenceQueryOptions.ECLIPSELINK_FETCH_SIZE_HINT, 500);
+        Mockito.verify(query).setHint(PersistenceQueryOptions.HIBERNATE_FETCH_SIZE_HINT, 500);
+        Mockito.verify(query).setHint(PersistenceQueryOptions.ECLIPSELINK_READ_ONLY_HINT, true);
+        Mockito.verify(query).setHint(PersistenceQueryOptions.HIBERNATE_READ_ONLY_HINT, true);
+        Mockito.verify(query).setHint(PersistenceQueryOptions.TIMEOUT_HINT, 2000);
+        Mockito.verify(query).setHint(PersistenceQueryOptions.CACHE_RETRIEVE_MODE_HINT, CacheRetrieveMode.BYPASS);
+        Mockito.verify(query).setHint(PersistenceQueryOptions.CACHE_STORE_MODE_HINT, CacheStoreMode.USE);
+    }
+
+    @Test
+    void shouldApplyOnlyTimeoutToUpdates() {
+        var query = Mockito.mock(Query.class);
+        new PersistenceQueryOptions(500, 2000, true, CacheRetrieveMode.BYPASS, null).applyUpdate(query);
+
+        Mockito.verify(query).setHint(PersistenceQueryOptions.TIMEOUT_HINT, 2000);
+        Mockito.verify(query, Mockito.times(1)).setHint(anyString(), any());
+    }
+
+    @Test
+    void shouldNotApplyHintsWhenEmpty() {
+        var query = Mockito.mock(Query.class);
+        PersistenceQueryOptions.NONE.apply(query);
+        Mockito.verifyNoInteractions(query);
+    }
+
+    interface Reports {
+
+        @QueryOptions(fetchSize = 500, readOnly = QueryOptions.ReadOnly.TRUE,
+                cacheRetrieveMode = QueryOptions.CacheRetrieve.BYPASS)
+        List<Object> findByYear(int year);
+
+        @QueryOptions(readOnly = QueryOptions.ReadOnly.FALSE)
+        List<Object> findByName(String name);
+
+        @QueryOptions(timeout = 1000)
+        List<Object> findByCity(String city);
+
+        List<Object> findAll();
+    }
+}
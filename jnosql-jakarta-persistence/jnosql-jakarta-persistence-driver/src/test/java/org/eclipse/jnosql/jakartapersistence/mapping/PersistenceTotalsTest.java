@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.jakartapersistence.communication.PersistenceDatabaseManager;
+import org.eclipse.jnosql.jakartapersistence.mapping.cache.MapBasedPersistenceUnitCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistenceTotalsTest {
+
+    private final EntityManager entityManager = Mockito.mock(EntityManager.class);
+
+    private final Map<String, Object> properties = new HashMap<>();
+
+    private final AtomicLong counts = new AtomicLong();
+
+    private final SelectQuery unfiltered = SelectQuery.select().from("Sensor").build();
+
+    private final SelectQuery filtered = SelectQuery.select().from("Sensor").where("reading").gt(10).build();
+
+    private PersistenceDatabaseManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        var factory = Mockito.mock(EntityManagerFactory.class);
+        var metamodel = Mockito.mock(Metamodel.class);
+        EntityType<Sensor> entityType = Mockito.mock(EntityType.class);
+        Mockito.when(entityManager.getEntityManagerFactory()).thenReturn(factory);
+        Mockito.when(factory.getProperties()).thenReturn(properties);
+        Mockito.when(entityManager.getMetamodel()).thenReturn(metamodel);
+        Mockito.when(metamodel.entity("Sensor")).thenReturn((EntityType) entityType);
+        Mockito.when(entityType.getJavaType()).thenReturn(Sensor.class);
+        Mockito.when(entityType.getName()).thenReturn("Sensor");
+        Mockito.when(entityManager.isJoinedToTransaction()).thenReturn(true);
+        properties.put(PersistenceTotals.ESTIMATE, "true");
+        properties.put(PersistenceTotals.THRESHOLD, "1000");
+        manager = new PersistenceDatabaseManager(entityManager, new MapBasedPersistenceUnitCache());
+    }
+
+    @Test
+    void shouldCountEveryTimeByDefault() {
+        properties.remove(PersistenceTotals.ESTIMATE);
+        var totals = PersistenceTotals.of(manager);
+
+        totals.total(filtered, this::count);
+        totals.total(filtered, this::count);
+
+        assertThat(counts).hasValue(2);
+        Mockito.verify(entityManager, Mockito.never()).callWithConnection(Mockito.any());
+    }
+
+    @Test
+    void shouldUseStatisticsFromThreshold() {
+        Mockito.when(entityManager.callWithConnection(Mockito.any())).thenReturn(OptionalLong.of(1000));
+
+        assertThat(PersistenceTotals.of(manager).total(unfiltered, this::count)).isEqualTo(1000L);
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void shouldCountBelowThreshold() {
+        Mockito.when(entityManager.callWithConnection(Mockito.any())).thenReturn(OptionalLong.of(999));
+
+        assertThat(PersistenceTotals.of(manager).total(unfiltered, this::count)).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotUseStatisticsOfFilteredQuery() {
+        PersistenceTotals.of(manager).total(filtered, this::count);
+
+        assertThat(counts).hasValue(1);
+        Mockito.verify(entityManager, Mockito.never()).callWithConnection(Mockito.any());
+    }
+
+    @Test
+    void shouldReuseCountWithinTtl() {
+        var totals = PersistenceTotals.of(manager);
+
+        totals.total(filtered, this::count);
+        var reused = totals.total(filtered, this::count);
+        totals.total(SelectQuery.select().from("Sensor").where("reading").gt(20).build(), this::count);
+
+        assertThat(reused).isEqualTo(1L);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    void shouldCountAgainOnceTtlElapsed() {
+        var cache = new MapBasedPersistenceUnitCache();
+
+        cache.getOrCountTotal("total", Duration.ZERO, this::count);
+        cache.getOrCountTotal("total", Duration.ZERO, this::count);
+
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    void shouldLookUpSnakeCaseTable() {
+        assertThat(PersistenceTotals.tableNames("SensorReading")).containsExactly("SensorReading", "sensor_reading");
+        assertThat(PersistenceTotals.tableNames("sales.SensorReading"))
+                .containsExactly("sales.SensorReading", "sales.sensor_reading");
+        assertThat(PersistenceTotals.tableNames("Sensor")).containsExactly("Sensor");
+    }
+
+    private long count() {
+        return counts.incrementAndGet();
+    }
+
+    static class Sensor {
+        String id;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import org.eclipse.jnosql.jakartapersistence.mapping.UpsertTable.UpsertColumn;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.Types;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpsertDialectTest {
+
+    private final UpsertTable table = new UpsertTable("sensor",
+            new UpsertColumn("id", null, Types.VARCHAR),
+            List.of(new UpsertColumn("location", null, Types.VARCHAR),
+                    new UpsertColumn("reading", null, Types.DOUBLE)));
+
+    @ParameterizedTest
+    @CsvSource({
+            "PostgreSQL, ON_CONFLICT",
+            "MySQL, ON_DUPLICATE_KEY",
+            "MariaDB, ON_DUPLICATE_KEY",
+            "H2, MERGE",
+            "HSQL Database Engine, MERGE",
+            "Oracle, MERGE_FROM_DUAL",
+            "Apache Derby, UPDATE_THEN_INSERT",
+            "Microsoft SQL Server, UPDATE_THEN_INSERT"
+    })
+    void shouldDetectDialect(String product, UpsertDialect dialect) {
+        assertThat(UpsertDialect.of(product)).isEqualTo(dialect);
+    }
+
+    @Test
+    void shouldCreateOnConflict() {
+        assertThat(UpsertDialect.ON_CONFLICT.sql(table)).isEqualTo(
+                "INSERT INTO sensor (id, location, reading) VALUES (?, ?, ?) ON CONFLICT (id) "
+                        + "DO UPDATE SET location = EXCLUDED.location, reading = EXCLUDED.reading");
+    }
+
+    @Test
+    void shouldCreateOnDuplicateKey() {
+        assertThat(UpsertDialect.ON_DUPLICATE_KEY.sql(table)).isEqualTo(
+                "INSERT INTO sensor (id, location, reading) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE "
+                        + "location = VALUES(location), reading = VALUES(reading)");
+    }
+
+    @Test
+    void shouldCreateMerge() {
+        assertThat(UpsertDialect.MERGE.sql(table)).isEqualTo(
+                "MERGE INTO sensor t USING (VALUES (?, ?, ?)) AS s (id, location, reading) ON t.id = s.id "
+                        + "WHEN MATCHED THEN UPDATE SET location = s.location, reading = s.reading "
+                        + "WHEN NOT MATCHED THEN INSERT (id, location, reading) VALUES (s.id, s.location, s.reading)");
+    }
+
+    @Test
+    void shouldCreateUpdate() {
+        assertThat(UpsertDialect.UPDATE_THEN_INSERT.sql(table))
+                .isEqualTo("UPDATE sensor SET location = ?, reading = ? WHERE id = ?");
+    }
+}
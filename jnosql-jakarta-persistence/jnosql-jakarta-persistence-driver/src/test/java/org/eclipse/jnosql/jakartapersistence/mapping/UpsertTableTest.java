@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping;
+
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpsertTableTest {
+
+    @Test
+    void shouldAcceptEntityWithoutCallbacks() {
+        assertThat(UpsertTable.hasCallbacks(Plain.class)).isFalse();
+    }
+
+    @Test
+    void shouldRejectEntityWithCallback() {
+        assertThat(UpsertTable.hasCallbacks(Audited.class)).isTrue();
+    }
+
+    @Test
+    void shouldRejectEntityWithInheritedCallback() {
+        assertThat(UpsertTable.hasCallbacks(AuditedChild.class)).isTrue();
+    }
+
+    @Test
+    void shouldRejectEntityWithListener() {
+        assertThat(UpsertTable.hasCallbacks(Listened.class)).isTrue();
+    }
+
+    @Test
+    void shouldQualifyTableWithCatalogAndSchema() {
+        var entity = Mockito.mock(EntityType.class);
+        assertThat(UpsertTable.tableName(Qualified.class, entity)).isEqualTo("sales.reports.sensor");
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        var entityManager = Mockito.mock(EntityManager.class);
+        var factory = Mockito.mock(EntityManagerFactory.class);
+        Mockito.when(entityManager.getEntityManagerFactory()).thenReturn(factory);
+        Mockito.when(factory.getProperties()).thenReturn(Map.of());
+        Mockito.when(entityManager.isJoinedToTransaction()).thenReturn(true);
+
+        assertThat(PersistenceUpsert.of(entityManager).supports(Plain.class)).isFalse();
+        Mockito.verify(entityManager, Mockito.never()).getMetamodel();
+    }
+
+    static class Plain {
+        String id;
+    }
+
+    static class Audited {
+        String id;
+
+        @PrePersist
+        void prePersist() {
+        }
+    }
+
+    static class AuditedChild extends Audited {
+
+        @PreUpdate
+        void preUpdate() {
+        }
+    }
+
+    @EntityListeners(Object.class)
+    static class Listened {
+        String id;
+    }
+
+    @Table(name = "sensor", schema = "reports", catalog = "sales")
+    static class Qualified {
+        String id;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ *
+ *  Contributors:
+ *
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.jakartapersistence.mapping.core;
+
+import jakarta.data.page.PageRequest;
+import jakarta.persistence.Query;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PersistencePageTest {
+
+    @Test
+    void shouldReadOneMoreElementToDetectNextPage() {
+        var query = query(3, 4);
+
+        var page = PersistencePage.of(query, null, PageRequest.ofSize(3).withoutTotal(), null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content()).containsExactly(0, 1, 2);
+            soft.assertThat(page.hasNext()).isTrue();
+            soft.assertThat(page.hasTotals()).isFalse();
+        });
+        verify(query).setMaxResults(4);
+    }
+
+    @Test
+    void shouldNotHaveNextPageOnExactBoundary() {
+        var query = query(3, 3);
+
+        var page = PersistencePage.of(query, null, PageRequest.ofSize(3).withoutTotal(), null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.numberOfElements()).isEqualTo(3);
+            soft.assertThat(page.hasNext()).isFalse();
+        });
+        assertThatThrownBy(page::nextPageRequest).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldMapOnlyTheElementsOfThePage() {
+        var query = query(2, 3);
+
+        var page = PersistencePage.<String>of(query, null, PageRequest.ofSize(2).withoutTotal(), value -> "#" + value);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content()).containsExactly("#0", "#1");
+            soft.assertThat(page.hasNext()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldKeepTheQueryLimitWhenSmallerThanThePage() {
+        var query = query(2, 2);
+
+        var page = PersistencePage.of(query, null, PageRequest.ofSize(5).withoutTotal(), null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content()).hasSize(2);
+            soft.assertThat(page.hasNext()).isFalse();
+        });
+        verify(query, never()).setMaxResults(6);
+    }
+
+    @Test
+    void shouldComputeTotalsOnce() {
+        var query = query(10, 11);
+        long[] calls = {0};
+
+        var page = PersistencePage.of(query, () -> ++calls[0] * 95, PageRequest.ofSize(10), null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.totalElements()).isEqualTo(95L);
+            soft.assertThat(page.totalPages()).isEqualTo(10L);
+            soft.assertThat(calls[0]).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldRequireTotalsWhenRequested() {
+        var query = query(10, 0);
+        var pageRequest = PageRequest.ofSize(10).withTotal();
+        assertThatThrownBy(() -> PersistencePage.of(query, null, pageRequest, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static Query query(int maxResults, int results) {
+        var query = mock(Query.class);
+        when(query.getMaxResults()).thenReturn(maxResults);
+        List<Object> list = IntStream.range(0, results).boxed().map(Object.class::cast).toList();
+        when(query.getResultList()).thenReturn(list);
+        return query;
+    }
+}
@@ -34,7 +34,7 @@ public interface PersonRepository extends NoSQLRepository<Person, Long> {
 
     Page<Person> findByName(String name, PageRequest pageRequest);
 
-    @Query("select * from Person where name = @name")
+    @Query("from Person where name = :name")
     List<Person> query(@Param("name") String name);
 
     boolean existsByName(String name);
@@ -14,14 +14,18 @@
  */
 package org.eclipse.jnosql.lite.mapping.entities;
 
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.lite.mapping.metadata.LiteEntitiesMetadata;
+import org.eclipse.jnosql.lite.mapping.metadata.LiteEntityCodec;
+import org.eclipse.jnosql.lite.mapping.metadata.LiteEntityCodecs;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -121,4 +125,40 @@ public class CarTest {
 
     }
 
+    @Test
+    void shouldFindCodec() {
+        Optional<LiteEntityCodec<Car>> codec = LiteEntityCodecs.INSTANCE.find(Car.class);
+        Assertions.assertTrue(codec.isPresent());
+        Assertions.assertEquals(Car.class, codec.orElseThrow().type());
+        Assertions.assertEquals(2, codec.orElseThrow().size());
+    }
+
+    @Test
+    void shouldEncodeWithCodec() {
+        LiteEntityCodec<Car> codec = LiteEntityCodecs.INSTANCE.find(Car.class).orElseThrow();
+        Map<String, Object> attributes = new HashMap<>();
+        codec.encode(new Car("ferrari", "sport"), attributes::put);
+
+        Assertions.assertEquals(Map.of("_id", "ferrari", "model", "sport"), attributes);
+    }
+
+    @Test
+    void shouldSkipNullWithCodec() {
+        LiteEntityCodec<Car> codec = LiteEntityCodecs.INSTANCE.find(Car.class).orElseThrow();
+        Map<String, Object> attributes = new HashMap<>();
+        codec.encode(new Car("ferrari", null), attributes::put);
+
+        Assertions.assertEquals(Map.of("_id", "ferrari"), attributes);
+    }
+
+    @Test
+    void shouldDecodeWithCodec() {
+        LiteEntityCodec<Car> codec = LiteEntityCodecs.INSTANCE.find(Car.class).orElseThrow();
+        Map<String, Value> attributes = Map.of("_id", Value.of("ferrari"), "model", Value.of("sport"));
+        Car car = codec.decode(attributes::get);
+
+        Assertions.assertEquals("ferrari", car.getName());
+        Assertions.assertEquals("sport", car.getModel());
+    }
+
 }
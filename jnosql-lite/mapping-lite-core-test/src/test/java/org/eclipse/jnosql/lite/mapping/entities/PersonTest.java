@@ -99,6 +99,33 @@ public class PersonTest {
         Assertions.assertNotNull(groupByName.get("pet"));
     }
 
+    @Test
+    void shouldReuseFieldLookups() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entityMetadata.fields()).isSameAs(entityMetadata.fields());
+            soft.assertThat(entityMetadata.fieldsName()).isSameAs(entityMetadata.fieldsName());
+            soft.assertThat(entityMetadata.fieldsGroupByName()).isSameAs(entityMetadata.fieldsGroupByName());
+            soft.assertThat(entityMetadata.id()).isSameAs(entityMetadata.id());
+            soft.assertThat(entityMetadata.fieldMapping("username")).get()
+                    .isSameAs(entityMetadata.fieldsGroupByName().get("native"));
+            soft.assertThat(entityMetadata.fieldMapping("unknown")).isEmpty();
+            soft.assertThat(entityMetadata.columnField("username")).isEqualTo("native");
+            soft.assertThat(entityMetadata.columnField("unknown")).isEqualTo("unknown");
+        });
+    }
+
+    @Test
+    void shouldNotModifyFieldLookups() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> entityMetadata.fields().clear())
+                    .isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> entityMetadata.fieldsName().clear())
+                    .isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> entityMetadata.fieldsGroupByName().clear())
+                    .isInstanceOf(UnsupportedOperationException.class);
+        });
+    }
+
     @Test
     void shouldGetter() {
         Map<String, FieldMetadata> groupByName = this.entityMetadata.fieldsGroupByName();
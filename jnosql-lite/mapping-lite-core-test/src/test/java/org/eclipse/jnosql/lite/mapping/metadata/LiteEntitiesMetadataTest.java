@@ -216,6 +216,26 @@ class LiteEntitiesMetadataTest {
                 .contains("mappings=");
     }
 
+    @Test
+    @DisplayName("Should generate the fields in the entity metadata class")
+    void shouldConsolidateFieldsInTheEntityMetadata() {
+        EntityMetadata result = new LiteEntitiesMetadata().get(org.eclipse.jnosql.lite.mapping.entities.Movie.class);
+
+        assertThat(result).isInstanceOf(LiteFieldAccessor.class);
+        assertThat(result.fields()).isNotEmpty().allMatch(LiteFieldMetadata.class::isInstance);
+        assertThatThrownBy(() -> Class.forName("org.eclipse.jnosql.lite.mapping.entities.MovieTitleFieldMetaData"))
+                .isInstanceOf(ClassNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should create the entity metadata once")
+    void shouldCreateEntityMetadataOnce() {
+        EntitiesMetadata metadata = new LiteEntitiesMetadata();
+
+        assertThat(metadata.get(org.eclipse.jnosql.lite.mapping.entities.Movie.class))
+                .isSameAs(metadata.findByName("Movie"));
+    }
+
     @Test
     @DisplayName("Should get projection metadata")
     void shouldGetProjectionMetadata() {
@@ -14,8 +14,13 @@
  */
 package org.eclipse.jnosql.lite.mapping.metadata;
 
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.enterprise.util.TypeLiteral;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.lite.mapping.entities.Car;
+import org.eclipse.jnosql.lite.mapping.entities.Computer;
 import org.eclipse.jnosql.mapping.repository.LifecycleEventHandler;
 import org.jboss.weld.junit5.auto.AddBeanClasses;
 import org.jboss.weld.junit5.auto.EnableAutoWeld;
@@ -23,6 +28,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -179,4 +187,80 @@ class LiteLifecycleEventHandlerTest {
                                     car));
         }
     }
+
+    @Nested
+    @DisplayName("When the dispatch is cached")
+    class WhenCached {
+
+        @Test
+        @DisplayName("Should deliver every event after the first one for the entity type")
+        void shouldFireEveryEvent() {
+            // given
+            var other = new Car("sedan", "Model S");
+
+            // when
+            listener.preInsert(car);
+            listener.preInsert(other);
+
+            // then
+            assertThat(observer.events())
+                    .containsExactly(
+                            new ObservedLifecycleEvent(
+                                    ObservedLifecycleEventType.PRE_INSERT,
+                                    car),
+                            new ObservedLifecycleEvent(
+                                    ObservedLifecycleEventType.PRE_INSERT,
+                                    other));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("When resolving the observers")
+    class WhenResolvingObservers {
+
+        @SuppressWarnings("unchecked")
+        private final Event<Object> events = Mockito.mock(Event.class);
+
+        private final BeanManager beanManager = Mockito.mock(BeanManager.class);
+
+        @Test
+        @DisplayName("Should skip the events of an entity type without observers")
+        void shouldSkipEntityWithoutObservers() {
+            // given
+            Mockito.when(beanManager.resolveObserverMethods(Mockito.any())).thenReturn(Set.of());
+            var handler = new LiteLifecycleEventHandler(events, beanManager);
+            var computer = new Computer();
+
+            // when
+            handler.preInsert(computer);
+            handler.preInsert(computer);
+            handler.postInsert(computer);
+
+            // then
+            Mockito.verify(beanManager, Mockito.times(2)).resolveObserverMethods(Mockito.any());
+            Mockito.verifyNoInteractions(events);
+        }
+
+        @Test
+        @DisplayName("Should resolve the observers once per phase and fire every event")
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void shouldResolveOncePerPhase() {
+            // given
+            Event<Object> selected = Mockito.mock(Event.class);
+            Mockito.when(beanManager.resolveObserverMethods(Mockito.any()))
+                    .thenReturn((Set) Set.of(Mockito.mock(ObserverMethod.class)));
+            Mockito.when(events.select(Mockito.any(TypeLiteral.class))).thenReturn((Event) selected);
+            var handler = new LiteLifecycleEventHandler(events, beanManager);
+
+            // when
+            handler.preInsert(car);
+            handler.preInsert(new Car("sedan", "Model S"));
+
+            // then
+            Mockito.verify(beanManager, Mockito.times(1)).resolveObserverMethods(Mockito.any());
+            Mockito.verify(events, Mockito.times(1)).select(Mockito.any(TypeLiteral.class));
+            Mockito.verify(selected, Mockito.times(2)).fire(Mockito.any());
+        }
+    }
 }
@@ -59,6 +59,20 @@ public class LiteRepositoriesMetadataTest {
         Assertions.assertThat(repositoryMetadata).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Should create the repository metadata once, with a single class per repository")
+    void shouldCreateConsolidatedRepositoryOnce() {
+        var repositoryMetadata = repositoriesMetadata.get(PersonRepository.class).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(repositoriesMetadata.get(PersonRepository.class)).containsSame(repositoryMetadata);
+            soft.assertThat(repositoryMetadata.methods()).isNotEmpty()
+                    .allMatch(LiteRepositoryMethod.class::isInstance);
+            soft.assertThat(repositoryMetadata.methods()).flatExtracting(m -> m.params())
+                    .allMatch(LiteRepositoryParam.class::isInstance);
+        });
+    }
+
     @Test
     @DisplayName("Should load person repository")
     void shouldLoadPersonRepository() {
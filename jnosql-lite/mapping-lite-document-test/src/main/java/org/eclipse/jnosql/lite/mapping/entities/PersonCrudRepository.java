@@ -69,10 +69,10 @@ public interface PersonCrudRepository extends NoSQLRepository<Person, Long> {
     @Find
     CursoredPage<Person> findCursor(@By("name") String name, PageRequest pageRequest);
 
-    @Query("select * from Person where name = @name")
+    @Query("from Person where name = :name")
     CursoredPage<Person> cursor(@Param("name") String name, PageRequest pageRequest);
 
-    @Query("select * from Person where name = @name")
+    @Query("from Person where name = :name")
     Page<Person> offSet(@Param("name") String name, PageRequest pageRequest);
 
     @Find
@@ -32,7 +32,7 @@ public interface PersonRepository extends NoSQLRepository<Person, Long> {
 
     List<Person> findByName(String name);
 
-    List<Person> findByNameOrderbyId(String name);
+    List<Person> findByNameOrderById(String name);
 
     Page<Person> findByName(String name, PageRequest pageRequest);
 
@@ -16,19 +16,18 @@ package org.eclipse.jnosql.lite.mapping.entities;
 
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryOperationProvider;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
-import org.eclipse.jnosql.mapping.metadata.repository.spi.CountByOperation;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.CursorPaginationOperation;
-import org.eclipse.jnosql.mapping.metadata.repository.spi.DeleteByOperation;
-import org.eclipse.jnosql.mapping.metadata.repository.spi.ExistsByOperation;
-import org.eclipse.jnosql.mapping.metadata.repository.spi.FindByOperation;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.ParameterBasedOperation;
-import org.eclipse.jnosql.mapping.metadata.repository.spi.QueryOperation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -44,11 +43,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 
@@ -127,15 +126,13 @@ class PersonCrudRepositoryTest {
     @Test
     void shouldFindAllEntitiesByIds() {
         List<Long> ids = Arrays.asList(123L, 456L);
-        Person person1 = new Person();
-        Person person2 = new Person();
-        when(template.find(eq(Person.class), anyLong())).thenReturn(Optional.of(person1), Optional.of(person2));
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.of(new Person(), new Person()));
 
         Stream<Person> foundPersons = personRepository.findByIdIn(ids);
 
         assertNotNull(foundPersons);
         assertEquals(2, foundPersons.count());
-        verify(template, times(ids.size())).find(eq(Person.class), anyLong());
+        verify(template, times(1)).select(any(SelectQuery.class));
     }
 
     @Test
@@ -172,92 +169,97 @@ class PersonCrudRepositoryTest {
     }
 
     @Test
-    @DisplayName("When invoking a derived findBy query the repository must delegate execution to FindByOperation")
+    @DisplayName("When invoking a derived findBy query the repository must build the query parsed at compile time")
     void shouldFindByName() {
-
-        FindByOperation operation = mock(FindByOperation.class);
-
-        when(repositoryOperationProvider.findByOperation()).thenReturn(operation);
-        when(operation.execute(any())).thenReturn(List.of(new Person()));
-
-        personRepository.findByName("Ada");
-
-        verify(repositoryOperationProvider).findByOperation();
-        verify(operation).execute(any());
+        Stream<Object> people = Stream.of(new Person());
+        when(template.select(any(SelectQuery.class))).thenReturn(people);
+
+        List<Person> result = personRepository.findByName("Ada");
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        verifyNoInteractions(repositoryOperationProvider);
+        SelectQuery query = captor.getValue();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).hasSize(1);
+            soft.assertThat(query.name()).isEqualTo("Person");
+            soft.assertThat(query.condition()).contains(CriteriaCondition.eq("name", "Ada"));
+            soft.assertThat(query.sorts()).isEmpty();
+        });
     }
 
     @Test
-    @DisplayName("When invoking a repository method annotated with @Query the repository must delegate to QueryOperation")
+    @DisplayName("When invoking a method annotated with @Query the repository must build the query parsed at compile time")
     void shouldQuery() {
-
-        QueryOperation operation = mock(QueryOperation.class);
-
-        when(repositoryOperationProvider.queryOperation()).thenReturn(operation);
-        when(operation.execute(any())).thenReturn(List.of(new Person()));
-
-        personRepository.query("Ada");
-
-        verify(repositoryOperationProvider).queryOperation();
-        verify(operation).execute(any());
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.of(new Person()));
+
+        List<Person> result = personRepository.query("Ada");
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        verifyNoInteractions(repositoryOperationProvider);
+        SelectQuery query = captor.getValue();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).hasSize(1);
+            soft.assertThat(query.name()).isEqualTo("Person");
+            soft.assertThat(query.condition()).contains(CriteriaCondition.eq("name", "Ada"));
+        });
     }
 
     @Test
-    @DisplayName("When invoking another explicit @Query method the repository must also delegate to QueryOperation")
+    @DisplayName("When the @Query has no from clause the repository must build the query of the repository entity")
     void shouldQuery2() {
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.of(new Person()));
 
-        QueryOperation operation = mock(QueryOperation.class);
-
-        when(repositoryOperationProvider.queryOperation()).thenReturn(operation);
-        when(operation.execute(any())).thenReturn(List.of(new Person()));
+        List<Person> result = personRepository.query2("Ada");
 
-        personRepository.query2("Ada");
-
-        verify(repositoryOperationProvider).queryOperation();
-        verify(operation).execute(any());
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        verifyNoInteractions(repositoryOperationProvider);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).hasSize(1);
+            soft.assertThat(captor.getValue().condition()).contains(CriteriaCondition.eq("name", "Ada"));
+        });
     }
 
     @Test
-    @DisplayName("When invoking existsBy derived query the repository must delegate to ExistsByOperation")
+    @DisplayName("When invoking existsBy derived query the repository must check the existence with the template")
     void shouldExistsByName() {
+        when(template.exists(any(SelectQuery.class))).thenReturn(true);
 
-        ExistsByOperation operation = mock(ExistsByOperation.class);
-
-        when(repositoryOperationProvider.existsByOperation()).thenReturn(operation);
-        when(operation.execute(any())).thenReturn(true);
+        assertTrue(personRepository.existsByName("Ada"));
 
-        personRepository.existsByName("Ada");
-
-        verify(repositoryOperationProvider).existsByOperation();
-        verify(operation).execute(any());
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).exists(captor.capture());
+        verifyNoInteractions(repositoryOperationProvider);
+        assertEquals(Optional.of(CriteriaCondition.eq("name", "Ada")), captor.getValue().condition());
     }
 
     @Test
-    @DisplayName("When invoking countBy derived projection the repository must delegate to CountByOperation")
+    @DisplayName("When invoking countBy derived projection the repository must count with the template")
     void shouldCountByName() {
+        when(template.count(any(SelectQuery.class))).thenReturn(2L);
 
-        CountByOperation operation = mock(CountByOperation.class);
-
-        when(repositoryOperationProvider.countByOperation()).thenReturn(operation);
-        when(operation.execute(any())).thenReturn(2L);
+        assertEquals(2L, personRepository.countByName("Ada"));
 
-        personRepository.countByName("Ada");
-
-        verify(repositoryOperationProvider).countByOperation();
-        verify(operation).execute(any());
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).count(captor.capture());
+        verifyNoInteractions(repositoryOperationProvider);
+        assertEquals(Optional.of(CriteriaCondition.eq("name", "Ada")), captor.getValue().condition());
     }
 
     @Test
-    @DisplayName("When invoking deleteBy derived query the repository must delegate to DeleteByOperation")
+    @DisplayName("When invoking deleteBy derived query the repository must delete with the template")
     void shouldDeleteByName() {
-
-        DeleteByOperation operation = mock(DeleteByOperation.class);
-
-        when(repositoryOperationProvider.deleteByOperation()).thenReturn(operation);
-
         personRepository.deleteByName("Ada");
 
-        verify(repositoryOperationProvider).deleteByOperation();
-        verify(operation).execute(any());
+        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
+        verify(template).delete(captor.capture());
+        verifyNoInteractions(repositoryOperationProvider);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(captor.getValue().name()).isEqualTo("Person");
+            soft.assertThat(captor.getValue().condition()).contains(CriteriaCondition.eq("name", "Ada"));
+        });
     }
 
     @Test
@@ -20,7 +20,9 @@ import jakarta.data.page.PageRequest;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.lite.mapping.metadata.LiteIdInChunks;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryOperationProvider;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
@@ -44,10 +46,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -116,6 +118,58 @@ class PersonRepositoryTest {
         verify(template, Mockito.times(2)).insert(new Person());
     }
 
+    @Test
+    void shouldUpdateExistingEntityWithoutLoadingIt() {
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        when(template.exists(any(SelectQuery.class))).thenReturn(true);
+        when(template.update(eq(person))).thenReturn(person);
+
+        personRepository.save(person);
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).exists(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(captor.getValue().columns()).containsExactly("_id");
+            soft.assertThat(captor.getValue().limit()).isEqualTo(1L);
+        });
+        verify(template).update(eq(person));
+        verify(template, never()).find(eq(Person.class), any());
+        verify(template, never()).insert(any(Person.class));
+    }
+
+    @Test
+    void shouldCheckExistingIdsOnceOnSaveAll() {
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withName("Otavio").build();
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.of(Person.builder().withId(1L).build()));
+        when(template.update(eq(ada))).thenReturn(ada);
+        when(template.insert(eq(otavio))).thenReturn(otavio);
+
+        List<Person> saved = personRepository.saveAll(List.of(ada, otavio));
+
+        assertThat(saved).containsExactly(ada, otavio);
+        verify(template, times(1)).select(any(SelectQuery.class));
+        verify(template, never()).exists(any(SelectQuery.class));
+        verify(template).update(eq(ada));
+        verify(template).insert(eq(otavio));
+    }
+
+    @Test
+    void shouldUpdateRepeatedNewIdOnSaveAll() {
+        Person first = Person.builder().withId(3L).withName("Ada").build();
+        Person second = Person.builder().withId(3L).withName("Ada Lovelace").build();
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.empty());
+        when(template.insert(eq(first))).thenReturn(first);
+        when(template.update(eq(second))).thenReturn(second);
+
+        List<Person> saved = personRepository.saveAll(List.of(first, second));
+
+        assertThat(saved).containsExactly(first, second);
+        verify(template).insert(eq(first));
+        verify(template).update(eq(second));
+        verify(template, never()).insert(eq(second));
+    }
+
     @Test
     void shouldDeleteEntity() {
         Person person = new Person();
@@ -160,15 +214,60 @@ class PersonRepositoryTest {
     @Test
     void shouldFindAllEntitiesByIds() {
         List<Long> ids = Arrays.asList(123L, 456L);
-        Person person1 = new Person();
-        Person person2 = new Person();
-        when(template.find(eq(Person.class), anyLong())).thenReturn(Optional.of(person1), Optional.of(person2));
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.of(new Person(), new Person()));
 
         Stream<Person> foundPersons = personRepository.findByIdIn(ids);
 
         assertNotNull(foundPersons);
         assertEquals(2, foundPersons.count());
-        verify(template, times(ids.size())).find(eq(Person.class), anyLong());
+        verify(template, times(1)).select(any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldFindByIdInWithInCondition() {
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.empty());
+
+        personRepository.findByIdIn(List.of(123L, 456L)).toList();
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        CriteriaCondition condition = captor.getValue().condition().orElseThrow();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(captor.getValue().name()).isEqualTo("Person");
+            soft.assertThat(condition.condition()).isEqualTo(Condition.IN);
+            soft.assertThat(condition.element().name()).isEqualTo("_id");
+            soft.assertThat(condition.element().get()).isEqualTo(List.of(123L, 456L));
+        });
+        verify(template, never()).find(eq(Person.class), any());
+    }
+
+    @Test
+    void shouldDeleteByIdInWithSingleQuery() {
+        personRepository.deleteByIdIn(List.of(123L, 456L));
+
+        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
+        verify(template).delete(captor.capture());
+        CriteriaCondition condition = captor.getValue().condition().orElseThrow();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(condition.condition()).isEqualTo(Condition.IN);
+            soft.assertThat(condition.element().name()).isEqualTo("_id");
+        });
+        verify(template, never()).delete(eq(Person.class), any());
+    }
+
+    @Test
+    void shouldSplitIdsInChunks() {
+        System.setProperty(LiteIdInChunks.MAX_SIZE, "2");
+        try {
+            when(template.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(new Person()));
+
+            List<Person> persons = personRepository.findByIdIn(List.of(1L, 2L, 3L, 4L, 5L)).toList();
+
+            assertEquals(3, persons.size());
+            verify(template, times(3)).select(any(SelectQuery.class));
+        } finally {
+            System.clearProperty(LiteIdInChunks.MAX_SIZE);
+        }
     }
 
     @Test
@@ -32,11 +32,11 @@ public interface PersonRepository extends NoSQLRepository<Person, Long> {
 
     List<Person> findByName(String name);
 
-    List<Person> findByNameOrderbyId(String name);
+    List<Person> findByNameOrderById(String name);
 
     Page<Person> findByName(String name, PageRequest pageRequest);
 
-    @Query("select * from Person where name = @name")
+    @Query("from Person where name = :name")
     List<Person> query(@Param("name") String name);
 
     boolean existsByName(String name);
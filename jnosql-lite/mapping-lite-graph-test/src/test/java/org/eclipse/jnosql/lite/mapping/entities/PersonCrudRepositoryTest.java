@@ -120,15 +120,13 @@ class PersonCrudRepositoryTest {
     @Test
     void shouldFindAllEntitiesByIds() {
         List<Long> ids = Arrays.asList(123L, 456L);
-        Person person1 = new Person();
-        Person person2 = new Person();
-        when(template.find(eq(Person.class), anyLong())).thenReturn(Optional.of(person1), Optional.of(person2));
+        when(template.select(any(SelectQuery.class))).thenReturn(Stream.of(new Person(), new Person()));
 
         Stream<Person> foundPersons = personRepository.findByIdIn(ids);
 
         assertNotNull(foundPersons);
         assertEquals(2, foundPersons.count());
-        verify(template, times(ids.size())).find(eq(Person.class), anyLong());
+        verify(template, times(1)).select(any(SelectQuery.class));
     }
 
     @Test
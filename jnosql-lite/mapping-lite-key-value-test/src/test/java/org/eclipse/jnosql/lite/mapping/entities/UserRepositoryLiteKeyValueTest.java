@@ -82,17 +82,26 @@ public class UserRepositoryLiteKeyValueTest {
 
     @Test
     void shouldFindAllByIds() {
-        String id1 = "123";
-        String id2 = "456";
-        Iterable<String> ids = Arrays.asList(id1, id2);
-        when(template.get(eq(id1), eq(User.class))).thenReturn(Optional.of(new User()));
-        when(template.get(eq(id2), eq(User.class))).thenReturn(Optional.of(new User()));
+        Iterable<String> ids = Arrays.asList("ada", "missing", "otavio");
+        when(template.get(eq(ids), eq(User.class)))
+                .thenReturn(List.of(new User("otavio", "Otavio", 30), new User("ada", "Ada", 20)));
 
         List<User> users = userRepository.findByIdIn(ids).toList();
 
-        verify(template, times(2)).get(anyString(), eq(User.class));
+        verify(template, times(1)).get(eq(ids), eq(User.class));
+        verify(template, never()).get(anyString(), eq(User.class));
 
-        Assertions.assertThat(users).isNotNull().isNotEmpty().hasSize(2);
+        Assertions.assertThat(users).extracting(User::getNickname).containsExactly("ada", "otavio");
+    }
+
+    @Test
+    void shouldDeleteAllEntitiesByKeys() {
+        List<User> users = List.of(new User("ada", "Ada", 20), new User("otavio", "Otavio", 30));
+
+        userRepository.deleteAll(users);
+
+        verify(template, times(1)).delete(eq(List.of("ada", "otavio")));
+        verify(template, never()).delete(anyString());
     }
 
     @Test
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping;
+
+import javax.annotation.processing.ProcessingEnvironment;
+
+/**
+ * The {@value #OPTION} processor option. When it is {@code true}, the metadata is generated for large domain
+ * models:
+ * <ul>
+ *     <li>an entity has a single metadata class, which also reads and writes its fields, instead of a class per
+ *     field;</li>
+ *     <li>a repository has a single metadata class instead of a class per method, parameter and method
+ *     annotation;</li>
+ *     <li>{@code LiteEntitiesMetadata} and {@code LiteRepositoriesMetadata} only index names at startup and create
+ *     the metadata of an entity or repository the first time it is requested.</li>
+ * </ul>
+ * The generated metadata is otherwise the same, and the option is disabled by default.
+ */
+final class ConsolidatedMetadata {
+
+    static final String OPTION = "jnosql.lite.consolidated";
+
+    private ConsolidatedMetadata() {
+    }
+
+    static boolean isEnabled(ProcessingEnvironment processingEnv) {
+        return Boolean.parseBoolean(processingEnv.getOptions().get(OPTION));
+    }
+}
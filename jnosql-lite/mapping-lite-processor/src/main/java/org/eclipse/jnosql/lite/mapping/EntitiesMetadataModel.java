@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.lite.mapping;
 
+import java.util.ArrayList;
 import java.util.List;
 
 class EntitiesMetadataModel extends BaseMappingModel {
@@ -22,11 +23,19 @@ class EntitiesMetadataModel extends BaseMappingModel {
 
     private final List<String> projections;
 
+    private final List<Registration> registrations;
+
     public EntitiesMetadataModel(List<MappingResult> mappingResults) {
         this.entities = mappingResults.stream().filter(m -> m.category() == MappingCategory.ENTITY)
                 .map(MappingResult::name).toList();
         this.projections = mappingResults.stream().filter(m -> m.category() == MappingCategory.PROJECTION)
                 .map(MappingResult::name).toList();
+        this.registrations = new ArrayList<>();
+        for (MappingResult result : mappingResults) {
+            if (result.model() instanceof EntityModel entity) {
+                registrations.add(new Registration(registrations.size(), result.name(), entity));
+            }
+        }
     }
 
     public List<String> getEntities() {
@@ -37,7 +46,30 @@ class EntitiesMetadataModel extends BaseMappingModel {
         return projections;
     }
 
+    public List<Registration> getRegistrations() {
+        return registrations;
+    }
+
+    public int getRegistrationCount() {
+        return registrations.size();
+    }
+
     public String getQualified() {
         return "org.eclipse.jnosql.lite.mapping.metadata.LiteEntitiesMetadata";
     }
-}
\ No newline at end of file
+
+    /**
+     * An entity of the consolidated {@code LiteEntitiesMetadata}, indexed by its names at startup and created by
+     * its index the first time it is requested.
+     *
+     * @param index  the index of the entity
+     * @param name   the entity metadata class
+     * @param entity the entity
+     */
+    record Registration(int index, String name, EntityModel entity) {
+
+        public boolean isInheritance() {
+            return entity.getInheritanceParameter() != null;
+        }
+    }
+}
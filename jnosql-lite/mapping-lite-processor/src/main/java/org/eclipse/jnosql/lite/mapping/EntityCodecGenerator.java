@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+import org.eclipse.jnosql.lite.mapping.metadata.LiteEntityCodec;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * Generates a {@link LiteEntityCodec} for each flat entity when the {@value #OPTION} processor option is
+ * {@code true}, and registers the generated codecs as services.
+ */
+final class EntityCodecGenerator {
+
+    static final String OPTION = "jnosql.lite.codec";
+
+    private static final Logger LOGGER = Logger.getLogger(EntityCodecGenerator.class.getName());
+    private static final String TEMPLATE = "entity_codec.mustache";
+    private static final String DEFAULT_MAPPING = "MappingType.DEFAULT";
+    private static final String NULL = "null";
+    private static final Mustache MUSTACHE;
+
+    static {
+        MustacheFactory factory = new DefaultMustacheFactory();
+        MUSTACHE = factory.compile(TEMPLATE);
+    }
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final boolean enabled;
+
+    private final Set<String> codecs = new TreeSet<>();
+
+    EntityCodecGenerator(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.enabled = Boolean.parseBoolean(processingEnv.getOptions().get(OPTION));
+    }
+
+    void generate(Element entity, EntityModel metadata, List<FieldModel> fields) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (!isFlat(metadata, fields)) {
+            LOGGER.fine(() -> "Skipping the codec of " + metadata.getEntityQualified() + ", it is not a flat entity");
+            return;
+        }
+        var model = new EntityCodecModel(metadata.getPackageName(), metadata.getEntity(), fields);
+        JavaFileObject fileObject = processingEnv.getFiler().createSourceFile(model.getQualified(), entity);
+        try (Writer writer = fileObject.openWriter()) {
+            MUSTACHE.execute(writer, model);
+        }
+        codecs.add(model.getQualified());
+    }
+
+    void createServiceFile() throws IOException {
+        if (codecs.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Creating the codec SPI file, total: " + codecs.size());
+        var resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/services/" + LiteEntityCodec.class.getName());
+        try (Writer writer = resource.openWriter()) {
+            for (String codec : codecs) {
+                writer.write(codec);
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
+    private static boolean isFlat(EntityModel metadata, List<FieldModel> fields) {
+        if (!metadata.isEntityAnnotation() || metadata.isNotConcrete() || metadata.isEmbedded()
+                || metadata.getInheritanceParameter() != null || metadata.getConstructorClassName() != null) {
+            return false;
+        }
+        return fields.stream().allMatch(field -> DEFAULT_MAPPING.equals(field.getMappingType())
+                && NULL.equals(field.getConverter())
+                && NULL.equals(field.getElementType())
+                && field.getWriter() != null);
+    }
+}
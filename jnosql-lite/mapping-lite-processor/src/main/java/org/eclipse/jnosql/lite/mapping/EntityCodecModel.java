@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping;
+
+import java.util.List;
+
+final class EntityCodecModel extends BaseMappingModel {
+
+    private final String packageName;
+
+    private final String entity;
+
+    private final List<FieldModel> fields;
+
+    EntityCodecModel(String packageName, String entity, List<FieldModel> fields) {
+        this.packageName = packageName;
+        this.entity = entity;
+        this.fields = fields;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public List<FieldModel> getFields() {
+        return fields;
+    }
+
+    public int getSize() {
+        return fields.size();
+    }
+
+    public String getClassName() {
+        return entity + "EntityCodec";
+    }
+
+    public String getQualified() {
+        return packageName + "." + getClassName();
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCodecModel{" +
+                "packageName='" + packageName + '\'' +
+                ", entity='" + entity + '\'' +
+                ", fields=" + fields +
+                '}';
+    }
+}
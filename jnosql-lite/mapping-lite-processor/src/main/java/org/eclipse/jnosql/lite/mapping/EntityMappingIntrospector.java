@@ -40,6 +40,7 @@ import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.lite.mapping.ParameterAnalyzer.INJECT_CONSTRUCTOR;
@@ -62,9 +63,12 @@ final class EntityMappingIntrospector {
 
     private final ProcessingEnvironment processingEnv;
 
-    EntityMappingIntrospector(Element entity, ProcessingEnvironment processingEnv) {
+    private final EntityCodecGenerator codecs;
+
+    EntityMappingIntrospector(Element entity, ProcessingEnvironment processingEnv, EntityCodecGenerator codecs) {
         this.entity = entity;
         this.processingEnv = processingEnv;
+        this.codecs = codecs;
     }
 
     MappingResult buildMappingMetadata(TypeElement typeElement) throws IOException {
@@ -79,11 +83,17 @@ final class EntityMappingIntrospector {
         Stream<? extends Element> elements = processingEnv.getElementUtils()
                 .getAllMembers(typeElement).stream();
 
-        final List<String> fields = Stream.concat(elements, superElements)
+        final List<FieldAnalyzer> analyzers = Stream.concat(elements, superElements)
                 .filter(MappingProcessor.IS_FIELD.and(MappingProcessor.HAS_ANNOTATION))
                 .map(f -> new FieldAnalyzer(f, processingEnv, typeElement))
+                .toList();
+        final boolean consolidated = ConsolidatedMetadata.isEnabled(processingEnv);
+        final List<String> fields = consolidated ? List.of() : analyzers.stream()
                 .map(FieldAnalyzer::get)
                 .collect(Collectors.toList());
+        final List<IndexedFieldModel> consolidatedFields = consolidated ? IntStream.range(0, analyzers.size())
+                .mapToObj(index -> new IndexedFieldModel(index, analyzers.get(index).model()))
+                .toList() : null;
 
         var constructor = processingEnv.getElementUtils().getAllMembers(typeElement)
                 .stream()
@@ -105,14 +115,16 @@ final class EntityMappingIntrospector {
             createConstructors(entity, constructorMetamodel);
             constructorClassName = constructorMetamodel.getQualified();
         }
-        EntityModel metadata = getMetadata(typeElement, fields, constructorClassName);
+        EntityModel metadata = getMetadata(typeElement, fields, constructorClassName, consolidatedFields);
         createClass(entity, metadata);
+        codecs.generate(entity, metadata, analyzers.stream().map(FieldAnalyzer::model).toList());
         LOGGER.info("Found the fields: " + fields);
 
-        return new MappingResult(MappingCategory.ENTITY, metadata.getQualified());
+        return new MappingResult(MappingCategory.ENTITY, metadata.getQualified(), metadata);
     }
 
-    private EntityModel getMetadata(TypeElement element, List<String> fields, String constructorClassName) {
+    private EntityModel getMetadata(TypeElement element, List<String> fields, String constructorClassName,
+                                    List<IndexedFieldModel> consolidatedFields) {
 
         TypeElement superclass =
                 (TypeElement) ((DeclaredType) element.getSuperclass()).asElement();
@@ -142,7 +154,8 @@ final class EntityMappingIntrospector {
             inheritanceParameter = getInheritanceParameter(element, element);
         }
         return new EntityModel(packageName, sourceClassName, entityName, mappingName, fields, embedded, notConcrete,
-                inheritanceParameter, entityAnnotation, hasInheritanceAnnotation, constructorClassName);
+                inheritanceParameter, entityAnnotation, hasInheritanceAnnotation, constructorClassName,
+                consolidatedFields);
     }
 
     private void createConstructors(Element entity, ConstructorMetamodel metadata) throws IOException {
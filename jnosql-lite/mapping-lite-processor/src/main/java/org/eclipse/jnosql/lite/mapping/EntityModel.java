@@ -40,6 +40,8 @@ final class EntityModel extends BaseMappingModel {
 
     private final String constructorClassName;
 
+    private final List<IndexedFieldModel> consolidatedFields;
+
     EntityModel(String packageName,
                 String entity,
                 String name,
@@ -50,7 +52,8 @@ final class EntityModel extends BaseMappingModel {
                 String inheritanceParameter,
                 boolean entityAnnotation,
                 boolean hasInheritanceAnnotation,
-                String constructorClassName) {
+                String constructorClassName,
+                List<IndexedFieldModel> consolidatedFields) {
         this.packageName = packageName;
         this.entity = entity;
         this.name = name;
@@ -62,6 +65,7 @@ final class EntityModel extends BaseMappingModel {
         this.entityAnnotation = entityAnnotation;
         this.hasInheritanceAnnotation = hasInheritanceAnnotation;
         this.constructorClassName = constructorClassName;
+        this.consolidatedFields = consolidatedFields;
     }
 
     public String getPackageName() {
@@ -120,6 +124,25 @@ final class EntityModel extends BaseMappingModel {
         return mappingName;
     }
 
+    /**
+     * @return true when the fields are generated in the entity metadata class, see {@link ConsolidatedMetadata}
+     */
+    public boolean isConsolidated() {
+        return consolidatedFields != null;
+    }
+
+    public List<IndexedFieldModel> getConsolidatedFields() {
+        return consolidatedFields;
+    }
+
+    /**
+     * @return true when the entity is found by its name, as {@code EntityMetadata#hasEntityName} and
+     * {@code isEntity} of the generated metadata
+     */
+    public boolean isNamed() {
+        return entityAnnotation && (inheritanceParameter == null || hasInheritanceAnnotation);
+    }
+
     @Override
     public String toString() {
         return "EntityModel{" +
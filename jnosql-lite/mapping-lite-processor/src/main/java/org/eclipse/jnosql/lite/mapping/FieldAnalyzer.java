@@ -66,6 +66,7 @@ class FieldAnalyzer implements Supplier<String> {
     private final ProcessingEnvironment processingEnv;
     private final TypeElement entity;
 
+    private FieldModel model;
 
     static {
         MUSTACHE_DEFAULT_TEMPLATE = createTemplate(DEFAULT_TEMPLATE);
@@ -84,15 +85,15 @@ class FieldAnalyzer implements Supplier<String> {
 
     @Override
     public String get() {
-        FieldModel metadata = getMetaData();
+        FieldModel metadata = model();
         Filer filer = processingEnv.getFiler();
         JavaFileObject fileObject = getFileObject(metadata, filer);
         try (Writer writer = fileObject.openWriter()) {
-            if (NULL.equals(metadata.getElementType())) {
+            if (metadata.isDefaultField()) {
                 MUSTACHE_DEFAULT_TEMPLATE.execute(writer, metadata);
-            } else if (metadata.getType().contains("Map")) {
+            } else if (metadata.isMapField()) {
                 MUSTACHE_MAP_TEMPLATE.execute(writer, metadata);
-            } else if(metadata.getType().contains("[]")) {
+            } else if (metadata.isArrayField()) {
                 MUSTACHE_ARRAY_TEMPLATE.execute(writer, metadata);
             } else {
                 MUSTACHE_COLLECTION_TEMPLATE.execute(writer, metadata);
@@ -104,6 +105,16 @@ class FieldAnalyzer implements Supplier<String> {
         return metadata.getQualified();
     }
 
+    /**
+     * Returns the model of the field, computed once.
+     */
+    FieldModel model() {
+        if (model == null) {
+            model = getMetaData();
+        }
+        return model;
+    }
+
     private JavaFileObject getFileObject(FieldModel metadata, Filer filer) {
         try {
             return filer.createSourceFile(metadata.getQualified(), entity);
@@ -144,6 +144,51 @@ final class FieldModel extends BaseMappingModel {
         return arrayElement;
     }
 
+    /**
+     * @return true when the field is neither a collection, a map nor an array
+     */
+    public boolean isDefaultField() {
+        return "null".equals(elementType);
+    }
+
+    /**
+     * @return true when the field is a map
+     */
+    public boolean isMapField() {
+        return !isDefaultField() && type.contains("Map");
+    }
+
+    /**
+     * @return true when the field is an array
+     */
+    public boolean isArrayField() {
+        return !isDefaultField() && !isMapField() && type.contains("[]");
+    }
+
+    /**
+     * @return true when the field is a collection
+     */
+    public boolean isCollectionField() {
+        return !isDefaultField() && !isMapField() && !isArrayField();
+    }
+
+    /**
+     * @return the type of the field, with primitives replaced by their wrapper
+     */
+    public String getBoxedType() {
+        return switch (type) {
+            case "boolean" -> "java.lang.Boolean";
+            case "byte" -> "java.lang.Byte";
+            case "char" -> "java.lang.Character";
+            case "short" -> "java.lang.Short";
+            case "int" -> "java.lang.Integer";
+            case "long" -> "java.lang.Long";
+            case "float" -> "java.lang.Float";
+            case "double" -> "java.lang.Double";
+            default -> type;
+        };
+    }
+
     @Override
     public String toString() {
         return "FieldModel{" +
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping;
+
+import java.util.stream.Collectors;
+
+/**
+ * A field of the consolidated entity metadata, with its index in the generated field accessor.
+ *
+ * @param index the index of the field
+ * @param field the field
+ */
+record IndexedFieldModel(int index, FieldModel field) {
+
+    /**
+     * @return the {@code FieldMetadata} implementation of the field
+     */
+    public String getMetadataClass() {
+        if (field.isMapField()) {
+            return "LiteMapFieldMetadata";
+        } else if (field.isArrayField()) {
+            return "LiteArrayFieldMetadata";
+        } else if (field.isCollectionField()) {
+            return "LiteCollectionFieldMetadata";
+        }
+        return "LiteFieldMetadata";
+    }
+
+    /**
+     * @return the expression of the {@code value} attribute of the other field annotations by annotation type
+     */
+    public String getValueByAnnotation() {
+        if (field.getValueByAnnotation().isEmpty()) {
+            return "Map.of()";
+        }
+        return field.getValueByAnnotation().stream()
+                .map(v -> "Map.entry(" + v.key() + ", \"" + ProcessorUtil.escape(v.value()) + "\")")
+                .collect(Collectors.joining(", ", "Map.ofEntries(", ")"));
+    }
+
+    /**
+     * @return the constructor arguments that only the collection, map and array fields have
+     */
+    public String getKindArguments() {
+        if (field.isMapField()) {
+            return ", " + field.isEmbeddable() + ", " + field.getElementType() + ", " + field.getValueType();
+        } else if (field.isDefaultField()) {
+            return "";
+        }
+        return ", " + field.isEmbeddable() + ", " + field.getElementType();
+    }
+
+    /**
+     * @return true when the field reads its values with a {@code TypeSupplier}
+     */
+    public boolean isSupplied() {
+        return field.isCollectionField() || field.isMapField();
+    }
+}
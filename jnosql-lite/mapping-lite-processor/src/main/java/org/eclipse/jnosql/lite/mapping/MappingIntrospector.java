@@ -34,10 +34,10 @@ class MappingIntrospector implements Supplier<MappingResult> {
     private final EntityMappingIntrospector entityMappingIntrospector;
     private final ProjectionMappingIntrospector projectionMappingIntrospector;
 
-    MappingIntrospector(Element entity, ProcessingEnvironment processingEnv) {
+    MappingIntrospector(Element entity, ProcessingEnvironment processingEnv, EntityCodecGenerator codecs) {
         this.entity = entity;
         this.processingEnv = processingEnv;
-        this.entityMappingIntrospector = new EntityMappingIntrospector(entity, processingEnv);
+        this.entityMappingIntrospector = new EntityMappingIntrospector(entity, processingEnv, codecs);
         this.projectionMappingIntrospector = new ProjectionMappingIntrospector(entity, processingEnv);
     }
 
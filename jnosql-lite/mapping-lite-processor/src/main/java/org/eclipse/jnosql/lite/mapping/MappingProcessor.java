@@ -24,6 +24,7 @@ import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
@@ -56,11 +57,13 @@ import static javax.lang.model.element.Modifier.PUBLIC;
         "jakarta.nosql.MappedSuperclass",
         "jakarta.nosql.Projection"})
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions({EntityCodecGenerator.OPTION, ConsolidatedMetadata.OPTION})
 public class MappingProcessor extends AbstractProcessor {
 
     private static final Logger LOGGER = Logger.getLogger(MappingProcessor.class.getName());
     private static final EnumSet<Modifier> MODIFIERS = EnumSet.of(PUBLIC, PROTECTED);
     private static final String TEMPLATE = "entities_metadata.mustache";
+    private static final String CONSOLIDATED_TEMPLATE = "entities_metadata_consolidated.mustache";
     static final Predicate<Element> IS_CONSTRUCTOR = el -> el.getKind() == ElementKind.CONSTRUCTOR;
     static final Predicate<Element> PUBLIC_PRIVATE = el -> el.getModifiers().stream().anyMatch(MODIFIERS::contains);
     static final Predicate<Element> DEFAULT_MODIFIER = el -> el.getModifiers().isEmpty();
@@ -82,24 +85,19 @@ public class MappingProcessor extends AbstractProcessor {
             "org.eclipse.jnosql.mapping.metadata.ProjectionBuilderSupplier",
             "org.eclipse.jnosql.lite.mapping.metadata.LiteProjectorConstructorBuilderSupplier");
 
-    private final Mustache template;
-
-    public MappingProcessor() {
-        this.template = createTemplate();
-    }
-
     @Override
     public boolean process(Set<? extends TypeElement> annotations,
                            RoundEnvironment roundEnv) {
 
         final List<MappingResult> mappingResults = new ArrayList<>();
         final List<String> references = new ArrayList<>();
+        final EntityCodecGenerator codecs = new EntityCodecGenerator(processingEnv);
         for (TypeElement annotation : annotations) {
             roundEnv.getElementsAnnotatedWith(annotation)
                     .stream()
                     .filter(e -> !references.contains(e.toString()))
                     .peek(e -> references.add(e.toString()))
-                    .map(e -> new MappingIntrospector(e, processingEnv))
+                    .map(e -> new MappingIntrospector(e, processingEnv, codecs))
                     .map(MappingIntrospector::get)
                     .filter(MappingResult::isNotEmpty)
                     .forEach(mappingResults::add);
@@ -111,6 +109,7 @@ public class MappingProcessor extends AbstractProcessor {
 
                 LOGGER.info("Appending the metadata interfaces");
                 createResources();
+                codecs.createServiceFile();
                 MetadataAppender.append(processingEnv);
             }
 
@@ -126,7 +125,7 @@ public class MappingProcessor extends AbstractProcessor {
         Filer filer = processingEnv.getFiler();
         JavaFileObject fileObject = filer.createSourceFile(metadata.getQualified());
         try (Writer writer = fileObject.openWriter()) {
-            template.execute(writer, metadata);
+            createTemplate().execute(writer, metadata);
         }
     }
 
@@ -150,7 +149,7 @@ public class MappingProcessor extends AbstractProcessor {
 
     private Mustache createTemplate() {
         MustacheFactory factory = new DefaultMustacheFactory();
-        return factory.compile(TEMPLATE);
+        return factory.compile(ConsolidatedMetadata.isEnabled(processingEnv) ? CONSOLIDATED_TEMPLATE : TEMPLATE);
     }
 
     private void error(Exception exception) {
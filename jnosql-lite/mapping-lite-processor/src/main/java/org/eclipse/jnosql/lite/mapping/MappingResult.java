@@ -14,10 +14,18 @@
  */
 package org.eclipse.jnosql.lite.mapping;
 
-record MappingResult(MappingCategory category, String name) {
+/**
+ * The class generated for an element, with the model it was generated from when the registries need more than
+ * its name.
+ */
+record MappingResult(MappingCategory category, String name, BaseMappingModel model) {
 
     static final MappingResult EMPTY = new MappingResult(MappingCategory.ENTITY, "");
 
+    MappingResult(MappingCategory category, String name) {
+        this(category, name, null);
+    }
+
     public boolean isNotEmpty() {
         return !this.equals(EMPTY);
     }
@@ -88,4 +88,51 @@ public final class ProcessorUtil {
         }
         return sb.toString();
     }
+
+    /**
+     * Escapes the value to be written inside a Java string or character literal.
+     *
+     * @param value the value
+     * @return the escaped value
+     */
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\"':
+                    escaped.append("\\\"");
+                    break;
+                case '\'':
+                    escaped.append("\\'");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                case '\b':
+                    escaped.append("\\b");
+                    break;
+                case '\f':
+                    escaped.append("\\f");
+                    break;
+                default:
+                    if (ch < 0x20 || ch == 0x7f) {
+                        escaped.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        escaped.append(ch);
+                    }
+                    break;
+            }
+        }
+        return escaped.toString();
+    }
 }
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.lite.mapping;
 
+import java.util.ArrayList;
 import java.util.List;
 
 class RepositoriesMetadataModel extends BaseMappingModel {
@@ -22,11 +23,20 @@ class RepositoriesMetadataModel extends BaseMappingModel {
 
     private final List<String> projections;
 
+    private final List<Registration> registrations;
+
     public RepositoriesMetadataModel(List<MappingResult> mappingResults) {
         this.repositories = mappingResults.stream().filter(m -> m.category() == MappingCategory.REPOSITORY)
                 .map(MappingResult::name).toList();
         this.projections = mappingResults.stream().filter(m -> m.category() == MappingCategory.PROJECTION)
                 .map(MappingResult::name).toList();
+        this.registrations = new ArrayList<>();
+        for (MappingResult result : mappingResults) {
+            if (result.model() instanceof RepositoryMetaModel repository) {
+                registrations.add(new Registration(registrations.size(), result.name(),
+                        repository.getEntityQualified()));
+            }
+        }
     }
 
     public List<String> getRepositories() {
@@ -37,7 +47,26 @@ class RepositoriesMetadataModel extends BaseMappingModel {
         return projections;
     }
 
+    public List<Registration> getRegistrations() {
+        return registrations;
+    }
+
+    public int getRegistrationCount() {
+        return registrations.size();
+    }
+
     public String getQualified() {
         return "org.eclipse.jnosql.lite.mapping.metadata.LiteRepositoriesMetadata";
     }
-}
\ No newline at end of file
+
+    /**
+     * A repository of the consolidated {@code LiteRepositoriesMetadata}, created by its index the first time its
+     * type is requested.
+     *
+     * @param index the index of the repository
+     * @param name  the repository metadata class
+     * @param type  the repository interface
+     */
+    record Registration(int index, String name, String type) {
+    }
+}
@@ -38,6 +38,8 @@ class RepositoryIntrospector implements Supplier<MappingResult> {
 
     private static final String MUSTACHE_TEMPLATE = "repository_metadata.mustache";
 
+    private static final String CONSOLIDATED_TEMPLATE = "repository_metadata_consolidated.mustache";
+
     private static final Set<String> JAKARTA_DATA_REPOSITORIES = Set.of(
             "jakarta.data.repository.DataRepository",
             "jakarta.data.repository.BasicRepository",
@@ -50,12 +52,14 @@ class RepositoryIntrospector implements Supplier<MappingResult> {
 
     private final ProcessingEnvironment processingEnv;
     private final Mustache template;
+    private final boolean consolidated;
 
     RepositoryIntrospector(Element element, ProcessingEnvironment processingEnv) {
         this.element = element;
         this.processingEnv = processingEnv;
+        this.consolidated = ConsolidatedMetadata.isEnabled(processingEnv);
         MustacheFactory factory = new DefaultMustacheFactory();
-        this.template = factory.compile(MUSTACHE_TEMPLATE);
+        this.template = factory.compile(consolidated ? CONSOLIDATED_TEMPLATE : MUSTACHE_TEMPLATE);
 
     }
 
@@ -72,18 +76,28 @@ class RepositoryIntrospector implements Supplier<MappingResult> {
         String packageName = ProcessorUtil.getPackageName(repository);
         String entity = entityOptionalLiteral(repository);
         String type = ProcessorUtil.getSimpleNameAsString(repository);
-        List<String> methods = repository.getEnclosedElements()
-                .stream()
-                .map(e -> RepositoryMethodIntrospector.of(e, type, processingEnv))
-                .map(RepositoryMethodIntrospector::generateMethodClass)
-                .collect(Collectors.toList());
-        var metadata = new RepositoryMetaModel(packageName, entity, type, methods);
+        RepositoryMetaModel metadata;
+        if (consolidated) {
+            List<RepositoryMethodModel> methods = repository.getEnclosedElements()
+                    .stream()
+                    .map(e -> RepositoryMethodIntrospector.of(e, type, processingEnv))
+                    .map(RepositoryMethodIntrospector::model)
+                    .collect(Collectors.toList());
+            metadata = new RepositoryMetaModel(packageName, entity, type, List.of(), methods);
+        } else {
+            List<String> methods = repository.getEnclosedElements()
+                    .stream()
+                    .map(e -> RepositoryMethodIntrospector.of(e, type, processingEnv))
+                    .map(RepositoryMethodIntrospector::generateMethodClass)
+                    .collect(Collectors.toList());
+            metadata = new RepositoryMetaModel(packageName, entity, type, methods);
+        }
         try {
             createClass(element, metadata);
         } catch (IOException exception) {
             error(exception);
         }
-        return new MappingResult(MappingCategory.REPOSITORY, metadata.getQualified());
+        return new MappingResult(MappingCategory.REPOSITORY, metadata.getQualified(), metadata);
     }
 
     private String entityOptionalLiteral(TypeElement repository) {
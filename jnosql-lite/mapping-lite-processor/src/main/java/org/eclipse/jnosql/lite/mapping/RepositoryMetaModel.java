@@ -26,14 +26,25 @@ class RepositoryMetaModel extends BaseMappingModel {
 
     private final String type;
 
+    private final List<RepositoryMethodModel> methodModels;
+
      RepositoryMetaModel(String packageName,
                          String entity,
                          String type,
                          List<String> methods) {
+        this(packageName, entity, type, methods, List.of());
+    }
+
+    RepositoryMetaModel(String packageName,
+                        String entity,
+                        String type,
+                        List<String> methods,
+                        List<RepositoryMethodModel> methodModels) {
         this.packageName = packageName;
         this.entity = entity;
         this.methods = methods;
         this.type = type;
+        this.methodModels = methodModels;
     }
 
 
@@ -53,6 +64,10 @@ class RepositoryMetaModel extends BaseMappingModel {
         return type;
     }
 
+    public List<RepositoryMethodModel> getMethodModels() {
+        return methodModels;
+    }
+
     public String getEntityQualified() {
         return packageName + '.' + type;
     }
@@ -22,6 +22,7 @@ import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
@@ -37,16 +38,12 @@ import java.util.logging.Logger;
 
 @SupportedAnnotationTypes("jakarta.data.repository.Repository")
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions(ConsolidatedMetadata.OPTION)
 public class RepositoryMetadataProcessor extends AbstractProcessor {
 
     private static final Logger LOGGER = Logger.getLogger(RepositoryMetadataProcessor.class.getName());
     private static final String TEMPLATE = "repositories_metadata.mustache";
-
-    private final Mustache template;
-
-    public RepositoryMetadataProcessor() {
-        this.template = createTemplate();
-    }
+    private static final String CONSOLIDATED_TEMPLATE = "repositories_metadata_consolidated.mustache";
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
@@ -80,13 +77,13 @@ public class RepositoryMetadataProcessor extends AbstractProcessor {
         Filer filer = processingEnv.getFiler();
         JavaFileObject fileObject = filer.createSourceFile(metadata.getQualified());
         try (Writer writer = fileObject.openWriter()) {
-            template.execute(writer, metadata);
+            createTemplate().execute(writer, metadata);
         }
     }
 
     private Mustache createTemplate() {
         MustacheFactory factory = new DefaultMustacheFactory();
-        return factory.compile(TEMPLATE);
+        return factory.compile(ConsolidatedMetadata.isEnabled(processingEnv) ? CONSOLIDATED_TEMPLATE : TEMPLATE);
     }
 
     private void error(Exception exception) {
@@ -61,7 +61,17 @@ final class RepositoryMethodAnnotationIntrospector {
         this.template = factory.compile(MUSTACHE_TEMPLATE);
     }
 
-    public RepositoryMethodAnnotationResult createAnnotationClass() {
+    public RepositoryMethodAnnotationModel createAnnotationClass() {
+        var metadata = model();
+        try {
+            createClass(method, metadata);
+        } catch (IOException exception) {
+            error(exception);
+        }
+        return metadata;
+    }
+
+    RepositoryMethodAnnotationModel model() {
         TypeElement annotationType =
                 (TypeElement) annotationMirror.getAnnotationType().asElement();
 
@@ -76,11 +86,11 @@ final class RepositoryMethodAnnotationIntrospector {
         String providerAnnotation = Boolean.toString(providerInfo.present());
         String provider = (providerInfo.value() == null || providerInfo.value().isBlank())
                 ? "Optional.empty()"
-                : "Optional.of(\"" + escape(providerInfo.value()) + "\")";
+                : "Optional.of(\"" + ProcessorUtil.escape(providerInfo.value()) + "\")";
 
         List<String> attributes = resolveAttributes(annotationType);
 
-        var metadata = new RepositoryMethodAnnotationModel(
+        return new RepositoryMethodAnnotationModel(
                 packageName,
                 className,
                 annotation,
@@ -88,13 +98,6 @@ final class RepositoryMethodAnnotationIntrospector {
                 provider,
                 attributes
         );
-
-        try {
-            createClass(method, metadata);
-        } catch (IOException exception) {
-            error(exception);
-        }
-        return new RepositoryMethodAnnotationResult(metadata.getQualified(), providerInfo.present());
     }
 
     private List<String> resolveAttributes(TypeElement annotationType) {
@@ -116,7 +119,7 @@ final class RepositoryMethodAnnotationIntrospector {
 
             String literal = toJavaLiteral(value, methodElement.getReturnType());
 
-            attributes.add("this.attributes.put(\"" + attributeName + "\", " + literal + ")");
+            attributes.add("attributes.put(\"" + attributeName + "\", " + literal + ")");
         }
 
         return attributes;
@@ -137,11 +140,11 @@ final class RepositoryMethodAnnotationIntrospector {
     private String toJavaLiteral(Object value, TypeMirror returnType) {
 
         if (value instanceof String s) {
-            return "\"" + escape(s) + "\"";
+            return "\"" + ProcessorUtil.escape(s) + "\"";
         }
 
         if (value instanceof Character c) {
-            return "'" + escape(c.toString()) + "'";
+            return "'" + ProcessorUtil.escape(c.toString()) + "'";
         }
 
         if (value instanceof Boolean
@@ -169,7 +172,7 @@ final class RepositoryMethodAnnotationIntrospector {
             return "java.util.List.of(" + String.join(", ", values) + ")";
         }
 
-        return "\"" + escape(value.toString()) + "\"";
+        return "\"" + ProcessorUtil.escape(value.toString()) + "\"";
     }
 
     private ProviderQueryInfo resolveProviderQuery(TypeElement annotationType) {
@@ -199,47 +202,6 @@ final class RepositoryMethodAnnotationIntrospector {
         return null;
     }
 
-    private String escape(String value) {
-        StringBuilder escaped = new StringBuilder(value.length());
-        for (int i = 0; i < value.length(); i++) {
-            char ch = value.charAt(i);
-            switch (ch) {
-                case '\\':
-                    escaped.append("\\\\");
-                    break;
-                case '\"':
-                    escaped.append("\\\"");
-                    break;
-                case '\'':
-                    escaped.append("\\'");
-                    break;
-                case '\n':
-                    escaped.append("\\n");
-                    break;
-                case '\r':
-                    escaped.append("\\r");
-                    break;
-                case '\t':
-                    escaped.append("\\t");
-                    break;
-                case '\b':
-                    escaped.append("\\b");
-                    break;
-                case '\f':
-                    escaped.append("\\f");
-                    break;
-                default:
-                    if (ch < 0x20 || ch == 0x7f) {
-                        escaped.append(String.format("\\u%04x", (int) ch));
-                    } else {
-                        escaped.append(ch);
-                    }
-                    break;
-            }
-        }
-        return escaped.toString();
-    }
-
     private void createClass(Element entity,
                              RepositoryMethodAnnotationModel metadata) throws IOException {
         Filer filer = processingEnv.getFiler();
@@ -259,7 +221,4 @@ final class RepositoryMethodAnnotationIntrospector {
 
     private record ProviderQueryInfo(boolean present, String value) {
     }
-
-    record RepositoryMethodAnnotationResult(String qualified, boolean provider) {
-    }
 }
\ No newline at end of file
@@ -66,4 +66,8 @@ class RepositoryMethodAnnotationModel extends BaseMappingModel {
     public List<String> getAttributes() {
         return attributes;
     }
+
+    boolean isProviderQuery() {
+        return Boolean.parseBoolean(providerAnnotation);
+    }
 }
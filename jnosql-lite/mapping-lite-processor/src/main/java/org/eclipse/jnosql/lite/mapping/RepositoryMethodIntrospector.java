@@ -64,11 +64,13 @@ final class RepositoryMethodIntrospector {
     private final Element method;
     private final String repository;
     private final ProcessingEnvironment processingEnv;
+    private final boolean consolidated;
 
     RepositoryMethodIntrospector(Element method, String repository, ProcessingEnvironment processingEnv) {
         this.method = method;
         this.repository = repository;
         this.processingEnv = processingEnv;
+        this.consolidated = ConsolidatedMetadata.isEnabled(processingEnv);
     }
 
     public static RepositoryMethodIntrospector of(Element method, String type, ProcessingEnvironment processingEnv) {
@@ -76,6 +78,20 @@ final class RepositoryMethodIntrospector {
     }
 
     String generateMethodClass() {
+        var metadata = model();
+        try {
+            createClass(method, metadata);
+        } catch (IOException exception) {
+            error(exception);
+        }
+        return metadata.getQualified();
+    }
+
+    /**
+     * Builds the model of the method; the classes of its parameters and annotations are only written when the
+     * {@link ConsolidatedMetadata} option is disabled.
+     */
+    RepositoryMethodModel model() {
 
         ExecutableElement executableElement = (ExecutableElement) method;
         List<String> nameElements = new ArrayList<>();
@@ -97,41 +113,30 @@ final class RepositoryMethodIntrospector {
 
         List<String> selects = getSelects();
         List<String> sorts = getSorts();
-        var repositoryMethodResult = annotationsClasses(executableElement, className, packageName);
-        List<String> annotations = repositoryMethodResult.annotations();
-        if(repositoryMethodResult.isProvider()) {
+        List<RepositoryMethodAnnotationModel> annotations = annotationsClasses(executableElement, className,
+                packageName);
+        if (annotations.stream().anyMatch(RepositoryMethodAnnotationModel::isProviderQuery)) {
             methodType = "PROVIDER_OPERATION";
         }
-        var paramResults = params(executableElement, className, packageName);
-        List<String> params = new ArrayList<>();
-        var paramSignature = paramResults.stream().map(RepositoryMethodParameterIntrospector.ParamResult::type)
+        List<RepositoryMethodParamModel> params = params(executableElement, className, packageName);
+        var paramSignature = params.stream().map(RepositoryMethodParamModel::getType)
                 .map(s-> s.concat(".class")).collect(Collectors.joining(","));
-        for (RepositoryMethodParameterIntrospector.ParamResult paramResult : paramResults) {
-            params.add(paramResult.qualified());
-        }
-        var metadata = new RepositoryMethodModel(packageName, methodName, className,
+        return new RepositoryMethodModel(packageName, methodName, className,
                 methodType, query, find, first, returnType, elementType,
                 selects, sorts, annotations, params, paramSignature);
-        try {
-            createClass(method, metadata);
-        } catch (IOException exception) {
-            error(exception);
-        }
-        return metadata.getQualified();
     }
 
-    private List<RepositoryMethodParameterIntrospector.ParamResult> params(ExecutableElement executableElement, String className, String packageName) {
-        List<RepositoryMethodParameterIntrospector.ParamResult> params = new ArrayList<>();
+    private List<RepositoryMethodParamModel> params(ExecutableElement executableElement, String className, String packageName) {
+        List<RepositoryMethodParamModel> params = new ArrayList<>();
         for (VariableElement parameter : executableElement.getParameters()) {
             var param = new RepositoryMethodParameterIntrospector(processingEnv, className, packageName, parameter, method);
-            params.add(param.createClass());
+            params.add(consolidated ? param.model() : param.createClass());
         }
         return params;
     }
 
-    RepositoryMethodResult annotationsClasses(ExecutableElement executableElement, String className, String packageName) {
-        List<String> annotations = new ArrayList<>();
-        boolean isProvider = false;
+    List<RepositoryMethodAnnotationModel> annotationsClasses(ExecutableElement executableElement, String className, String packageName) {
+        List<RepositoryMethodAnnotationModel> annotations = new ArrayList<>();
         List<? extends AnnotationMirror> annotationMirrors = executableElement.getAnnotationMirrors();
         List<String> declaredTypes = new ArrayList<>();
         for (AnnotationMirror annotationMirror : annotationMirrors) {
@@ -142,15 +147,12 @@ final class RepositoryMethodIntrospector {
                         processingEnv,
                         annotationMirror,
                         method);
-                var annotationClass = repositoryMethodAnnotationIntrospector.createAnnotationClass();
-                if(annotationClass.provider()) {
-                    isProvider = true;
-                }
-                annotations.add(annotationClass.qualified());
+                annotations.add(consolidated ? repositoryMethodAnnotationIntrospector.model()
+                        : repositoryMethodAnnotationIntrospector.createAnnotationClass());
                 declaredTypes.add(annotationName);
             }
         }
-        return new RepositoryMethodResult(annotations, isProvider);
+        return annotations;
     }
 
     private String getFind() {
@@ -220,6 +222,4 @@ final class RepositoryMethodIntrospector {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write extension file: "
                 + exception.getMessage());
     }
-
-    record RepositoryMethodResult(List<String> annotations, boolean isProvider) {}
 }
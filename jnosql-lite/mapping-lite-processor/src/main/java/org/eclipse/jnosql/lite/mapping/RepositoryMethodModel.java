@@ -29,8 +29,8 @@ class RepositoryMethodModel extends BaseMappingModel {
     private final String elementType;
     private final List<String> selects;
     private final List<String> sorts;
-    private final List<String> annotations;
-    private final List<String> params;
+    private final List<RepositoryMethodAnnotationModel> annotations;
+    private final List<RepositoryMethodParamModel> params;
     private final String paramSignature;
 
 
@@ -45,8 +45,8 @@ class RepositoryMethodModel extends BaseMappingModel {
                                  String elementType,
                                  List<String> selects,
                                  List<String> sorts,
-                                 List<String> annotations,
-                                 List<String> params,
+                                 List<RepositoryMethodAnnotationModel> annotations,
+                                 List<RepositoryMethodParamModel> params,
                                  String paramSignature) {
         this.methodName = methodName;
         this.packageName = packageName;
@@ -113,13 +113,28 @@ class RepositoryMethodModel extends BaseMappingModel {
     }
 
     public List<String> getAnnotations() {
-        return annotations;
+        return annotations.stream().map(RepositoryMethodAnnotationModel::getQualified).toList();
     }
 
     public List<String> getParams() {
+        return params.stream().map(RepositoryMethodParamModel::getQualified).toList();
+    }
+
+    public List<RepositoryMethodAnnotationModel> getAnnotationModels() {
+        return annotations;
+    }
+
+    public List<RepositoryMethodParamModel> getParamModels() {
         return params;
     }
 
+    /**
+     * @return the name of the factory method of the consolidated repository metadata
+     */
+    public String getFactoryName() {
+        return "create" + ProcessorUtil.capitalize(className);
+    }
+
     public String getParamSignature() {
         return paramSignature;
     }
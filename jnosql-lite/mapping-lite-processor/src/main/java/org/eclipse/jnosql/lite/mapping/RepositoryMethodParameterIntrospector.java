@@ -67,8 +67,17 @@ final class RepositoryMethodParameterIntrospector {
     }
 
 
-    ParamResult createClass() {
+    RepositoryMethodParamModel createClass() {
+        var metadata = model();
+        try {
+            createClass(method, metadata);
+        } catch (IOException exception) {
+            error(exception);
+        }
+        return metadata;
+    }
 
+    RepositoryMethodParamModel model() {
         String constraint = Optional.ofNullable(variableElement.getAnnotation(Is.class))
                 .map(Object::toString)
                 .map(s -> s.substring(s.indexOf(".Is(")+4, s.lastIndexOf(")")))
@@ -86,14 +95,8 @@ final class RepositoryMethodParameterIntrospector {
         var typeUtils = processingEnv.getTypeUtils();
         var type = typeUtils.erasure(variableElement.asType()).toString();
         var elementType = getElementType();
-        var metadata = new RepositoryMethodParamModel(packageName, className, constraint, name, param, by,type,
+        return new RepositoryMethodParamModel(packageName, className, constraint, name, param, by, type,
                 elementType);
-        try {
-            createClass(method, metadata);
-        } catch (IOException exception) {
-            error(exception);
-        }
-        return new ParamResult(type, metadata.getQualified());
     }
 
     private String getElementType() {
@@ -126,6 +129,4 @@ final class RepositoryMethodParameterIntrospector {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write extension file: "
                 + exception.getMessage());
     }
-
-    record ParamResult(String type, String qualified) {}
 }
@@ -20,9 +20,11 @@ import org.eclipse.jnosql.mapping.metadata.repository.MethodSignatureKey;
 import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMetadata;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryOperationProvider;
 import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethod;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethodType;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
 
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 /**
@@ -93,28 +95,36 @@ public final class JNoSQLRepositoryProcessor {
         Objects.requireNonNull(methodSignatureKey, "methodSignatureKey is required");
         Objects.requireNonNull(params, "params is required");
         LOGGER.finest(() -> "Executing repository method: " + methodSignatureKey);
-        var repositoryMethod = repositoryMetadata.find(methodSignatureKey).orElseThrow(() -> new IllegalArgumentException("Method not found:" +
-                " " + methodSignatureKey));
-
-        var context = repositoryInvocationContext(params, repositoryMethod);
-        return switch (repositoryMethod.type()) {
-            case INSERT -> repositoryOperationProvider.insertOperation().execute(context);
-            case UPDATE -> repositoryOperationProvider.updateOperation().execute(context);
-            case DELETE -> repositoryOperationProvider.deleteOperation().execute(context);
-            case SAVE ->  repositoryOperationProvider.saveOperation().execute(context);
-            case DELETE_BY -> repositoryOperationProvider.deleteByOperation().execute(context);
-            case FIND_BY -> repositoryOperationProvider.findByOperation().execute(context);
-            case COUNT_ALL -> repositoryOperationProvider.countAllOperation().execute(context);
-            case COUNT_BY -> repositoryOperationProvider.countByOperation().execute(context);
-            case CURSOR_PAGINATION -> repositoryOperationProvider.cursorPaginationOperation().execute(context);
-            case PARAMETER_BASED -> repositoryOperationProvider.parameterBasedOperation().execute(context);
-            case EXISTS_BY -> repositoryOperationProvider.existsByOperation().execute(context);
-            case FIND_ALL -> repositoryOperationProvider.findAllOperation().execute(context);
-            case QUERY -> repositoryOperationProvider.queryOperation().execute(context);
-            case PROVIDER_OPERATION -> repositoryOperationProvider.providerOperation().execute(context);
-            default -> throw new IllegalArgumentException("Unsupported repository operation: " + repositoryMethod.type()
-                    + " for method: " + methodSignatureKey);
-        };
+        return invoker(methodSignatureKey).invoke(params);
+    }
+
+    /**
+     * Resolves the repository method and the operation that executes it once, so the generated
+     * repositories can keep the returned invoker and call it without any lookup.
+     *
+     * <p>When the method cannot be found or its operation type is unsupported, the returned invoker
+     * throws an {@link IllegalArgumentException} when it is called.</p>
+     *
+     * @param methodSignatureKey the identifier representing the repository method
+     * @return the invoker of the repository method
+     * @throws NullPointerException if {@code methodSignatureKey} is {@code null}
+     */
+    public LiteRepositoryMethodInvoker invoker(MethodSignatureKey methodSignatureKey) {
+        Objects.requireNonNull(methodSignatureKey, "methodSignatureKey is required");
+        var repositoryMethod = repositoryMetadata.find(methodSignatureKey).orElse(null);
+        if (repositoryMethod == null) {
+            return LiteRepositoryMethodInvoker.failing(() ->
+                    new IllegalArgumentException("Method not found: " + methodSignatureKey));
+        }
+        var type = repositoryMethod.type();
+        var operation = operation(type);
+        if (operation == null) {
+            return LiteRepositoryMethodInvoker.failing(() ->
+                    new IllegalArgumentException("Unsupported repository operation: " + type
+                            + " for method: " + methodSignatureKey));
+        }
+        return LiteRepositoryMethodInvoker.of(repositoryMethod, operation, template, entityMetadata,
+                repositoryMetadata);
     }
 
     /**
@@ -130,8 +140,32 @@ public final class JNoSQLRepositoryProcessor {
         invokeRepositoryMethod(methodSignatureKey, params);
     }
 
-    private RepositoryInvocationContext repositoryInvocationContext(Object[] params, RepositoryMethod method) {
-        return new RepositoryInvocationContext(method, repositoryMetadata, entityMetadata, template, params);
+    /**
+     * The provider is only asked for the operation when the method runs, since its operations may be
+     * contextual instances that are not available yet when the repository is created.
+     */
+    private Function<RepositoryInvocationContext, Object> operation(RepositoryMethodType type) {
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+            case INSERT -> context -> repositoryOperationProvider.insertOperation().execute(context);
+            case UPDATE -> context -> repositoryOperationProvider.updateOperation().execute(context);
+            case DELETE -> context -> repositoryOperationProvider.deleteOperation().execute(context);
+            case SAVE -> context -> repositoryOperationProvider.saveOperation().execute(context);
+            case DELETE_BY -> context -> repositoryOperationProvider.deleteByOperation().execute(context);
+            case FIND_BY -> context -> repositoryOperationProvider.findByOperation().execute(context);
+            case COUNT_ALL -> context -> repositoryOperationProvider.countAllOperation().execute(context);
+            case COUNT_BY -> context -> repositoryOperationProvider.countByOperation().execute(context);
+            case CURSOR_PAGINATION ->
+                    context -> repositoryOperationProvider.cursorPaginationOperation().execute(context);
+            case PARAMETER_BASED -> context -> repositoryOperationProvider.parameterBasedOperation().execute(context);
+            case EXISTS_BY -> context -> repositoryOperationProvider.existsByOperation().execute(context);
+            case FIND_ALL -> context -> repositoryOperationProvider.findAllOperation().execute(context);
+            case QUERY -> context -> repositoryOperationProvider.queryOperation().execute(context);
+            case PROVIDER_OPERATION -> context -> repositoryOperationProvider.providerOperation().execute(context);
+            default -> null;
+        };
     }
 
     /**
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.lite.mapping.metadata;
 
+import jakarta.data.event.LifecycleEvent;
 import jakarta.data.event.PostDeleteEvent;
 import jakarta.data.event.PostInsertEvent;
 import jakarta.data.event.PostUpdateEvent;
@@ -112,4 +113,19 @@ public interface LifecycleEventTypes<T> {
      * @return the post-delete event type
      */
     TypeLiteral<PostDeleteEvent<T>> postDelete();
+
+    /**
+     * Creates the event of the given phase as an instance of a subclass that
+     * keeps the entity type argument, e.g. {@code PreInsertEvent<Customer>}.
+     * <p>
+     * CDI resolves observers from the runtime type of the event object, which
+     * is raw for a plain {@code new PreInsertEvent<>(entity)}. The handler
+     * uses this instance only to check whether the event has observers.
+     * </p>
+     *
+     * @param phase  the lifecycle phase
+     * @param entity the entity
+     * @return the typed event
+     */
+    LifecycleEvent<T> typedEvent(LifecyclePhase phase, T entity);
 }
\ No newline at end of file
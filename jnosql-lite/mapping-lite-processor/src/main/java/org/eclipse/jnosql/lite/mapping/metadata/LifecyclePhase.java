@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import java.util.function.Function;
+
+/**
+ * The Jakarta Data lifecycle events fired by {@link LiteLifecycleEventHandler}, one constant per event type.
+ *
+ * @see LifecycleEventTypes#typedEvent(LifecyclePhase, Object)
+ */
+public enum LifecyclePhase {
+
+    PRE_INSERT(LifecycleEventTypes::preInsert),
+    POST_INSERT(LifecycleEventTypes::postInsert),
+    PRE_UPDATE(LifecycleEventTypes::preUpdate),
+    POST_UPDATE(LifecycleEventTypes::postUpdate),
+    PRE_UPSERT(LifecycleEventTypes::preUpsert),
+    POST_UPSERT(LifecycleEventTypes::postUpsert),
+    PRE_DELETE(LifecycleEventTypes::preDelete),
+    POST_DELETE(LifecycleEventTypes::postDelete);
+
+    private final Function<LifecycleEventTypes<?>, TypeLiteral<?>> eventType;
+
+    LifecyclePhase(Function<LifecycleEventTypes<?>, TypeLiteral<?>> eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Returns the concrete event type of this phase from the provider of an entity.
+     *
+     * @param provider the lifecycle event types of the entity
+     * @return the event type literal
+     */
+    TypeLiteral<?> eventType(LifecycleEventTypes<?> provider) {
+        return eventType.apply(provider);
+    }
+}
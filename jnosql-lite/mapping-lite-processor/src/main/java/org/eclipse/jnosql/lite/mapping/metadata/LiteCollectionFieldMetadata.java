@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.metadata.CollectionFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link CollectionFieldMetadata} of the consolidated generation mode.
+ *
+ * <p>The {@link TypeSupplier} with the generic type of the field is created on the first conversion, so its
+ * class is only loaded when the field is read from the database.</p>
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ *
+ * @see LiteFieldMetadata
+ */
+public final class LiteCollectionFieldMetadata extends LiteFieldMetadata implements CollectionFieldMetadata {
+
+    private final boolean embeddable;
+
+    private final Class<?> elementType;
+
+    private volatile TypeSupplier<?> typeSupplier;
+
+    /**
+     * Creates the field metadata.
+     *
+     * @param accessor          the accessor of the entity fields
+     * @param index             the index of the field in the accessor
+     * @param name              the column name
+     * @param fieldName         the Java field name
+     * @param type              the field type
+     * @param mappingType       the mapping type
+     * @param id                whether the field is the id
+     * @param udt               the user defined type
+     * @param converter         the converter instance, {@code null} when there is none
+     * @param typeConverter     the converter type, {@code null} when there is none
+     * @param valueByAnnotation the {@code value} attribute of the other field annotations by annotation type
+     * @param embeddable        whether the elements are embeddable or entities
+     * @param elementType       the element type
+     * @throws NullPointerException when a required parameter is null
+     */
+    public LiteCollectionFieldMetadata(LiteFieldAccessor accessor, int index, String name, String fieldName,
+                                       Class<?> type, MappingType mappingType, boolean id, Optional<String> udt,
+                                       AttributeConverter<?, ?> converter,
+                                       Class<? extends AttributeConverter<?, ?>> typeConverter,
+                                       Map<Class<? extends Annotation>, String> valueByAnnotation,
+                                       boolean embeddable, Class<?> elementType) {
+        super(accessor, index, name, fieldName, type, mappingType, id, udt, converter, typeConverter,
+                valueByAnnotation);
+        this.embeddable = embeddable;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public Object value(Value value) {
+        Objects.requireNonNull(value, "value is required");
+        if (value.get() instanceof Iterable) {
+            return value.get(typeSupplier());
+        }
+        return Value.of(Collections.singletonList(value.get())).get(typeSupplier());
+    }
+
+    @Override
+    public boolean isEmbeddable() {
+        return embeddable;
+    }
+
+    @Override
+    public Class<?> elementType() {
+        return elementType;
+    }
+
+    @Override
+    public Collection<?> collectionInstance() {
+        return accessor().collectionInstance(index());
+    }
+
+    private TypeSupplier<?> typeSupplier() {
+        TypeSupplier<?> supplier = typeSupplier;
+        if (supplier == null) {
+            supplier = accessor().typeSupplier(index());
+            typeSupplier = supplier;
+        }
+        return supplier;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Resolves the column names of the queries by method name that the annotation processor parsed ahead of time.
+ *
+ * <p>A generated repository resolves the columns once, when it is created, and then builds the query of the method
+ * straight from them. When a property cannot be sent as it is, because it is not mapped, it is mapped with an
+ * {@link jakarta.nosql.AttributeConverter} or it is not a plain value, or when the entity takes part in an
+ * inheritance hierarchy, no column is returned and the method is executed by the repository operation instead.</p>
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ */
+public final class LiteDerivedQueryColumns {
+
+    private LiteDerivedQueryColumns() {
+    }
+
+    /**
+     * Returns the column names of the given properties, in the same order.
+     *
+     * @param metadata   the entity metadata
+     * @param properties the Java field names used by the method name
+     * @return the column names, or {@code null} when the query cannot be built from them
+     * @throws NullPointerException if {@code metadata} or {@code properties} is {@code null}
+     */
+    public static String[] of(EntityMetadata metadata, String... properties) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(properties, "properties is required");
+        if (metadata.inheritance().isPresent()) {
+            return null;
+        }
+        String[] columns = new String[properties.length];
+        for (int index = 0; index < properties.length; index++) {
+            Optional<FieldMetadata> field = metadata.fieldMapping(properties[index]);
+            if (field.isEmpty() || !MappingType.DEFAULT.equals(field.get().mappingType())
+                    || field.get().converter().isPresent()) {
+                return null;
+            }
+            columns[index] = field.get().name();
+        }
+        return columns;
+    }
+}
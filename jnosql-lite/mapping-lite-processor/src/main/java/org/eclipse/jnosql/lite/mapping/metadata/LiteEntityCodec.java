@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A codec generated at compile time for a single entity, enabled with the {@code jnosql.lite.codec} processor
+ * option. It reads the attributes of an entity with direct getter calls and creates entities with direct setter
+ * calls, so a converter does not need to iterate the {@link org.eclipse.jnosql.mapping.metadata.FieldMetadata}
+ * of the entity.
+ * <p>
+ * Codecs are only generated for flat entities: a concrete class with a default constructor, no inheritance, and
+ * only basic attributes without {@link jakarta.nosql.Convert}. Converters find them through
+ * {@link LiteEntityCodecs}.
+ *
+ * @param <T> the entity type
+ */
+public interface LiteEntityCodec<T> {
+
+    /**
+     * @return the entity type
+     */
+    Class<T> type();
+
+    /**
+     * @return the maximum number of attributes written by {@link #encode(Object, BiConsumer)}, to presize the
+     * attribute list
+     */
+    int size();
+
+    /**
+     * Writes each non-null attribute of the entity, by its column name, in declaration order.
+     *
+     * @param entity     the entity
+     * @param attributes receives the column name and the value of each attribute
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    void encode(T entity, BiConsumer<String, Object> attributes);
+
+    /**
+     * Creates an entity and sets each attribute found by its column name.
+     *
+     * @param attributes returns the value of a column, or {@code null} when the column is absent
+     * @return the new entity
+     * @throws NullPointerException if {@code attributes} is {@code null}
+     */
+    T decode(Function<String, Value> attributes);
+
+    /**
+     * Returns whether the codec can be used at runtime. A codec is not supported when an auto-apply
+     * {@link jakarta.nosql.AttributeConverter} is registered for the type of any of its attributes.
+     *
+     * @return {@code true} when the codec matches the entity metadata
+     */
+    default boolean isSupported() {
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * The {@link LiteEntityCodec} instances generated for the application, loaded once with {@link ServiceLoader}.
+ */
+public enum LiteEntityCodecs {
+
+    INSTANCE;
+
+    private final Map<Class<?>, LiteEntityCodec<?>> codecs;
+
+    LiteEntityCodecs() {
+        Map<Class<?>, LiteEntityCodec<?>> codecs = new HashMap<>();
+        for (LiteEntityCodec<?> codec : ServiceLoader.load(LiteEntityCodec.class)) {
+            if (codec.isSupported()) {
+                codecs.put(codec.type(), codec);
+            }
+        }
+        this.codecs = Map.copyOf(codecs);
+    }
+
+    /**
+     * Returns the codec of the given entity type.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the codec, or {@link Optional#empty()} when none was generated or it is not supported
+     * @throws NullPointerException if {@code type} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<LiteEntityCodec<T>> find(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return Optional.ofNullable((LiteEntityCodec<T>) codecs.get(type));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import org.eclipse.jnosql.communication.TypeSupplier;
+
+import java.util.Collection;
+
+/**
+ * The field access of an entity whose metadata was generated in the consolidated mode: instead of a class per
+ * field, the entity metadata class implements this interface with a switch over the index of the field.
+ *
+ * <p>This interface is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ *
+ * @see LiteFieldMetadata
+ */
+public interface LiteFieldAccessor {
+
+    /**
+     * Reads the field from the entity.
+     *
+     * @param index the index of the field
+     * @param bean  the entity
+     * @return the field value
+     */
+    Object read(int index, Object bean);
+
+    /**
+     * Writes the field of the entity; it does nothing when the field has no setter.
+     *
+     * @param index the index of the field
+     * @param bean  the entity
+     * @param value the field value
+     */
+    void write(int index, Object bean, Object value);
+
+    /**
+     * Creates the type supplier of a collection or map field, with its generic type.
+     *
+     * @param index the index of the field
+     * @return the type supplier
+     */
+    TypeSupplier<?> typeSupplier(int index);
+
+    /**
+     * Creates an empty instance of a collection field.
+     *
+     * @param index the index of the field
+     * @return the collection, or {@code null} when the field type has no default collection
+     */
+    Collection<?> collectionInstance(int index);
+
+    /**
+     * Creates the array of an array field with the elements of the collection.
+     *
+     * @param index      the index of the field
+     * @param collection the elements
+     * @return the array
+     */
+    Object arrayInstance(int index, Collection<?> collection);
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link FieldMetadata} of the consolidated generation mode, enabled with the
+ * {@code jnosql.lite.consolidated} processor option. The field description is passed to the constructor and the
+ * access to the entity is delegated to the {@link LiteFieldAccessor} generated for the entity, so an entity needs
+ * a single generated class however many fields it has.
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ */
+public class LiteFieldMetadata implements FieldMetadata {
+
+    private final LiteFieldAccessor accessor;
+
+    private final int index;
+
+    private final String name;
+
+    private final String fieldName;
+
+    private final Class<?> type;
+
+    private final MappingType mappingType;
+
+    private final boolean id;
+
+    private final Optional<String> udt;
+
+    private final AttributeConverter<?, ?> converter;
+
+    private final Class<? extends AttributeConverter<?, ?>> typeConverter;
+
+    private final Map<Class<? extends Annotation>, String> valueByAnnotation;
+
+    /**
+     * Creates the field metadata.
+     *
+     * @param accessor          the accessor of the entity fields
+     * @param index             the index of the field in the accessor
+     * @param name              the column name
+     * @param fieldName         the Java field name
+     * @param type              the field type
+     * @param mappingType       the mapping type
+     * @param id                whether the field is the id
+     * @param udt               the user defined type
+     * @param converter         the converter instance, {@code null} when there is none
+     * @param typeConverter     the converter type, {@code null} when there is none
+     * @param valueByAnnotation the {@code value} attribute of the other field annotations by annotation type
+     * @throws NullPointerException when a required parameter is null
+     */
+    public LiteFieldMetadata(LiteFieldAccessor accessor, int index, String name, String fieldName, Class<?> type,
+                             MappingType mappingType, boolean id, Optional<String> udt,
+                             AttributeConverter<?, ?> converter,
+                             Class<? extends AttributeConverter<?, ?>> typeConverter,
+                             Map<Class<? extends Annotation>, String> valueByAnnotation) {
+        this.accessor = Objects.requireNonNull(accessor, "accessor is required");
+        this.index = index;
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.fieldName = Objects.requireNonNull(fieldName, "fieldName is required");
+        this.type = Objects.requireNonNull(type, "type is required");
+        this.mappingType = Objects.requireNonNull(mappingType, "mappingType is required");
+        this.id = id;
+        this.udt = Objects.requireNonNull(udt, "udt is required");
+        this.converter = converter;
+        this.typeConverter = typeConverter;
+        this.valueByAnnotation = Objects.requireNonNull(valueByAnnotation, "valueByAnnotation is required");
+    }
+
+    @Override
+    public boolean isId() {
+        return id;
+    }
+
+    @Override
+    public Optional<String> udt() {
+        return udt;
+    }
+
+    @Override
+    public <T extends Annotation> Optional<String> value(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return Optional.ofNullable(this.valueByAnnotation.get(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <X, Y, T extends AttributeConverter<X, Y>> Optional<Class<T>> converter() {
+        return Optional.ofNullable((Class<T>) typeConverter);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <X, Y, T extends AttributeConverter<X, Y>> Optional<T> newConverter() {
+        return (Optional<T>) Optional.ofNullable(converter);
+    }
+
+    @Override
+    public MappingType mappingType() {
+        return mappingType;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Object value(Value value) {
+        Objects.requireNonNull(value, "value is required");
+        return value.get(type);
+    }
+
+    @Override
+    public void write(Object bean, Object value) {
+        accessor.write(index, bean, value);
+    }
+
+    @Override
+    public Object read(Object bean) {
+        return accessor.read(index, bean);
+    }
+
+    @Override
+    public Class<?> type() {
+        return type;
+    }
+
+    LiteFieldAccessor accessor() {
+        return accessor;
+    }
+
+    int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "LiteFieldMetadata{" +
+                "name='" + name + '\'' +
+                ", fieldName='" + fieldName + '\'' +
+                ", type=" + type +
+                ", mappingType=" + mappingType +
+                ", id=" + id +
+                '}';
+    }
+}
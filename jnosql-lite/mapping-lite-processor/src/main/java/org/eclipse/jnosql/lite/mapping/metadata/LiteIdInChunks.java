@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Splits the ids of the {@code findByIdIn} and {@code deleteByIdIn} operations of the generated repositories into
+ * chunks, so each chunk is sent to the database as a single query with an {@code IN} condition on the id.
+ *
+ * <p>The chunk size is read from the {@value #MAX_SIZE} system property, {@value #DEFAULT_MAX_SIZE} by default.</p>
+ */
+public final class LiteIdInChunks {
+
+    /**
+     * The system property with the maximum number of ids in a single {@code IN} condition.
+     */
+    public static final String MAX_SIZE = "jnosql.lite.id.in.max.size";
+
+    static final int DEFAULT_MAX_SIZE = 1000;
+
+    private LiteIdInChunks() {
+    }
+
+    /**
+     * Checks whether the ids can be queried with an {@code IN} condition. An id that is mapped with an
+     * {@link jakarta.nosql.AttributeConverter} or that is not a plain value is not supported, since the
+     * generated repository would send the raw value instead of the converted one.
+     *
+     * @param id the id field
+     * @return {@code true} when the ids can be queried in chunks
+     * @throws NullPointerException if {@code id} is {@code null}
+     */
+    public static boolean isSupported(FieldMetadata id) {
+        Objects.requireNonNull(id, "id is required");
+        return MappingType.DEFAULT.equals(id.mappingType()) && id.converter().isEmpty();
+    }
+
+    /**
+     * Splits the ids into chunks of at most {@link #maxSize()} elements.
+     *
+     * @param ids the ids
+     * @return the chunks, empty when there is no id
+     * @throws NullPointerException if {@code ids} is {@code null} or contains a {@code null} id
+     */
+    public static List<List<Object>> of(Iterable<?> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        int maxSize = maxSize();
+        List<List<Object>> chunks = new ArrayList<>();
+        List<Object> chunk = new ArrayList<>();
+        for (Object id : ids) {
+            chunk.add(Objects.requireNonNull(id, "id is required"));
+            if (chunk.size() == maxSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the maximum number of ids in a single {@code IN} condition.
+     *
+     * @return the value of {@link #MAX_SIZE}
+     * @throws IllegalArgumentException if the value is not greater than zero
+     */
+    public static int maxSize() {
+        var value = System.getProperty(MAX_SIZE);
+        if (value == null) {
+            return DEFAULT_MAX_SIZE;
+        }
+        int size = Integer.parseInt(value.trim());
+        if (size <= 0) {
+            throw new IllegalArgumentException("The " + MAX_SIZE + " must be greater than zero, but was " + size);
+        }
+        return size;
+    }
+}
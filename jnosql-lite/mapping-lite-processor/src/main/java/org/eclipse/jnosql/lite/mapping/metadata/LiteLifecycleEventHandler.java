@@ -25,6 +25,7 @@ import jakarta.data.event.PreUpsertEvent;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.util.TypeLiteral;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.repository.LifecycleEventHandler;
@@ -33,6 +34,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 /**
@@ -50,30 +53,46 @@ import java.util.logging.Logger;
  * observers to receive events such as {@code PreInsertEvent<Customer>} without
  * constructing parameterized types dynamically at runtime.
  * </p>
+ * <p>
+ * The first time a lifecycle event is fired for an entity type, the handler
+ * asks the {@link BeanManager} for its observers and caches the selected
+ * {@link Event}. When there is no observer, later operations on that entity
+ * type neither create nor fire the event, so bulk operations do not pay for
+ * events nobody listens to.
+ * </p>
  */
 @ApplicationScoped
 class LiteLifecycleEventHandler implements LifecycleEventHandler {
 
     private static final Logger LOGGER = Logger.getLogger(LiteLifecycleEventHandler.class.getName());
 
+    private static final LifecyclePhase[] PHASES = LifecyclePhase.values();
+
     private final Event<Object> events;
 
+    private final BeanManager beanManager;
+
     private final Map<Class<?>, LifecycleEventTypes<?>> providers;
 
+    private final Map<Class<?>, AtomicReferenceArray<Dispatcher>> dispatchers;
+
     /**
      * Creates the handler and loads generated lifecycle event providers using
      * the current thread context class loader.
      *
-     * @param events the CDI event dispatcher
+     * @param events      the CDI event dispatcher
+     * @param beanManager the bean manager used to resolve the event observers
      */
     @Inject
-    LiteLifecycleEventHandler(@Any Event<Object> events) {
-        this(events, contextClassLoader());
+    LiteLifecycleEventHandler(@Any Event<Object> events, BeanManager beanManager) {
+        this(events, beanManager, contextClassLoader());
     }
 
     LiteLifecycleEventHandler() {
         this.events = null;
+        this.beanManager = null;
         this.providers = null;
+        this.dispatchers = null;
     }
 
     /**
@@ -84,97 +103,118 @@ class LiteLifecycleEventHandler implements LifecycleEventHandler {
      * </p>
      *
      * @param events      the CDI event dispatcher
+     * @param beanManager the bean manager used to resolve the event observers
      * @param classLoader the class loader used to discover providers
      */
-    private LiteLifecycleEventHandler(Event<Object> events, ClassLoader classLoader) {
+    private LiteLifecycleEventHandler(Event<Object> events, BeanManager beanManager, ClassLoader classLoader) {
 
         this.events = Objects.requireNonNull(events, "events is required");
+        this.beanManager = Objects.requireNonNull(beanManager, "beanManager is required");
         this.providers = loadProviders(Objects.requireNonNull(classLoader, "classLoader is required"));
+        this.dispatchers = createDispatchers(providers);
     }
 
     @Override
     public <T> void preDelete(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
-        fire("PreDeleteEvent", safeEntity, new PreDeleteEvent<>(safeEntity), provider.preDelete());
+        fire(LifecyclePhase.PRE_DELETE, requireEntity(entity), PreDeleteEvent::new);
     }
 
     @Override
     public <T> void preInsert(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
-
-        fire("PreInsertEvent", safeEntity, new PreInsertEvent<>(safeEntity), provider.preInsert());
+        fire(LifecyclePhase.PRE_INSERT, requireEntity(entity), PreInsertEvent::new);
     }
 
     @Override
     public <T> void preUpdate(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
-
-        fire("PreUpdateEvent", safeEntity, new PreUpdateEvent<>(safeEntity), provider.preUpdate());
+        fire(LifecyclePhase.PRE_UPDATE, requireEntity(entity), PreUpdateEvent::new);
     }
 
     @Override
     public <T> void preUpsert(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
-
-        fire("PreUpsertEvent", safeEntity, new PreUpsertEvent<>(safeEntity), provider.preUpsert());
+        fire(LifecyclePhase.PRE_UPSERT, requireEntity(entity), PreUpsertEvent::new);
     }
 
     @Override
     public <T> void postDelete(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
-
-        fire("PostDeleteEvent", safeEntity, new PostDeleteEvent<>(safeEntity), provider.postDelete());
+        fire(LifecyclePhase.POST_DELETE, requireEntity(entity), PostDeleteEvent::new);
     }
 
     @Override
     public <T> void postInsert(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
-
-        fire("PostInsertEvent", safeEntity, new PostInsertEvent<>(safeEntity), provider.postInsert());
+        fire(LifecyclePhase.POST_INSERT, requireEntity(entity), PostInsertEvent::new);
     }
 
     @Override
     public <T> void postUpdate(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
-
-        fire("PostUpdateEvent", safeEntity, new PostUpdateEvent<>(safeEntity), provider.postUpdate());
+        fire(LifecyclePhase.POST_UPDATE, requireEntity(entity), PostUpdateEvent::new);
     }
 
     @Override
     public <T> void postUpsert(T entity) {
-        T safeEntity = requireEntity(entity);
-        var provider = provider(safeEntity);
+        fire(LifecyclePhase.POST_UPSERT, requireEntity(entity), PostUpsertEvent::new);
+    }
+
+    private <T> void fire(LifecyclePhase phase, T entity, Function<T, Object> eventFactory) {
+
+        Dispatcher dispatcher = dispatcher(phase, entity);
+        if (dispatcher.event() == null) {
+            LOGGER.finest(() -> "Skipping " + phase + " for entity type: "
+                    + entity.getClass().getName() + ", it has no observers");
+            return;
+        }
+
+        LOGGER.finest(() -> "Firing " + phase
+                + " for entity type: " + entity.getClass().getName());
+
+        dispatcher.event().fire(eventFactory.apply(entity));
 
-        fire("PostUpsertEvent", safeEntity, new PostUpsertEvent<>(safeEntity), provider.postUpsert());
+        LOGGER.finest(() -> "Fired " + phase
+                + " for entity type: " + entity.getClass().getName());
+    }
+
+    private <T> Dispatcher dispatcher(LifecyclePhase phase, T entity) {
+
+        LifecycleEventTypes<T> provider = provider(entity);
+        AtomicReferenceArray<Dispatcher> entityDispatchers = dispatchers.get(provider.type());
+        Dispatcher dispatcher = entityDispatchers.get(phase.ordinal());
+        if (dispatcher == null) {
+            dispatcher = resolve(phase, provider, entity);
+            if (!entityDispatchers.compareAndSet(phase.ordinal(), null, dispatcher)) {
+                dispatcher = entityDispatchers.get(phase.ordinal());
+            }
+        }
+        return dispatcher;
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private <T> void fire(
-            String lifecycleEvent,
-            T entity,
-            Object event,
-            TypeLiteral<?> eventType) {
+    private <T> Dispatcher resolve(LifecyclePhase phase, LifecycleEventTypes<T> provider, T entity) {
 
-        LOGGER.finest(() -> "Firing " + lifecycleEvent
-                + " for entity type: " + entity.getClass().getName());
+        Class<T> entityType = provider.type();
+        boolean observed = hasObservers(phase, provider, entity);
+
+        LOGGER.fine(() -> "Resolved " + phase + " for entity type: " + entityType.getName()
+                + (observed ? ", it has observers" : ", it has no observers"));
 
+        if (!observed) {
+            return Dispatcher.NO_OBSERVERS;
+        }
         /*
          * The generated provider guarantees that the TypeLiteral and event
          * instance use the same entity type. The raw cast is isolated here
          * because Event<Object> cannot express that relationship at compile
          * time.
          */
-        events.select((TypeLiteral) eventType).fire(event);
+        return new Dispatcher(events.select((TypeLiteral) phase.eventType(provider)));
+    }
 
-        LOGGER.finest(() -> "Fired " + lifecycleEvent
-                + " for entity type: " + entity.getClass().getName());
+    private <T> boolean hasObservers(LifecyclePhase phase, LifecycleEventTypes<T> provider, T entity) {
+        try {
+            return !beanManager.resolveObserverMethods(provider.typedEvent(phase, entity)).isEmpty();
+        } catch (IllegalArgumentException exception) {
+            LOGGER.fine(() -> "Unable to resolve the observers of " + phase + " for entity type: "
+                    + provider.type().getName() + ", the event will always be fired: " + exception.getMessage());
+            return true;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -245,6 +285,14 @@ class LiteLifecycleEventHandler implements LifecycleEventHandler {
                 + " for entity " + entityType.getName());
     }
 
+    private static Map<Class<?>, AtomicReferenceArray<Dispatcher>> createDispatchers(
+            Map<Class<?>, LifecycleEventTypes<?>> providers) {
+
+        Map<Class<?>, AtomicReferenceArray<Dispatcher>> dispatchers = new HashMap<>();
+        providers.keySet().forEach(type -> dispatchers.put(type, new AtomicReferenceArray<>(PHASES.length)));
+        return Map.copyOf(dispatchers);
+    }
+
     private static ClassLoader contextClassLoader() {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         if (classLoader != null) {
@@ -256,4 +304,13 @@ class LiteLifecycleEventHandler implements LifecycleEventHandler {
     private static <T> T requireEntity(T entity) {
         return Objects.requireNonNull(entity, "entity is required");
     }
+
+    /**
+     * The resolved dispatch of a lifecycle phase for an entity type; the event
+     * is {@code null} when nothing observes it.
+     */
+    private record Dispatcher(Event<Object> event) {
+
+        private static final Dispatcher NO_OBSERVERS = new Dispatcher(null);
+    }
 }
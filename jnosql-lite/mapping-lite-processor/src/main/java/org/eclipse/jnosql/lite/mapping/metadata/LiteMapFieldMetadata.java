@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.metadata.MapFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link MapFieldMetadata} of the consolidated generation mode.
+ *
+ * <p>As in {@link LiteCollectionFieldMetadata}, the {@link TypeSupplier} of the field is created on the first
+ * conversion.</p>
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ *
+ * @see LiteFieldMetadata
+ */
+public final class LiteMapFieldMetadata extends LiteFieldMetadata implements MapFieldMetadata {
+
+    private final boolean embeddable;
+
+    private final Class<?> keyType;
+
+    private final Class<?> valueType;
+
+    private volatile TypeSupplier<?> typeSupplier;
+
+    /**
+     * Creates the field metadata.
+     *
+     * @param accessor          the accessor of the entity fields
+     * @param index             the index of the field in the accessor
+     * @param name              the column name
+     * @param fieldName         the Java field name
+     * @param type              the field type
+     * @param mappingType       the mapping type
+     * @param id                whether the field is the id
+     * @param udt               the user defined type
+     * @param converter         the converter instance, {@code null} when there is none
+     * @param typeConverter     the converter type, {@code null} when there is none
+     * @param valueByAnnotation the {@code value} attribute of the other field annotations by annotation type
+     * @param embeddable        whether the values are embeddable or entities
+     * @param keyType           the key type
+     * @param valueType         the value type
+     * @throws NullPointerException when a required parameter is null
+     */
+    public LiteMapFieldMetadata(LiteFieldAccessor accessor, int index, String name, String fieldName,
+                                Class<?> type, MappingType mappingType, boolean id, Optional<String> udt,
+                                AttributeConverter<?, ?> converter,
+                                Class<? extends AttributeConverter<?, ?>> typeConverter,
+                                Map<Class<? extends Annotation>, String> valueByAnnotation,
+                                boolean embeddable, Class<?> keyType, Class<?> valueType) {
+        super(accessor, index, name, fieldName, type, mappingType, id, udt, converter, typeConverter,
+                valueByAnnotation);
+        this.embeddable = embeddable;
+        this.keyType = keyType;
+        this.valueType = valueType;
+    }
+
+    @Override
+    public Object value(Value value) {
+        Objects.requireNonNull(value, "value is required");
+        TypeSupplier<?> supplier = typeSupplier;
+        if (supplier == null) {
+            supplier = accessor().typeSupplier(index());
+            typeSupplier = supplier;
+        }
+        return value.get(supplier);
+    }
+
+    @Override
+    public boolean isEmbeddable() {
+        return embeddable;
+    }
+
+    @Override
+    public Class<?> keyType() {
+        return keyType;
+    }
+
+    @Override
+    public Class<?> valueType() {
+        return valueType;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryAnnotation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link RepositoryAnnotation} of the consolidated generation mode, created by the repository metadata class
+ * instead of a generated class per method annotation.
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ *
+ * @see LiteRepositoryMethod
+ */
+public final class LiteRepositoryAnnotation implements RepositoryAnnotation {
+
+    private final Class<?> annotation;
+
+    private final Map<String, Object> attributes;
+
+    private final boolean providerAnnotation;
+
+    private final Optional<String> provider;
+
+    /**
+     * Creates the annotation metadata.
+     *
+     * @param annotation         the annotation type
+     * @param attributes         the attributes, with the default values included
+     * @param providerAnnotation whether the annotation is a provider query
+     * @param provider           the provider of the query
+     * @throws NullPointerException when a parameter is null
+     */
+    public LiteRepositoryAnnotation(Class<?> annotation, Map<String, Object> attributes,
+                                    boolean providerAnnotation, Optional<String> provider) {
+        this.annotation = Objects.requireNonNull(annotation, "annotation is required");
+        this.attributes = Objects.requireNonNull(attributes, "attributes is required");
+        this.providerAnnotation = providerAnnotation;
+        this.provider = Objects.requireNonNull(provider, "provider is required");
+    }
+
+    @Override
+    public Class<?> annotation() {
+        return annotation;
+    }
+
+    @Override
+    public Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    @Override
+    public boolean isProviderAnnotation() {
+        return providerAnnotation;
+    }
+
+    @Override
+    public Optional<String> provider() {
+        return provider;
+    }
+
+    @Override
+    public String toString() {
+        return "LiteRepositoryAnnotation{" +
+                "annotation=" + annotation +
+                ", attributes=" + attributes +
+                '}';
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.mapping.metadata.repository.MethodSignatureKey;
+import org.eclipse.jnosql.mapping.metadata.repository.NameKey;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryAnnotation;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethodType;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryParam;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * The {@link RepositoryMethodLookup} of the consolidated generation mode, enabled with the
+ * {@code jnosql.lite.consolidated} processor option. The repository metadata class creates one instance per
+ * method, together with its {@link LiteRepositoryParam} and {@link LiteRepositoryAnnotation} instances, so a
+ * repository needs a single generated class however many methods, parameters and annotations it has.
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ */
+public final class LiteRepositoryMethod implements RepositoryMethodLookup {
+
+    private final String name;
+
+    private final NameKey byName;
+
+    private final MethodSignatureKey bySignature;
+
+    private final RepositoryMethodType type;
+
+    private final Optional<String> query;
+
+    private final OptionalInt first;
+
+    private final Optional<Class<?>> find;
+
+    private final Optional<Class<?>> returnType;
+
+    private final Optional<Class<?>> elementType;
+
+    private final List<String> select;
+
+    private final List<Sort<?>> sorts;
+
+    private final List<RepositoryAnnotation> annotations;
+
+    private final List<RepositoryParam> params;
+
+    /**
+     * Creates the method metadata.
+     *
+     * @param name        the method name
+     * @param signature   the erased parameter types
+     * @param type        the method type
+     * @param query       the {@link jakarta.data.repository.Query} value
+     * @param first       the {@link jakarta.data.repository.First} value
+     * @param find        the {@link jakarta.data.repository.Find} entity
+     * @param returnType  the erased return type
+     * @param elementType the generic or component type of the return
+     * @param select      the {@link jakarta.data.repository.Select} values
+     * @param sorts       the {@link jakarta.data.repository.OrderBy} sorts
+     * @param annotations the method annotations
+     * @param params      the method parameters
+     * @throws NullPointerException when a parameter is null
+     */
+    public LiteRepositoryMethod(String name, List<Class<?>> signature, RepositoryMethodType type,
+                                Optional<String> query, OptionalInt first, Optional<Class<?>> find,
+                                Optional<Class<?>> returnType, Optional<Class<?>> elementType,
+                                List<String> select, List<Sort<?>> sorts,
+                                List<RepositoryAnnotation> annotations, List<RepositoryParam> params) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.byName = new NameKey(name);
+        this.bySignature = new MethodSignatureKey(name, Objects.requireNonNull(signature, "signature is required"));
+        this.type = Objects.requireNonNull(type, "type is required");
+        this.query = Objects.requireNonNull(query, "query is required");
+        this.first = Objects.requireNonNull(first, "first is required");
+        this.find = Objects.requireNonNull(find, "find is required");
+        this.returnType = Objects.requireNonNull(returnType, "returnType is required");
+        this.elementType = Objects.requireNonNull(elementType, "elementType is required");
+        this.select = Objects.requireNonNull(select, "select is required");
+        this.sorts = Objects.requireNonNull(sorts, "sorts is required");
+        this.annotations = Objects.requireNonNull(annotations, "annotations is required");
+        this.params = Objects.requireNonNull(params, "params is required");
+    }
+
+    @Override
+    public MethodSignatureKey bySignature() {
+        return bySignature;
+    }
+
+    @Override
+    public NameKey byName() {
+        return byName;
+    }
+
+    @Override
+    public Optional<String> query() {
+        return query;
+    }
+
+    @Override
+    public OptionalInt first() {
+        return first;
+    }
+
+    @Override
+    public List<Sort<?>> sorts() {
+        return sorts;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public RepositoryMethodType type() {
+        return type;
+    }
+
+    @Override
+    public List<RepositoryParam> params() {
+        return params;
+    }
+
+    @Override
+    public Optional<Class<?>> returnType() {
+        return returnType;
+    }
+
+    @Override
+    public Optional<Class<?>> elementType() {
+        return elementType;
+    }
+
+    @Override
+    public List<String> select() {
+        return select;
+    }
+
+    @Override
+    public Optional<Class<?>> find() {
+        return find;
+    }
+
+    @Override
+    public List<RepositoryAnnotation> annotations() {
+        return annotations;
+    }
+
+    @Override
+    public String toString() {
+        return "LiteRepositoryMethod{" +
+                "name='" + name + '\'' +
+                ", type=" + type +
+                ", params=" + params +
+                '}';
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import jakarta.nosql.Template;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMetadata;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethod;
+import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A repository method bound to its {@link RepositoryMethod} and to the operation that executes it.
+ *
+ * <p>The generated repositories resolve one invoker per method when they are created, through
+ * {@link JNoSQLRepositoryProcessor#invoker(org.eclipse.jnosql.mapping.metadata.repository.MethodSignatureKey)},
+ * so an invocation only builds the {@link RepositoryInvocationContext} and calls the operation, without
+ * looking up the method or dispatching on its type.</p>
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ */
+public final class LiteRepositoryMethodInvoker {
+
+    private final RepositoryMethod method;
+
+    private final Function<RepositoryInvocationContext, Object> operation;
+
+    private final Supplier<RuntimeException> error;
+
+    private final Template template;
+
+    private final EntityMetadata entityMetadata;
+
+    private final RepositoryMetadata repositoryMetadata;
+
+    private LiteRepositoryMethodInvoker(RepositoryMethod method,
+                                        Function<RepositoryInvocationContext, Object> operation,
+                                        Supplier<RuntimeException> error,
+                                        Template template,
+                                        EntityMetadata entityMetadata,
+                                        RepositoryMetadata repositoryMetadata) {
+        this.method = method;
+        this.operation = operation;
+        this.error = error;
+        this.template = template;
+        this.entityMetadata = entityMetadata;
+        this.repositoryMetadata = repositoryMetadata;
+    }
+
+    /**
+     * Executes the repository method.
+     *
+     * @param params the arguments passed to the repository method invocation
+     * @param <T>    the expected return type of the repository method
+     * @return the result produced by the repository operation
+     * @throws NullPointerException     if {@code params} is {@code null}
+     * @throws IllegalArgumentException if the repository method was not found or its operation type is unsupported
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object[] params) {
+        Objects.requireNonNull(params, "params is required");
+        if (operation == null) {
+            throw error.get();
+        }
+        var context = new RepositoryInvocationContext(method, repositoryMetadata, entityMetadata, template, params);
+        return (T) operation.apply(context);
+    }
+
+    /**
+     * Executes a repository method that does not produce a return value.
+     *
+     * @param params the arguments passed to the repository method invocation
+     * @throws NullPointerException     if {@code params} is {@code null}
+     * @throws IllegalArgumentException if the repository method was not found or its operation type is unsupported
+     */
+    public void invokeVoid(Object[] params) {
+        invoke(params);
+    }
+
+    static LiteRepositoryMethodInvoker of(RepositoryMethod method,
+                                          Function<RepositoryInvocationContext, Object> operation,
+                                          Template template,
+                                          EntityMetadata entityMetadata,
+                                          RepositoryMetadata repositoryMetadata) {
+        return new LiteRepositoryMethodInvoker(method, operation, null, template, entityMetadata, repositoryMetadata);
+    }
+
+    /**
+     * Creates an invoker that fails when it is called, so a repository method that cannot be resolved only breaks
+     * the calls to that method, as it did when the method was looked up on every call.
+     */
+    static LiteRepositoryMethodInvoker failing(Supplier<RuntimeException> error) {
+        return new LiteRepositoryMethodInvoker(null, null, error, null, null, null);
+    }
+}
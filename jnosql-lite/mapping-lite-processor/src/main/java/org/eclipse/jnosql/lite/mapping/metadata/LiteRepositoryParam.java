@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.metadata;
+
+import jakarta.data.constraint.Constraint;
+import org.eclipse.jnosql.mapping.metadata.repository.RepositoryParam;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link RepositoryParam} of the consolidated generation mode, created by the repository metadata class
+ * instead of a generated class per parameter.
+ *
+ * <p>This class is part of the JNoSQL Lite internal infrastructure and is not
+ * intended to be used directly by application code.</p>
+ *
+ * @see LiteRepositoryMethod
+ */
+@SuppressWarnings("rawtypes")
+public final class LiteRepositoryParam implements RepositoryParam {
+
+    private final Optional<Class<? extends Constraint>> is;
+
+    private final String name;
+
+    private final String param;
+
+    private final String by;
+
+    private final Class<?> type;
+
+    private final Optional<Class<?>> elementType;
+
+    /**
+     * Creates the parameter metadata.
+     *
+     * @param is          the constraint of the {@link jakarta.data.repository.Is} annotation
+     * @param name        the parameter name
+     * @param param       the name of the {@link jakarta.data.repository.Param} annotation, or the parameter name
+     * @param by          the attribute of the {@link jakarta.data.repository.By} annotation, or the parameter name
+     * @param type        the erased parameter type
+     * @param elementType the generic or component type
+     * @throws NullPointerException when a parameter is null
+     */
+    public LiteRepositoryParam(Optional<Class<? extends Constraint>> is, String name, String param, String by,
+                               Class<?> type, Optional<Class<?>> elementType) {
+        this.is = Objects.requireNonNull(is, "is is required");
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.param = Objects.requireNonNull(param, "param is required");
+        this.by = Objects.requireNonNull(by, "by is required");
+        this.type = Objects.requireNonNull(type, "type is required");
+        this.elementType = Objects.requireNonNull(elementType, "elementType is required");
+    }
+
+    @Override
+    public Optional<Class<? extends Constraint>> is() {
+        return is;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String param() {
+        return param;
+    }
+
+    @Override
+    public String by() {
+        return by;
+    }
+
+    @Override
+    public Class<?> type() {
+        return type;
+    }
+
+    @Override
+    public Optional<Class<?>> elementType() {
+        return elementType;
+    }
+
+    @Override
+    public String toString() {
+        return "LiteRepositoryParam{" +
+                "name='" + name + '\'' +
+                ", type=" + type +
+                '}';
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import org.eclipse.jnosql.lite.mapping.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A query derived from the name of a repository method, such as {@code findByNameAndAgeGreaterThanOrderByName},
+ * parsed by the annotation processor.
+ *
+ * <p>The parser follows the Jakarta Data query by method name grammar: a prefix, the conditions joined by
+ * {@code And} or {@code Or}, and the optional {@code OrderBy} clause. Each property is resolved against the
+ * entity fields, so a misspelled property or operator is reported when the repository is compiled.</p>
+ */
+final class DerivedQuery implements DirectQuery {
+
+    private static final String AND = "And";
+    private static final String OR = "Or";
+    private static final String ORDER = "Order";
+    private static final String BY = "By";
+    private static final String NOT = "Not";
+    private static final String IGNORE_CASE = "IgnoreCase";
+    private static final String ASC = "Asc";
+    private static final String DESC = "Desc";
+
+    enum Prefix {
+        FIND("findBy"), COUNT("countBy"), EXISTS("existsBy"), DELETE("deleteBy");
+
+        private final String value;
+
+        Prefix(String value) {
+            this.value = value;
+        }
+
+        static Optional<Prefix> of(String methodName) {
+            return Arrays.stream(values()).filter(p -> methodName.startsWith(p.value)).findFirst();
+        }
+    }
+
+    enum Operator {
+        EQUALS("", 1, "eq"),
+        GREATER_THAN("GreaterThan", 1, "gt"),
+        GREATER_THAN_EQUAL("GreaterThanEqual", 1, "gte"),
+        LESS_THAN("LessThan", 1, "lt"),
+        LESS_THAN_EQUAL("LessThanEqual", 1, "lte"),
+        BETWEEN("Between", 2, "between"),
+        IN("In", 1, "in"),
+        LIKE("Like", 1, "like"),
+        CONTAINS("Contains", 1, null),
+        STARTS_WITH("StartsWith", 1, null),
+        ENDS_WITH("EndsWith", 1, null),
+        NULL("Null", 0, null),
+        TRUE("True", 0, null),
+        FALSE("False", 0, null);
+
+        private final String keyword;
+        private final int parameters;
+        private final String criteria;
+
+        Operator(String keyword, int parameters, String criteria) {
+            this.keyword = keyword;
+            this.parameters = parameters;
+            this.criteria = criteria;
+        }
+
+        /**
+         * The number of method parameters the operator consumes.
+         */
+        int parameters() {
+            return parameters;
+        }
+
+        /**
+         * The {@code CriteriaCondition} factory method, {@code null} when the operator is only executed by the
+         * query by method name engine at runtime.
+         */
+        String criteria() {
+            return criteria;
+        }
+
+        static Operator of(String keyword) {
+            String value = "Equals".equals(keyword) ? "" : keyword;
+            return Arrays.stream(values()).filter(o -> o.keyword.equals(value)).findFirst().orElse(null);
+        }
+    }
+
+    record Condition(String property, Operator operator, boolean negate, boolean ignoreCase, boolean or) {
+
+        boolean isNested() {
+            return property.indexOf('.') >= 0;
+        }
+    }
+
+    record Order(String property, boolean ascending) {
+
+        boolean isNested() {
+            return property.indexOf('.') >= 0;
+        }
+    }
+
+    private record Match(Condition condition, int end) {
+    }
+
+    private final Prefix prefix;
+
+    private final List<Condition> conditions;
+
+    private final List<Order> orders;
+
+    private DerivedQuery(Prefix prefix, List<Condition> conditions, List<Order> orders) {
+        this.prefix = prefix;
+        this.conditions = conditions;
+        this.orders = orders;
+    }
+
+    Prefix prefix() {
+        return prefix;
+    }
+
+    List<Condition> conditions() {
+        return conditions;
+    }
+
+    List<Order> orders() {
+        return orders;
+    }
+
+    /**
+     * The number of method parameters the conditions consume.
+     */
+    int parameters() {
+        return conditions.stream().mapToInt(c -> c.operator().parameters()).sum();
+    }
+
+    /**
+     * The properties used by the conditions followed by the properties used by the {@code OrderBy} clause.
+     */
+    @Override
+    public List<String> properties() {
+        return Stream.concat(conditions.stream().map(Condition::property), orders.stream().map(Order::property))
+                .toList();
+    }
+
+    @Override
+    public MethodGenerator generator(MethodMetadata metadata) {
+        return new DerivedQueryMethodGenerator(metadata, this);
+    }
+
+    /**
+     * Parses the method name.
+     *
+     * @param methodName the method name
+     * @param properties the entity field names
+     * @return the query, or {@link Optional#empty()} when the method name does not start with a query prefix
+     * @throws ValidationException when a property or operator is unknown
+     */
+    static Optional<DerivedQuery> parse(String methodName, Set<String> properties) {
+        Objects.requireNonNull(methodName, "methodName is required");
+        Objects.requireNonNull(properties, "properties is required");
+        Optional<Prefix> prefix = Prefix.of(methodName);
+        if (prefix.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> tokens = tokens(methodName.substring(prefix.get().value.length()));
+        List<Condition> conditions = new ArrayList<>();
+        int index = 0;
+        boolean or = false;
+        while (index < tokens.size() && !isOrderBy(tokens, index)) {
+            Match match = condition(tokens, index, properties, or);
+            if (match == null) {
+                throw invalid(methodName, "unknown property or operator at '"
+                        + join(tokens, index, tokens.size()) + "'");
+            }
+            conditions.add(match.condition());
+            index = match.end();
+            if (index < tokens.size() && !isOrderBy(tokens, index)) {
+                or = OR.equals(tokens.get(index));
+                index++;
+                if (index == tokens.size() || isOrderBy(tokens, index)) {
+                    throw invalid(methodName, "a condition is expected after '" + tokens.get(index - 1) + "'");
+                }
+            }
+        }
+        List<Order> orders = new ArrayList<>();
+        if (index < tokens.size()) {
+            index += 2;
+            if (index == tokens.size()) {
+                throw invalid(methodName, "a property is expected after 'OrderBy'");
+            }
+        }
+        while (index < tokens.size()) {
+            int end = property(tokens, index, properties);
+            if (end < 0) {
+                throw invalid(methodName, "unknown property at '" + join(tokens, index, tokens.size()) + "'");
+            }
+            String property = property(tokens, index, end);
+            boolean ascending = true;
+            if (end < tokens.size() && (ASC.equals(tokens.get(end)) || DESC.equals(tokens.get(end)))) {
+                ascending = ASC.equals(tokens.get(end));
+                end++;
+            }
+            orders.add(new Order(property, ascending));
+            index = end;
+        }
+        return Optional.of(new DerivedQuery(prefix.get(), Collections.unmodifiableList(conditions),
+                Collections.unmodifiableList(orders)));
+    }
+
+    /**
+     * Matches the shortest property followed by a known operator, so the operator of a nested property, whose
+     * last segments cannot be checked against the entity, is not taken as part of the property.
+     */
+    private static Match condition(List<String> tokens, int start, Set<String> properties, boolean or) {
+        for (int end = start + 1; end <= tokens.size(); end++) {
+            if (!isProperty(tokens, start, end, properties)) {
+                continue;
+            }
+            for (int next = tokens.size(); next >= end; next--) {
+                if (!isBoundary(tokens, next)) {
+                    continue;
+                }
+                Condition condition = condition(property(tokens, start, end), join(tokens, end, next), or);
+                if (condition != null) {
+                    return new Match(condition, next);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Condition condition(String property, String keyword, boolean or) {
+        boolean ignoreCase = false;
+        boolean negate = false;
+        String value = keyword;
+        if (value.endsWith(IGNORE_CASE)) {
+            ignoreCase = true;
+            value = value.substring(0, value.length() - IGNORE_CASE.length());
+        }
+        if (value.startsWith(NOT)) {
+            negate = true;
+            value = value.substring(NOT.length());
+        }
+        Operator operator = Operator.of(value);
+        if (operator == null) {
+            return null;
+        }
+        return new Condition(property, operator, negate, ignoreCase, or);
+    }
+
+    private static int property(List<String> tokens, int start, Set<String> properties) {
+        for (int end = start + 1; end <= tokens.size(); end++) {
+            if (isProperty(tokens, start, end, properties)
+                    && (end == tokens.size() || ASC.equals(tokens.get(end)) || DESC.equals(tokens.get(end)))) {
+                return end;
+            }
+        }
+        for (int end = tokens.size(); end > start; end--) {
+            if (isProperty(tokens, start, end, properties)) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isProperty(List<String> tokens, int start, int end, Set<String> properties) {
+        String property = property(tokens, start, end);
+        if (property.isEmpty() || property.startsWith(".") || property.endsWith(".")) {
+            return false;
+        }
+        int dot = property.indexOf('.');
+        return properties.contains(dot < 0 ? property : property.substring(0, dot));
+    }
+
+    private static String property(List<String> tokens, int start, int end) {
+        String value = join(tokens, start, end);
+        if (value.isEmpty()) {
+            return value;
+        }
+        StringBuilder property = new StringBuilder(value.length());
+        boolean capitalized = true;
+        for (char character : value.toCharArray()) {
+            if (character == '_') {
+                property.append('.');
+                capitalized = true;
+            } else if (capitalized) {
+                property.append(Character.toLowerCase(character));
+                capitalized = false;
+            } else {
+                property.append(character);
+            }
+        }
+        return property.toString();
+    }
+
+    private static boolean isBoundary(List<String> tokens, int index) {
+        return index == tokens.size() || AND.equals(tokens.get(index)) || OR.equals(tokens.get(index))
+                || isOrderBy(tokens, index);
+    }
+
+    private static boolean isOrderBy(List<String> tokens, int index) {
+        return index + 1 < tokens.size() && ORDER.equals(tokens.get(index)) && BY.equals(tokens.get(index + 1));
+    }
+
+    private static List<String> tokens(String value) {
+        if (value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(value.split("(?=\\p{Upper})"));
+    }
+
+    private static String join(List<String> tokens, int start, int end) {
+        return String.join("", tokens.subList(start, end));
+    }
+
+    private static ValidationException invalid(String methodName, String reason) {
+        return new ValidationException("The method " + methodName + " is not a valid query by method name: " + reason);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import jakarta.data.repository.OrderBy;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.jnosql.lite.mapping.repository.DirectQuerySupport.CRITERIA;
+
+/**
+ * Generates the body of a query by method name whose conditions map straight to a {@code CriteriaCondition},
+ * so the generated repository builds the query without parsing the method name at runtime.
+ *
+ * <p>The generated code only runs when every property is a plain column without an
+ * {@link jakarta.nosql.AttributeConverter}; otherwise the method falls back to the repository operation.</p>
+ */
+class DerivedQueryMethodGenerator extends MethodGenerator {
+
+    private final MethodMetadata metadata;
+
+    private final DerivedQuery query;
+
+    DerivedQueryMethodGenerator(MethodMetadata metadata, DerivedQuery query) {
+        super(metadata);
+        this.metadata = metadata;
+        this.query = query;
+    }
+
+    @Override
+    public List<String> getLines() {
+        String columns = metadata.getColumnsName();
+        List<String> parameters = metadata.getQueryParams().stream().map(Parameter::name).toList();
+        List<String> conditions = new ArrayList<>();
+        int column = 0;
+        int parameter = 0;
+        for (DerivedQuery.Condition condition : query.conditions()) {
+            String name = columns + "[" + column++ + "]";
+            String value = switch (condition.operator()) {
+                case BETWEEN -> "java.util.List.of(" + parameters.get(parameter) + ", "
+                        + parameters.get(parameter + 1) + ")";
+                default -> parameters.get(parameter);
+            };
+            parameter += condition.operator().parameters();
+            conditions.add(CRITERIA + "." + condition.operator().criteria() + "(" + name + ", " + value + ")"
+                    + (condition.negate() ? ".negate()" : ""));
+        }
+        String where = switch (conditions.size()) {
+            case 0 -> "null";
+            case 1 -> conditions.get(0);
+            default -> CRITERIA + ".and(" + String.join(", ", conditions) + ")";
+        };
+        if (query.prefix() == DerivedQuery.Prefix.DELETE) {
+            return DirectQuerySupport.deleteQuery(where);
+        }
+        List<String> sorts = new ArrayList<>();
+        for (DerivedQuery.Order order : query.orders()) {
+            sorts.add(DirectQuerySupport.sort(columns, column++, order.ascending()));
+        }
+        List<String> lines = new ArrayList<>(DirectQuerySupport.selectQuery(where, sorts));
+        switch (query.prefix()) {
+            case COUNT -> lines.add("long resultJNoSQL = this.template.count(queryJNoSQL)");
+            case EXISTS -> lines.add("boolean resultJNoSQL = this.template.exists(queryJNoSQL)");
+            default -> lines.addAll(MethodQueryRepositoryReturnType.of(metadata).apply(metadata));
+        }
+        lines.add("return resultJNoSQL");
+        return lines;
+    }
+
+    /**
+     * Checks whether the query can be generated as code: only {@code And} conditions over plain properties whose
+     * parameters have the property type, no special parameter, no {@link OrderBy} annotation and a return type the
+     * generated code produces.
+     */
+    static boolean isDirect(DerivedQuery query, ExecutableElement method, String entityType,
+                            Map<String, TypeMirror> fields, ProcessingEnvironment processingEnv) {
+        Types types = processingEnv.getTypeUtils();
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (DirectQuerySupport.isDynamic(method, types) || parameters.size() != query.parameters()
+                || query.orders().stream().anyMatch(DerivedQuery.Order::isNested)) {
+            return false;
+        }
+        int index = 0;
+        for (DerivedQuery.Condition condition : query.conditions()) {
+            if (condition.operator().criteria() == null || condition.ignoreCase() || condition.or()
+                    || condition.isNested()) {
+                return false;
+            }
+            TypeMirror field = fields.get(condition.property());
+            for (int offset = 0; offset < condition.operator().parameters(); offset++) {
+                TypeMirror type = parameters.get(index + offset).asType();
+                if (!isCompatible(condition.operator(), field, type, types)) {
+                    return false;
+                }
+            }
+            index += condition.operator().parameters();
+        }
+        return isSupportedReturn(query, method.getReturnType(), entityType, types);
+    }
+
+    private static boolean isCompatible(DerivedQuery.Operator operator, TypeMirror field, TypeMirror type,
+                                        Types types) {
+        return switch (operator) {
+            case IN -> DirectQuerySupport.isCollectionOf(field, type, types);
+            case LIKE -> DirectQuerySupport.isString(field) && DirectQuerySupport.isSameType(field, type, types);
+            default -> DirectQuerySupport.isSameType(field, type, types);
+        };
+    }
+
+    private static boolean isSupportedReturn(DerivedQuery query, TypeMirror returnType, String entityType,
+                                             Types types) {
+        return switch (query.prefix()) {
+            case DELETE -> returnType.getKind() == TypeKind.VOID && !query.conditions().isEmpty();
+            case COUNT -> returnType.getKind() == TypeKind.LONG || Long.class.getName().equals(returnType.toString());
+            case EXISTS -> returnType.getKind() == TypeKind.BOOLEAN
+                    || Boolean.class.getName().equals(returnType.toString());
+            case FIND -> DirectQuerySupport.isFindReturn(returnType, entityType, types);
+        };
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import java.util.List;
+
+/**
+ * A repository query resolved by the annotation processor, which the generated repository builds from the method
+ * parameters instead of handing the method over to the repository operations.
+ */
+interface DirectQuery {
+
+    /**
+     * The entity properties used by the query, in the order the generated code reads their column names.
+     *
+     * @return the properties
+     */
+    List<String> properties();
+
+    /**
+     * Creates the generator of the method body.
+     *
+     * @param metadata the method
+     * @return the generator
+     */
+    MethodGenerator generator(MethodMetadata metadata);
+}
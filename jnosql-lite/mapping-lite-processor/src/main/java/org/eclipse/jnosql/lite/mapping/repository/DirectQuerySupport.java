@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+import jakarta.data.repository.OrderBy;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The checks and the code shared by the {@link DirectQuery} generators.
+ */
+final class DirectQuerySupport {
+
+    static final String CRITERIA = "org.eclipse.jnosql.communication.semistructured.CriteriaCondition";
+
+    private static final Set<String> SPECIAL_PARAMETERS = Set.of(Limit.class.getName(), PageRequest.class.getName(),
+            Sort.class.getName(), Order.class.getName());
+
+    private static final Set<String> COLLECTIONS = Set.of("java.util.List", "java.util.Set", "java.util.Collection",
+            "java.lang.Iterable");
+
+    private static final Set<String> FIND_RETURNS = Set.of("java.util.stream.Stream", "java.util.List",
+            "java.util.Collection", "java.lang.Iterable", "java.util.Set", "java.util.Optional");
+
+    private DirectQuerySupport() {
+    }
+
+    /**
+     * Checks whether the method changes the query at runtime, with a special parameter or an {@link OrderBy}
+     * annotation.
+     */
+    static boolean isDynamic(ExecutableElement method, Types types) {
+        if (method.getAnnotationsByType(OrderBy.class).length > 0) {
+            return true;
+        }
+        for (VariableElement parameter : method.getParameters()) {
+            TypeElement element = (TypeElement) types.asElement(types.erasure(parameter.asType()));
+            if (element != null && SPECIAL_PARAMETERS.contains(element.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the parameter is sent to the database as it is when compared with the field.
+     */
+    static boolean isSameType(TypeMirror field, TypeMirror parameter, Types types) {
+        return field != null && types.isSameType(boxed(parameter, types), boxed(field, types));
+    }
+
+    /**
+     * Checks whether the parameter is a collection of the field type.
+     */
+    static boolean isCollectionOf(TypeMirror field, TypeMirror parameter, Types types) {
+        if (field == null || !(parameter instanceof DeclaredType declaredType)
+                || declaredType.getTypeArguments().size() != 1) {
+            return false;
+        }
+        TypeElement element = (TypeElement) declaredType.asElement();
+        return COLLECTIONS.contains(element.getQualifiedName().toString())
+                && types.isSameType(declaredType.getTypeArguments().get(0), boxed(field, types));
+    }
+
+    static boolean isString(TypeMirror field) {
+        return field != null && String.class.getName().equals(field.toString());
+    }
+
+    /**
+     * Checks whether the return type is one the generated code produces from the selected entities.
+     */
+    static boolean isFindReturn(TypeMirror returnType, String entityType, Types types) {
+        if (!(returnType instanceof DeclaredType declaredType)) {
+            return false;
+        }
+        String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        if (name.equals(entityType)) {
+            return true;
+        }
+        return FIND_RETURNS.contains(name) && declaredType.getTypeArguments().size() == 1
+                && entityType.equals(types.erasure(declaredType.getTypeArguments().get(0)).toString());
+    }
+
+    /**
+     * The lines that declare the {@code conditionJNoSQL}, {@code sortsJNoSQL} and {@code queryJNoSQL} variables.
+     */
+    static List<String> selectQuery(String condition, List<String> sorts) {
+        List<String> lines = new ArrayList<>();
+        lines.add(CRITERIA + " conditionJNoSQL = " + condition);
+        lines.add("java.util.List<jakarta.data.Sort<?>> sortsJNoSQL = "
+                + (sorts.isEmpty() ? "java.util.Collections.emptyList()"
+                : "java.util.List.<jakarta.data.Sort<?>>of(" + String.join(", ", sorts) + ")"));
+        lines.add("SelectQuery queryJNoSQL = new MappingQuery(sortsJNoSQL, 0L, 0L, conditionJNoSQL, "
+                + "this.metadata.name(), java.util.Collections.emptyList())");
+        return lines;
+    }
+
+    /**
+     * The lines that delete the entities matching the condition.
+     */
+    static List<String> deleteQuery(String condition) {
+        List<String> lines = new ArrayList<>();
+        lines.add(CRITERIA + " conditionJNoSQL = " + condition);
+        lines.add("this.template.delete(DeleteQuery.builder().from(this.metadata.name())"
+                + ".where(conditionJNoSQL).build())");
+        lines.add("return");
+        return lines;
+    }
+
+    /**
+     * The sort of the column at the given index of the columns array.
+     */
+    static String sort(String columns, int index, boolean ascending) {
+        String direction = ascending ? "asc" : "desc";
+        return "jakarta.data.Sort." + direction + "(" + columns + "[" + index + "])";
+    }
+
+    private static TypeMirror boxed(TypeMirror type, Types types) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).asType();
+        }
+        return type;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import jakarta.data.Sort;
+import jakarta.data.repository.Param;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.QueryCondition;
+import org.eclipse.jnosql.communication.query.QueryValue;
+import org.eclipse.jnosql.communication.query.UpdateItem;
+import org.eclipse.jnosql.communication.query.ValueType;
+import org.eclipse.jnosql.communication.query.Where;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.QueryType;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.data.UpdateProvider;
+import org.eclipse.jnosql.lite.mapping.ValidationException;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A {@link jakarta.data.repository.Query} parsed by the annotation processor with the same JDQL parser the
+ * repository operations use at runtime.
+ *
+ * <p>The parsing reports a syntax error, or an attribute the entity does not have, when the repository is compiled.
+ * A select or delete whose conditions only compare attributes with parameters is kept as a tree with a parameter
+ * slot per comparison, so the generated repository builds the query by binding the method arguments.</p>
+ */
+final class JdqlQuery implements DirectQuery {
+
+    private static final Set<Condition> COMPARISONS = EnumSet.of(Condition.EQUALS, Condition.GREATER_THAN,
+            Condition.GREATER_EQUALS_THAN, Condition.LESSER_THAN, Condition.LESSER_EQUALS_THAN, Condition.LIKE);
+
+    sealed interface Node permits Comparison, Group {
+    }
+
+    /**
+     * A comparison of an attribute, with the name of the query parameter, {@code null} when the value is not a
+     * single parameter.
+     */
+    record Comparison(String attribute, Condition condition, String parameter) implements Node {
+    }
+
+    record Group(Condition condition, List<Node> nodes) implements Node {
+    }
+
+    record Order(String attribute, boolean ascending) {
+    }
+
+    private final QueryType type;
+
+    private final Node where;
+
+    private final List<Order> orders;
+
+    private final boolean simple;
+
+    private JdqlQuery(QueryType type, Node where, List<Order> orders, boolean simple) {
+        this.type = type;
+        this.where = where;
+        this.orders = orders;
+        this.simple = simple;
+    }
+
+    QueryType type() {
+        return type;
+    }
+
+    Optional<Node> where() {
+        return Optional.ofNullable(where);
+    }
+
+    List<Order> orders() {
+        return orders;
+    }
+
+    @Override
+    public List<String> properties() {
+        List<String> properties = new ArrayList<>();
+        if (where != null) {
+            collect(where, properties);
+        }
+        orders.forEach(order -> properties.add(order.attribute()));
+        return Collections.unmodifiableList(properties);
+    }
+
+    @Override
+    public MethodGenerator generator(MethodMetadata metadata) {
+        return new JdqlQueryMethodGenerator(metadata, this);
+    }
+
+    /**
+     * Checks whether the generated repository can build the query: a select without projection, limit or count,
+     * or a delete with a condition, over plain attributes compared with parameters of the attribute type, and a
+     * method without special parameters whose return type the generated code produces.
+     *
+     * @param method     the repository method
+     * @param entityType the qualified name of the entity
+     * @param entity     the entity
+     * @param types      the type utilities
+     * @return {@code true} when the query can be generated as code
+     */
+    boolean isDirect(ExecutableElement method, String entityType, QueryEntity entity, Types types) {
+        if (!simple || DirectQuerySupport.isDynamic(method, types)
+                || orders.stream().anyMatch(o -> !entity.fields().containsKey(o.attribute()))) {
+            return false;
+        }
+        TypeMirror returnType = method.getReturnType();
+        boolean supportedReturn = switch (type) {
+            case SELECT -> DirectQuerySupport.isFindReturn(returnType, entityType, types);
+            case DELETE -> returnType.getKind() == TypeKind.VOID;
+            default -> false;
+        };
+        if (!supportedReturn) {
+            return false;
+        }
+        List<? extends VariableElement> parameters = method.getParameters();
+        List<String> names = parameters.stream().map(p -> p.getSimpleName().toString()).toList();
+        List<String> params = parameters.stream().map(p -> p.getAnnotation(Param.class))
+                .map(p -> p == null ? null : p.value()).toList();
+        return where == null || isDirect(where, entity, parameters, names, params, types);
+    }
+
+    private static boolean isDirect(Node node, QueryEntity entity, List<? extends VariableElement> parameters,
+                                    List<String> names, List<String> params, Types types) {
+        if (node instanceof Group group) {
+            return group.nodes().stream().allMatch(n -> isDirect(n, entity, parameters, names, params, types));
+        }
+        Comparison comparison = (Comparison) node;
+        if (comparison.parameter() == null || !COMPARISONS.contains(comparison.condition())) {
+            return false;
+        }
+        TypeMirror field = entity.fields().get(comparison.attribute());
+        int index = parameterIndex(comparison.parameter(), names, params);
+        if (index < 0) {
+            return false;
+        }
+        TypeMirror parameter = parameters.get(index).asType();
+        if (comparison.condition() == Condition.LIKE && !DirectQuerySupport.isString(field)) {
+            return false;
+        }
+        return DirectQuerySupport.isSameType(field, parameter, types);
+    }
+
+    /**
+     * Returns the index of the method parameter bound to the query parameter: {@code ?1} is the first parameter,
+     * {@code :name} is the parameter annotated with {@code @Param("name")} or, otherwise, named {@code name}.
+     *
+     * @return the index, {@code -1} when no parameter matches
+     */
+    static int parameterIndex(String parameter, List<String> names, List<String> params) {
+        String name = parameter.startsWith("?") || parameter.startsWith(":") ? parameter.substring(1) : parameter;
+        if (!name.isEmpty() && name.chars().allMatch(Character::isDigit)) {
+            int index = Integer.parseInt(name) - 1;
+            return index >= 0 && index < names.size() ? index : -1;
+        }
+        int index = params.indexOf(name);
+        if (index >= 0) {
+            return index;
+        }
+        index = names.indexOf(name);
+        return index >= 0 && params.get(index) == null ? index : -1;
+    }
+
+    /**
+     * Parses the query.
+     *
+     * @param query  the JDQL query
+     * @param entity the repository entity
+     * @return the query
+     * @throws ValidationException when the query has a syntax error or uses an attribute the entity does not have
+     */
+    static JdqlQuery parse(String query, QueryEntity entity) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(entity, "entity is required");
+        List<String> attributes = new ArrayList<>();
+        String from;
+        Node where;
+        List<Order> orders = new ArrayList<>();
+        QueryType type;
+        boolean simple;
+        try {
+            type = QueryType.parse(query);
+            switch (type) {
+                case DELETE -> {
+                    var delete = DeleteProvider.INSTANCE.apply(query);
+                    from = delete.entity();
+                    where = delete.where().map(Where::condition).map(c -> node(c, attributes)).orElse(null);
+                    simple = where != null;
+                }
+                case UPDATE -> {
+                    var update = UpdateProvider.INSTANCE.apply(query);
+                    from = update.entity();
+                    update.set().stream().map(UpdateItem::name).forEach(attributes::add);
+                    where = update.where().map(Where::condition).map(c -> node(c, attributes)).orElse(null);
+                    simple = false;
+                }
+                default -> {
+                    var select = SelectProvider.INSTANCE.apply(query, entity.name());
+                    from = select.entity();
+                    attributes.addAll(select.fields());
+                    for (Sort<?> sort : select.orderBy()) {
+                        attributes.add(sort.property());
+                        orders.add(new Order(sort.property(), sort.isAscending()));
+                    }
+                    where = select.where().map(Where::condition).map(c -> node(c, attributes)).orElse(null);
+                    simple = select.fields().isEmpty() && !select.isCount() && select.skip() == 0
+                            && select.limit() == 0;
+                }
+            }
+        } catch (ValidationException exception) {
+            throw exception;
+        } catch (RuntimeException exception) {
+            throw new ValidationException("The query '" + query + "' is not a valid JDQL query: "
+                    + exception.getMessage(), exception);
+        }
+        if (!entity.isResolved() || !entity.name().equals(from)) {
+            return new JdqlQuery(type, where, orders, false);
+        }
+        for (String attribute : attributes) {
+            if (isAttribute(attribute) && !entity.hasAttribute(attribute)) {
+                throw new ValidationException("The query '" + query + "' uses the attribute '" + attribute
+                        + "', which the entity " + entity.name() + " does not have");
+            }
+        }
+        boolean nested = Stream.concat(attributes.stream(), orders.stream().map(Order::attribute))
+                .anyMatch(a -> a != null && a.indexOf('.') >= 0);
+        return new JdqlQuery(type, where, Collections.unmodifiableList(orders), simple && !nested);
+    }
+
+    private static Node node(QueryCondition condition, List<String> attributes) {
+        Condition kind = condition.condition();
+        QueryValue<?> value = condition.value();
+        if (kind == Condition.AND || kind == Condition.OR || kind == Condition.NOT) {
+            Object children = value.get();
+            if (children instanceof QueryCondition child) {
+                return new Group(kind, List.of(node(child, attributes)));
+            }
+            if (children instanceof List<?> conditions
+                    && conditions.stream().allMatch(QueryCondition.class::isInstance)) {
+                List<Node> nodes = new ArrayList<>();
+                for (Object child : conditions) {
+                    nodes.add(node((QueryCondition) child, attributes));
+                }
+                return new Group(kind, Collections.unmodifiableList(nodes));
+            }
+            return new Comparison(null, kind, null);
+        }
+        attributes.add(condition.name());
+        String parameter = ValueType.PARAMETER.equals(value.type()) ? String.valueOf(value.get()) : null;
+        return new Comparison(condition.name(), kind, parameter);
+    }
+
+    private static void collect(Node node, List<String> properties) {
+        if (node instanceof Group group) {
+            group.nodes().forEach(n -> collect(n, properties));
+        } else {
+            properties.add(((Comparison) node).attribute());
+        }
+    }
+
+    /**
+     * Function calls, such as {@code id(this)}, and {@code this} are resolved by the query engine.
+     */
+    private static boolean isAttribute(String attribute) {
+        return attribute != null && !attribute.isBlank() && attribute.indexOf('(') < 0
+                && !"this".equals(attribute) && !"*".equals(attribute);
+    }
+}
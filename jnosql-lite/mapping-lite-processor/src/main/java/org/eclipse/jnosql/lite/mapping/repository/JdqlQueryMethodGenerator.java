@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import org.eclipse.jnosql.communication.query.data.QueryType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.eclipse.jnosql.lite.mapping.repository.DirectQuerySupport.CRITERIA;
+
+/**
+ * Generates the body of a {@link jakarta.data.repository.Query} method whose JDQL the annotation processor has
+ * already parsed, binding each parameter slot of the condition tree to the method argument.
+ *
+ * <p>As with the queries by method name, the generated code only runs when every attribute is a plain column;
+ * otherwise the method falls back to the repository operation.</p>
+ */
+class JdqlQueryMethodGenerator extends MethodGenerator {
+
+    private final MethodMetadata metadata;
+
+    private final JdqlQuery query;
+
+    JdqlQueryMethodGenerator(MethodMetadata metadata, JdqlQuery query) {
+        super(metadata);
+        this.metadata = metadata;
+        this.query = query;
+    }
+
+    @Override
+    public List<String> getLines() {
+        String columns = metadata.getColumnsName();
+        List<Parameter> parameters = metadata.getQueryParams();
+        List<String> names = parameters.stream().map(Parameter::name).toList();
+        List<String> params = parameters.stream().map(p -> p.hasParam() ? p.param().value() : null).toList();
+        int[] column = {0};
+        String where = query.where().map(node -> condition(node, columns, column, names, params)).orElse("null");
+        if (query.type() == QueryType.DELETE) {
+            return DirectQuerySupport.deleteQuery(where);
+        }
+        List<String> sorts = new ArrayList<>();
+        for (JdqlQuery.Order order : query.orders()) {
+            sorts.add(DirectQuerySupport.sort(columns, column[0]++, order.ascending()));
+        }
+        List<String> lines = new ArrayList<>(DirectQuerySupport.selectQuery(where, sorts));
+        lines.addAll(MethodQueryRepositoryReturnType.of(metadata).apply(metadata));
+        lines.add("return resultJNoSQL");
+        return lines;
+    }
+
+    private static String condition(JdqlQuery.Node node, String columns, int[] column, List<String> names,
+                                    List<String> params) {
+        if (node instanceof JdqlQuery.Group group) {
+            List<String> conditions = new ArrayList<>();
+            for (JdqlQuery.Node child : group.nodes()) {
+                conditions.add(condition(child, columns, column, names, params));
+            }
+            return switch (group.condition()) {
+                case NOT -> "(" + conditions.get(0) + ").negate()";
+                case OR -> CRITERIA + ".or(" + String.join(", ", conditions) + ")";
+                default -> CRITERIA + ".and(" + String.join(", ", conditions) + ")";
+            };
+        }
+        JdqlQuery.Comparison comparison = (JdqlQuery.Comparison) node;
+        String value = names.get(JdqlQuery.parameterIndex(comparison.parameter(), names, params));
+        String criteria = switch (comparison.condition()) {
+            case GREATER_THAN -> "gt";
+            case GREATER_EQUALS_THAN -> "gte";
+            case LESSER_THAN -> "lt";
+            case LESSER_EQUALS_THAN -> "lte";
+            case LIKE -> "like";
+            default -> "eq";
+        };
+        return CRITERIA + "." + criteria + "(" + columns + "[" + column[0]++ + "], " + value + ")";
+    }
+}
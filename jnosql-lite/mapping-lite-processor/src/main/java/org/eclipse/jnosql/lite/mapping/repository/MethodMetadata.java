@@ -25,6 +25,7 @@ import jakarta.data.repository.OrderBy;
 import jakarta.data.repository.Query;
 import jakarta.data.repository.Save;
 import jakarta.data.repository.Update;
+import org.eclipse.jnosql.lite.mapping.ValidationException;
 import org.eclipse.jnosql.mapping.DatabaseType;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -33,6 +34,7 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -74,10 +76,12 @@ class MethodMetadata {
 
     private final String entityType;
 
+    private final DirectQuery directQuery;
+
     private MethodMetadata(String methodName, TypeElement returnElement, String returnType,
                            List<Parameter> parameters, DatabaseType type, String entityType,
                            Query query, Insert insert, Update update, Delete delete, Save save, Find find, OrderBy[] orders,
-                           String constantName) {
+                           String constantName, DirectQuery directQuery) {
 
         this.methodName = methodName;
         this.returnElement = returnElement;
@@ -93,6 +97,7 @@ class MethodMetadata {
         this.find = find;
         this.orders = orders;
         this.constantName = constantName;
+        this.directQuery = directQuery;
     }
 
     public String getMethodName() {
@@ -196,6 +201,36 @@ class MethodMetadata {
         return constantName;
     }
 
+    public String getInvokerName() {
+        return uniqueName() + "Invoker";
+    }
+
+    public boolean hasDirectQuery() {
+        return directQuery != null;
+    }
+
+    DirectQuery getDirectQuery() {
+        return directQuery;
+    }
+
+    public String getColumnsName() {
+        return uniqueName() + "Columns";
+    }
+
+    public String getDirectQueryProperties() {
+        return directQuery.properties().stream()
+                .map(property -> "\"" + property + "\"")
+                .collect(joining(", "));
+    }
+
+    private String uniqueName() {
+        String params = parameters.stream()
+                .map(Parameter::name)
+                .map(name -> Character.toUpperCase(name.charAt(0)) + name.substring(1))
+                .collect(Collectors.joining());
+        return methodName + params;
+    }
+
     public String getParametersAsObjectArray() {
         if (parameters.isEmpty()) {
             return "new Object[]{}";
@@ -211,7 +246,8 @@ class MethodMetadata {
         return orders;
     }
 
-    public static MethodMetadata of(Element element, String entityType, DatabaseType type, ProcessingEnvironment processingEnv) {
+    public static MethodMetadata of(Element element, String entityType, DatabaseType type,
+                                    QueryEntity entity, ProcessingEnvironment processingEnv) {
         ElementKind kind = element.getKind();
         if (ElementKind.METHOD.equals(kind) && !isDefaultMethod((ExecutableElement) element)) {
             ExecutableElement method = (ExecutableElement) element;
@@ -231,8 +267,62 @@ class MethodMetadata {
             Find find = method.getAnnotation(Find.class);
             OrderBy[] orders = method.getAnnotationsByType(OrderBy.class);
             String constantName = MethodSignatureKeyExtractor.buildConstantName(method);
+            DirectQuery directQuery = null;
+            boolean annotated = query != null || insert != null || update != null || delete != null || save != null
+                    || find != null;
+            if (!DatabaseType.KEY_VALUE.equals(type) && entity.isResolved()) {
+                if (query != null) {
+                    directQuery = jdqlQuery(method, query, entityType, entity, processingEnv);
+                } else if (!annotated) {
+                    directQuery = derivedQuery(method, entityType, parameters, entity, processingEnv);
+                }
+            }
             return new MethodMetadata(methodName, returnElement, returnType, parameters, type, entityType, query,
-                    insert, update, delete, save, find, orders, constantName);
+                    insert, update, delete, save, find, orders, constantName, directQuery);
+        }
+        return null;
+    }
+
+    /**
+     * Parses the query by method name, reporting a compilation error when it does not match the entity, and
+     * returns it when the generated repository can execute it without the runtime parser.
+     */
+    private static DerivedQuery derivedQuery(ExecutableElement method, String entityType, List<Parameter> parameters,
+                                             QueryEntity entity, ProcessingEnvironment processingEnv) {
+        try {
+            String methodName = method.getSimpleName().toString();
+            DerivedQuery derivedQuery = DerivedQuery.parse(methodName, entity.fields().keySet()).orElse(null);
+            if (derivedQuery == null) {
+                return null;
+            }
+            long queryParams = parameters.stream().filter(IS_SPECIAL_PARAM.negate()).count();
+            if (queryParams < derivedQuery.parameters()) {
+                throw new ValidationException("The method " + methodName + " requires " + derivedQuery.parameters()
+                        + " parameters for its conditions, but declares " + queryParams);
+            }
+            if (DerivedQueryMethodGenerator.isDirect(derivedQuery, method, entityType, entity.fields(),
+                    processingEnv)) {
+                return derivedQuery;
+            }
+        } catch (ValidationException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, exception.getMessage(), method);
+        }
+        return null;
+    }
+
+    /**
+     * Parses the {@link Query} with the JDQL parser, reporting a compilation error when it is not valid for the
+     * entity, and returns it when the generated repository can build it from the method parameters.
+     */
+    private static JdqlQuery jdqlQuery(ExecutableElement method, Query query, String entityType, QueryEntity entity,
+                                       ProcessingEnvironment processingEnv) {
+        try {
+            JdqlQuery jdqlQuery = JdqlQuery.parse(query.value(), entity);
+            if (jdqlQuery.isDirect(method, entityType, entity, processingEnv.getTypeUtils())) {
+                return jdqlQuery;
+            }
+        } catch (ValidationException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, exception.getMessage(), method);
         }
         return null;
     }
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The entity of a repository as the annotation processor sees it, used to validate the repository queries.
+ *
+ * @param name    the entity name used by the queries
+ * @param fields  the fields of the entity and its superclasses by name; the id field is also available as
+ *                {@code id}
+ * @param columns the column names declared with {@link Column} or {@link Id}
+ */
+record QueryEntity(String name, Map<String, TypeMirror> fields, Set<String> columns) {
+
+    /**
+     * Checks whether the entity was found, otherwise the queries cannot be validated.
+     *
+     * @return {@code true} when the entity has fields
+     */
+    boolean isResolved() {
+        return !fields.isEmpty();
+    }
+
+    /**
+     * Checks whether the query attribute is a field or a column of the entity. A nested attribute only has its
+     * first segment checked.
+     *
+     * @param attribute the attribute
+     * @return {@code true} when the entity has the attribute
+     */
+    boolean hasAttribute(String attribute) {
+        int dot = attribute.indexOf('.');
+        String root = dot < 0 ? attribute : attribute.substring(0, dot);
+        return fields.containsKey(root) || columns.contains(root);
+    }
+
+    static QueryEntity of(String entityType, ProcessingEnvironment processingEnv) {
+        TypeElement entity = processingEnv.getElementUtils().getTypeElement(entityType);
+        if (entity == null) {
+            return new QueryEntity(entityType, Collections.emptyMap(), Collections.emptySet());
+        }
+        Entity annotation = entity.getAnnotation(Entity.class);
+        String name = annotation == null || annotation.value().isBlank()
+                ? entity.getSimpleName().toString() : annotation.value();
+        Map<String, TypeMirror> fields = new HashMap<>();
+        Set<String> columns = new HashSet<>();
+        TypeElement type = entity;
+        while (type != null) {
+            for (Element enclosed : type.getEnclosedElements()) {
+                if (ElementKind.FIELD.equals(enclosed.getKind())
+                        && !enclosed.getModifiers().contains(Modifier.STATIC)) {
+                    fields.putIfAbsent(enclosed.getSimpleName().toString(), enclosed.asType());
+                    Id id = enclosed.getAnnotation(Id.class);
+                    Column column = enclosed.getAnnotation(Column.class);
+                    if (id != null) {
+                        fields.putIfAbsent("id", enclosed.asType());
+                        columns.add(id.value());
+                    }
+                    if (column != null) {
+                        columns.add(column.value());
+                    }
+                }
+            }
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass instanceof DeclaredType declaredType ? (TypeElement) declaredType.asElement() : null;
+        }
+        columns.remove("");
+        return new QueryEntity(name, fields, columns);
+    }
+}
@@ -129,9 +129,10 @@ class RepositoryElement {
                 String entityType = parameters.get(0);
                 String keyType = parameters.get(1);
                 String repositoryInterface = typeElement.getQualifiedName().toString();
+                QueryEntity queryEntity = QueryEntity.of(entityType, processingEnv);
                 List<MethodMetadata> methods = typeElement.getEnclosedElements()
                         .stream()
-                        .map(e -> MethodMetadata.of(e, entityType, type, processingEnv))
+                        .map(e -> MethodMetadata.of(e, entityType, type, queryEntity, processingEnv))
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList());
                 return new RepositoryElement(typeElement,
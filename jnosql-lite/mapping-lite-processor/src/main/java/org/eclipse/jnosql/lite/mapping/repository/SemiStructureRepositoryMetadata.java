@@ -37,6 +37,9 @@ class SemiStructureRepositoryMetadata extends RepositoryMetadata {
 
     @Override
     public MethodGenerator apply(MethodMetadata metadata) {
+        if (metadata.hasDirectQuery()) {
+            return metadata.getDirectQuery().generator(metadata);
+        }
         return new MethodGenerator(metadata);
     }
 }
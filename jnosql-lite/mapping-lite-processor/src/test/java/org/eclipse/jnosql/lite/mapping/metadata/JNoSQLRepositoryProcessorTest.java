@@ -640,5 +640,78 @@ class JNoSQLRepositoryProcessorTest {
         }
     }
 
+    @Nested
+    @DisplayName("WhenResolveInvoker")
+    class WhenResolveInvoker {
+
+        @Test
+        @DisplayName("Should look up the repository method only once")
+        void shouldLookUpMethodOnce() {
+
+            Mockito.when(repositoryMetadata.find(methodSignatureKey)).thenReturn(Optional.of(repositoryMethod));
+            Mockito.when(repositoryMethod.type()).thenReturn(RepositoryMethodType.FIND_BY);
+
+            Mockito.when(repositoryOperationProvider.findByOperation()).thenReturn(findByOperation);
+            Mockito.when(findByOperation.execute(ArgumentMatchers.any())).thenReturn("found");
+
+            var processor = JNoSQLRepositoryProcessor.of(
+                    template,
+                    entityMetadata,
+                    repositoryMetadata,
+                    repositoryOperationProvider
+            );
+
+            var invoker = processor.invoker(methodSignatureKey);
+            Object first = invoker.invoke(new Object[]{"value"});
+            Object second = invoker.invoke(new Object[]{"value"});
+
+            Assertions.assertThat(first).isEqualTo("found");
+            Assertions.assertThat(second).isEqualTo("found");
+
+            Mockito.verify(repositoryMetadata, Mockito.times(1)).find(methodSignatureKey);
+            Mockito.verify(repositoryMethod, Mockito.times(1)).type();
+            Mockito.verify(findByOperation, Mockito.times(2)).execute(ArgumentMatchers.any());
+        }
+
+        @Test
+        @DisplayName("Should fail on invocation when the method is not found")
+        void shouldFailOnInvocationWhenMethodIsNotFound() {
+
+            Mockito.when(repositoryMetadata.find(methodSignatureKey)).thenReturn(Optional.empty());
+
+            var processor = JNoSQLRepositoryProcessor.of(
+                    template,
+                    entityMetadata,
+                    repositoryMetadata,
+                    repositoryOperationProvider
+            );
+
+            var invoker = processor.invoker(methodSignatureKey);
+
+            Assertions.assertThatThrownBy(() -> invoker.invoke(new Object[]{}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Method not found");
+        }
+
+        @Test
+        @DisplayName("Should fail on invocation when operation type is unsupported")
+        void shouldFailOnInvocationWhenOperationIsUnsupported() {
+
+            Mockito.when(repositoryMetadata.find(methodSignatureKey)).thenReturn(Optional.of(repositoryMethod));
+            Mockito.when(repositoryMethod.type()).thenReturn(RepositoryMethodType.UNKNOWN);
 
-}
\ No newline at end of file
+            var processor = JNoSQLRepositoryProcessor.of(
+                    template,
+                    entityMetadata,
+                    repositoryMetadata,
+                    repositoryOperationProvider
+            );
+
+            var invoker = processor.invoker(methodSignatureKey);
+
+            Assertions.assertThatThrownBy(() -> invoker.invokeVoid(new Object[]{}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported repository operation");
+        }
+    }
+}
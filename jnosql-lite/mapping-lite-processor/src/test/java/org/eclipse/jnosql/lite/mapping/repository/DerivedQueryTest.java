@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.lite.mapping.ValidationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DerivedQueryTest {
+
+    private static final Set<String> PROPERTIES = Set.of("id", "name", "age", "active", "address", "orderDate");
+
+    @Nested
+    class WhenParseValidName {
+
+        @Test
+        void shouldIgnoreMethodsWithoutQueryPrefix() {
+            assertThat(DerivedQuery.parse("name", PROPERTIES)).isEmpty();
+            assertThat(DerivedQuery.parse("findAll", PROPERTIES)).isEmpty();
+        }
+
+        @Test
+        void shouldParseConditionsAndOrder() {
+            DerivedQuery query = DerivedQuery.parse("findByNameAndAgeGreaterThanOrderByNameDesc", PROPERTIES)
+                    .orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.prefix()).isEqualTo(DerivedQuery.Prefix.FIND);
+                soft.assertThat(query.conditions()).containsExactly(
+                        new DerivedQuery.Condition("name", DerivedQuery.Operator.EQUALS, false, false, false),
+                        new DerivedQuery.Condition("age", DerivedQuery.Operator.GREATER_THAN, false, false, false));
+                soft.assertThat(query.orders()).containsExactly(new DerivedQuery.Order("name", false));
+                soft.assertThat(query.parameters()).isEqualTo(2);
+                soft.assertThat(query.properties()).containsExactly("name", "age", "name");
+            });
+        }
+
+        @Test
+        void shouldParseNegateIgnoreCaseAndOr() {
+            DerivedQuery query = DerivedQuery.parse("countByNameNotLikeIgnoreCaseOrAgeBetween", PROPERTIES)
+                    .orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.prefix()).isEqualTo(DerivedQuery.Prefix.COUNT);
+                soft.assertThat(query.conditions()).containsExactly(
+                        new DerivedQuery.Condition("name", DerivedQuery.Operator.LIKE, true, true, false),
+                        new DerivedQuery.Condition("age", DerivedQuery.Operator.BETWEEN, false, false, true));
+                soft.assertThat(query.parameters()).isEqualTo(3);
+            });
+        }
+
+        @Test
+        void shouldParseOperatorsWithoutParameters() {
+            DerivedQuery query = DerivedQuery.parse("existsByActiveTrueAndNameNotNull", PROPERTIES).orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.conditions()).extracting(DerivedQuery.Condition::operator)
+                        .containsExactly(DerivedQuery.Operator.TRUE, DerivedQuery.Operator.NULL);
+                soft.assertThat(query.parameters()).isZero();
+            });
+        }
+
+        @Test
+        void shouldParseNestedProperty() {
+            DerivedQuery query = DerivedQuery.parse("deleteByAddress_CityIn", PROPERTIES).orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.conditions()).hasSize(1);
+                soft.assertThat(query.conditions().get(0).property()).isEqualTo("address.city");
+                soft.assertThat(query.conditions().get(0).isNested()).isTrue();
+                soft.assertThat(query.conditions().get(0).operator()).isEqualTo(DerivedQuery.Operator.IN);
+            });
+        }
+
+        @Test
+        void shouldNotConfuseOrderPropertyWithOrderBy() {
+            DerivedQuery query = DerivedQuery.parse("findByOrderDateLessThanOrderByIdAsc", PROPERTIES).orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.conditions()).extracting(DerivedQuery.Condition::property)
+                        .containsExactly("orderDate");
+                soft.assertThat(query.orders()).containsExactly(new DerivedQuery.Order("id", true));
+            });
+        }
+
+        @Test
+        void shouldParseOnlyOrderBy() {
+            DerivedQuery query = DerivedQuery.parse("findByOrderByAge", PROPERTIES).orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.conditions()).isEmpty();
+                soft.assertThat(query.orders()).containsExactly(new DerivedQuery.Order("age", true));
+            });
+        }
+    }
+
+    @Nested
+    class WhenParseInvalidName {
+
+        @Test
+        void shouldRejectUnknownProperty() {
+            assertThatThrownBy(() -> DerivedQuery.parse("findByNickname", PROPERTIES))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("findByNickname")
+                    .hasMessageContaining("Nickname");
+        }
+
+        @Test
+        void shouldRejectUnknownOperator() {
+            assertThatThrownBy(() -> DerivedQuery.parse("findByAgeBiggerThan", PROPERTIES))
+                    .isInstanceOf(ValidationException.class);
+        }
+
+        @Test
+        void shouldRejectDanglingConnector() {
+            assertThatThrownBy(() -> DerivedQuery.parse("findByNameAnd", PROPERTIES))
+                    .isInstanceOf(ValidationException.class);
+        }
+
+        @Test
+        void shouldRejectOrderByWithoutProperty() {
+            assertThatThrownBy(() -> DerivedQuery.parse("findByNameOrderBy", PROPERTIES))
+                    .isInstanceOf(ValidationException.class);
+        }
+
+        @Test
+        void shouldRejectUnknownOrderProperty() {
+            assertThatThrownBy(() -> DerivedQuery.parse("findByNameOrderByNickname", PROPERTIES))
+                    .isInstanceOf(ValidationException.class);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.lite.mapping.repository;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.data.QueryType;
+import org.eclipse.jnosql.lite.mapping.ValidationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.lang.model.type.TypeMirror;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class JdqlQueryTest {
+
+    private static final TypeMirror TYPE = Mockito.mock(TypeMirror.class);
+
+    private static final QueryEntity ENTITY = new QueryEntity("Person",
+            Map.of("id", TYPE, "name", TYPE, "age", TYPE, "address", TYPE), Set.of("native_name"));
+
+    @Nested
+    class WhenParseValidQuery {
+
+        @Test
+        void shouldParseSelectConditionsAndOrder() {
+            JdqlQuery query = JdqlQuery.parse("from Person where name = :name and age > ?2 order by age desc", ENTITY);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.type()).isEqualTo(QueryType.SELECT);
+                soft.assertThat(query.where()).get().isInstanceOf(JdqlQuery.Group.class);
+                soft.assertThat(((JdqlQuery.Group) query.where().orElseThrow()).nodes())
+                        .extracting("attribute", "condition")
+                        .containsExactly(tuple("name", Condition.EQUALS), tuple("age", Condition.GREATER_THAN));
+                soft.assertThat(query.orders()).containsExactly(new JdqlQuery.Order("age", false));
+                soft.assertThat(query.properties()).containsExactly("name", "age", "age");
+            });
+        }
+
+        @Test
+        void shouldUseTheRepositoryEntityWithoutFromClause() {
+            JdqlQuery query = JdqlQuery.parse("where name = :name", ENTITY);
+
+            assertThat(query.where()).get().isInstanceOf(JdqlQuery.Comparison.class);
+            assertThat(query.properties()).containsExactly("name");
+        }
+
+        @Test
+        void shouldParseDelete() {
+            JdqlQuery query = JdqlQuery.parse("delete from Person where age < :age", ENTITY);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.type()).isEqualTo(QueryType.DELETE);
+                soft.assertThat(query.where()).get().extracting(n -> ((JdqlQuery.Comparison) n).condition())
+                        .isEqualTo(Condition.LESSER_THAN);
+            });
+        }
+
+        @Test
+        void shouldAcceptColumnNamesAndNestedAttributes() {
+            assertThat(JdqlQuery.parse("where native_name = :name or address.city = :city", ENTITY).where())
+                    .isNotEmpty();
+        }
+
+        @Test
+        void shouldNotValidateAnotherEntity() {
+            assertThat(JdqlQuery.parse("from Animal where species = :species", ENTITY).properties())
+                    .containsExactly("species");
+        }
+    }
+
+    @Nested
+    class WhenParseInvalidQuery {
+
+        @Test
+        void shouldReturnErrorWhenTheSyntaxIsInvalid() {
+            assertThatThrownBy(() -> JdqlQuery.parse("select * from Person where name = @name", ENTITY))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("select * from Person where name = @name");
+        }
+
+        @Test
+        void shouldReturnErrorWhenTheAttributeIsUnknown() {
+            assertThatThrownBy(() -> JdqlQuery.parse("from Person where nickname = :name", ENTITY))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("nickname");
+        }
+
+        @Test
+        void shouldReturnErrorWhenTheOrderAttributeIsUnknown() {
+            assertThatThrownBy(() -> JdqlQuery.parse("from Person order by nickname", ENTITY))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("nickname");
+        }
+    }
+
+    @Nested
+    class WhenResolveParameter {
+
+        private final List<String> names = List.of("name", "value");
+
+        private final List<String> params = Arrays.asList(null, "age");
+
+        @Test
+        void shouldResolvePositionalParameter() {
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(JdqlQuery.parameterIndex("?1", names, params)).isZero();
+                soft.assertThat(JdqlQuery.parameterIndex("?2", names, params)).isEqualTo(1);
+                soft.assertThat(JdqlQuery.parameterIndex("?3", names, params)).isEqualTo(-1);
+            });
+        }
+
+        @Test
+        void shouldResolveNamedParameter() {
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(JdqlQuery.parameterIndex("name", names, params)).isZero();
+                soft.assertThat(JdqlQuery.parameterIndex(":age", names, params)).isEqualTo(1);
+                soft.assertThat(JdqlQuery.parameterIndex("value", names, params)).isEqualTo(-1);
+            });
+        }
+    }
+}